@@ -18,12 +18,12 @@ import {
   Add as AddIcon,
 } from '@mui/icons-material';
 import { useNavigate } from 'react-router-dom';
-import { ResumeDto, JobRole } from '../types';
+import { ResumeSummaryDto, JobRole } from '../types';
 import { resumeApi } from '../services/api';
 
 const Dashboard: React.FC = () => {
   const navigate = useNavigate();
-  const [resumes, setResumes] = useState<ResumeDto[]>([]);
+  const [resumes, setResumes] = useState<ResumeSummaryDto[]>([]);
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
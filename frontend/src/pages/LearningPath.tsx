@@ -25,7 +25,7 @@ import {
 } from '@mui/icons-material';
 import { useNavigate, useParams } from 'react-router-dom';
 import { LearningPathResponse } from '../types';
-import { learningPathApi } from '../services/api';
+import { learningPathApi, subscribeResumeEvents } from '../services/api';
 
 const LearningPath: React.FC = () => {
   const navigate = useNavigate();
@@ -57,6 +57,20 @@ const LearningPath: React.FC = () => {
     }
   }, [id, generateLearningPath]);
 
+  // 이력서 수정 후 백그라운드 재생성이 끝나면 서버가 새 학습 경로를 보내줌
+  useEffect(() => {
+    if (!id) return;
+    return subscribeResumeEvents(parseInt(id), (notification) => {
+      if (notification.artifact !== 'learning-path') return;
+      if (notification.status === 'SUCCEEDED' && notification.result) {
+        setLearningPath(notification.result as LearningPathResponse);
+        setError('');
+      } else if (notification.status === 'SUCCEEDED') {
+        generateLearningPath();
+      }
+    });
+  }, [id, generateLearningPath]);
+
   const getDifficultyColor = (difficulty: string) => {
     switch (difficulty) {
       case 'BEGINNER':
@@ -24,12 +24,12 @@ import {
   Search as SearchIcon,
 } from '@mui/icons-material';
 import { useNavigate } from 'react-router-dom';
-import { ResumeDto, JobRole } from '../types';
+import { ResumeSummaryDto, JobRole } from '../types';
 import { resumeApi } from '../services/api';
 
 const ResumeList: React.FC = () => {
   const navigate = useNavigate();
-  const [resumes, setResumes] = useState<ResumeDto[]>([]);
+  const [resumes, setResumes] = useState<ResumeSummaryDto[]>([]);
   const [loading, setLoading] = useState(true);
   const [searchTerm, setSearchTerm] = useState('');
   const [jobRoleFilter, setJobRoleFilter] = useState<string>('');
@@ -106,7 +106,6 @@ const ResumeList: React.FC = () => {
 
   const filteredResumes = resumes.filter(resume => {
     const matchesSearch = resume.careerSummary.toLowerCase().includes(searchTerm.toLowerCase()) ||
-                         resume.projectExperience?.toLowerCase().includes(searchTerm.toLowerCase()) ||
                          resume.techSkills?.some(skill => skill.toLowerCase().includes(searchTerm.toLowerCase()));
     const matchesJobRole = !jobRoleFilter || resume.jobRole === jobRoleFilter;
     return matchesSearch && matchesJobRole;
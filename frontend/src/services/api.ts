@@ -2,8 +2,11 @@ import axios from 'axios';
 import {
   CreateResumeRequest,
   ResumeDto,
+  ResumePageResponse,
+  ResumeSummaryDto,
   InterviewQuestionsResponse,
-  LearningPathResponse
+  LearningPathResponse,
+  ResumeNotification
 } from '../types';
 
 // API 기본 설정
@@ -16,10 +19,16 @@ const apiClient = axios.create({
   },
 });
 
+// 읽기 복제본 사용 시 쓰기 직후 읽기가 이전 데이터를 보지 않도록 마지막 쓰기 토큰을 되돌려 보냄
+let readAfterToken: string | undefined;
+
 // 요청 인터셉터
 apiClient.interceptors.request.use(
   (config) => {
     console.log('API 요청:', config.method?.toUpperCase(), config.url);
+    if (readAfterToken) {
+      config.headers.set('X-Read-After', readAfterToken);
+    }
     return config;
   },
   (error) => {
@@ -31,6 +40,10 @@ apiClient.interceptors.request.use(
 apiClient.interceptors.response.use(
   (response) => {
     console.log('API 응답:', response.status, response.config.url);
+    const token = response.headers['x-read-after'];
+    if (token) {
+      readAfterToken = token;
+    }
     return response;
   },
   (error) => {
@@ -39,6 +52,28 @@ apiClient.interceptors.response.use(
   }
 );
 
+// 생성 결과 조건부 요청 (ETag 재검증)
+// GET 응답은 브라우저 HTTP 캐시가 재검증하므로, 브라우저가 캐시하지 않는 POST 생성 결과만 직접 보관
+const generatedResults = new Map<string, { etag: string; data: unknown }>();
+
+const postWithETag = async <T>(url: string): Promise<T> => {
+  const cached = generatedResults.get(url);
+  const response = await apiClient.post<T>(url, undefined, {
+    headers: cached ? { 'If-None-Match': cached.etag } : undefined,
+    validateStatus: (status) => (status >= 200 && status < 300) || status === 304,
+  });
+
+  if (response.status === 304 && cached) {
+    return cached.data as T;
+  }
+
+  const etag = response.headers['etag'];
+  if (etag) {
+    generatedResults.set(url, { etag, data: response.data });
+  }
+  return response.data;
+};
+
 // 이력서 관련 API
 export const resumeApi = {
   // 이력서 생성
@@ -64,29 +99,52 @@ export const resumeApi = {
     await apiClient.delete(`/resumes/${id}`);
   },
 
-  // 모든 이력서 조회
-  getAllResumes: async (): Promise<ResumeDto[]> => {
-    const response = await apiClient.get<ResumeDto[]>('/resumes');
+  // 이력서 목록 페이지 조회 (cursor는 이전 페이지의 nextCursor)
+  getResumePage: async (cursor?: number, size = 20): Promise<ResumePageResponse> => {
+    const response = await apiClient.get<ResumePageResponse>('/resumes', {
+      params: { cursor, size }
+    });
     return response.data;
   },
 
+  // 모든 이력서 조회 (커서를 따라 전체 페이지 수집)
+  getAllResumes: async (): Promise<ResumeSummaryDto[]> => {
+    const resumes: ResumeSummaryDto[] = [];
+    let cursor: number | undefined;
+    do {
+      const page = await resumeApi.getResumePage(cursor, 100);
+      resumes.push(...page.resumes);
+      cursor = page.hasNext ? page.nextCursor : undefined;
+    } while (cursor !== undefined);
+    return resumes;
+  },
+
   // 직무별 이력서 조회
-  getResumesByJobRole: async (jobRole: string): Promise<ResumeDto[]> => {
-    const response = await apiClient.get<ResumeDto[]>(`/resumes/job-role/${jobRole}`);
+  getResumesByJobRole: async (jobRole: string, cursor?: number, size = 20): Promise<ResumePageResponse> => {
+    const response = await apiClient.get<ResumePageResponse>(`/resumes/job-role/${jobRole}`, {
+      params: { cursor, size }
+    });
     return response.data;
   },
 
   // 경력 연수별 이력서 조회
-  getResumesByExperienceRange: async (minYears: number, maxYears: number): Promise<ResumeDto[]> => {
-    const response = await apiClient.get<ResumeDto[]>('/resumes/experience-range', {
-      params: { minYears, maxYears }
+  getResumesByExperienceRange: async (
+    minYears: number,
+    maxYears: number,
+    cursor?: number,
+    size = 20
+  ): Promise<ResumePageResponse> => {
+    const response = await apiClient.get<ResumePageResponse>('/resumes/experience-range', {
+      params: { minYears, maxYears, cursor, size }
     });
     return response.data;
   },
 
   // 기술 스택별 이력서 검색
-  getResumesByTechSkill: async (techSkill: string): Promise<ResumeDto[]> => {
-    const response = await apiClient.get<ResumeDto[]>(`/resumes/tech-skill/${techSkill}`);
+  getResumesByTechSkill: async (techSkill: string, cursor?: number, size = 20): Promise<ResumePageResponse> => {
+    const response = await apiClient.get<ResumePageResponse>(`/resumes/tech-skill/${techSkill}`, {
+      params: { cursor, size }
+    });
     return response.data;
   }
 };
@@ -95,8 +153,7 @@ export const resumeApi = {
 export const interviewApi = {
   // 인터뷰 질문 생성
   generateInterviewQuestions: async (resumeId: number): Promise<InterviewQuestionsResponse> => {
-    const response = await apiClient.post<InterviewQuestionsResponse>(`/resumes/${resumeId}/interview-questions`);
-    return response.data;
+    return postWithETag<InterviewQuestionsResponse>(`/resumes/${resumeId}/interview-questions`);
   }
 };
 
@@ -104,9 +161,29 @@ export const interviewApi = {
 export const learningPathApi = {
   // 학습 경로 생성
   generateLearningPath: async (resumeId: number): Promise<LearningPathResponse> => {
-    const response = await apiClient.post<LearningPathResponse>(`/resumes/${resumeId}/learning-path`);
-    return response.data;
+    return postWithETag<LearningPathResponse>(`/resumes/${resumeId}/learning-path`);
   }
 };
 
+// 이력서 알림 구독 (Server-Sent Events)
+// 백그라운드 작업이 끝나면 결과를 받아 생성 결과 캐시도 갱신하므로, 이후 생성 요청은 새 ETag로 재검증됨
+// EventSource가 끊긴 연결을 자동으로 다시 연결하며, 반환된 함수를 호출하면 구독을 끝냄
+export const subscribeResumeEvents = (
+  resumeId: number,
+  onNotification: (notification: ResumeNotification) => void
+): (() => void) => {
+  const source = new EventSource(`${API_BASE_URL}/resumes/${resumeId}/events`);
+  source.addEventListener('artifact', (event) => {
+    const notification: ResumeNotification = JSON.parse((event as MessageEvent).data);
+    if (notification.status === 'SUCCEEDED' && notification.artifact && notification.etag && notification.result) {
+      generatedResults.set(`/resumes/${resumeId}/${notification.artifact}`, {
+        etag: notification.etag,
+        data: notification.result,
+      });
+    }
+    onNotification(notification);
+  });
+  return () => source.close();
+};
+
 export default apiClient; 
\ No newline at end of file
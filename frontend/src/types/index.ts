@@ -19,6 +19,17 @@ export interface ResumeDto {
   experienceLevel: string;
 }
 
+// 이력서 요약 (목록/검색 결과용, 프로젝트 경험은 상세 조회에서만 제공)
+export type ResumeSummaryDto = Omit<ResumeDto, 'projectExperience'>;
+
+// 이력서 목록 커서 페이지 (최신순)
+export interface ResumePageResponse {
+  resumes: ResumeSummaryDto[];
+  size: number;
+  hasNext: boolean;
+  nextCursor?: number;
+}
+
 // 직무 역할 열거형
 export enum JobRole {
   BACKEND_DEVELOPER = 'BACKEND_DEVELOPER',
@@ -75,6 +86,18 @@ export interface LearningStep {
   learningObjective: string;
 }
 
+// 이력서 알림 (SSE artifact 이벤트)
+export interface ResumeNotification<T = unknown> {
+  resumeId: number;
+  jobId: number;
+  jobType: string;
+  artifact?: 'interview-questions' | 'learning-path';
+  status: 'SUCCEEDED' | 'DEAD';
+  etag?: string;
+  completedAt: string;
+  result?: T;
+}
+
 // API 응답 타입
 export interface ApiResponse<T> {
   data: T;
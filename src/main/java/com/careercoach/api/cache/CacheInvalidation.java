@@ -0,0 +1,25 @@
+package com.careercoach.api.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * cache_invalidations 행
+ * 한 노드가 커밋한 이력서 변경을 다른 노드에 알리는 무효화 기록입니다.
+ */
+@Getter
+@Builder
+public class CacheInvalidation {
+
+    private final Long id;
+    private final Long resumeId;
+
+    /**
+     * 변경을 커밋한 노드
+     */
+    private final String nodeId;
+
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,130 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.telemetry.TelemetryBus;
+import com.careercoach.api.telemetry.TelemetryEvent;
+import com.careercoach.api.telemetry.TelemetryHandler;
+import com.careercoach.api.util.LatencyHistogram;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 메트릭 저장소
+ * Caffeine 통계가 제공하지 않는 논리 캐시 단위의 적중/적재 지연, 계층별 제거 원인, 항목 크기를 수집합니다.
+ * 기록 요청은 TelemetryBus에 적재만 하고, 집계와 항목 직렬화 크기 추정은 텔레메트리 소비 스레드에서 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics implements TelemetryHandler {
+
+    private final TelemetryBus telemetryBus;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CacheStats> statsByCache = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 적중 기록
+     */
+    public void recordHit(String cacheName) {
+        telemetryBus.publishCacheHit(cacheName);
+    }
+
+    /**
+     * 캐시 미스 후 적재 기록
+     *
+     * @param loadNanos 값 적재 소요 시간
+     * @param value 적재된 값 (직렬화 크기는 소비 스레드에서 추정)
+     */
+    public void recordLoad(String cacheName, long loadNanos, Object value) {
+        telemetryBus.publishCacheLoad(cacheName, loadNanos, value);
+    }
+
+    /**
+     * 계층별 제거 원인 기록
+     */
+    public void recordRemoval(String cacheName, String tier, String cause) {
+        telemetryBus.publishCacheRemoval(cacheName, tier, cause);
+    }
+
+    /**
+     * 캐시 이벤트 집계 (텔레메트리 소비 스레드)
+     */
+    @Override
+    public void onEvent(TelemetryEvent event) {
+        switch (event.getType()) {
+            case CACHE_HIT -> statsOf(event.getName()).hits.increment();
+            case CACHE_LOAD -> applyLoad(statsOf(event.getName()), event.getDurationNanos(), estimateSize(event.getValue()));
+            case CACHE_REMOVAL -> statsOf(event.getName()).removalCauses
+                    .computeIfAbsent(event.getTier() + ":" + event.getCause(), k -> new LongAdder())
+                    .increment();
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 캐시별 통계 조회
+     */
+    public Map<String, CacheStats> snapshot() {
+        return Map.copyOf(statsByCache);
+    }
+
+    private CacheStats statsOf(String cacheName) {
+        return statsByCache.computeIfAbsent(cacheName, k -> new CacheStats());
+    }
+
+    private void applyLoad(CacheStats stats, long loadNanos, long entryBytes) {
+        stats.misses.increment();
+        stats.loadLatency.recordNanos(loadNanos);
+        if (entryBytes >= 0) {
+            stats.sizedEntries.increment();
+            stats.totalEntryBytes.add(entryBytes);
+            stats.maxEntryBytes.accumulateAndGet(entryBytes, Math::max);
+        }
+    }
+
+    /**
+     * 값의 직렬화 크기 추정 (알 수 없으면 -1)
+     */
+    private long estimateSize(Object value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(value).length;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 논리 캐시 단위 통계
+     */
+    @Getter
+    public static class CacheStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LatencyHistogram loadLatency = new LatencyHistogram();
+        private final Map<String, LongAdder> removalCauses = new ConcurrentHashMap<>();
+        private final LongAdder sizedEntries = new LongAdder();
+        private final LongAdder totalEntryBytes = new LongAdder();
+        private final AtomicLong maxEntryBytes = new AtomicLong();
+
+        public double getHitRatio() {
+            long hit = hits.sum();
+            long total = hit + misses.sum();
+            return total > 0 ? (double) hit / total : 0.0;
+        }
+
+        public double getAverageEntryBytes() {
+            long n = sizedEntries.sum();
+            return n > 0 ? (double) totalEntryBytes.sum() / n : 0.0;
+        }
+    }
+}
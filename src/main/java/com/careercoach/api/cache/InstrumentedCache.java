@@ -0,0 +1,100 @@
+package com.careercoach.api.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 메트릭을 수집하는 캐시 데코레이터
+ * 논리 캐시 단위의 적중/미스, 값 적재 지연 시간, 적재된 값의 직렬화 크기를 CacheMetrics에 기록합니다.
+ * 적재 지연은 @Cacheable(sync = true)로 get(key, Callable) 경로를 탈 때 측정됩니다.
+ * 기록은 텔레메트리 링 버퍼에 적재만 하므로 캐시 조회 경로에서 집계나 직렬화를 하지 않습니다.
+ */
+public class InstrumentedCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheMetrics metrics;
+
+    public InstrumentedCache(Cache delegate, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            metrics.recordHit(getName());
+        }
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        if (value != null) {
+            metrics.recordHit(getName());
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            long start = System.nanoTime();
+            T result = valueLoader.call();
+            metrics.recordLoad(getName(), System.nanoTime() - start, result);
+            return result;
+        });
+        if (!loaded[0]) {
+            metrics.recordHit(getName());
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
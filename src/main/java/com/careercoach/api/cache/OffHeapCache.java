@@ -0,0 +1,278 @@
+package com.careercoach.api.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오프힙 캐시
+ * 값을 UTF-8 JSON(선택적으로 GZIP 압축)으로 직렬화해 다이렉트 메모리에 저장합니다.
+ * 키와 ByteBuffer 헤더만 힙에 남기 때문에 큰 응답 객체 그래프가 old 영역에 쌓이지 않습니다.
+ * 키 색인, 바이트 단위 용량 제한, 만료는 Caffeine이 담당하며 값은 조회 시점에만 역직렬화합니다.
+ */
+@Slf4j
+public class OffHeapCache implements Cache {
+
+    private static final byte FORMAT_RAW = 0;
+    private static final byte FORMAT_GZIP = 1;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, ByteBuffer> store;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+    private final boolean compress;
+    private final int compressThresholdBytes;
+
+    // 직렬화/역직렬화 비용 추적 (on-heap 대비 트레이드오프 측정용)
+    private final AtomicLong storedPayloadBytes = new AtomicLong();
+    private final AtomicLong storedRawBytes = new AtomicLong();
+    private final AtomicLong compressedEntries = new AtomicLong();
+    private final AtomicLong deserializeCount = new AtomicLong();
+    private final AtomicLong deserializeNanos = new AtomicLong();
+
+    public OffHeapCache(String name, Class<?> valueType, ObjectMapper objectMapper, long maxBytes,
+                        Duration expireAfterWrite, boolean compress, int compressThresholdBytes,
+                        BiConsumer<Object, RemovalCause> removalListener) {
+        this.name = name;
+        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(valueType)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.compress = compress;
+        this.compressThresholdBytes = compressThresholdBytes;
+        this.store = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Object key, ByteBuffer buffer) -> buffer.capacity())
+                .expireAfterWrite(expireAfterWrite)
+                .removalListener((Object key, ByteBuffer buffer, RemovalCause cause) -> {
+                    if (buffer != null) {
+                        storedPayloadBytes.addAndGet(-buffer.capacity());
+                    }
+                    removalListener.accept(key, cause);
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, ByteBuffer> getNativeCache() {
+        return store;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ByteBuffer buffer = store.getIfPresent(key);
+        return buffer != null ? new LazyValueWrapper(buffer) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ByteBuffer buffer = store.getIfPresent(key);
+        if (buffer == null) {
+            return null;
+        }
+        Object value = deserialize(buffer);
+        if (type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치 - 기대: " + type.getName() + ", 실제: " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object[] loaded = new Object[1];
+        ByteBuffer buffer = store.get(key, k -> {
+            try {
+                T value = valueLoader.call();
+                loaded[0] = value;
+                return value != null ? serialize(value) : null;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+
+        // 방금 적재한 값은 역직렬화 없이 그대로 반환
+        if (loaded[0] != null) {
+            return (T) loaded[0];
+        }
+        return buffer != null ? (T) deserialize(buffer) : null;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        store.put(key, serialize(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return get(key);
+        }
+        ByteBuffer buffer = serialize(value);
+        ByteBuffer existing = store.asMap().putIfAbsent(key, buffer);
+        if (existing != null) {
+            storedPayloadBytes.addAndGet(-buffer.capacity());
+            return new LazyValueWrapper(existing);
+        }
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        store.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return store.asMap().remove(key) != null;
+    }
+
+    @Override
+    public void clear() {
+        store.invalidateAll();
+    }
+
+    /**
+     * 다이렉트 메모리에 저장된 바이트 수
+     */
+    public long getStoredBytes() {
+        return storedPayloadBytes.get();
+    }
+
+    /**
+     * 압축 전 직렬화 바이트 누적 합계
+     */
+    public long getStoredRawBytes() {
+        return storedRawBytes.get();
+    }
+
+    /**
+     * 압축되어 저장된 항목 수 (누적)
+     */
+    public long getCompressedEntries() {
+        return compressedEntries.get();
+    }
+
+    /**
+     * 역직렬화 횟수
+     */
+    public long getDeserializeCount() {
+        return deserializeCount.get();
+    }
+
+    /**
+     * 평균 역직렬화 시간 (마이크로초)
+     */
+    public double getAverageDeserializeMicros() {
+        long count = deserializeCount.get();
+        return count > 0 ? deserializeNanos.get() / 1000.0 / count : 0.0;
+    }
+
+    /**
+     * 값 직렬화 후 다이렉트 버퍼에 기록
+     */
+    private ByteBuffer serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            byte format = FORMAT_RAW;
+            byte[] payload = json;
+
+            if (compress && json.length >= compressThresholdBytes) {
+                byte[] gzipped = gzip(json);
+                if (gzipped.length < json.length) {
+                    format = FORMAT_GZIP;
+                    payload = gzipped;
+                    compressedEntries.incrementAndGet();
+                }
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(payload.length + 1);
+            buffer.put(format).put(payload).flip();
+
+            storedRawBytes.addAndGet(json.length);
+            storedPayloadBytes.addAndGet(buffer.capacity());
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("캐시 값 직렬화 실패 - 캐시: " + name, e);
+        }
+    }
+
+    /**
+     * 다이렉트 버퍼에서 값 역직렬화
+     */
+    private Object deserialize(ByteBuffer buffer) {
+        long start = System.nanoTime();
+        try {
+            ByteBuffer view = buffer.duplicate();
+            byte format = view.get();
+            byte[] payload = new byte[view.remaining()];
+            view.get(payload);
+
+            Object value = format == FORMAT_GZIP
+                    ? reader.readValue(new GZIPInputStream(new ByteArrayInputStream(payload)))
+                    : reader.readValue(payload);
+
+            deserializeCount.incrementAndGet();
+            deserializeNanos.addAndGet(System.nanoTime() - start);
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException("캐시 값 역직렬화 실패 - 캐시: " + name, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 최초 접근 시 역직렬화하는 ValueWrapper
+     */
+    private final class LazyValueWrapper implements ValueWrapper {
+        private final ByteBuffer buffer;
+        private Object value;
+        private boolean resolved;
+
+        private LazyValueWrapper(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public Object get() {
+            if (!resolved) {
+                value = deserialize(buffer);
+                resolved = true;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.careercoach.api.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이력서 ID → 캐시 키 역색인
+ * 이력서에서 파생된 모든 캐시 항목(캐시 이름 + 키)을 추적하여
+ * 이력서 수정/삭제 시 영향받는 항목만 O(k)로 무효화할 수 있게 합니다.
+ */
+@Slf4j
+@Component
+public class ResumeCacheIndex {
+
+    private final Map<Long, Set<Entry>> entriesByResume = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 키에서 이력서 ID 추출
+     * resume-cache는 이력서 ID(Long)를, AI 결과 캐시는 ResumeCacheKey를 키로 사용합니다.
+     *
+     * @return 이력서 ID, 이력서와 무관한 키이면 null
+     */
+    public static Long resolveResumeId(Object key) {
+        if (key instanceof ResumeCacheKey resumeKey) {
+            return resumeKey.getResumeId();
+        }
+        if (key instanceof Long resumeId) {
+            return resumeId;
+        }
+        return null;
+    }
+
+    /**
+     * 캐시 항목 등록
+     */
+    public void register(String cacheName, Object key) {
+        Long resumeId = resolveResumeId(key);
+        if (resumeId == null) {
+            return;
+        }
+        entriesByResume.computeIfAbsent(resumeId, id -> ConcurrentHashMap.newKeySet())
+                .add(new Entry(cacheName, key));
+    }
+
+    /**
+     * 캐시 항목 등록 해제
+     * 캐시에서 제거(명시적 무효화, 만료, 용량 초과)될 때 호출됩니다.
+     */
+    public void unregister(String cacheName, Object key) {
+        Long resumeId = resolveResumeId(key);
+        if (resumeId == null) {
+            return;
+        }
+        entriesByResume.computeIfPresent(resumeId, (id, entries) -> {
+            entries.remove(new Entry(cacheName, key));
+            return entries.isEmpty() ? null : entries;
+        });
+    }
+
+    /**
+     * 특정 캐시의 모든 항목 등록 해제
+     */
+    public void unregisterCache(String cacheName) {
+        entriesByResume.replaceAll((id, entries) -> {
+            entries.removeIf(entry -> entry.getCacheName().equals(cacheName));
+            return entries;
+        });
+        entriesByResume.values().removeIf(Set::isEmpty);
+    }
+
+    /**
+     * 이력서의 캐시 항목을 색인에서 분리하여 반환
+     */
+    public List<Entry> detach(Long resumeId) {
+        Set<Entry> entries = entriesByResume.remove(resumeId);
+        return entries != null ? new ArrayList<>(entries) : List.of();
+    }
+
+    /**
+     * 이력서의 캐시 항목 조회
+     */
+    public List<Entry> entriesOf(Long resumeId) {
+        Set<Entry> entries = entriesByResume.get(resumeId);
+        return entries != null ? new ArrayList<>(entries) : List.of();
+    }
+
+    /**
+     * 색인된 이력서 수
+     */
+    public int getIndexedResumeCount() {
+        return entriesByResume.size();
+    }
+
+    /**
+     * 색인 항목 (캐시 이름 + 캐시 키)
+     */
+    @Getter
+    @EqualsAndHashCode
+    public static final class Entry {
+        private final String cacheName;
+        private final Object key;
+
+        public Entry(String cacheName, Object key) {
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+    }
+}
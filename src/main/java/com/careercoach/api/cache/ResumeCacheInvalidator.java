@@ -0,0 +1,92 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.repository.CacheInvalidationRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * 이력서 캐시 무효화 컴포넌트
+ * 역색인을 이용해 이력서에서 파생된 캐시 항목만 정확히 제거하고, 이력서 ETag를 갱신합니다.
+ * 이 노드의 변경은 cache_invalidations에도 기록해 다른 노드가 {@link ResumeInvalidationPoller}로 같은 무효화를 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResumeCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final ResumeCacheIndex resumeCacheIndex;
+    private final ResumeETagIndex resumeETagIndex;
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Getter
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    /**
+     * 트랜잭션 커밋 후 이력서 캐시 무효화
+     * 커밋 전에 무효화하면 동시 조회가 이전 데이터를 다시 캐싱할 수 있으므로 커밋 이후로 미룹니다.
+     * 다른 노드에 전파할 무효화 기록은 변경과 같은 트랜잭션에 남겨 함께 커밋·롤백되게 합니다.
+     */
+    public void evictResumeAfterCommit(Long resumeId) {
+        cacheInvalidationRepository.append(resumeId, nodeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictResume(resumeId);
+                }
+            });
+        } else {
+            evictResume(resumeId);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 여러 이력서 캐시 무효화
+     * 일괄 생성처럼 한 트랜잭션에서 여러 이력서가 바뀔 때 사용하며, 다른 노드가 모든 ID의 존재 여부를 갱신할 수 있도록 ID마다 기록합니다.
+     */
+    public void evictResumesAfterCommit(List<Long> resumeIds) {
+        cacheInvalidationRepository.appendAll(resumeIds, nodeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    resumeIds.forEach(ResumeCacheInvalidator.this::evictResume);
+                }
+            });
+        } else {
+            resumeIds.forEach(this::evictResume);
+        }
+    }
+
+    /**
+     * 이력서 캐시 즉시 무효화
+     *
+     * @return 제거된 캐시 항목 수
+     */
+    public int evictResume(Long resumeId) {
+        List<ResumeCacheIndex.Entry> entries = resumeCacheIndex.detach(resumeId);
+
+        for (ResumeCacheIndex.Entry entry : entries) {
+            Cache cache = cacheManager.getCache(entry.getCacheName());
+            if (cache != null) {
+                cache.evict(entry.getKey());
+            }
+        }
+
+        // 캐시를 먼저 비운 뒤 ETag를 무효화해야 이전 캐시 값으로 새 ETag가 등록되지 않음
+        resumeETagIndex.invalidate(resumeId);
+
+        log.debug("이력서 캐시 무효화 - ID: {}, 항목 수: {}", resumeId, entries.size());
+        return entries.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.careercoach.api.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * 이력서 기반 캐시 키
+ * 이력서 ID와 내용 지문(fingerprint)을 함께 담아 내용이 바뀌면 자연스럽게 다른 키가 되도록 합니다.
+ */
+@Getter
+@EqualsAndHashCode
+public final class ResumeCacheKey implements Serializable {
+
+    private final Long resumeId;
+    private final String fingerprint;
+
+    public ResumeCacheKey(Long resumeId, String fingerprint) {
+        this.resumeId = resumeId;
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public String toString() {
+        return resumeId + ":" + fingerprint;
+    }
+}
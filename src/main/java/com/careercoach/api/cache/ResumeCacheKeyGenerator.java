@@ -0,0 +1,37 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.util.ResumeFingerprint;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * AI 결과 캐시용 키 생성기
+ * 메서드 인자 중 ResumeDto를 찾아 ResumeCacheKey를 생성합니다.
+ * ResumeDto는 equals/hashCode를 구현하지 않으므로 hashCode 기반 키는 매번 달라집니다.
+ */
+@Component(ResumeCacheKeyGenerator.BEAN_NAME)
+public class ResumeCacheKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "resumeCacheKeyGenerator";
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        for (Object param : params) {
+            if (param instanceof ResumeDto resume) {
+                return of(resume);
+            }
+        }
+        return SimpleKeyGenerator.generateKey(params);
+    }
+
+    /**
+     * 이력서로부터 캐시 키 생성
+     */
+    public static ResumeCacheKey of(ResumeDto resume) {
+        return new ResumeCacheKey(resume.getId(), ResumeFingerprint.of(resume));
+    }
+}
@@ -0,0 +1,168 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.util.ResumeFingerprint;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이력서 ETag 색인
+ * 이력서와 생성 결과물의 현재 강한(strong) ETag를 메모리에 보관해
+ * If-None-Match 검증을 데이터베이스나 AI 호출 없이 처리할 수 있게 합니다.
+ *
+ * <ul>
+ *     <li>이력서: 이력서 ID + 내용 지문</li>
+ *     <li>생성 결과물: 결과물 종류 + 이력서 내용 지문 + 생성 시각(버전), 작업 완료 알림에 싣는 용도</li>
+ *     <li>목록: 노드 기동 시 정한 난수 + 이 노드의 목록 변경 카운터</li>
+ * </ul>
+ *
+ * 이력서/결과물 ETag는 최근 조회된 항목만 크기 제한 캐시에 보관하며, 밀려난 항목은 다음 조회에서 다시 계산됩니다.
+ * 등록은 조회 전에 얻은 변경 카운터({@link #currentVersion()})와 함께 수행하며,
+ * 조회 도중 이력서가 변경되었다면 등록을 취소해 이전 내용의 ETag가 남지 않도록 합니다.
+ *
+ * 무효화는 {@link ResumeCacheInvalidator}가 이 노드의 변경은 커밋 직후, 다른 노드의 변경은
+ * cache_invalidations 폴링({@link ResumeInvalidationPoller})으로 반영합니다.
+ * 목록 ETag는 노드마다 값이 다르므로 다른 노드에서 받은 ETag는 일치하지 않아 전체 응답이 나갈 뿐 잘못된 304는 생기지 않습니다.
+ */
+@Slf4j
+@Component
+public class ResumeETagIndex {
+
+    public static final String INTERVIEW_QUESTIONS = "interview-questions";
+    public static final String LEARNING_PATH = "learning-path";
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    private final Cache<Long, String> resumeETags;
+    private final Cache<String, String> artifactETags;
+
+    // 이 노드의 이력서 변경 카운터 (조회 중 변경 감지와 목록 ETag에 사용)
+    private final AtomicLong version = new AtomicLong();
+
+    // 재시작이나 다른 노드의 같은 카운터 값과 구분하기 위한 목록 ETag 접두어
+    private final String collectionEpoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    public ResumeETagIndex(@Value("${resume.etag.max-entries:10000}") long maxEntries) {
+        this.resumeETags = Caffeine.newBuilder().maximumSize(maxEntries).build();
+        this.artifactETags = Caffeine.newBuilder().maximumSize(maxEntries).build();
+    }
+
+    /**
+     * 현재 변경 버전 조회 (조회 전 호출)
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * 이력서 ETag 조회
+     */
+    public Optional<String> resumeETag(Long resumeId) {
+        return Optional.ofNullable(resumeETags.getIfPresent(resumeId));
+    }
+
+    /**
+     * 이력서 ETag 계산 및 등록
+     *
+     * @param resume 조회한 이력서
+     * @param readVersion 조회 전에 얻은 변경 버전
+     * @return 이력서 ETag
+     */
+    public String registerResume(ResumeDto resume, long readVersion) {
+        String eTag = quote(resume.getId() + "-" + ResumeFingerprint.of(resume));
+        resumeETags.put(resume.getId(), eTag);
+        if (version.get() != readVersion) {
+            resumeETags.asMap().remove(resume.getId(), eTag);
+        }
+        return eTag;
+    }
+
+    /**
+     * 생성 결과물 ETag 조회
+     */
+    public Optional<String> artifactETag(String artifact, Long resumeId) {
+        return Optional.ofNullable(artifactETags.getIfPresent(artifactKey(artifact, resumeId)));
+    }
+
+    /**
+     * 생성 결과물 ETag 계산 및 등록
+     *
+     * @param artifact 결과물 종류
+     * @param resume 결과물을 생성한 이력서
+     * @param generatedAt 결과물 생성 시각
+     * @param readVersion 조회 전에 얻은 변경 버전
+     * @return 결과물 ETag
+     */
+    public String registerArtifact(String artifact, ResumeDto resume, LocalDateTime generatedAt, long readVersion) {
+        long generation = generatedAt != null ? generatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        String key = artifactKey(artifact, resume.getId());
+        String eTag = quote(artifact + "-" + resume.getId() + "-" + ResumeFingerprint.of(resume)
+                + "-" + Long.toHexString(generation));
+        artifactETags.put(key, eTag);
+        if (version.get() != readVersion) {
+            artifactETags.asMap().remove(key, eTag);
+        }
+        return eTag;
+    }
+
+    /**
+     * 목록 ETag (목록 조회 전에 호출, 데이터베이스 조회 없음)
+     * 이력서 생성/수정/삭제가 무효화될 때마다 변경 카운터가 올라가므로 어느 변경이든 ETag가 달라집니다.
+     */
+    public String collectionETag() {
+        return quote("resumes-" + collectionEpoch + "-" + Long.toHexString(version.get()));
+    }
+
+    /**
+     * 이력서 변경 반영
+     * 버전을 먼저 올린 뒤 ETag를 제거해 동시에 진행 중인 등록이 이전 내용을 남기지 않도록 합니다.
+     */
+    public void invalidate(Long resumeId) {
+        version.incrementAndGet();
+        resumeETags.invalidate(resumeId);
+        artifactETags.invalidate(artifactKey(INTERVIEW_QUESTIONS, resumeId));
+        artifactETags.invalidate(artifactKey(LEARNING_PATH, resumeId));
+        log.debug("이력서 ETag 무효화 - ID: {}", resumeId);
+    }
+
+    /**
+     * If-None-Match 헤더가 현재 ETag와 일치하는지 확인
+     * RFC 9110에 따라 If-None-Match는 약한 비교를 사용합니다.
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (ANY.equals(value)) {
+                return true;
+            }
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String artifactKey(String artifact, Long resumeId) {
+        return artifact + ":" + resumeId;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
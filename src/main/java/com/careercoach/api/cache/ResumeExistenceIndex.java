@@ -0,0 +1,251 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.event.ResumeChangedEvent;
+import com.careercoach.api.repository.ResumeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이력서 존재 색인
+ * 존재하는 이력서 ID를 압축 비트맵으로 유지해 색인 범위(지금까지 본 가장 큰 ID 이하) 안에서 비트맵에 없는 ID를
+ * 데이터베이스 왕복 없이 거절합니다.
+ *
+ * 비트맵은 이 노드의 생성/삭제 이벤트와, 다른 노드가 cache_invalidations에 남긴 변경을 {@link ResumeInvalidationPoller}가
+ * 전달할 때 해당 ID만 다시 확인하는 방식으로 최신 상태를 유지합니다. pooled 시퀀스라 다른 노드가 범위 안의 ID를 새로 만들 수 있으며,
+ * 그 이력서는 폴링 주기 동안 없는 것으로 거절될 수 있습니다.
+ * 범위를 넘는 ID는 아직 전달되지 않은 다른 노드의 생성일 수 있으므로 데이터베이스로 넘기고, 호출자가 확인한 미존재만 짧은 TTL로 부정 캐싱합니다.
+ * 비트맵에 있는 ID는 기동 시 적재와 동시에 삭제된 ID가 남을 수 있으므로 호출자가 데이터베이스에서 다시 확인합니다.
+ * 색인 적재 전이거나 int 범위를 넘는 ID는 부정 캐시만 적용하고 데이터베이스로 넘깁니다.
+ */
+@Slf4j
+@Component
+public class ResumeExistenceIndex {
+
+    private final ResumeRepository resumeRepository;
+    private final Cache<Long, Boolean> negativeCache;
+
+    // RoaringBitmap은 스레드 안전하지 않으므로 읽기/쓰기 락으로 보호
+    private final RoaringBitmap ids = new RoaringBitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+    // 색인 범위 상한 (삭제로 줄어들지 않음)
+    private volatile long highestId = -1;
+
+    // 흡수한 부하 추적
+    private final LongAdder rejectedByIndex = new LongAdder();
+    private final LongAdder rejectedByNegativeCache = new LongAdder();
+    private final LongAdder passedThrough = new LongAdder();
+    private final LongAdder passedAboveRange = new LongAdder();
+    private final LongAdder remoteRefreshes = new LongAdder();
+    private final LongAdder databaseMisses = new LongAdder();
+
+    public ResumeExistenceIndex(ResumeRepository resumeRepository,
+                                @Value("${resume.existence.negative-ttl:30s}") Duration negativeTtl,
+                                @Value("${resume.existence.negative-max-entries:10000}") long negativeMaxEntries) {
+        this.resumeRepository = resumeRepository;
+        this.negativeCache = Caffeine.newBuilder()
+                .maximumSize(negativeMaxEntries)
+                .expireAfterWrite(negativeTtl)
+                .build();
+    }
+
+    /**
+     * 기동 완료 후 전체 이력서 ID 적재
+     * 적재 중 발생한 생성/삭제 이벤트는 기존 비트맵에 반영된 상태로 병합됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        RoaringBitmap snapshot = new RoaringBitmap();
+        List<Long> allIds = resumeRepository.findAllIds();
+        allIds.stream()
+                .filter(ResumeExistenceIndex::indexable)
+                .forEach(id -> snapshot.add(id.intValue()));
+        snapshot.runOptimize();
+
+        lock.writeLock().lock();
+        try {
+            ids.or(snapshot);
+            if (!snapshot.isEmpty()) {
+                highestId = Math.max(highestId, Integer.toUnsignedLong(snapshot.last()));
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("이력서 존재 색인 적재 완료 - ID 수: {}, 소요 시간: {}ms", allIds.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 이력서가 존재할 수 있는지 확인
+     * 색인 범위 안에서 비트맵에 없는 ID는 데이터베이스를 조회하지 않고 거절합니다.
+     *
+     * @return 존재하지 않음이 확인되면 false, 데이터베이스 확인이 필요하면 true
+     */
+    public boolean mightExist(Long resumeId) {
+        if (resumeId == null) {
+            return false;
+        }
+        if (negativeCache.getIfPresent(resumeId) != null) {
+            rejectedByNegativeCache.increment();
+            return false;
+        }
+        if (ready && indexable(resumeId) && !indexed(resumeId)) {
+            if (resumeId <= highestId) {
+                rejectedByIndex.increment();
+                return false;
+            }
+            // 아직 전달되지 않은 다른 노드의 생성일 수 있음
+            passedAboveRange.increment();
+        }
+        passedThrough.increment();
+        return true;
+    }
+
+    /**
+     * 데이터베이스에서 존재하지 않음이 확인된 ID 기록
+     */
+    public void recordMissing(Long resumeId) {
+        databaseMisses.increment();
+        negativeCache.put(resumeId, Boolean.TRUE);
+    }
+
+    /**
+     * 커밋된 이력서 생성/삭제 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleResumeChangedEvent(ResumeChangedEvent event) {
+        Long resumeId = event.getResumeId();
+        switch (event.getChangeType()) {
+            case CREATED -> markExisting(resumeId, true);
+            case DELETED -> markExisting(resumeId, false);
+            default -> {
+                // 수정은 존재 여부에 영향 없음
+            }
+        }
+    }
+
+    /**
+     * 다른 노드에서 변경된 이력서의 존재 여부 재확인
+     * 변경 기록에는 생성/수정/삭제 구분이 없으므로 변경된 ID만 한 번의 쿼리로 다시 확인해 비트맵에 반영합니다.
+     */
+    public void refresh(Collection<Long> resumeIds) {
+        if (resumeIds.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = new HashSet<>(resumeRepository.findExistingIds(resumeIds));
+        for (Long resumeId : resumeIds) {
+            markExisting(resumeId, existing.contains(resumeId));
+        }
+        remoteRefreshes.add(resumeIds.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getIndexedCount() {
+        lock.readLock().lock();
+        try {
+            return ids.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getIndexSizeBytes() {
+        lock.readLock().lock();
+        try {
+            return ids.getLongSizeInBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getNegativeCacheSize() {
+        return negativeCache.estimatedSize();
+    }
+
+    public long getRejectedByIndex() {
+        return rejectedByIndex.sum();
+    }
+
+    public long getRejectedByNegativeCache() {
+        return rejectedByNegativeCache.sum();
+    }
+
+    public long getPassedThrough() {
+        return passedThrough.sum();
+    }
+
+    public long getPassedAboveRange() {
+        return passedAboveRange.sum();
+    }
+
+    public long getRemoteRefreshes() {
+        return remoteRefreshes.sum();
+    }
+
+    public long getHighestId() {
+        return highestId;
+    }
+
+    public long getDatabaseMisses() {
+        return databaseMisses.sum();
+    }
+
+    private void markExisting(Long resumeId, boolean exists) {
+        if (exists) {
+            negativeCache.invalidate(resumeId);
+        }
+        if (!indexable(resumeId)) {
+            return;
+        }
+        withWriteLock(() -> {
+            if (exists) {
+                ids.add(resumeId.intValue());
+                highestId = Math.max(highestId, resumeId);
+            } else {
+                ids.remove(resumeId.intValue());
+            }
+        });
+    }
+
+    private boolean indexed(Long resumeId) {
+        lock.readLock().lock();
+        try {
+            return ids.contains(resumeId.intValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean indexable(Long resumeId) {
+        return resumeId >= 0 && resumeId <= Integer.MAX_VALUE;
+    }
+}
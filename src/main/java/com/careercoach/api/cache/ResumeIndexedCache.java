@@ -0,0 +1,95 @@
+package com.careercoach.api.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 이력서 역색인을 유지하는 캐시 데코레이터
+ * 저장 시 ResumeCacheIndex에 항목을 등록하고, 명시적 무효화 시 등록을 해제합니다.
+ * 만료/용량 초과로 인한 제거는 저장소의 제거 리스너가 처리합니다.
+ */
+public class ResumeIndexedCache implements Cache {
+
+    private final Cache delegate;
+    private final ResumeCacheIndex index;
+
+    public ResumeIndexedCache(Cache delegate, ResumeCacheIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, () -> {
+            T value = valueLoader.call();
+            if (value != null) {
+                index.register(getName(), key);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        index.register(getName(), key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        index.register(getName(), key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        index.unregister(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        index.unregister(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        index.unregisterCache(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        index.unregisterCache(getName());
+        return invalidated;
+    }
+}
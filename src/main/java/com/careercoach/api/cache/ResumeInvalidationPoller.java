@@ -0,0 +1,92 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.repository.CacheInvalidationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 간 이력서 무효화 폴러
+ * 다른 노드가 cache_invalidations에 기록한 이력서 변경을 주기적으로 읽어 이 노드의 캐시와 ETag를 무효화하고 존재 색인을 갱신합니다.
+ * 그래서 If-None-Match 검증은 데이터베이스 조회 없이 메모리에서 처리하면서도, 다른 노드의 변경은 폴링 주기 안에 반영됩니다.
+ *
+ * 자동 증가 ID는 커밋 순서와 다를 수 있어 ID 대신 데이터베이스 시각으로 읽으며,
+ * 기록 후 늦게 커밋된 행을 놓치지 않도록 직전 폴링 시각에서 commit-lag만큼 겹쳐 다시 읽고 이미 적용한 ID는 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class ResumeInvalidationPoller {
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final ResumeCacheInvalidator resumeCacheInvalidator;
+    private final ResumeExistenceIndex resumeExistenceIndex;
+    private final boolean enabled;
+    private final Duration commitLag;
+
+    // 적용한 무효화 ID → 기록 시각 (다시 읽는 구간 안의 항목만 보관)
+    private final Map<Long, LocalDateTime> applied = new HashMap<>();
+    private LocalDateTime lastPolledAt;
+
+    private final AtomicLong remoteInvalidations = new AtomicLong();
+
+    public ResumeInvalidationPoller(CacheInvalidationRepository cacheInvalidationRepository,
+                                    ResumeCacheInvalidator resumeCacheInvalidator,
+                                    ResumeExistenceIndex resumeExistenceIndex,
+                                    @Value("${resume.invalidation.enabled:true}") boolean enabled,
+                                    @Value("${resume.invalidation.commit-lag-ms:10000}") long commitLagMs) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.resumeCacheInvalidator = resumeCacheInvalidator;
+        this.resumeExistenceIndex = resumeExistenceIndex;
+        this.enabled = enabled;
+        this.commitLag = Duration.ofMillis(commitLagMs);
+    }
+
+    /**
+     * 다른 노드의 무효화 반영
+     */
+    @Scheduled(fixedDelayString = "${resume.invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime now = cacheInvalidationRepository.currentTimestamp();
+            LocalDateTime since = (lastPolledAt != null ? lastPolledAt : now).minus(commitLag);
+
+            Set<Long> remoteResumeIds = new LinkedHashSet<>();
+            for (CacheInvalidation invalidation : cacheInvalidationRepository.findSince(since)) {
+                if (applied.putIfAbsent(invalidation.getId(), invalidation.getCreatedAt()) != null) {
+                    continue;
+                }
+                // 이 노드의 변경은 커밋 직후 이미 무효화함
+                if (!resumeCacheInvalidator.getNodeId().equals(invalidation.getNodeId())) {
+                    resumeCacheInvalidator.evictResume(invalidation.getResumeId());
+                    remoteResumeIds.add(invalidation.getResumeId());
+                    remoteInvalidations.incrementAndGet();
+                }
+            }
+            // 다른 노드의 생성/삭제를 존재 색인에 반영
+            resumeExistenceIndex.refresh(remoteResumeIds);
+            applied.values().removeIf(createdAt -> createdAt.isBefore(since));
+            lastPolledAt = now;
+        } catch (Exception e) {
+            log.warn("이력서 무효화 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 받아 반영한 무효화 수
+     */
+    public long getRemoteInvalidations() {
+        return remoteInvalidations.get();
+    }
+}
@@ -0,0 +1,102 @@
+package com.careercoach.api.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시
+ * 작은 on-heap L1에서 먼저 찾고, 없으면 L2(오프힙)에서 찾아 L1으로 승격합니다.
+ * 저장과 무효화는 두 계층에 모두 적용됩니다.
+ */
+public class TieredCache implements Cache {
+
+    private final Cache l1;
+    private final Cache l2;
+
+    public TieredCache(Cache l1, Cache l2) {
+        this.l1 = l1;
+        this.l2 = l2;
+    }
+
+    public Cache getL1() {
+        return l1;
+    }
+
+    public Cache getL2() {
+        return l2;
+    }
+
+    @Override
+    public String getName() {
+        return l2.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = l1.get(key);
+        if (wrapper != null) {
+            return wrapper;
+        }
+        wrapper = l2.get(key);
+        if (wrapper != null) {
+            l1.put(key, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치 - 기대: " + type.getName() + ", 실제: " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return l1.get(key, () -> l2.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        l1.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        l1.put(key, existing != null ? existing.get() : value);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = l2.evictIfPresent(key);
+        return l1.evictIfPresent(key) || evicted;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.clear();
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 캐시 인프라 패키지
+ * 캐시 키, 이력서 기반 역색인 및 캐시 데코레이터를 포함합니다.
+ */
+package com.careercoach.api.cache;
@@ -1,46 +1,42 @@
 package com.careercoach.api.config;
 
+import com.careercoach.api.executor.InstrumentedThreadPoolTaskExecutor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
 
 /**
  * 비동기 처리 설정
  * 이벤트 기반 비동기 처리를 위한 설정을 제공합니다.
+ * 각 실행기는 대기열 깊이, 대기/실행 시간, 거절 건수를 집계하며 크기와 거절 정책은 async.* 설정으로 조정합니다.
  */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
 
+    private final AsyncExecutorProperties properties;
+
     /**
      * 비동기 작업을 위한 스레드 풀 설정
+     * 포화 시 작업을 보류했다가 자리가 나면 다시 제출하므로 @Async 호출자에게 거절이 전파되지 않습니다.
      */
     @Bean(name = "careerCoachTaskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        
-        // 코어 스레드 수
-        executor.setCorePoolSize(5);
-        
-        // 최대 스레드 수
-        executor.setMaxPoolSize(10);
-        
-        // 큐 용량
-        executor.setQueueCapacity(25);
-        
+    public InstrumentedThreadPoolTaskExecutor taskExecutor() {
+        InstrumentedThreadPoolTaskExecutor executor =
+                new InstrumentedThreadPoolTaskExecutor("careerCoachTaskExecutor", properties.getCareerCoach());
+
         // 스레드 이름 접두사
         executor.setThreadNamePrefix("career-coach-async-");
-        
+
         // 스레드 풀 종료 대기 시간
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
-        
+
         // 초기화
         executor.initialize();
-        
+
         return executor;
     }
 
@@ -48,19 +44,66 @@ public class AsyncConfig {
      * AI 서비스 전용 스레드 풀 설정
      */
     @Bean(name = "aiServiceTaskExecutor")
-    public Executor aiServiceTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        
+    public InstrumentedThreadPoolTaskExecutor aiServiceTaskExecutor() {
         // AI 서비스는 더 많은 리소스 필요
-        executor.setCorePoolSize(3);
-        executor.setMaxPoolSize(8);
-        executor.setQueueCapacity(15);
+        InstrumentedThreadPoolTaskExecutor executor =
+                new InstrumentedThreadPoolTaskExecutor("aiServiceTaskExecutor", properties.getAiService());
         executor.setThreadNamePrefix("ai-service-async-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(120);
-        
+
         executor.initialize();
-        
+
+        return executor;
+    }
+
+    /**
+     * 일괄 등록 후 AI 결과 사전 생성 전용 스레드 풀 설정
+     * 대기열이 가득 차면 작업을 거절하며, 거절된 이력서는 등록 결과에 건너뜀으로 집계됩니다.
+     */
+    @Bean(name = "pregenerationTaskExecutor")
+    public InstrumentedThreadPoolTaskExecutor pregenerationTaskExecutor() {
+        // 실시간 AI 요청과 API 한도를 나눠 쓰므로 소수 스레드로 제한
+        InstrumentedThreadPoolTaskExecutor executor =
+                new InstrumentedThreadPoolTaskExecutor("pregenerationTaskExecutor", properties.getPregeneration());
+        executor.setThreadNamePrefix("pregeneration-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * 백그라운드 작업 워커 전용 스레드 풀 설정
+     * 워커가 빈 스레드 수만큼만 작업을 선점하므로 거절되지 않으며, 종료 시 끝나지 않은 작업은 임대 만료 후 다른 노드가 이어받습니다.
+     */
+    @Bean(name = "jobWorkerTaskExecutor")
+    public InstrumentedThreadPoolTaskExecutor jobWorkerTaskExecutor() {
+        InstrumentedThreadPoolTaskExecutor executor =
+                new InstrumentedThreadPoolTaskExecutor("jobWorkerTaskExecutor", properties.getJobWorker());
+        executor.setThreadNamePrefix("job-worker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * SSE 알림 전송 전용 스레드 풀 설정
+     * 느린 클라이언트에 대한 쓰기가 작업 워커나 요청 스레드를 붙잡지 않도록 전송을 분리합니다.
+     */
+    @Bean(name = "notificationTaskExecutor")
+    public InstrumentedThreadPoolTaskExecutor notificationTaskExecutor() {
+        InstrumentedThreadPoolTaskExecutor executor =
+                new InstrumentedThreadPoolTaskExecutor("notificationTaskExecutor", properties.getNotification());
+        executor.setThreadNamePrefix("notification-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+
         return executor;
     }
-} 
\ No newline at end of file
+}
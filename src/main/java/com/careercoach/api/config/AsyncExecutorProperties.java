@@ -0,0 +1,97 @@
+package com.careercoach.api.config;
+
+import com.careercoach.api.executor.RejectionPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 실행기 설정
+ * 실행기별 스레드 풀 크기, 대기열 용량, 포화 시 거절 정책과 대기 시간 기반 코어 스레드 수 조정 설정입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "async")
+public class AsyncExecutorProperties {
+
+    /**
+     * 코어 스레드 수 조정 주기 (밀리초)
+     */
+    private long adjustIntervalMs = 5000;
+
+    /**
+     * careerCoachTaskExecutor 설정 (이벤트 처리, 학습 경로 재생성)
+     */
+    private Pool careerCoach = new Pool(5, 2, 10, 25, RejectionPolicy.DEFER, 1000, true, 200);
+
+    /**
+     * aiServiceTaskExecutor 설정 (AI 호출 오류 알림)
+     */
+    private Pool aiService = new Pool(3, 1, 8, 15, RejectionPolicy.CALLER_RUNS, 0, true, 100);
+
+    /**
+     * pregenerationTaskExecutor 설정 (일괄 등록 후 사전 생성, 거절 시 건너뜀으로 집계)
+     */
+    private Pool pregeneration = new Pool(2, 2, 2, 1000, RejectionPolicy.ABORT, 0, false, 0);
+
+    /**
+     * jobWorkerTaskExecutor 설정 (background_jobs 실행, 최대 스레드 수가 노드당 동시 실행 수)
+     */
+    private Pool jobWorker = new Pool(4, 4, 4, 10, RejectionPolicy.ABORT, 0, false, 0);
+
+    /**
+     * notificationTaskExecutor 설정 (SSE 알림 전송, 거절된 전송은 다음 알림이나 하트비트 때 재시도)
+     */
+    private Pool notification = new Pool(2, 2, 4, 200, RejectionPolicy.ABORT, 0, false, 0);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+
+        /**
+         * 시작 코어 스레드 수
+         */
+        private int corePoolSize;
+
+        /**
+         * 조정 시 코어 스레드 수 하한
+         */
+        private int minPoolSize;
+
+        /**
+         * 최대 스레드 수 (조정 시 코어 스레드 수 상한)
+         */
+        private int maxPoolSize;
+
+        /**
+         * 대기열 용량
+         */
+        private int queueCapacity;
+
+        /**
+         * 대기열과 스레드가 모두 찼을 때의 처리 방식
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+
+        /**
+         * DEFER 정책의 보류 대기열 용량 (넘치면 거절)
+         */
+        private int deferCapacity;
+
+        /**
+         * 대기 시간에 따라 코어 스레드 수를 조정할지 여부
+         */
+        private boolean adaptive;
+
+        /**
+         * 목표 평균 대기 시간 (밀리초, 넘으면 코어 스레드를 늘리고 1/4 미만이면 줄임)
+         */
+        private long targetQueueWaitMs;
+    }
+}
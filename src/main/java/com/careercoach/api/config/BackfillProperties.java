@@ -0,0 +1,42 @@
+package com.careercoach.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 결과 일괄 재생성(백필) 설정
+ * 요청에서 생략했을 때의 청크 크기와 처리량 상한, 요청으로 지정할 수 있는 최대값입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "backfill")
+public class BackfillProperties {
+
+    /**
+     * 기본 청크 크기 (한 작업에서 처리하고 체크포인트를 기록하는 이력서 수)
+     */
+    private int defaultChunkSize = 50;
+
+    /**
+     * 최대 청크 크기 (크면 중단 시 다시 처리하는 이력서가 늘어남)
+     */
+    private int maxChunkSize = 500;
+
+    /**
+     * 기본 처리량 상한 (초당 이력서 수)
+     */
+    private double defaultRatePerSecond = 1.0;
+
+    /**
+     * 최대 처리량 상한 (초당 이력서 수, 실시간 요청과 AI API 한도를 나눠 씀)
+     */
+    private double maxRatePerSecond = 10.0;
+
+    /**
+     * 최근 실행 목록 최대 개수
+     */
+    private int maxListSize = 50;
+}
@@ -1,13 +1,27 @@
 package com.careercoach.api.config;
 
+import com.careercoach.api.cache.CacheMetrics;
+import com.careercoach.api.cache.InstrumentedCache;
+import com.careercoach.api.cache.OffHeapCache;
+import com.careercoach.api.cache.ResumeCacheIndex;
+import com.careercoach.api.cache.ResumeIndexedCache;
+import com.careercoach.api.cache.TieredCache;
+import com.careercoach.api.dto.response.InterviewQuestionsResponse;
+import com.careercoach.api.dto.response.LearningPathResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -18,28 +32,113 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfig {
 
+    public static final String INTERVIEW_QUESTIONS = "interview-questions";
+    public static final String LEARNING_PATHS = "learning-paths";
+    public static final String RESUME_CACHE = "resume-cache";
+
+    // 캐시 계층 이름 (메트릭 구분용)
+    public static final String TIER_HEAP = "heap";
+    public static final String TIER_L1 = "l1";
+    public static final String TIER_OFF_HEAP = "off-heap";
+
     /**
      * 캐시 매니저 설정
+     * 모든 캐시를 ResumeIndexedCache로 감싸 이력서 ID 역색인을 유지하고,
+     * 그 아래 InstrumentedCache로 적중률/적재 지연/항목 크기를 수집합니다.
+     * 오프힙 캐시가 활성화되면 AI 결과 캐시는 on-heap L1 + 오프힙 L2 계층으로 구성됩니다.
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CacheManager cacheManager(ResumeCacheIndex resumeCacheIndex, CacheMetrics cacheMetrics,
+                                     ObjectMapper objectMapper, OffHeapCacheProperties offHeapProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new ResumeIndexedCache(new InstrumentedCache(super.adaptCaffeineCache(name, cache),
+                        cacheMetrics), resumeCacheIndex);
+            }
+        };
         
-        // 캐시별 설정
+        // 캐시별 설정이 없는 캐시의 기본 설정
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .maximumSize(1000) // 최대 캐시 항목 수
                 .expireAfterWrite(Duration.ofMinutes(30)) // 30분 후 만료
                 .expireAfterAccess(Duration.ofMinutes(10)) // 10분간 접근 없으면 만료
                 .recordStats()); // 통계 기록
-        
-        return cacheManager;
+
+        // 캐시별 설정 등록 (만료/용량 초과로 제거된 항목은 역색인에서도 제거)
+        registerIndexedCache(cacheManager, resumeCacheIndex, cacheMetrics, RESUME_CACHE, resumeCacheConfig());
+
+        if (!offHeapProperties.isEnabled()) {
+            registerIndexedCache(cacheManager, resumeCacheIndex, cacheMetrics, INTERVIEW_QUESTIONS, interviewQuestionsCacheConfig());
+            registerIndexedCache(cacheManager, resumeCacheIndex, cacheMetrics, LEARNING_PATHS, learningPathsCacheConfig());
+            return cacheManager;
+        }
+
+        // AI 결과 캐시는 오프힙 계층으로 구성
+        SimpleCacheManager offHeapCacheManager = new SimpleCacheManager();
+        offHeapCacheManager.setCaches(List.of(
+                new ResumeIndexedCache(new InstrumentedCache(tieredCache(INTERVIEW_QUESTIONS, InterviewQuestionsResponse.class,
+                        Duration.ofHours(1), Duration.ofMinutes(30), resumeCacheIndex, cacheMetrics, objectMapper, offHeapProperties),
+                        cacheMetrics), resumeCacheIndex),
+                new ResumeIndexedCache(new InstrumentedCache(tieredCache(LEARNING_PATHS, LearningPathResponse.class,
+                        Duration.ofHours(2), Duration.ofHours(1), resumeCacheIndex, cacheMetrics, objectMapper, offHeapProperties),
+                        cacheMetrics), resumeCacheIndex)
+        ));
+        offHeapCacheManager.initializeCaches();
+
+        return new CompositeCacheManager(offHeapCacheManager, cacheManager);
+    }
+
+    /**
+     * on-heap L1 + 오프힙 L2 계층 캐시 생성
+     * 역색인 해제는 항목이 실제로 사라지는 L2 제거 시점에만 수행합니다.
+     * L1은 on-heap 캐시와 같은 쓰기/접근 만료를 적용해, 접근이 끊긴 항목이 쓰기 만료까지 힙에 남지 않게 합니다.
+     */
+    private Cache tieredCache(String name, Class<?> valueType, Duration expireAfterWrite, Duration expireAfterAccess,
+                              ResumeCacheIndex resumeCacheIndex, CacheMetrics cacheMetrics,
+                              ObjectMapper objectMapper, OffHeapCacheProperties properties) {
+        OffHeapCache l2 = new OffHeapCache(name, valueType, objectMapper, properties.getMaxBytes(),
+                expireAfterWrite, properties.isCompress(), properties.getCompressThresholdBytes(),
+                (key, cause) -> {
+                    cacheMetrics.recordRemoval(name, TIER_OFF_HEAP, cause.name());
+                    if (cause.wasEvicted()) {
+                        resumeCacheIndex.unregister(name, key);
+                    }
+                });
+
+        if (properties.getL1MaxEntries() <= 0) {
+            return l2;
+        }
+
+        CaffeineCache l1 = new CaffeineCache(name, Caffeine.newBuilder()
+                .maximumSize(properties.getL1MaxEntries())
+                .expireAfterWrite(expireAfterWrite)
+                .expireAfterAccess(expireAfterAccess)
+                .removalListener((key, value, cause) -> cacheMetrics.recordRemoval(name, TIER_L1, cause.name()))
+                .recordStats()
+                .build());
+        return new TieredCache(l1, l2);
+    }
+
+    /**
+     * 제거 리스너를 연결한 캐시 등록
+     */
+    private void registerIndexedCache(CaffeineCacheManager cacheManager, ResumeCacheIndex resumeCacheIndex,
+                                      CacheMetrics cacheMetrics, String name, Caffeine<Object, Object> builder) {
+        cacheManager.registerCustomCache(name, builder
+                .removalListener((key, value, cause) -> {
+                    cacheMetrics.recordRemoval(name, TIER_HEAP, cause.name());
+                    if (cause.wasEvicted()) {
+                        resumeCacheIndex.unregister(name, key);
+                    }
+                })
+                .build());
     }
 
     /**
      * 면접 질문 캐시 설정
      */
-    @Bean
-    public Caffeine<Object, Object> interviewQuestionsCacheConfig() {
+    private Caffeine<Object, Object> interviewQuestionsCacheConfig() {
         return Caffeine.newBuilder()
                 .maximumSize(500) // 면접 질문은 더 적은 수로 제한
                 .expireAfterWrite(1, TimeUnit.HOURS) // 1시간 후 만료
@@ -50,8 +149,7 @@ public class CacheConfig {
     /**
      * 학습 경로 캐시 설정
      */
-    @Bean
-    public Caffeine<Object, Object> learningPathsCacheConfig() {
+    private Caffeine<Object, Object> learningPathsCacheConfig() {
         return Caffeine.newBuilder()
                 .maximumSize(200) // 학습 경로는 더 적은 수로 제한
                 .expireAfterWrite(2, TimeUnit.HOURS) // 2시간 후 만료
@@ -62,8 +160,7 @@ public class CacheConfig {
     /**
      * 이력서 캐시 설정
      */
-    @Bean
-    public Caffeine<Object, Object> resumeCacheConfig() {
+    private Caffeine<Object, Object> resumeCacheConfig() {
         return Caffeine.newBuilder()
                 .maximumSize(1000) // 이력서는 더 많은 수로 설정
                 .expireAfterWrite(30, TimeUnit.MINUTES) // 30분 후 만료
@@ -82,4 +179,4 @@ public class CacheConfig {
                 .expireAfterAccess(20, TimeUnit.MINUTES) // 20분간 접근 없으면 만료
                 .recordStats();
     }
-} 
\ No newline at end of file
+}
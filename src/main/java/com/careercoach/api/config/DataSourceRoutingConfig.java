@@ -0,0 +1,92 @@
+package com.careercoach.api.config;
+
+import com.careercoach.api.datasource.LocalReplicaSynchronizer;
+import com.careercoach.api.datasource.ReadConsistencyFilter;
+import com.careercoach.api.datasource.ReadWriteRoutingDataSource;
+import com.careercoach.api.datasource.Replica;
+import com.careercoach.api.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정
+ * datasource.routing.enabled=true일 때만 활성화되며, 주 데이터소스(spring.datasource.*)와
+ * 읽기 복제본 풀을 라우팅 데이터소스로 묶어 기본 데이터소스로 등록합니다.
+ *
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))이 복제본으로 가려면
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감쌉니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 DataSourceRoutingProperties properties) {
+        List<Replica> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            String name = replica.getName() != null ? replica.getName() : "replica-" + replicas.size();
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.add(new Replica(name, dataSource));
+        }
+
+        log.info("데이터소스 라우팅 활성화 - 복제본 수: {}, 지연 한도: {}ms", replicas.size(), properties.getMaxLagMs());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, properties.getMaxLagMs());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new ReplicaLagMonitor(primaryDataSource, readWriteRoutingDataSource.getReplicas());
+    }
+
+    @Bean
+    @ConditionalOnExpression("${datasource.routing.local-sync-interval-ms:0} > 0")
+    public LocalReplicaSynchronizer localReplicaSynchronizer(HikariDataSource primaryDataSource,
+                                                             ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LocalReplicaSynchronizer(primaryDataSource, readWriteRoutingDataSource.getReplicas());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadConsistencyFilter> readConsistencyFilter() {
+        FilterRegistrationBean<ReadConsistencyFilter> registration = new FilterRegistrationBean<>(new ReadConsistencyFilter());
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
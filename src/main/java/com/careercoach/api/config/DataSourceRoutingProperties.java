@@ -0,0 +1,60 @@
+package com.careercoach.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정
+ * 주 데이터소스는 spring.datasource.* 설정을 그대로 사용하고, 여기에는 복제본과 일관성 기준만 둡니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * 라우팅 사용 여부 (false면 단일 데이터소스)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 읽기 복제본 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 이보다 뒤처진 복제본으로는 읽기를 보내지 않음 (밀리초)
+     */
+    private long maxLagMs = 2000;
+
+    /**
+     * 주 데이터소스 하트비트 기록 및 복제본 지연 측정 주기 (밀리초)
+     */
+    private long heartbeatIntervalMs = 500;
+
+    /**
+     * 로컬 개발용 H2 복제 주기 (밀리초, 0이면 사용 안 함)
+     * 주 H2의 내용을 주기적으로 복제본 H2로 복사해 실제 복제 지연을 흉내 냅니다.
+     */
+    private long localSyncIntervalMs = 0;
+
+    /**
+     * 읽기 복제본 설정
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,59 @@
+package com.careercoach.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전문 검색 색인 설정
+ * 경력 요약/프로젝트 경험 바이그램 색인의 디스크 세그먼트와 BM25 파라미터 설정입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "search.full-text")
+public class FullTextSearchProperties {
+
+    /**
+     * 디스크 세그먼트 사용 여부
+     * 인메모리 데이터베이스는 재기동마다 비워지고 ID가 다시 발급되므로 기본은 비활성이며,
+     * 비활성이면 기동 시 데이터베이스에서 전체를 색인합니다.
+     */
+    private boolean persistent = false;
+
+    /**
+     * 세그먼트 파일 저장 디렉터리
+     */
+    private String directory = System.getProperty("java.io.tmpdir") + "/career-coach/full-text";
+
+    /**
+     * 변경분 세그먼트 기록 주기 (밀리초)
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * 이 개수를 넘으면 전체 스냅샷 하나로 병합
+     */
+    private int maxSegments = 8;
+
+    /**
+     * 경력 요약 필드 가중치
+     */
+    private float careerSummaryWeight = 2.0f;
+
+    /**
+     * 프로젝트 경험 필드 가중치
+     */
+    private float projectExperienceWeight = 1.0f;
+
+    /**
+     * BM25 k1 (단어 빈도 포화 정도)
+     */
+    private float k1 = 1.2f;
+
+    /**
+     * BM25 b (문서 길이 정규화 정도)
+     */
+    private float b = 0.75f;
+}
@@ -0,0 +1,54 @@
+package com.careercoach.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백그라운드 작업 큐 설정
+ * background_jobs를 배치로 선점해 실행하는 폴링 주기, 임대 시간, 재시도 간격 설정입니다.
+ * 노드당 동시 실행 수는 jobWorkerTaskExecutor의 최대 스레드 수(async.job-worker.max-pool-size)를 따릅니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jobs")
+public class JobQueueProperties {
+
+    /**
+     * 작업 워커 사용 여부 (false면 작업을 등록만 하고 이 노드에서는 실행하지 않음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 폴링 주기 (밀리초)
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * 한 번에 선점할 최대 작업 수 (실행기의 빈 스레드 수를 넘지 않음)
+     */
+    private int batchSize = 10;
+
+    /**
+     * 작업 임대 시간 (밀리초)
+     * 실행 중인 작업은 폴링마다 연장하며, 노드가 중단돼 연장되지 않은 작업은 만료 후 다른 노드가 다시 선점합니다.
+     */
+    private long leaseMs = 120_000;
+
+    /**
+     * 최대 시도 횟수 (초과하면 DEAD)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 재시도 대기 시간 기준값 (밀리초, 시도마다 두 배)
+     */
+    private long backoffBaseMs = 5_000;
+
+    /**
+     * 재시도 대기 시간 상한 (밀리초)
+     */
+    private long backoffMaxMs = 600_000;
+}
@@ -0,0 +1,42 @@
+package com.careercoach.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이력서 알림 스트림(SSE) 설정
+ * 연결 수 상한, 연결별 전송 대기 버퍼 크기, 하트비트 주기와 결과 본문 포함 여부 설정입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notifications")
+public class NotificationProperties {
+
+    /**
+     * 노드당 최대 동시 연결 수 (넘으면 503)
+     */
+    private int maxConnections = 500;
+
+    /**
+     * 연결별 전송 대기 알림 수 (넘으면 가장 오래된 알림을 버림)
+     */
+    private int bufferSize = 16;
+
+    /**
+     * 하트비트 주기 (밀리초, 전송 대기 알림이 없는 연결에만 전송)
+     */
+    private long heartbeatIntervalMs = 15000;
+
+    /**
+     * 연결 유지 시간 (밀리초, 끝나면 클라이언트가 다시 연결)
+     */
+    private long connectionTimeoutMs = 1800000;
+
+    /**
+     * 알림에 생성 결과 본문을 포함할지 여부 (false면 ETag 등 버전 정보만 전송)
+     */
+    private boolean includeResult = true;
+}
@@ -0,0 +1,42 @@
+package com.careercoach.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오프힙 캐시 설정
+ * AI 결과 캐시(면접 질문, 학습 경로)를 다이렉트 메모리에 직렬화하여 저장할 때 사용하는 설정입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.off-heap")
+public class OffHeapCacheProperties {
+
+    /**
+     * 오프힙 캐시 사용 여부 (false면 기존 on-heap Caffeine 캐시 사용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 캐시별 다이렉트 메모리 상한 (바이트)
+     */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * 압축 사용 여부
+     */
+    private boolean compress = true;
+
+    /**
+     * 이 크기 이상의 직렬화 결과만 압축 (바이트)
+     */
+    private int compressThresholdBytes = 1024;
+
+    /**
+     * 역직렬화 비용을 줄이기 위한 on-heap L1 항목 수 (0이면 L1 없음)
+     */
+    private int l1MaxEntries = 100;
+}
@@ -0,0 +1,42 @@
+package com.careercoach.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * career_events 아웃박스 설정
+ * 미처리 이벤트를 배치로 선점해 핸들러에 전달하는 폴링 주기, 배치 크기, 재시도 한도 설정입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    /**
+     * 아웃박스 디스패처 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 폴링 주기 (밀리초)
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * 한 번에 선점할 이벤트 수 (한 트랜잭션 크기)
+     */
+    private int batchSize = 100;
+
+    /**
+     * 한 번의 폴링에서 연속으로 처리할 최대 배치 수 (밀린 이벤트 소진용)
+     */
+    private int maxBatchesPerPoll = 10;
+
+    /**
+     * 핸들러 실패 시 최대 시도 횟수 (초과하면 오류와 함께 처리 완료로 표시)
+     */
+    private int maxAttempts = 5;
+}
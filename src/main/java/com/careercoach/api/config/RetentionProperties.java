@@ -0,0 +1,91 @@
+package com.careercoach.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 데이터 보존 설정
+ * 모니터링/이벤트 테이블의 오래된 행을 청크 단위로 보관(선택)·삭제하는 주기, 청크 크기, 속도 제한 설정입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "retention")
+public class RetentionProperties {
+
+    /**
+     * 보존 작업 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 보존 작업 주기 (밀리초)
+     */
+    private long intervalMs = 3_600_000;
+
+    /**
+     * 청크당 행 수 (한 번의 DELETE 트랜잭션 크기)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 청크 사이 최소 휴지 시간 (밀리초)
+     * 직전 청크 처리 시간이 더 길면 그만큼 쉬어 보존 작업이 테이블 사용 시간의 절반을 넘지 않도록 합니다.
+     */
+    private long pauseMs = 50;
+
+    /**
+     * 한 번의 실행에서 테이블당 처리할 최대 청크 수 (남은 행은 다음 주기에 처리)
+     */
+    private int maxChunksPerRun = 200;
+
+    /**
+     * 보관 파일(gzip NDJSON) 저장 디렉터리
+     */
+    private String archiveDirectory = System.getProperty("java.io.tmpdir") + "/career-coach/archive";
+
+    /**
+     * ai_service_calls 보존 정책
+     */
+    private Policy aiServiceCalls = new Policy(30, true);
+
+    /**
+     * career_events 보존 정책 (처리 완료된 이벤트만 대상)
+     */
+    private Policy careerEvents = new Policy(90, false);
+
+    /**
+     * background_jobs 보존 정책 (종료된 작업만 대상)
+     */
+    private Policy backgroundJobs = new Policy(14, false);
+
+    /**
+     * cache_invalidations 보존 정책 (폴링 구간만 필요하므로 짧게 유지)
+     */
+    private Policy cacheInvalidations = new Policy(1, false);
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /**
+         * 보존 기간 (일)
+         */
+        private int retentionDays;
+
+        /**
+         * 삭제 전 보관 파일 기록 여부
+         */
+        private boolean archive;
+
+        public Policy() {
+        }
+
+        public Policy(int retentionDays, boolean archive) {
+            this.retentionDays = retentionDays;
+            this.archive = archive;
+        }
+    }
+}
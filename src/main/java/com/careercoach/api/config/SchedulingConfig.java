@@ -0,0 +1,24 @@
+package com.careercoach.api.config;
+
+import com.careercoach.api.datasource.ReadConsistencyContext;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * 주기적으로 실행되는 백그라운드 작업(@Scheduled)을 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * 스케줄러 스레드가 이전 작업의 읽기 일관성 문맥을 이어 쓰지 않도록 작업마다 비움
+     */
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer readConsistencySchedulerCustomizer() {
+        return scheduler -> scheduler.setTaskDecorator(ReadConsistencyContext::decorate);
+    }
+}
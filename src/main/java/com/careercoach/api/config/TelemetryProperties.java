@@ -0,0 +1,47 @@
+package com.careercoach.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 텔레메트리 이벤트 버스 설정
+ * 링 버퍼 크기, 소비 스레드 수, 묶음 크기와 유휴 대기 시간 설정입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "telemetry")
+public class TelemetryProperties {
+
+    /**
+     * 소비 스레드 수 (스레드마다 링 버퍼 하나, 생산자는 스레드 ID로 버퍼를 고름)
+     */
+    private int consumers = 2;
+
+    /**
+     * 소비 스레드별 링 버퍼 슬롯 수 (2의 거듭제곱으로 올림, 가득 차면 이벤트를 버림)
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * 한 번에 처리하는 최대 이벤트 수
+     */
+    private int maxBatchSize = 256;
+
+    /**
+     * 처리할 이벤트가 없을 때 소비 스레드의 첫 대기 시간 (마이크로초, 이후 두 배씩 늘림)
+     */
+    private long idleParkMinMicros = 50;
+
+    /**
+     * 소비 스레드의 최대 대기 시간 (마이크로초, 생산자가 깨우므로 유휴 시 깨어나는 주기만 결정)
+     */
+    private long idleParkMaxMicros = 100_000;
+
+    /**
+     * 종료 시 남은 이벤트 처리를 기다리는 시간 (밀리초)
+     */
+    private long shutdownTimeoutMs = 2000;
+}
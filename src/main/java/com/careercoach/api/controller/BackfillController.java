@@ -0,0 +1,87 @@
+package com.careercoach.api.controller;
+
+import com.careercoach.api.dto.request.StartBackfillRequest;
+import com.careercoach.api.dto.response.BackfillRunResponse;
+import com.careercoach.api.service.backfill.BackfillRun;
+import com.careercoach.api.service.backfill.BackfillService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AI 결과 일괄 재생성(백필) REST API 컨트롤러
+ * 프롬프트나 모델 변경 후 직무별 이력서의 면접 질문/학습 경로를 다시 생성하는 실행의 시작, 진행 조회와 취소 엔드포인트를 제공합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/backfills")
+@RequiredArgsConstructor
+public class BackfillController {
+
+    private final BackfillService backfillService;
+
+    /**
+     * 백필 시작
+     * 실행을 등록하고 즉시 202 Accepted와 진행 조회 위치를 반환합니다.
+     *
+     * @param request 대상 직무, 재생성 대상, 청크 크기, 처리량 상한
+     * @return 등록된 실행 (Location: /api/backfills/{runId})
+     */
+    @PostMapping
+    public ResponseEntity<BackfillRunResponse> startBackfill(@Valid @RequestBody StartBackfillRequest request) {
+        log.info("백필 시작 요청 - 직무: {}, 대상: {}", request.getJobRole(), request.getArtifacts());
+        BackfillRun run = backfillService.start(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/backfills/" + run.getId()))
+                .body(BackfillRunResponse.from(run, LocalDateTime.now()));
+    }
+
+    /**
+     * 백필 진행 조회
+     * 처리/성공/실패 건수, 평균 처리 속도(건/초)와 남은 예상 시간을 반환합니다.
+     *
+     * @param runId 실행 ID
+     * @return 실행 진행 상태
+     */
+    @GetMapping("/{runId}")
+    public ResponseEntity<BackfillRunResponse> getBackfill(@PathVariable Long runId) {
+        log.debug("백필 진행 조회 요청 - ID: {}", runId);
+        return ResponseEntity.ok(BackfillRunResponse.from(backfillService.getRun(runId), LocalDateTime.now()));
+    }
+
+    /**
+     * 최근 백필 목록 조회 (최신순)
+     *
+     * @param size 최대 개수
+     * @return 실행 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<BackfillRunResponse>> getBackfills(@RequestParam(defaultValue = "20") int size) {
+        log.info("백필 목록 조회 요청");
+        LocalDateTime now = LocalDateTime.now();
+        return ResponseEntity.ok(backfillService.findRecent(size).stream()
+                .map(run -> BackfillRunResponse.from(run, now))
+                .toList());
+    }
+
+    /**
+     * 백필 취소
+     *
+     * @param runId 실행 ID
+     * @return 취소된 실행 (이미 끝난 실행이면 409와 현재 실행)
+     */
+    @PostMapping("/{runId}/cancel")
+    public ResponseEntity<BackfillRunResponse> cancelBackfill(@PathVariable Long runId) {
+        log.info("백필 취소 요청 - ID: {}", runId);
+        boolean cancelled = backfillService.cancel(runId);
+        BackfillRunResponse run = BackfillRunResponse.from(backfillService.getRun(runId), LocalDateTime.now());
+        return cancelled ? ResponseEntity.ok(run) : ResponseEntity.status(HttpStatus.CONFLICT).body(run);
+    }
+}
@@ -0,0 +1,99 @@
+package com.careercoach.api.controller;
+
+import com.careercoach.api.dto.response.JobQueueStatusResponse;
+import com.careercoach.api.dto.response.JobResponse;
+import com.careercoach.api.service.job.BackgroundJob;
+import com.careercoach.api.service.job.BackgroundJobQueue;
+import com.careercoach.api.service.job.JobStatus;
+import com.careercoach.api.service.job.JobWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 백그라운드 작업 REST API 컨트롤러
+ * background_jobs 작업 큐의 상태 조회, 비동기 생성 작업의 결과 조회와 종료된 작업의 재시도 엔드포인트를 제공합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private static final int MAX_LIST_SIZE = 200;
+
+    // 작업이 끝나지 않았을 때 클라이언트에 권하는 다음 조회 간격 (초)
+    private static final String RETRY_AFTER_SECONDS = "2";
+
+    private final BackgroundJobQueue backgroundJobQueue;
+    private final JobWorker jobWorker;
+
+    /**
+     * 작업 큐 상태 조회
+     * 상태별 작업 수, 가장 오래된 대기 작업의 지연과 이 노드 워커의 처리 현황을 반환합니다.
+     *
+     * @return 작업 큐 상태
+     */
+    @GetMapping("/status")
+    public ResponseEntity<JobQueueStatusResponse> getJobQueueStatus() {
+        log.info("작업 큐 상태 조회 요청");
+        return ResponseEntity.ok(jobWorker.getStatus());
+    }
+
+    /**
+     * 상태별 작업 목록 조회 (오래된 작업부터)
+     *
+     * @param status 작업 상태 (기본 PENDING)
+     * @param size 최대 개수
+     * @return 작업 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<JobResponse>> getJobs(
+            @RequestParam(defaultValue = "PENDING") JobStatus status,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("작업 목록 조회 요청 - 상태: {}", status);
+        List<JobResponse> jobs = backgroundJobQueue.findByStatus(status, Math.max(1, Math.min(size, MAX_LIST_SIZE))).stream()
+                .map(JobResponse::from)
+                .toList();
+        return ResponseEntity.ok(jobs);
+    }
+
+    /**
+     * 작업 상태 및 결과 조회
+     * 끝나지 않은 작업에는 Retry-After로 다음 조회 시점을 알려주고, 성공한 생성 작업은 결과를 함께 반환합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태 (성공 시 결과 포함)
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobResponse> getJob(@PathVariable Long jobId) {
+        log.debug("작업 조회 요청 - ID: {}", jobId);
+        BackgroundJob job = backgroundJobQueue.getJob(jobId);
+        if (job.getStatus().isFinished()) {
+            return ResponseEntity.ok(JobResponse.from(job));
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(JobResponse.from(job));
+    }
+
+    /**
+     * 종료된 작업 재시도
+     * DEAD 또는 CANCELLED 작업을 시도 횟수를 초기화해 다시 대기시킵니다.
+     *
+     * @param jobId 작업 ID
+     * @return 재시도 후 작업 (대상 상태가 아니면 409와 현재 작업)
+     */
+    @PostMapping("/{jobId}/retry")
+    public ResponseEntity<JobResponse> retryJob(@PathVariable Long jobId) {
+        log.info("작업 재시도 요청 - ID: {}", jobId);
+        boolean requeued = backgroundJobQueue.retry(jobId);
+        JobResponse job = JobResponse.from(backgroundJobQueue.getJob(jobId));
+        return requeued ? ResponseEntity.ok(job) : ResponseEntity.status(HttpStatus.CONFLICT).body(job);
+    }
+}
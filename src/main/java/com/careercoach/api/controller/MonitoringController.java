@@ -0,0 +1,180 @@
+package com.careercoach.api.controller;
+
+import com.careercoach.api.cache.ResumeCacheIndex;
+import com.careercoach.api.cache.ResumeExistenceIndex;
+import com.careercoach.api.dto.response.CacheStatisticsResponse;
+import com.careercoach.api.dto.response.ExecutorStatusResponse;
+import com.careercoach.api.dto.response.NotificationStatusResponse;
+import com.careercoach.api.dto.response.OutboxStatusResponse;
+import com.careercoach.api.dto.response.RegenerationStatusResponse;
+import com.careercoach.api.dto.response.ResumeCacheEntriesResponse;
+import com.careercoach.api.dto.response.ResumeExistenceStatsResponse;
+import com.careercoach.api.dto.response.RetentionStatusResponse;
+import com.careercoach.api.dto.response.TelemetryStatusResponse;
+import com.careercoach.api.executor.ExecutorPoolTuner;
+import com.careercoach.api.service.CacheMonitoringService;
+import com.careercoach.api.service.LearningPathRegenerationDebouncer;
+import com.careercoach.api.service.notification.ResumeNotificationHub;
+import com.careercoach.api.service.outbox.OutboxDispatcher;
+import com.careercoach.api.service.retention.RetentionJob;
+import com.careercoach.api.telemetry.TelemetryBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 운영 모니터링 REST API 컨트롤러
+ * 캐시 등 내부 상태를 확인하는 엔드포인트를 제공합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/monitoring")
+@RequiredArgsConstructor
+public class MonitoringController {
+
+    private final ResumeCacheIndex resumeCacheIndex;
+    private final CacheMonitoringService cacheMonitoringService;
+    private final ResumeExistenceIndex resumeExistenceIndex;
+    private final RetentionJob retentionJob;
+    private final OutboxDispatcher outboxDispatcher;
+    private final LearningPathRegenerationDebouncer regenerationDebouncer;
+    private final ExecutorPoolTuner executorPoolTuner;
+    private final ResumeNotificationHub resumeNotificationHub;
+    private final TelemetryBus telemetryBus;
+
+    /**
+     * 캐시 통계 조회
+     * 캐시별/계층별 적중률, 적재 지연 백분위, 제거 원인, 항목 크기와 캐시로 회피한 AI 호출 추정치를 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<CacheStatisticsResponse> getCacheStatistics() {
+        log.info("캐시 통계 조회 요청");
+        return ResponseEntity.ok(cacheMonitoringService.getCacheStatistics());
+    }
+
+    /**
+     * 이력서별 캐시 항목 조회
+     * 이력서 수정/삭제 후 파생 캐시가 정확히 무효화되었는지 검증할 때 사용합니다.
+     *
+     * @param resumeId 이력서 ID
+     * @return 이력서에서 파생된 캐시 항목 목록
+     */
+    @GetMapping("/cache/resumes/{resumeId}")
+    public ResponseEntity<ResumeCacheEntriesResponse> getResumeCacheEntries(@PathVariable Long resumeId) {
+        log.info("이력서 캐시 항목 조회 요청: ID {}", resumeId);
+
+        List<ResumeCacheEntriesResponse.CacheEntry> entries = resumeCacheIndex.entriesOf(resumeId).stream()
+                .map(entry -> ResumeCacheEntriesResponse.CacheEntry.builder()
+                        .cacheName(entry.getCacheName())
+                        .key(String.valueOf(entry.getKey()))
+                        .build())
+                .toList();
+
+        return ResponseEntity.ok(ResumeCacheEntriesResponse.builder()
+                .resumeId(resumeId)
+                .entries(entries)
+                .build());
+    }
+
+    /**
+     * 이력서 존재 색인 통계 조회
+     * 존재하지 않는 ID 조회를 데이터베이스 왕복 없이 거절한 횟수를 확인할 때 사용합니다.
+     *
+     * @return 존재 색인 통계
+     */
+    @GetMapping("/resume-existence")
+    public ResponseEntity<ResumeExistenceStatsResponse> getResumeExistenceStats() {
+        log.info("이력서 존재 색인 통계 조회 요청");
+
+        return ResponseEntity.ok(ResumeExistenceStatsResponse.builder()
+                .ready(resumeExistenceIndex.isReady())
+                .indexedCount(resumeExistenceIndex.getIndexedCount())
+                .indexSizeBytes(resumeExistenceIndex.getIndexSizeBytes())
+                .highestId(resumeExistenceIndex.getHighestId())
+                .negativeCacheSize(resumeExistenceIndex.getNegativeCacheSize())
+                .rejectedByIndex(resumeExistenceIndex.getRejectedByIndex())
+                .rejectedByNegativeCache(resumeExistenceIndex.getRejectedByNegativeCache())
+                .passedThrough(resumeExistenceIndex.getPassedThrough())
+                .passedAboveRange(resumeExistenceIndex.getPassedAboveRange())
+                .remoteRefreshes(resumeExistenceIndex.getRemoteRefreshes())
+                .databaseMisses(resumeExistenceIndex.getDatabaseMisses())
+                .build());
+    }
+
+    /**
+     * 데이터 보존 작업 상태 조회
+     * 테이블별 삭제/보관 진행 상황과 청크 처리 시간을 확인해 보존 작업이 운영 테이블에 부담을 주는지 판단할 때 사용합니다.
+     *
+     * @return 보존 작업 상태
+     */
+    @GetMapping("/retention")
+    public ResponseEntity<RetentionStatusResponse> getRetentionStatus() {
+        log.info("데이터 보존 작업 상태 조회 요청");
+        return ResponseEntity.ok(retentionJob.getStatus());
+    }
+
+    /**
+     * 아웃박스 상태 조회
+     * 미처리 career_events 건수와 가장 오래된 대기 이벤트의 지연으로 디스패처가 밀리고 있는지 확인할 때 사용합니다.
+     *
+     * @return 아웃박스 상태
+     */
+    @GetMapping("/outbox")
+    public ResponseEntity<OutboxStatusResponse> getOutboxStatus() {
+        log.info("아웃박스 상태 조회 요청");
+        return ResponseEntity.ok(outboxDispatcher.getStatus());
+    }
+
+    /**
+     * 학습 경로 재생성 상태 조회
+     * 이력서 수정으로 요청된 재생성이 지연 창에서 얼마나 병합·취소되고 작업 큐에 등록되는지 확인할 때 사용합니다.
+     *
+     * @return 학습 경로 재생성 상태
+     */
+    @GetMapping("/regeneration")
+    public ResponseEntity<RegenerationStatusResponse> getRegenerationStatus() {
+        log.info("학습 경로 재생성 상태 조회 요청");
+        return ResponseEntity.ok(regenerationDebouncer.getStatus());
+    }
+
+    /**
+     * 비동기 실행기 상태 조회
+     * 실행기별 대기열 깊이, 대기 시간, 거절·보류 건수로 @Async 작업이 밀리거나 버려지고 있는지 확인할 때 사용합니다.
+     *
+     * @return 실행기별 상태
+     */
+    @GetMapping("/executors")
+    public ResponseEntity<List<ExecutorStatusResponse>> getExecutorStatus() {
+        log.info("비동기 실행기 상태 조회 요청");
+        return ResponseEntity.ok(executorPoolTuner.getStatus());
+    }
+
+    /**
+     * 이력서 알림 스트림 상태 조회
+     * SSE 연결 수와 알림 전송, 병합, 버림 건수로 느린 클라이언트나 연결 누수를 확인할 때 사용합니다.
+     *
+     * @return 알림 스트림 상태
+     */
+    @GetMapping("/notifications")
+    public ResponseEntity<NotificationStatusResponse> getNotificationStatus() {
+        log.info("이력서 알림 스트림 상태 조회 요청");
+        return ResponseEntity.ok(resumeNotificationHub.getStatus());
+    }
+
+    /**
+     * 텔레메트리 이벤트 버스 상태 조회
+     * 링 버퍼별 밀린 이벤트와 버림 건수로 소비 스레드가 AI 호출·캐시 이벤트를 따라가는지 확인할 때 사용합니다.
+     *
+     * @return 텔레메트리 이벤트 버스 상태
+     */
+    @GetMapping("/telemetry")
+    public ResponseEntity<TelemetryStatusResponse> getTelemetryStatus() {
+        log.info("텔레메트리 이벤트 버스 상태 조회 요청");
+        return ResponseEntity.ok(telemetryBus.getStatus());
+    }
+}
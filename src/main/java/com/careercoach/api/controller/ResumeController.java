@@ -1,25 +1,55 @@
 package com.careercoach.api.controller;
 
+import com.careercoach.api.cache.ResumeETagIndex;
 import com.careercoach.api.domain.enums.JobRole;
 import com.careercoach.api.dto.request.CreateResumeRequest;
+import com.careercoach.api.dto.response.FullTextSearchResponse;
+import com.careercoach.api.dto.response.JobResponse;
 import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.dto.response.ResumeImportResponse;
+import com.careercoach.api.dto.response.ResumePageResponse;
+import com.careercoach.api.dto.response.ResumeStatisticsResponse;
 import com.careercoach.api.dto.response.InterviewQuestionsResponse;
 import com.careercoach.api.dto.response.LearningPathResponse;
+import com.careercoach.api.dto.response.SkillSearchResponse;
+import com.careercoach.api.service.GeneratedArtifactHistoryService;
+import com.careercoach.api.service.ResumeExportService;
+import com.careercoach.api.service.ResumeImportService;
 import com.careercoach.api.service.ResumeService;
 import com.careercoach.api.service.ai.AIInterviewService;
 import com.careercoach.api.service.ai.AILearningPathService;
+import com.careercoach.api.service.job.BackgroundJob;
+import com.careercoach.api.service.job.InterviewQuestionsJobHandler;
+import com.careercoach.api.service.job.LearningPathJobHandler;
+import com.careercoach.api.service.job.ResumeVersionJobHandler;
+import com.careercoach.api.service.notification.ResumeNotificationHub;
+import com.careercoach.api.service.skill.SkillQuery;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * 이력서 관리 REST API 컨트롤러
  * 이력서 CRUD 작업과 관련된 엔드포인트를 제공합니다.
+ * 조회/생성 결과 응답에는 ETag를 부여하고, 조회(GET)의 If-None-Match가 현재 ETag와 일치하면
+ * 서비스 계층을 거치지 않고 304 Not Modified를 반환합니다.
+ * 생성(POST)은 조건부 요청으로 처리하지 않습니다 (RFC 9110상 GET/HEAD 외에는 304를 쓸 수 없음).
  */
 @Slf4j
 @RestController
@@ -30,6 +60,21 @@ public class ResumeController {
     private final ResumeService resumeService;
     private final AIInterviewService aiInterviewService;
     private final AILearningPathService aiLearningPathService;
+    private final GeneratedArtifactHistoryService generatedArtifactHistoryService;
+    private final ResumeETagIndex resumeETagIndex;
+    private final ResumeExportService resumeExportService;
+    private final ResumeImportService resumeImportService;
+    private final InterviewQuestionsJobHandler interviewQuestionsJobHandler;
+    private final LearningPathJobHandler learningPathJobHandler;
+    private final ResumeNotificationHub resumeNotificationHub;
+
+    // 클라이언트 캐시는 허용하되 매번 ETag로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 알림 연결 수 상한에 걸렸을 때 클라이언트에 권하는 재연결 간격 (초)
+    private static final String STREAM_RETRY_AFTER_SECONDS = "30";
 
     /**
      * 이력서 생성
@@ -44,6 +89,27 @@ public class ResumeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdResume);
     }
 
+    /**
+     * 이력서 일괄 등록
+     * NDJSON(application/x-ndjson) 또는 CSV(text/csv, 헤더 필수, techSkills는 ;로 구분) 본문을 스트리밍으로 처리합니다.
+     * 
+     * @param body 요청 본문
+     * @param contentType 본문 형식
+     * @param pregenerate 등록 후 면접 질문/학습 경로를 백그라운드에서 미리 생성할지 여부
+     * @return 행 단위 오류를 포함한 등록 결과
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ResumeImportService.TEXT_CSV_VALUE})
+    public ResponseEntity<ResumeImportResponse> importResumes(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(defaultValue = "false") boolean pregenerate) throws IOException {
+        ResumeImportService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? ResumeImportService.Format.NDJSON
+                : ResumeImportService.Format.CSV;
+        log.info("이력서 일괄 등록 요청 - 형식: {}, 사전 생성: {}", format, pregenerate);
+        return ResponseEntity.ok(resumeImportService.importResumes(body, format, pregenerate));
+    }
+
     /**
      * 이력서 조회
      * 
@@ -51,10 +117,20 @@ public class ResumeController {
      * @return 이력서 정보
      */
     @GetMapping("/{resumeId}")
-    public ResponseEntity<ResumeDto> getResume(@PathVariable Long resumeId) {
+    public ResponseEntity<ResumeDto> getResume(
+            @PathVariable Long resumeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("이력서 조회 요청: ID {}", resumeId);
+
+        Optional<String> currentETag = resumeETagIndex.resumeETag(resumeId);
+        if (isNotModified(ifNoneMatch, currentETag)) {
+            return notModified(currentETag.get());
+        }
+
+        long version = resumeETagIndex.currentVersion();
         ResumeDto resume = resumeService.getResume(resumeId);
-        return ResponseEntity.ok(resume);
+        String eTag = resumeETagIndex.registerResume(resume, version);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(resume);
     }
 
     /**
@@ -87,15 +163,48 @@ public class ResumeController {
     }
 
     /**
-     * 모든 이력서 조회
+     * 모든 이력서 조회 (최신순 커서 페이지)
      * 
-     * @return 이력서 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 이력서 페이지
      */
     @GetMapping
-    public ResponseEntity<List<ResumeDto>> getAllResumes() {
-        log.info("모든 이력서 조회 요청");
-        List<ResumeDto> resumes = resumeService.getAllResumes();
-        return ResponseEntity.ok(resumes);
+    public ResponseEntity<ResumePageResponse> getAllResumes(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("모든 이력서 조회 요청 - 커서: {}", cursor);
+        return conditionalList(ifNoneMatch, () -> resumeService.getAllResumes(cursor, pageSize(size)));
+    }
+
+    /**
+     * 이력서 통계 조회
+     * 직무별 이력서 수, 경력 분포, 주니어/미들/시니어 구성을 메모리 집계에서 반환합니다.
+     * 
+     * @return 이력서 통계
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<ResumeStatisticsResponse> getResumeStatistics() {
+        log.info("이력서 통계 조회 요청");
+        return ResponseEntity.ok(resumeService.getResumeStatistics());
+    }
+
+    /**
+     * 이력서 NDJSON 내보내기
+     * 전체 이력서를 한 줄에 하나씩 스트리밍하므로 이력서 수와 관계없이 서버 메모리 사용량이 일정합니다.
+     * 
+     * @param jobRole 직무 역할 (생략 시 전체)
+     * @return NDJSON 스트림
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportResumes(@RequestParam(required = false) JobRole jobRole) {
+        log.info("이력서 내보내기 요청 - 직무: {}", jobRole);
+        StreamingResponseBody body = output -> resumeExportService.export(jobRole, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resumes.ndjson\"")
+                .body(body);
     }
 
     /**
@@ -144,15 +253,21 @@ public class ResumeController {
      * 직무 역할별 이력서 조회
      * 
      * @param jobRole 직무 역할
-     * @return 이력서 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 이력서 페이지
      */
     @GetMapping("/job-role/{jobRole}")
-    public ResponseEntity<List<ResumeDto>> getResumesByJobRole(@PathVariable String jobRole) {
+    public ResponseEntity<ResumePageResponse> getResumesByJobRole(
+            @PathVariable String jobRole,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("직무 역할별 이력서 조회 요청: {}", jobRole);
         try {
             JobRole role = JobRole.valueOf(jobRole.toUpperCase());
-            List<ResumeDto> resumes = resumeService.getResumesByJobRole(role);
-            return ResponseEntity.ok(resumes);
+            return conditionalList(ifNoneMatch,
+                    () -> resumeService.getResumesByJobRole(role, cursor, pageSize(size)));
         } catch (IllegalArgumentException e) {
             log.error("잘못된 직무 역할: {}", jobRole);
             return ResponseEntity.badRequest().build();
@@ -164,28 +279,90 @@ public class ResumeController {
      * 
      * @param minYears 최소 경력 연수
      * @param maxYears 최대 경력 연수
-     * @return 이력서 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 이력서 페이지
      */
     @GetMapping("/experience-range")
-    public ResponseEntity<List<ResumeDto>> getResumesByExperienceRange(
+    public ResponseEntity<ResumePageResponse> getResumesByExperienceRange(
             @RequestParam Integer minYears,
-            @RequestParam Integer maxYears) {
+            @RequestParam Integer maxYears,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("경력 연수 범위 이력서 조회 요청: {}~{}년", minYears, maxYears);
-        List<ResumeDto> resumes = resumeService.getResumesByExperienceRange(minYears, maxYears);
-        return ResponseEntity.ok(resumes);
+        return conditionalList(ifNoneMatch,
+                () -> resumeService.getResumesByExperienceRange(minYears, maxYears, cursor, pageSize(size)));
     }
 
     /**
      * 기술 스택으로 이력서 검색
      * 
      * @param techSkill 기술 스택
-     * @return 이력서 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 이력서 페이지
      */
     @GetMapping("/tech-skill/{techSkill}")
-    public ResponseEntity<List<ResumeDto>> getResumesByTechSkill(@PathVariable String techSkill) {
+    public ResponseEntity<ResumePageResponse> getResumesByTechSkill(
+            @PathVariable String techSkill,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("기술 스택 이력서 검색 요청: {}", techSkill);
-        List<ResumeDto> resumes = resumeService.getResumesByTechSkill(techSkill);
-        return ResponseEntity.ok(resumes);
+        return conditionalList(ifNoneMatch, () -> resumeService.getResumesByTechSkill(techSkill, cursor, pageSize(size)));
+    }
+
+    /**
+     * 기술 조건으로 이력서 검색
+     * 
+     * @param all 모두 포함해야 하는 기술 (AND)
+     * @param any 하나 이상 포함해야 하는 기술 (OR)
+     * @param none 포함하지 않아야 하는 기술 (NOT)
+     * @param jobRole 직무 역할
+     * @param minYears 최소 경력 연수
+     * @param maxYears 최대 경력 연수
+     * @param limit 반환할 최대 이력서 수 (최신순)
+     * @return 검색 결과
+     */
+    @GetMapping("/skill-search")
+    public ResponseEntity<SkillSearchResponse> searchResumesBySkills(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(required = false) JobRole jobRole,
+            @RequestParam(required = false) Integer minYears,
+            @RequestParam(required = false) Integer maxYears,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("기술 조건 이력서 검색 요청 - 전체: {}, 하나 이상: {}, 제외: {}", all, any, none);
+
+        SkillQuery query = SkillQuery.builder()
+                .all(Objects.requireNonNullElse(all, List.of()))
+                .any(Objects.requireNonNullElse(any, List.of()))
+                .none(Objects.requireNonNullElse(none, List.of()))
+                .jobRole(jobRole)
+                .minYears(minYears)
+                .maxYears(maxYears)
+                .build();
+        return ResponseEntity.ok(resumeService.searchResumesBySkills(query, pageSize(limit)));
+    }
+
+    /**
+     * 경력 요약/프로젝트 경험 전문 검색
+     * 한국어 바이그램 색인과 BM25 점수로 관련도순 결과를 페이지 단위로 반환합니다.
+     *
+     * @param q 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 점수순 검색 결과
+     */
+    @GetMapping("/search")
+    public ResponseEntity<FullTextSearchResponse> searchResumes(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("전문 검색 요청 - 검색어: {}, 페이지: {}, 크기: {}", q, page, size);
+        return ResponseEntity.ok(resumeService.searchResumes(q, Math.max(0, page), pageSize(size)));
     }
 
     /**
@@ -197,10 +374,14 @@ public class ResumeController {
     @PostMapping("/{resumeId}/interview-questions")
     public ResponseEntity<InterviewQuestionsResponse> generateInterviewQuestions(@PathVariable Long resumeId) {
         log.info("AI 인터뷰 질문 생성 요청: 이력서 ID {}", resumeId);
+
         try {
+            long version = resumeETagIndex.currentVersion();
             ResumeDto resume = resumeService.getResume(resumeId);
             InterviewQuestionsResponse questions = aiInterviewService.generateQuestions(resume);
-            return ResponseEntity.ok(questions);
+            String eTag = resumeETagIndex.registerArtifact(ResumeETagIndex.INTERVIEW_QUESTIONS, resume,
+                    questions.getGeneratedAt(), version);
+            return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(questions);
         } catch (Exception e) {
             log.error("인터뷰 질문 생성 실패: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -216,13 +397,128 @@ public class ResumeController {
     @PostMapping("/{resumeId}/learning-path")
     public ResponseEntity<LearningPathResponse> generateLearningPath(@PathVariable Long resumeId) {
         log.info("AI 학습 경로 생성 요청: 이력서 ID {}", resumeId);
+
         try {
+            long version = resumeETagIndex.currentVersion();
             ResumeDto resume = resumeService.getResume(resumeId);
             LearningPathResponse learningPath = aiLearningPathService.generateLearningPath(resume);
-            return ResponseEntity.ok(learningPath);
+            String eTag = resumeETagIndex.registerArtifact(ResumeETagIndex.LEARNING_PATH, resume,
+                    learningPath.getGeneratedAt(), version);
+            return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(learningPath);
         } catch (Exception e) {
             log.error("학습 경로 생성 실패: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * AI 기반 인터뷰 질문 비동기 생성
+     * 생성 작업을 등록하고 즉시 202 Accepted와 작업 조회 위치를 반환합니다.
+     * 같은 이력서 버전으로 다시 요청하면 새 작업 대신 기존 작업을 반환합니다.
+     *
+     * @param resumeId 이력서 ID
+     * @return 등록된 작업 (Location: /api/jobs/{jobId})
+     */
+    @PostMapping(value = "/{resumeId}/interview-questions", params = "async=true")
+    public ResponseEntity<JobResponse> generateInterviewQuestionsAsync(@PathVariable Long resumeId) {
+        log.info("AI 인터뷰 질문 비동기 생성 요청: 이력서 ID {}", resumeId);
+        return accepted(interviewQuestionsJobHandler, resumeId);
+    }
+
+    /**
+     * AI 기반 학습 경로 비동기 생성
+     * 생성 작업을 등록하고 즉시 202 Accepted와 작업 조회 위치를 반환합니다.
+     * 같은 이력서 버전으로 다시 요청하면 새 작업 대신 기존 작업을 반환합니다.
+     *
+     * @param resumeId 이력서 ID
+     * @return 등록된 작업 (Location: /api/jobs/{jobId})
+     */
+    @PostMapping(value = "/{resumeId}/learning-path", params = "async=true")
+    public ResponseEntity<JobResponse> generateLearningPathAsync(@PathVariable Long resumeId) {
+        log.info("AI 학습 경로 비동기 생성 요청: 이력서 ID {}", resumeId);
+        return accepted(learningPathJobHandler, resumeId);
+    }
+
+    /**
+     * 이력서 알림 구독 (Server-Sent Events)
+     * 학습 경로 재생성이나 비동기 생성 작업이 끝나면 artifact 이벤트로 결과(또는 ETag)를 전송하므로 클라이언트가 폴링하지 않아도 됩니다.
+     * 연결이 유휴 상태일 때는 주기적으로 하트비트 주석을 보냅니다.
+     *
+     * @param resumeId 이력서 ID
+     * @return SSE 스트림 (연결 수 상한을 넘으면 503)
+     */
+    @GetMapping(value = "/{resumeId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeResumeEvents(@PathVariable Long resumeId) {
+        log.info("이력서 알림 구독 요청: 이력서 ID {}", resumeId);
+        resumeService.getResume(resumeId);
+        return resumeNotificationHub.subscribe(resumeId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, STREAM_RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    /**
+     * 가장 최근 생성된 인터뷰 질문 조회
+     * AI 호출 없이 저장된 이력에서 조회합니다.
+     * 
+     * @param resumeId 이력서 ID
+     * @return 가장 최근 인터뷰 질문
+     */
+    @GetMapping("/{resumeId}/interview-questions/latest")
+    public ResponseEntity<InterviewQuestionsResponse> getLatestInterviewQuestions(@PathVariable Long resumeId) {
+        log.info("최근 인터뷰 질문 조회 요청: 이력서 ID {}", resumeId);
+        return generatedArtifactHistoryService.getLatestInterviewQuestions(resumeId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 가장 최근 생성된 학습 경로 조회
+     * AI 호출 없이 저장된 이력에서 조회합니다.
+     * 
+     * @param resumeId 이력서 ID
+     * @return 가장 최근 학습 경로
+     */
+    @GetMapping("/{resumeId}/learning-path/latest")
+    public ResponseEntity<LearningPathResponse> getLatestLearningPath(@PathVariable Long resumeId) {
+        log.info("최근 학습 경로 조회 요청: 이력서 ID {}", resumeId);
+        return generatedArtifactHistoryService.getLatestLearningPath(resumeId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 목록 조회 조건부 응답
+     * 목록 ETag는 메모리의 목록 변경 카운터로 결정되므로 일치하면 데이터베이스 조회 없이 304를 반환합니다.
+     */
+    private <T> ResponseEntity<T> conditionalList(String ifNoneMatch, Supplier<T> loader) {
+        String eTag = resumeETagIndex.collectionETag();
+        if (ResumeETagIndex.matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(loader.get());
+    }
+
+    /**
+     * 이력서 현재 버전으로 생성 작업을 등록하고 202 Accepted 응답 구성
+     */
+    private ResponseEntity<JobResponse> accepted(ResumeVersionJobHandler jobHandler, Long resumeId) {
+        BackgroundJob job = jobHandler.enqueue(resumeService.getResume(resumeId));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(JobResponse.from(job));
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private boolean isNotModified(String ifNoneMatch, Optional<String> currentETag) {
+        return currentETag.isPresent() && ResumeETagIndex.matches(ifNoneMatch, currentETag.get());
+    }
+
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.careercoach.api.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 로컬 개발용 H2 복제기
+ * H2에는 복제 기능이 없으므로 주 H2를 SCRIPT로 내보내 복제본 H2에 RUNSCRIPT로 다시 적재합니다.
+ * 복제 주기만큼 실제로 뒤처지므로 지연 한도와 쓰기 후 읽기 일관성을 로컬에서 확인할 수 있습니다.
+ * 운영 환경(MySQL 복제 등)에서는 사용하지 않습니다.
+ */
+@Slf4j
+public class LocalReplicaSynchronizer {
+
+    private static final long DRAIN_TIMEOUT_MS = 1000;
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas;
+    private final Path script;
+
+    public LocalReplicaSynchronizer(DataSource primary, List<Replica> replicas) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas;
+        try {
+            this.script = Files.createTempFile("career-coach-replica-", ".sql");
+        } catch (IOException e) {
+            throw new UncheckedIOException("복제 스크립트 파일을 만들 수 없습니다.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.local-sync-interval-ms:1000}")
+    public void sync() {
+        try {
+            primary.execute("SCRIPT TO '" + script + "'");
+        } catch (Exception e) {
+            log.warn("로컬 복제 스크립트 생성 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Replica replica : replicas) {
+            replica.beginResync();
+            try {
+                awaitIdle(replica);
+                JdbcTemplate target = new JdbcTemplate(replica.getDataSource());
+                target.execute("DROP ALL OBJECTS");
+                target.execute("RUNSCRIPT FROM '" + script + "'");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("로컬 복제 실패 - 복제본: {}, 사유: {}", replica.getName(), e.getMessage());
+                replica.markUnavailable();
+            } finally {
+                replica.endResync();
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 복제본 읽기가 끝날 때까지 잠시 대기
+     */
+    private void awaitIdle(Replica replica) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+        while (replica.getDataSource().getHikariPoolMXBean() != null
+                && replica.getDataSource().getHikariPoolMXBean().getActiveConnections() > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.careercoach.api.datasource;
+
+/**
+ * 요청 단위 읽기 일관성 문맥
+ * 복제본이 반영하고 있어야 하는 최소 시각(쓰기 커밋 시각)을 스레드에 보관합니다.
+ *
+ * <ul>
+ *     <li>클라이언트가 보낸 읽기 토큰({@link #HEADER})으로 이전 요청의 쓰기를 이어받음</li>
+ *     <li>같은 요청 안에서 커밋된 쓰기는 이후 읽기의 최소 시각을 올림</li>
+ *     <li>실행기/스케줄러 작업은 {@link #decorate(Runnable)}로 제출 시점의 최소 시각을 넘겨받고 끝나면 비움</li>
+ * </ul>
+ */
+public final class ReadConsistencyContext {
+
+    /**
+     * 쓰기 응답에 실리고 다음 요청에서 되돌려 받는 읽기 토큰 헤더 (커밋 시각, epoch 밀리초)
+     */
+    public static final String HEADER = "X-Read-After";
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private ReadConsistencyContext() {
+    }
+
+    /**
+     * 복제본이 반영하고 있어야 하는 최소 시각 (0이면 제한 없음)
+     */
+    public static long minReadTimestamp() {
+        return STATE.get().minReadTimestamp;
+    }
+
+    /**
+     * 클라이언트 읽기 토큰 반영
+     */
+    public static void requireAtLeast(long timestamp) {
+        State state = STATE.get();
+        state.minReadTimestamp = Math.max(state.minReadTimestamp, timestamp);
+    }
+
+    /**
+     * 쓰기 커밋 기록
+     */
+    public static void recordWrite(long committedAt) {
+        State state = STATE.get();
+        state.minReadTimestamp = Math.max(state.minReadTimestamp, committedAt);
+        state.lastWriteAt = Math.max(state.lastWriteAt, committedAt);
+    }
+
+    /**
+     * 이 요청에서 마지막으로 커밋된 쓰기 시각 (없으면 0)
+     */
+    public static long lastWriteAt() {
+        return STATE.get().lastWriteAt;
+    }
+
+    public static void clear() {
+        STATE.remove();
+    }
+
+    /**
+     * 작업 장식 (TaskDecorator용)
+     * 제출한 스레드의 최소 시각을 작업 스레드로 넘기고, 작업이 끝나면 문맥을 비워 풀 스레드에 남지 않게 합니다.
+     */
+    public static Runnable decorate(Runnable task) {
+        long minReadTimestamp = minReadTimestamp();
+        return () -> {
+            try {
+                if (minReadTimestamp > 0) {
+                    requireAtLeast(minReadTimestamp);
+                }
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+
+    private static class State {
+        private long minReadTimestamp;
+        private long lastWriteAt;
+    }
+}
@@ -0,0 +1,76 @@
+package com.careercoach.api.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 읽기 토큰 필터
+ * 요청의 {@link ReadConsistencyContext#HEADER}를 읽기 일관성 문맥에 반영하고,
+ * 요청 중 쓰기가 커밋되었다면 응답 본문을 쓰기 전에 새 읽기 토큰을 응답 헤더에 싣습니다.
+ */
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = request.getHeader(ReadConsistencyContext.HEADER);
+        if (token != null) {
+            try {
+                ReadConsistencyContext.requireAtLeast(Long.parseLong(token.trim()));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 토큰은 무시하고 지연 한도만 적용
+            }
+        }
+
+        TokenResponse tokenResponse = new TokenResponse(response);
+        try {
+            chain.doFilter(request, tokenResponse);
+            tokenResponse.writeToken();
+        } finally {
+            ReadConsistencyContext.clear();
+        }
+    }
+
+    /**
+     * 응답이 커밋되기 직전에 읽기 토큰을 추가하는 응답 래퍼
+     */
+    private static class TokenResponse extends HttpServletResponseWrapper {
+
+        TokenResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeToken();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeToken();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeToken();
+            super.flushBuffer();
+        }
+
+        void writeToken() {
+            long lastWriteAt = ReadConsistencyContext.lastWriteAt();
+            if (lastWriteAt > 0 && !isCommitted()) {
+                setHeader(ReadConsistencyContext.HEADER, Long.toString(lastWriteAt));
+            }
+        }
+    }
+}
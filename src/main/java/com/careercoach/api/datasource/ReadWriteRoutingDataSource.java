@@ -0,0 +1,112 @@
+package com.careercoach.api.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기/쓰기 라우팅 데이터소스
+ * 읽기 전용 트랜잭션은 지연 한도 안의 복제본으로(라운드 로빈), 그 외는 주 데이터소스로 보냅니다.
+ *
+ * 트랜잭션의 읽기 전용 여부는 커넥션을 얻을 때 결정되어 있어야 하므로
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용합니다.
+ *
+ * 쓰기 트랜잭션이 커밋되면 {@link ReadConsistencyContext}에 커밋 시각을 기록해,
+ * 같은 요청(및 읽기 토큰을 되돌려 보낸 다음 요청)의 읽기는 그 시각까지 반영한 복제본이나 주 데이터소스에서 처리합니다.
+ * 커밋 시각은 실제 읽기/쓰기 트랜잭션의 커밋 이후에만 기록하며, 트랜잭션 밖 커넥션(자동 커밋 조회 등)은 주 데이터소스로 보내되 기록하지 않습니다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    @Getter
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    @Getter
+    private final LongAdder primaryReads = new LongAdder();
+    @Getter
+    private final LongAdder laggingFallbacks = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas, long maxLagMillis) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                registerWriteCommit();
+            }
+            return PRIMARY;
+        }
+
+        Replica replica = chooseReplica(System.currentTimeMillis(), ReadConsistencyContext.minReadTimestamp());
+        if (replica == null) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replica.recordRoutedRead();
+        return replica.getName();
+    }
+
+    /**
+     * 조건을 만족하는 복제본 중 라운드 로빈으로 선택 (없으면 null)
+     */
+    private Replica chooseReplica(long now, long minReadTimestamp) {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.canServe(now, maxLagMillis, minReadTimestamp)) {
+                return replica;
+            }
+        }
+        laggingFallbacks.increment();
+        return null;
+    }
+
+    /**
+     * 복제본 커넥션 풀 종료 (주 데이터소스는 별도 빈으로 종료)
+     */
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+
+    /**
+     * 쓰기 커밋 시각 기록 예약 (읽기/쓰기 트랜잭션 안에서만 호출)
+     */
+    private void registerWriteCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadConsistencyContext.recordWrite(System.currentTimeMillis());
+            }
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.careercoach.api.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 복제본
+ * 커넥션 풀과 함께 마지막으로 관측한 복제 위치(주 데이터소스 하트비트 시각)를 보관합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class Replica {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+
+    // 복제본에 반영된 마지막 하트비트 시각 (이 시각 이전 커밋은 모두 반영됨)
+    private volatile long replicatedUpTo;
+    private volatile boolean available;
+    private volatile boolean resyncing;
+    private final LongAdder routedReads = new LongAdder();
+
+    /**
+     * 지연 측정 결과 반영
+     */
+    void observe(long heartbeat) {
+        replicatedUpTo = heartbeat;
+        available = true;
+    }
+
+    /**
+     * 측정 실패
+     */
+    void markUnavailable() {
+        available = false;
+    }
+
+    /**
+     * 재동기화 시작 (끝날 때까지 읽기를 보내지 않음)
+     */
+    void beginResync() {
+        resyncing = true;
+    }
+
+    void endResync() {
+        resyncing = false;
+    }
+
+    /**
+     * 현재 복제 지연 (밀리초)
+     */
+    public long lagMillis(long now) {
+        return replicatedUpTo > 0 ? Math.max(0, now - replicatedUpTo) : Long.MAX_VALUE;
+    }
+
+    /**
+     * 지연 한도와 요청의 최소 읽기 시각을 모두 만족하는지 확인
+     */
+    boolean canServe(long now, long maxLagMillis, long minReadTimestamp) {
+        return available && !resyncing && lagMillis(now) <= maxLagMillis && replicatedUpTo >= minReadTimestamp;
+    }
+
+    void recordRoutedRead() {
+        routedReads.increment();
+    }
+}
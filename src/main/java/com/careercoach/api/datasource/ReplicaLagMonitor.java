@@ -0,0 +1,49 @@
+package com.careercoach.api.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 복제 지연 감시
+ * 주 데이터소스의 replication_heartbeat에 현재 시각을 주기적으로 기록하고,
+ * 각 복제본에 반영된 하트비트 시각으로 복제 위치와 지연을 측정합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String WRITE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String READ_HEARTBEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas;
+
+    public ReplicaLagMonitor(DataSource primary, List<Replica> replicas) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.heartbeat-interval-ms:500}")
+    public void heartbeat() {
+        try {
+            primary.update(WRITE_HEARTBEAT, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("복제 하트비트 기록 실패: {}", e.getMessage());
+        }
+
+        for (Replica replica : replicas) {
+            try {
+                Long beatAt = new JdbcTemplate(replica.getDataSource()).queryForObject(READ_HEARTBEAT, Long.class);
+                replica.observe(beatAt != null ? beatAt : 0L);
+            } catch (Exception e) {
+                if (replica.isAvailable()) {
+                    log.warn("복제본 지연 측정 실패, 복제본을 제외합니다 - 복제본: {}, 사유: {}", replica.getName(), e.getMessage());
+                }
+                replica.markUnavailable();
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 데이터소스 라우팅 패키지
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스, 복제 지연 감시, 쓰기 후 읽기 일관성을 포함합니다.
+ */
+package com.careercoach.api.datasource;
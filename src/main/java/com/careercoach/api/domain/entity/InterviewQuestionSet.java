@@ -0,0 +1,56 @@
+package com.careercoach.api.domain.entity;
+
+import com.careercoach.api.domain.enums.InterviewDifficulty;
+import com.careercoach.api.util.StringListJsonConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 생성된 면접 질문 엔티티
+ * 이력서 한 건에 대해 한 번에 생성된 면접 질문 묶음을 저장합니다.
+ * 배치 INSERT가 가능하도록 IDENTITY 대신 pooled 시퀀스로 ID를 미리 할당합니다.
+ */
+@Entity
+@Table(name = "interview_questions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InterviewQuestionSet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interview_questions_seq_gen")
+    @SequenceGenerator(name = "interview_questions_seq_gen", sequenceName = "interview_questions_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "resume_id", nullable = false)
+    private Long resumeId;
+
+    @Convert(converter = StringListJsonConverter.class)
+    @Column(name = "questions", nullable = false, columnDefinition = "JSON")
+    private List<String> questions;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "difficulty_level", nullable = false, length = 20)
+    private InterviewDifficulty difficulty;
+
+    @Column(name = "analysis", columnDefinition = "TEXT")
+    private String analysis;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public InterviewQuestionSet(Long resumeId, List<String> questions, InterviewDifficulty difficulty,
+                                String analysis, LocalDateTime createdAt) {
+        this.resumeId = resumeId;
+        this.questions = questions;
+        this.difficulty = difficulty;
+        this.analysis = analysis;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+    }
+}
@@ -0,0 +1,59 @@
+package com.careercoach.api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 생성된 학습 경로 엔티티
+ * 이력서 한 건에 대해 생성된 학습 경로를 저장합니다.
+ * 학습 단계는 응답 구조 그대로 JSON으로 보관하며, 배치 INSERT를 위해 pooled 시퀀스를 사용합니다.
+ */
+@Entity
+@Table(name = "learning_paths")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LearningPath {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "learning_paths_seq_gen")
+    @SequenceGenerator(name = "learning_paths_seq_gen", sequenceName = "learning_paths_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "resume_id", nullable = false)
+    private Long resumeId;
+
+    @Column(name = "job_role", nullable = false, length = 50)
+    private String jobRole;
+
+    @Column(name = "experience_level", nullable = false, length = 20)
+    private String experienceLevel;
+
+    @Column(name = "learning_steps", nullable = false, columnDefinition = "JSON")
+    private String learningSteps;
+
+    @Column(name = "overall_strategy", columnDefinition = "TEXT")
+    private String overallStrategy;
+
+    @Column(name = "estimated_duration", length = 100)
+    private String estimatedDuration;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public LearningPath(Long resumeId, String jobRole, String experienceLevel, String learningSteps,
+                        String overallStrategy, String estimatedDuration, LocalDateTime createdAt) {
+        this.resumeId = resumeId;
+        this.jobRole = jobRole;
+        this.experienceLevel = experienceLevel;
+        this.learningSteps = learningSteps;
+        this.overallStrategy = overallStrategy;
+        this.estimatedDuration = estimatedDuration;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+    }
+}
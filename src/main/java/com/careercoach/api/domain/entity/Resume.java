@@ -2,6 +2,7 @@ package com.careercoach.api.domain.entity;
 
 import com.careercoach.api.domain.enums.InterviewDifficulty;
 import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.util.SkillSet;
 import com.careercoach.api.util.TechSkillsConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -9,10 +10,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * 이력서 엔티티
@@ -26,7 +27,8 @@ import java.util.List;
 public class Resume {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resumes_seq_gen")
+    @SequenceGenerator(name = "resumes_seq_gen", sequenceName = "resumes_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "career_summary", nullable = false, length = 255)
@@ -44,15 +46,20 @@ public class Resume {
 
     @Convert(converter = TechSkillsConverter.class)
     @Column(name = "tech_skills", columnDefinition = "JSON")
-    private List<String> techSkills;
+    private SkillSet techSkills;
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 목록 ETag 버전 계산용 (생성 시에도 기록)
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @Builder
     public Resume(String careerSummary, JobRole jobRole, Integer experienceYears, 
-                  String projectExperience, List<String> techSkills) {
+                  String projectExperience, SkillSet techSkills) {
         this.careerSummary = careerSummary;
         this.jobRole = jobRole;
         this.experienceYears = experienceYears;
@@ -67,13 +74,7 @@ public class Resume {
      * @return 면접 난이도
      */
     public InterviewDifficulty calculateInterviewDifficulty() {
-        if (experienceYears >= 5) {
-            return InterviewDifficulty.SENIOR;
-        } else if (experienceYears >= 2) {
-            return InterviewDifficulty.MIDDLE;
-        } else {
-            return InterviewDifficulty.JUNIOR;
-        }
+        return InterviewDifficulty.forExperienceYears(experienceYears);
     }
 
     /**
@@ -86,7 +87,7 @@ public class Resume {
      * @param techSkills 기술 스택
      */
     public void updateResume(String careerSummary, JobRole jobRole, Integer experienceYears,
-                           String projectExperience, List<String> techSkills) {
+                           String projectExperience, SkillSet techSkills) {
         this.careerSummary = careerSummary;
         this.jobRole = jobRole;
         this.experienceYears = experienceYears;
@@ -96,13 +97,13 @@ public class Resume {
 
     /**
      * 기술 스택에 특정 기술이 포함되어 있는지 확인하는 메서드
+     * 기술명은 SkillDictionary로 기술 ID를 얻어 전달하며, 정렬된 기술 ID의 이진 탐색으로 판정합니다.
      * 
-     * @param skill 확인할 기술
+     * @param skillId 확인할 기술 ID
      * @return 포함 여부
      */
-    public boolean hasSkill(String skill) {
-        return techSkills != null && techSkills.stream()
-                .anyMatch(s -> s.equalsIgnoreCase(skill));
+    public boolean hasSkill(int skillId) {
+        return techSkills != null && techSkills.contains(skillId);
     }
 
     /**
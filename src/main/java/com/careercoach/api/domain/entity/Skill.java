@@ -0,0 +1,35 @@
+package com.careercoach.api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기술 사전 엔티티
+ * 정규화된 기술명마다 하나의 정수 ID를 부여해 이력서-기술 색인의 키로 사용합니다.
+ */
+@Entity
+@Table(name = "skills")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Skill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skills_seq_gen")
+    @SequenceGenerator(name = "skills_seq_gen", sequenceName = "skills_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "normalized_name", nullable = false, unique = true, length = 100)
+    private String normalizedName;
+
+    @Builder
+    public Skill(String name, String normalizedName) {
+        this.name = name;
+        this.normalizedName = normalizedName;
+    }
+}
@@ -18,5 +18,19 @@ public enum InterviewDifficulty {
     public String getDisplayName() {
         return displayName;
     }
+
+    /**
+     * 경력 연수에 해당하는 면접 난이도
+     * (5년 이상 시니어, 2년 이상 미들, 그 외 주니어)
+     */
+    public static InterviewDifficulty forExperienceYears(int experienceYears) {
+        if (experienceYears >= 5) {
+            return SENIOR;
+        } else if (experienceYears >= 2) {
+            return MIDDLE;
+        } else {
+            return JUNIOR;
+        }
+    }
 } 
  
\ No newline at end of file
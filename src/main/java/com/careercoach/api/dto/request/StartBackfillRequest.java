@@ -0,0 +1,36 @@
+package com.careercoach.api.dto.request;
+
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.service.backfill.BackfillArtifact;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * 백필 시작 요청 DTO
+ * 생략한 항목은 backfill.* 기본값을 사용하며, 청크 크기와 처리량 상한은 설정된 최대값으로 제한됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class StartBackfillRequest {
+
+    /**
+     * 대상 직무 (생략 시 전체)
+     */
+    private JobRole jobRole;
+
+    /**
+     * 재생성 대상 (생략 시 면접 질문과 학습 경로 모두)
+     */
+    private Set<BackfillArtifact> artifacts;
+
+    @Positive(message = "청크 크기는 1 이상이어야 합니다.")
+    private Integer chunkSize;
+
+    @Positive(message = "처리량 상한은 0보다 커야 합니다.")
+    private Double ratePerSecond;
+}
@@ -0,0 +1,78 @@
+package com.careercoach.api.dto.response;
+
+import com.careercoach.api.service.backfill.BackfillRun;
+import com.careercoach.api.service.backfill.BackfillStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 백필 실행 응답 DTO
+ * 실행의 대상과 체크포인트, 처리/성공/실패 건수와 시작 이후 평균 처리 속도, 남은 예상 시간을 반환하는 응답 객체입니다.
+ * 처리 속도는 대기·재시도 시간을 포함한 경과 시간 기준이며, 남은 시간은 실행 중일 때만 계산합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillRunResponse {
+
+    private Long id;
+    private String jobRole;
+    private List<String> artifacts;
+    private String status;
+    private int chunkSize;
+    private double ratePerSecond;
+    private long cursorId;
+    private long totalCount;
+    private long processedCount;
+    private long succeededCount;
+    private long failedCount;
+    private double progressPercent;
+    private double itemsPerSecond;
+    private Long etaSeconds;
+    private Long currentJobId;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public static BackfillRunResponse from(BackfillRun run, LocalDateTime now) {
+        LocalDateTime end = run.getCompletedAt() != null ? run.getCompletedAt() : now;
+        long elapsedMillis = run.getCreatedAt() != null ? Math.max(0, Duration.between(run.getCreatedAt(), end).toMillis()) : 0;
+        double itemsPerSecond = elapsedMillis > 0 ? run.getProcessedCount() * 1000.0 / elapsedMillis : 0;
+        long remaining = Math.max(0, run.getTotalCount() - run.getProcessedCount());
+        double progress = run.getTotalCount() > 0
+                ? Math.min(100.0, run.getProcessedCount() * 100.0 / run.getTotalCount())
+                : 100.0;
+
+        return BackfillRunResponse.builder()
+                .id(run.getId())
+                .jobRole(run.getJobRole() != null ? run.getJobRole().name() : null)
+                .artifacts(run.getArtifacts().stream().map(Enum::name).toList())
+                .status(run.getStatus().name())
+                .chunkSize(run.getChunkSize())
+                .ratePerSecond(run.getRatePerSecond())
+                .cursorId(run.getCursorId())
+                .totalCount(run.getTotalCount())
+                .processedCount(run.getProcessedCount())
+                .succeededCount(run.getSucceededCount())
+                .failedCount(run.getFailedCount())
+                .progressPercent(progress)
+                .itemsPerSecond(itemsPerSecond)
+                .etaSeconds(run.getStatus() == BackfillStatus.RUNNING && itemsPerSecond > 0
+                        ? (long) Math.ceil(remaining / itemsPerSecond)
+                        : null)
+                .currentJobId(run.getCurrentJobId())
+                .lastError(run.getLastError())
+                .createdAt(run.getCreatedAt())
+                .updatedAt(run.getUpdatedAt())
+                .completedAt(run.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 통계 응답 DTO
+ * 캐시별/계층별 적중률, 적재 지연, 제거 원인, 항목 크기와 캐시로 절감한 AI 호출 비용을 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsResponse {
+
+    private List<CacheStatistics> caches;
+    private AiSpendSaved aiSpendSaved;
+    private LocalDateTime generatedAt;
+
+    /**
+     * 논리 캐시 통계를 나타내는 내부 클래스
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheStatistics {
+        private String cacheName;
+        private long hits;
+        private long misses;
+        private double hitRatio;
+        private double loadP50Millis;
+        private double loadP95Millis;
+        private double loadP99Millis;
+        private double loadMaxMillis;
+        private double averageEntryBytes;
+        private long maxEntryBytes;
+        private Map<String, Long> removalCauses;
+        private List<TierStatistics> tiers;
+    }
+
+    /**
+     * 캐시 계층(heap, l1, off-heap) 통계를 나타내는 내부 클래스
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TierStatistics {
+        private String tier;
+        private long entries;
+        private long hits;
+        private long misses;
+        private double hitRatio;
+        private long evictions;
+        private Long storedBytes;
+    }
+
+    /**
+     * 캐시 적중으로 회피한 AI 호출 추정치를 나타내는 내부 클래스
+     * 토큰 수는 캐시된 응답 크기 기준의 출력 토큰 추정치이며, 비용은 AI 성능 모니터의 비용 모델을 따릅니다.
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AiSpendSaved {
+        private String serviceName;
+        private long callsAvoided;
+        private long estimatedTokensAvoided;
+        private long estimatedCostSaved;
+    }
+}
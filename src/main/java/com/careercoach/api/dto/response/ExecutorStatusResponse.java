@@ -0,0 +1,43 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 실행기 상태 응답 DTO
+ * 실행기별 스레드/대기열 현황, 거절 정책별 처리 건수, 대기·실행 시간 백분위를 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutorStatusResponse {
+
+    private String name;
+    private String rejectionPolicy;
+    private boolean adaptive;
+    private int corePoolSize;
+    private int minPoolSize;
+    private int maxPoolSize;
+    private int poolSize;
+    private int activeCount;
+    private int queueSize;
+    private int queueCapacity;
+    private int deferredSize;
+    private long submitted;
+    private long completed;
+    private long rejected;
+    private long callerRuns;
+    private long shed;
+    private long deferred;
+    private long grown;
+    private long shrunk;
+    private double queueWaitP50Millis;
+    private double queueWaitP99Millis;
+    private double queueWaitMaxMillis;
+    private double executionP50Millis;
+    private double executionP99Millis;
+    private double executionMaxMillis;
+}
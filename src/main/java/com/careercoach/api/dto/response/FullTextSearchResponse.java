@@ -0,0 +1,38 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 전문 검색 응답 DTO
+ * 경력 요약/프로젝트 경험 검색 결과를 BM25 점수순 페이지로 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FullTextSearchResponse {
+
+    private String query;
+    private int page;
+    private int size;
+    private long totalHits;
+    private List<Hit> hits;
+
+    /**
+     * 검색 결과 항목
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Hit {
+
+        private ResumeSummaryDto resume;
+        private double score;
+    }
+}
@@ -0,0 +1,44 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 백그라운드 작업 큐 상태 응답 DTO
+ * 상태별 작업 수와 가장 오래된 대기 작업의 지연, 이 노드 워커의 처리 건수와 실행 시간 백분위를 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobQueueStatusResponse {
+
+    private boolean enabled;
+    private String nodeId;
+    private int concurrency;
+    private int running;
+    private Map<String, Long> countsByStatus;
+    private long oldestPendingAgeMs;
+    private long enqueued;
+    private long deduplicated;
+    private long superseded;
+    private long claimed;
+    private long succeeded;
+    private long cancelled;
+    private long retried;
+    private long deadLettered;
+    private long leaseLost;
+    private double pickupDelayP50Millis;
+    private double pickupDelayP99Millis;
+    private double runP50Millis;
+    private double runP99Millis;
+    private double runMaxMillis;
+    private LocalDateTime lastPolledAt;
+    private List<String> handledJobTypes;
+}
@@ -0,0 +1,60 @@
+package com.careercoach.api.dto.response;
+
+import com.careercoach.api.service.job.BackgroundJob;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 작업 응답 DTO
+ * 작업 하나의 상태, 시도 횟수, 임대 정보와 마지막 오류를 반환하는 응답 객체입니다.
+ * 생성 작업이 성공했으면 결과(면접 질문, 학습 경로)를 result에 그대로 담습니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobResponse {
+
+    private Long id;
+    private String jobType;
+    private Long resumeId;
+    private String status;
+    private int attempts;
+    private int maxAttempts;
+    private LocalDateTime availableAt;
+    private String leasedBy;
+    private LocalDateTime leaseExpiresAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    @JsonRawValue
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String result;
+
+    public static JobResponse from(BackgroundJob job) {
+        return JobResponse.builder()
+                .id(job.getId())
+                .jobType(job.getJobType())
+                .resumeId(job.getResumeId())
+                .status(job.getStatus().name())
+                .attempts(job.getAttempts())
+                .maxAttempts(job.getMaxAttempts())
+                .availableAt(job.getAvailableAt())
+                .leasedBy(job.getLeasedBy())
+                .leaseExpiresAt(job.getLeaseExpiresAt())
+                .lastError(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .result(job.getResult())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이력서 알림 스트림 상태 응답 DTO
+ * 이 노드의 SSE 연결 수와 알림 발행, 전송, 병합, 버림 건수를 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationStatusResponse {
+
+    private int connections;
+    private int maxConnections;
+    private int subscribedResumes;
+    private int bufferSize;
+    private long opened;
+    private long closed;
+    private long rejected;
+    private long published;
+    private long delivered;
+    private long coalesced;
+    private long dropped;
+    private long heartbeats;
+    private long sendFailures;
+}
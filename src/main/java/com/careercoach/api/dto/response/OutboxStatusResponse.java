@@ -0,0 +1,35 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 상태 응답 DTO
+ * career_events 대기 건수와 가장 오래된 대기 이벤트의 지연, 이 노드의 전달 지연 백분위를 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStatusResponse {
+
+    private boolean enabled;
+    private long pending;
+    private long oldestPendingAgeMs;
+    private long batches;
+    private long dispatched;
+    private long unhandled;
+    private long failures;
+    private long deadLettered;
+    private double deliveryLagP50Millis;
+    private double deliveryLagP99Millis;
+    private double deliveryLagMaxMillis;
+    private LocalDateTime lastPolledAt;
+    private LocalDateTime lastDispatchedEventCreatedAt;
+    private List<String> handledEventTypes;
+}
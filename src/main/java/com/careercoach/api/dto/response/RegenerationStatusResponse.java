@@ -0,0 +1,26 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학습 경로 재생성 상태 응답 DTO
+ * 이력서 수정으로 요청된 재생성 중 지연 창에서 병합되거나 취소된 건수와 작업 큐에 등록된 건수를 반환하는 응답 객체입니다.
+ * 등록된 작업의 실행 결과는 작업 큐 상태(/api/jobs/status)에서 확인합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegenerationStatusResponse {
+
+    private long debounceMs;
+    private int pending;
+    private long requested;
+    private long coalesced;
+    private long cancelledInFlight;
+    private long enqueued;
+    private long failures;
+}
@@ -0,0 +1,43 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 이력서별 캐시 항목 응답 DTO
+ * 역색인에 등록된 이력서의 캐시 항목을 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeCacheEntriesResponse {
+
+    private Long resumeId;
+    private List<CacheEntry> entries;
+
+    /**
+     * 캐시 항목을 나타내는 내부 클래스
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheEntry {
+        private String cacheName;
+        private String key;
+    }
+
+    /**
+     * 캐시 항목 수를 반환하는 메서드
+     *
+     * @return 캐시 항목 수
+     */
+    public int getEntryCount() {
+        return entries != null ? entries.size() : 0;
+    }
+}
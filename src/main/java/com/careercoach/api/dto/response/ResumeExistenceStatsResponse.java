@@ -0,0 +1,42 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이력서 존재 색인 통계 응답 DTO
+ * 존재하지 않는 이력서 조회를 데이터베이스 왕복 없이 거절한 횟수를 반환하는 응답 객체입니다.
+ *
+ * rejectedByIndex는 색인 범위 안에서 비트맵에 없어 데이터베이스 조회 없이 거절한 횟수,
+ * passedAboveRange는 색인 범위를 넘어 데이터베이스로 넘긴 횟수, remoteRefreshes는 다른 노드의 변경으로 다시 확인한 ID 수입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeExistenceStatsResponse {
+
+    private boolean ready;
+    private long indexedCount;
+    private long indexSizeBytes;
+    private long highestId;
+    private long negativeCacheSize;
+    private long rejectedByIndex;
+    private long rejectedByNegativeCache;
+    private long passedThrough;
+    private long passedAboveRange;
+    private long remoteRefreshes;
+    private long databaseMisses;
+
+    /**
+     * 데이터베이스 왕복 없이 처리한 조회 비율
+     *
+     * @return 0.0 ~ 1.0
+     */
+    public double getAbsorbedRatio() {
+        long total = rejectedByIndex + rejectedByNegativeCache + passedThrough;
+        return total > 0 ? (double) (rejectedByIndex + rejectedByNegativeCache) / total : 0.0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 이력서 일괄 등록 결과 응답 DTO
+ * 처리한 행 수와 등록/실패 건수, 행 단위 오류(최대 보고 개수까지)를 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeImportResponse {
+
+    private String format;
+    private long totalRows;
+    private long importedCount;
+    private long failedCount;
+    private List<RowError> errors;
+
+    /**
+     * 실패 건수가 보고 한도를 넘어 일부 오류만 포함되었는지 여부
+     */
+    private boolean errorsTruncated;
+
+    private long pregenerationQueued;
+    private long pregenerationSkipped;
+    private long durationMs;
+
+    /**
+     * 행 단위 오류
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        /**
+         * 데이터 행 번호 (1부터, CSV 헤더 제외)
+         */
+        private long row;
+        private String field;
+        private String message;
+    }
+}
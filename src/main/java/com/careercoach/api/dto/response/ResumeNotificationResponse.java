@@ -0,0 +1,34 @@
+package com.careercoach.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이력서 알림 DTO
+ * 이력서의 백그라운드 작업이 끝났을 때 SSE로 전송하는 알림 객체입니다.
+ * etag는 생성 결과의 버전(ETag)이며, 결과 본문을 포함하지 않는 설정이면 클라이언트가 이 값으로 조건부 요청을 보냅니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResumeNotificationResponse {
+
+    private Long resumeId;
+    private Long jobId;
+    private String jobType;
+    private String artifact;
+    private String status;
+    private String etag;
+    private LocalDateTime completedAt;
+
+    @JsonRawValue
+    private String result;
+}
@@ -0,0 +1,28 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 이력서 목록 커서 페이지 응답 DTO
+ * 최신순(ID 내림차순) 페이지와 다음 페이지 요청에 사용할 커서를 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumePageResponse {
+
+    private List<ResumeSummaryDto> resumes;
+    private int size;
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 (마지막 이력서 ID, 다음 페이지가 없으면 null)
+     */
+    private Long nextCursor;
+}
@@ -0,0 +1,58 @@
+package com.careercoach.api.dto.response;
+
+import com.careercoach.api.domain.enums.JobRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이력서 통계 응답 DTO
+ * 직무별 이력서 수, 경력 분포, 주니어/미들/시니어 구성을 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeStatisticsResponse {
+
+    private long totalCount;
+    private double averageExperience;
+    private long juniorCount;
+    private long middleCount;
+    private long seniorCount;
+
+    /**
+     * 경력 연수 → 이력서 수 (이력서가 있는 연수만 포함)
+     */
+    private Map<Integer, Long> experienceHistogram;
+    private List<JobRoleStatistics> jobRoles;
+
+    /**
+     * 마지막으로 데이터베이스와 대조한 시각
+     */
+    private LocalDateTime reconciledAt;
+
+    /**
+     * 직무별 통계
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobRoleStatistics {
+
+        private JobRole jobRole;
+        private long totalCount;
+        private double averageExperience;
+        private Integer minExperience;
+        private Integer maxExperience;
+        private long juniorCount;
+        private long middleCount;
+        private long seniorCount;
+    }
+}
@@ -0,0 +1,56 @@
+package com.careercoach.api.dto.response;
+
+import com.careercoach.api.domain.enums.InterviewDifficulty;
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.repository.ResumeSummaryView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이력서 요약 응답 DTO
+ * 목록/검색 결과용 경량 객체로, 프로젝트 경험은 포함하지 않습니다. (상세는 GET /api/resumes/{id})
+ * 기술 스택은 tech_skills JSON 대신 기술 매핑(resume_skills)에서 채웁니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeSummaryDto {
+
+    private Long id;
+    private String careerSummary;
+    private JobRole jobRole;
+    private Integer experienceYears;
+    private List<String> techSkills;
+    private LocalDateTime createdAt;
+    private InterviewDifficulty interviewDifficulty;
+    private String experienceLevel;
+
+    /**
+     * 목록 프로젝션으로부터 ResumeSummaryDto를 생성하는 정적 팩토리 메서드
+     * 
+     * @param view 이력서 목록 프로젝션
+     * @param techSkills 기술 매핑에서 찾은 기술명
+     * @return ResumeSummaryDto
+     */
+    public static ResumeSummaryDto from(ResumeSummaryView view, List<String> techSkills) {
+        int years = view.getExperienceYears();
+        InterviewDifficulty difficulty = InterviewDifficulty.forExperienceYears(years);
+
+        return ResumeSummaryDto.builder()
+                .id(view.getId())
+                .careerSummary(view.getCareerSummary())
+                .jobRole(view.getJobRole())
+                .experienceYears(years)
+                .techSkills(techSkills)
+                .createdAt(view.getCreatedAt())
+                .interviewDifficulty(difficulty)
+                .experienceLevel(difficulty.getDisplayName())
+                .build();
+    }
+}
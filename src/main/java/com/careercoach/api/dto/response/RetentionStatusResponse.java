@@ -0,0 +1,54 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 데이터 보존 작업 상태 응답 DTO
+ * 테이블별 누적 삭제/보관 건수, 마지막 실행 상태와 청크 처리 시간 백분위를 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetentionStatusResponse {
+
+    private boolean enabled;
+    private int chunkSize;
+    private long pauseMs;
+    private List<TableStatus> tables;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TableStatus {
+
+        private String tableName;
+        private int retentionDays;
+        private boolean archive;
+        private boolean running;
+        private long runs;
+        private long chunks;
+        private long deletedRows;
+        private long archivedRows;
+        private long archivedBytes;
+        private long failures;
+        private long throttledMillis;
+        private double chunkP50Millis;
+        private double chunkP99Millis;
+        private double chunkMaxMillis;
+        private LocalDateTime lastStartedAt;
+        private LocalDateTime lastFinishedAt;
+        private LocalDateTime lastCutoff;
+        private long lastRunDeletedRows;
+        private boolean lastRunComplete;
+        private String lastArchiveFile;
+        private String lastError;
+    }
+}
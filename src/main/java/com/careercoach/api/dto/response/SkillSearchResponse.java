@@ -0,0 +1,23 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 기술 조건 검색 응답 DTO
+ * 기술 색인으로 찾은 전체 건수와 최신순 상위 이력서를 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillSearchResponse {
+
+    private long totalCount;
+    private long indexLookupMicros;
+    private List<ResumeSummaryDto> resumes;
+}
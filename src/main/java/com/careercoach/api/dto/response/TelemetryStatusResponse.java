@@ -0,0 +1,45 @@
+package com.careercoach.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 텔레메트리 이벤트 버스 상태 응답 DTO
+ * 링 버퍼별 적재, 처리, 버림 건수와 밀린 이벤트 수, 묶음 처리 현황을 반환하는 응답 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryStatusResponse {
+
+    private boolean running;
+    private int handlers;
+    private long published;
+    private long consumed;
+    private long dropped;
+    private long backlog;
+    private long handlerErrors;
+    private List<Shard> shards;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Shard {
+        private int index;
+        private int capacity;
+        private long published;
+        private long consumed;
+        private long dropped;
+        private long backlog;
+        private long maxBacklog;
+        private long batches;
+        private double averageBatchSize;
+        private int maxBatchSize;
+    }
+}
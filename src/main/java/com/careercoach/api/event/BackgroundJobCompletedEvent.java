@@ -0,0 +1,34 @@
+package com.careercoach.api.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 작업 완료 이벤트
+ * 작업이 성공(SUCCEEDED)하거나 포기(DEAD)되어 결과가 기록된 뒤 작업을 실행한 노드에서 발생하는 이벤트입니다.
+ */
+@Getter
+public class BackgroundJobCompletedEvent extends ApplicationEvent {
+
+    private final Long jobId;
+    private final String jobType;
+    private final Long resumeId;
+    private final String artifact;
+    private final String status;
+    private final String result;
+    private final LocalDateTime completedAt;
+
+    public BackgroundJobCompletedEvent(Object source, Long jobId, String jobType, Long resumeId, String artifact,
+                                       String status, String result, LocalDateTime completedAt) {
+        super(source);
+        this.jobId = jobId;
+        this.jobType = jobType;
+        this.resumeId = resumeId;
+        this.artifact = artifact;
+        this.status = status;
+        this.result = result;
+        this.completedAt = completedAt;
+    }
+}
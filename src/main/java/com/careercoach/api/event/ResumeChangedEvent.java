@@ -0,0 +1,41 @@
+package com.careercoach.api.event;
+
+import com.careercoach.api.dto.response.ResumeDto;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이력서 변경 이벤트
+ * 이력서가 생성/수정/삭제될 때 발생하며, 메모리 색인들이 커밋 이후 변경 내용을 반영하는 데 사용합니다.
+ */
+@Getter
+public class ResumeChangedEvent extends ApplicationEvent {
+
+    /**
+     * 변경 유형
+     */
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Long resumeId;
+    private final ResumeDto resume;
+    private final ResumeDto previous;
+    private final LocalDateTime changedAt;
+
+    /**
+     * @param resume 변경 후 이력서 (삭제 시 null)
+     * @param previous 변경 전 이력서 (생성 시 null)
+     */
+    public ResumeChangedEvent(Object source, ChangeType changeType, Long resumeId, ResumeDto resume, ResumeDto previous) {
+        super(source);
+        this.changeType = changeType;
+        this.resumeId = resumeId;
+        this.resume = resume;
+        this.previous = previous;
+        this.changedAt = LocalDateTime.now();
+    }
+}
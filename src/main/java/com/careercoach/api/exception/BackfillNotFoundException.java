@@ -0,0 +1,18 @@
+package com.careercoach.api.exception;
+
+/**
+ * 백필 실행을 찾을 수 없을 때 발생하는 예외
+ */
+public class BackfillNotFoundException extends RuntimeException {
+
+    private final Long runId;
+
+    public BackfillNotFoundException(Long runId) {
+        super(String.format("백필 실행을 찾을 수 없습니다. ID: %d", runId));
+        this.runId = runId;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+}
@@ -51,7 +51,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleResumeNotFoundException(
             ResumeNotFoundException ex, WebRequest request) {
         
-        log.error("이력서를 찾을 수 없음: {}", ex.getMessage());
+        // 스크래퍼나 오래된 링크로 대량 발생할 수 있으므로 debug 수준으로 기록 (집계는 존재 색인 통계 참고)
+        log.debug("이력서를 찾을 수 없음: {}", ex.getMessage());
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -64,6 +65,46 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * 백필 실행을 찾을 수 없음 예외 처리
+     */
+    @ExceptionHandler(BackfillNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleBackfillNotFoundException(
+            BackfillNotFoundException ex, WebRequest request) {
+
+        log.debug("백필 실행을 찾을 수 없음: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Backfill Not Found")
+                .message(ex.getMessage())
+                .path(request.getDescription(false))
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * 백그라운드 작업을 찾을 수 없음 예외 처리
+     */
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleJobNotFoundException(
+            JobNotFoundException ex, WebRequest request) {
+
+        log.debug("작업을 찾을 수 없음: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Job Not Found")
+                .message(ex.getMessage())
+                .path(request.getDescription(false))
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
     /**
      * AI 서비스 예외 처리
      */
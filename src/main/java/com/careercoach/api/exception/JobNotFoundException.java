@@ -0,0 +1,18 @@
+package com.careercoach.api.exception;
+
+/**
+ * 백그라운드 작업을 찾을 수 없을 때 발생하는 예외
+ */
+public class JobNotFoundException extends RuntimeException {
+
+    private final Long jobId;
+
+    public JobNotFoundException(Long jobId) {
+        super(String.format("작업을 찾을 수 없습니다. ID: %d", jobId));
+        this.jobId = jobId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+}
@@ -23,6 +23,19 @@ public class ResumeNotFoundException extends RuntimeException {
         this.resumeId = null;
     }
 
+    private ResumeNotFoundException(Long resumeId, boolean writableStackTrace) {
+        super(String.format("이력서를 찾을 수 없습니다. ID: %d", resumeId), null, false, writableStackTrace);
+        this.resumeId = resumeId;
+    }
+
+    /**
+     * 존재 색인에서 거절된 조회용 예외 생성
+     * 대량으로 발생할 수 있으므로 스택 트레이스를 채우지 않습니다.
+     */
+    public static ResumeNotFoundException rejected(Long resumeId) {
+        return new ResumeNotFoundException(resumeId, false);
+    }
+
     public Long getResumeId() {
         return resumeId;
     }
@@ -0,0 +1,33 @@
+package com.careercoach.api.executor;
+
+import com.careercoach.api.dto.response.ExecutorStatusResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 계측 실행기 주기 조정
+ * 주기마다 각 실행기의 보류 작업을 재제출하고 대기 시간에 따라 코어 스레드 수를 조정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExecutorPoolTuner {
+
+    private final List<InstrumentedThreadPoolTaskExecutor> executors;
+
+    @Scheduled(fixedDelayString = "${async.adjust-interval-ms:5000}")
+    public void adjust() {
+        executors.forEach(InstrumentedThreadPoolTaskExecutor::adjustPoolSize);
+    }
+
+    /**
+     * 실행기별 상태
+     */
+    public List<ExecutorStatusResponse> getStatus() {
+        return executors.stream()
+                .map(InstrumentedThreadPoolTaskExecutor::getStatus)
+                .toList();
+    }
+}
@@ -0,0 +1,245 @@
+package com.careercoach.api.executor;
+
+import com.careercoach.api.config.AsyncExecutorProperties;
+import com.careercoach.api.datasource.ReadConsistencyContext;
+import com.careercoach.api.dto.response.ExecutorStatusResponse;
+import com.careercoach.api.util.LatencyHistogram;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계측 스레드 풀 실행기
+ * 제출된 작업을 감싸 대기열 대기 시간과 실행 시간을 기록하고, 포화 시 설정된 거절 정책을 적용합니다.
+ *
+ * <ul>
+ *     <li>ABORT: 거절 (호출자에게 TaskRejectedException)</li>
+ *     <li>CALLER_RUNS: 제출한 스레드에서 실행</li>
+ *     <li>SHED_OLDEST: 가장 오래 기다린 작업을 버리고 새 작업을 대기열에 넣음</li>
+ *     <li>DEFER: 보류 대기열에 두었다가 작업이 끝나 대기열에 자리가 나면 다시 제출 (제출 순서는 보장하지 않음)</li>
+ * </ul>
+ *
+ * 적응형 실행기는 주기마다 평균 대기 시간을 목표와 비교해 코어 스레드 수를 하나씩 늘리거나 줄입니다.
+ * 대기열이 가득 차기 전에는 코어 스레드 이상으로 스레드가 늘지 않으므로 코어 스레드 수가 실제 동시성을 결정합니다.
+ */
+@Slf4j
+public class InstrumentedThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+
+    @Getter
+    private final String name;
+    private final RejectionPolicy rejectionPolicy;
+    private final int deferCapacity;
+    private final boolean adaptive;
+    private final int minPoolSize;
+    private final long targetQueueWaitMs;
+
+    private final Deque<Runnable> deferredTasks = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger deferredSize = new AtomicInteger();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong callerRuns = new AtomicLong();
+    private final AtomicLong shed = new AtomicLong();
+    private final AtomicLong deferred = new AtomicLong();
+    private final AtomicLong grown = new AtomicLong();
+    private final AtomicLong shrunk = new AtomicLong();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram execution = new LatencyHistogram();
+
+    // 조정 주기 동안의 시작 건수와 대기 시간 합 (조정 시 초기화)
+    private final AtomicLong intervalStarted = new AtomicLong();
+    private final AtomicLong intervalWaitMicros = new AtomicLong();
+
+    public InstrumentedThreadPoolTaskExecutor(String name, AsyncExecutorProperties.Pool pool) {
+        this.name = name;
+        this.rejectionPolicy = pool.getRejectionPolicy();
+        this.deferCapacity = pool.getDeferCapacity();
+        this.adaptive = pool.isAdaptive();
+        this.minPoolSize = Math.max(1, Math.min(pool.getMinPoolSize(), pool.getCorePoolSize()));
+        this.targetQueueWaitMs = pool.getTargetQueueWaitMs();
+
+        setMaxPoolSize(pool.getMaxPoolSize());
+        setCorePoolSize(pool.getCorePoolSize());
+        setQueueCapacity(pool.getQueueCapacity());
+        setTaskDecorator(this::instrument);
+        setRejectedExecutionHandler(this::reject);
+    }
+
+    /**
+     * 평균 대기 시간에 따라 코어 스레드 수 조정 (주기적으로 호출)
+     * 목표를 넘거나 작업이 하나도 시작되지 못한 채 대기 중이면 늘리고,
+     * 목표의 1/4 미만이고 대기 작업 없이 스레드 절반 이상이 쉬고 있으면 줄입니다.
+     */
+    public void adjustPoolSize() {
+        resubmitDeferred();
+        long started = intervalStarted.getAndSet(0);
+        long waitMicros = intervalWaitMicros.getAndSet(0);
+        if (!adaptive) {
+            return;
+        }
+
+        double meanWaitMs = started > 0 ? waitMicros / 1000.0 / started : 0.0;
+        int core = getCorePoolSize();
+        int waiting = getQueueSize() + deferredSize.get();
+        boolean backlogged = meanWaitMs > targetQueueWaitMs || (started == 0 && waiting > 0);
+
+        if (backlogged && core < getMaxPoolSize()) {
+            setCorePoolSize(core + 1);
+            grown.incrementAndGet();
+            log.info("실행기 코어 스레드 증가 - 실행기: {}, {} -> {}, 평균 대기: {}ms, 대기 작업: {}건",
+                    name, core, core + 1, String.format("%.1f", meanWaitMs), waiting);
+        } else if (!backlogged && meanWaitMs < targetQueueWaitMs / 4.0 && waiting == 0
+                && getActiveCount() < core / 2 && core > minPoolSize) {
+            setCorePoolSize(core - 1);
+            shrunk.incrementAndGet();
+            log.debug("실행기 코어 스레드 감소 - 실행기: {}, {} -> {}", name, core, core - 1);
+        }
+    }
+
+    /**
+     * 실행기 상태
+     */
+    public ExecutorStatusResponse getStatus() {
+        return ExecutorStatusResponse.builder()
+                .name(name)
+                .rejectionPolicy(rejectionPolicy.name())
+                .adaptive(adaptive)
+                .corePoolSize(getCorePoolSize())
+                .minPoolSize(minPoolSize)
+                .maxPoolSize(getMaxPoolSize())
+                .poolSize(getPoolSize())
+                .activeCount(getActiveCount())
+                .queueSize(getQueueSize())
+                .queueCapacity(getQueueCapacity())
+                .deferredSize(deferredSize.get())
+                .submitted(submitted.get())
+                .completed(completed.get())
+                .rejected(rejected.get())
+                .callerRuns(callerRuns.get())
+                .shed(shed.get())
+                .deferred(deferred.get())
+                .grown(grown.get())
+                .shrunk(shrunk.get())
+                .queueWaitP50Millis(queueWait.percentileMillis(50))
+                .queueWaitP99Millis(queueWait.percentileMillis(99))
+                .queueWaitMaxMillis(queueWait.getMaxMillis())
+                .executionP50Millis(execution.percentileMillis(50))
+                .executionP99Millis(execution.percentileMillis(99))
+                .executionMaxMillis(execution.getMaxMillis())
+                .build();
+    }
+
+    @Override
+    public void shutdown() {
+        int pending = deferredSize.get();
+        if (pending > 0) {
+            log.warn("실행기 종료로 보류 작업 폐기 - 실행기: {}, {}건", name, pending);
+        }
+        super.shutdown();
+    }
+
+    private Runnable instrument(Runnable task) {
+        // 거절 정책이 다시 제출하는 작업은 이미 감싸져 있음
+        if (task instanceof InstrumentedTask) {
+            return task;
+        }
+        submitted.incrementAndGet();
+        return new InstrumentedTask(ReadConsistencyContext.decorate(task), System.nanoTime());
+    }
+
+    private void reject(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw rejectedBy("종료됨");
+        }
+
+        switch (rejectionPolicy) {
+            case CALLER_RUNS -> {
+                callerRuns.incrementAndGet();
+                task.run();
+            }
+            case SHED_OLDEST -> {
+                Runnable oldest = executor.getQueue().poll();
+                if (oldest == null) {
+                    throw rejectedBy("대기열 없음");
+                }
+                shed.incrementAndGet();
+                if (oldest instanceof InstrumentedTask instrumented && instrumented.delegate instanceof Future<?> future) {
+                    future.cancel(false);
+                }
+                executor.execute(task);
+            }
+            case DEFER -> {
+                if (deferredSize.incrementAndGet() > deferCapacity) {
+                    deferredSize.decrementAndGet();
+                    throw rejectedBy("보류 대기열 포화");
+                }
+                deferredTasks.offerLast(task);
+                deferred.incrementAndGet();
+            }
+            default -> throw rejectedBy("포화");
+        }
+    }
+
+    private RejectedExecutionException rejectedBy(String reason) {
+        rejected.incrementAndGet();
+        return new RejectedExecutionException("실행기 작업 거절 - 실행기: " + name + ", 사유: " + reason);
+    }
+
+    /**
+     * 대기열에 자리가 있는 만큼 보류 작업 재제출
+     */
+    private void resubmitDeferred() {
+        ThreadPoolExecutor executor;
+        try {
+            executor = getThreadPoolExecutor();
+        } catch (IllegalStateException e) {
+            return;
+        }
+        while (!executor.isShutdown() && executor.getQueue().remainingCapacity() > 0) {
+            Runnable next = deferredTasks.pollFirst();
+            if (next == null) {
+                return;
+            }
+            deferredSize.decrementAndGet();
+            executor.execute(next);
+        }
+    }
+
+    private final class InstrumentedTask implements Runnable {
+
+        private final Runnable delegate;
+        private final long enqueuedAt;
+
+        private InstrumentedTask(Runnable delegate, long enqueuedAt) {
+            this.delegate = delegate;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            long waitNanos = start - enqueuedAt;
+            queueWait.recordNanos(waitNanos);
+            intervalStarted.incrementAndGet();
+            intervalWaitMicros.addAndGet(waitNanos / 1000);
+            try {
+                delegate.run();
+            } finally {
+                completed.incrementAndGet();
+                execution.recordNanos(System.nanoTime() - start);
+                if (deferredSize.get() > 0) {
+                    resubmitDeferred();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.careercoach.api.executor;
+
+/**
+ * 실행기 포화 시 거절 정책
+ */
+public enum RejectionPolicy {
+
+    /**
+     * 작업을 거절 (호출자에게 TaskRejectedException)
+     */
+    ABORT,
+
+    /**
+     * 제출한 스레드에서 직접 실행해 제출 속도를 늦춤
+     */
+    CALLER_RUNS,
+
+    /**
+     * 대기열에서 가장 오래된 작업을 버리고 새 작업을 받음 (버린 작업의 Future는 취소)
+     */
+    SHED_OLDEST,
+
+    /**
+     * 보류 대기열에 넣었다가 작업이 끝나 자리가 나면 다시 제출 (보류 대기열도 차면 거절)
+     */
+    DEFER
+}
@@ -0,0 +1,5 @@
+/**
+ * 비동기 실행기 패키지
+ * 대기열 깊이, 대기/실행 시간, 거절 건수를 집계하는 스레드 풀과 대기 시간 기반 코어 스레드 수 조정을 포함합니다.
+ */
+package com.careercoach.api.executor;
@@ -0,0 +1,10 @@
+package com.careercoach.api.repository;
+
+/**
+ * 생성 결과물 ID 프로젝션
+ * 이력서별 최신 결과물을 (resume_id, created_at) 인덱스만으로 찾을 때 사용하며, JSON/TEXT 본문 컬럼은 읽지 않습니다.
+ */
+public interface ArtifactIdView {
+
+    Long getId();
+}
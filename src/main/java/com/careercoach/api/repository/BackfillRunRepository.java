@@ -0,0 +1,174 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.service.backfill.BackfillArtifact;
+import com.careercoach.api.service.backfill.BackfillRun;
+import com.careercoach.api.service.backfill.BackfillStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * backfill_runs 백필 실행 데이터 접근 계층
+ *
+ * 체크포인트 기록은 직전 커서와 일치하는 RUNNING 실행에만 적용되므로,
+ * 임대가 만료돼 같은 청크가 다시 실행돼도 진행 건수가 두 번 더해지지 않습니다.
+ */
+@Repository
+public class BackfillRunRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String COLUMNS = "id, job_role, artifacts, status, chunk_size, rate_per_second, cursor_id, "
+            + "total_count, processed_count, succeeded_count, failed_count, current_job_id, last_error, "
+            + "created_at, updated_at, completed_at";
+
+    private static final RowMapper<BackfillRun> ROW_MAPPER = (rs, rowNum) -> mapRow(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BackfillRunRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 실행 등록 (RUNNING, 커서 0)
+     *
+     * @return 등록한 실행 ID
+     */
+    public Long insert(JobRole jobRole, Set<BackfillArtifact> artifacts, int chunkSize, double ratePerSecond,
+                       long totalCount, LocalDateTime now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO backfill_runs (job_role, artifacts, status, chunk_size, rate_per_second, total_count, "
+                            + "created_at, updated_at) VALUES (?, ?, 'RUNNING', ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            Timestamp timestamp = Timestamp.valueOf(now);
+            if (jobRole != null) {
+                ps.setString(1, jobRole.name());
+            } else {
+                ps.setNull(1, Types.VARCHAR);
+            }
+            ps.setString(2, artifacts.stream().map(Enum::name).collect(Collectors.joining(",")));
+            ps.setInt(3, chunkSize);
+            ps.setDouble(4, ratePerSecond);
+            ps.setLong(5, totalCount);
+            ps.setTimestamp(6, timestamp);
+            ps.setTimestamp(7, timestamp);
+            return ps;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new IllegalStateException("백필 실행 ID를 받지 못했습니다.");
+        }
+        return key.longValue();
+    }
+
+    public Optional<BackfillRun> findById(Long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM backfill_runs WHERE id = ?", ROW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    /**
+     * 최근 실행 목록 (최신순)
+     */
+    public List<BackfillRun> findRecent(int limit) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM backfill_runs ORDER BY id DESC LIMIT ?", ROW_MAPPER, limit);
+    }
+
+    /**
+     * 실행 상태만 조회 (청크 처리 중 취소 확인용)
+     */
+    public Optional<BackfillStatus> findStatus(Long id) {
+        return jdbcTemplate.queryForList("SELECT status FROM backfill_runs WHERE id = ?", String.class, id)
+                .stream().findFirst().map(BackfillStatus::valueOf);
+    }
+
+    /**
+     * 다음 청크 작업 연결 (시작 시 첫 청크)
+     */
+    public int updateCurrentJob(Long id, Long jobId, LocalDateTime now) {
+        return jdbcTemplate.update("UPDATE backfill_runs SET current_job_id = ?, updated_at = ? WHERE id = ?",
+                jobId, Timestamp.valueOf(now), id);
+    }
+
+    /**
+     * 청크 처리 결과 체크포인트
+     *
+     * @param expectedCursor 청크를 읽기 시작한 커서 (다른 시도가 이미 기록했으면 불일치)
+     * @param status 마지막 청크면 COMPLETED, 아니면 RUNNING
+     * @param error 청크 안에서 마지막으로 실패한 항목의 오류 (없으면 기존 값 유지)
+     * @return 이미 기록됐거나 취소된 실행이면 0
+     */
+    public int checkpoint(Long id, long expectedCursor, long cursorId, int processed, int succeeded, int failed,
+                          String error, Long nextJobId, BackfillStatus status, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update("UPDATE backfill_runs SET cursor_id = ?, processed_count = processed_count + ?, "
+                        + "succeeded_count = succeeded_count + ?, failed_count = failed_count + ?, "
+                        + "last_error = COALESCE(?, last_error), current_job_id = COALESCE(?, current_job_id), "
+                        + "status = ?, updated_at = ?, completed_at = ? "
+                        + "WHERE id = ? AND cursor_id = ? AND status = 'RUNNING'",
+                cursorId, processed, succeeded, failed, truncate(error), nextJobId, status.name(), timestamp,
+                status == BackfillStatus.COMPLETED ? timestamp : null, id, expectedCursor);
+    }
+
+    /**
+     * 실행 취소
+     *
+     * @return RUNNING이 아니면 0
+     */
+    public int cancel(Long id, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update("UPDATE backfill_runs SET status = 'CANCELLED', updated_at = ?, completed_at = ? "
+                + "WHERE id = ? AND status = 'RUNNING'", timestamp, timestamp, id);
+    }
+
+    private static BackfillRun mapRow(ResultSet rs) throws SQLException {
+        String jobRole = rs.getString("job_role");
+        Set<BackfillArtifact> artifacts = EnumSet.noneOf(BackfillArtifact.class);
+        Arrays.stream(rs.getString("artifacts").split(","))
+                .filter(name -> !name.isBlank())
+                .forEach(name -> artifacts.add(BackfillArtifact.valueOf(name.trim())));
+        return BackfillRun.builder()
+                .id(rs.getLong("id"))
+                .jobRole(jobRole != null ? JobRole.valueOf(jobRole) : null)
+                .artifacts(artifacts)
+                .status(BackfillStatus.valueOf(rs.getString("status")))
+                .chunkSize(rs.getInt("chunk_size"))
+                .ratePerSecond(rs.getDouble("rate_per_second"))
+                .cursorId(rs.getLong("cursor_id"))
+                .totalCount(rs.getLong("total_count"))
+                .processedCount(rs.getLong("processed_count"))
+                .succeededCount(rs.getLong("succeeded_count"))
+                .failedCount(rs.getLong("failed_count"))
+                .currentJobId(rs.getObject("current_job_id", Long.class))
+                .lastError(rs.getString("last_error"))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                .completedAt(toLocalDateTime(rs.getTimestamp("completed_at")))
+                .build();
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
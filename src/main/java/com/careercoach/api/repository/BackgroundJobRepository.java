@@ -0,0 +1,252 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.service.job.BackgroundJob;
+import com.careercoach.api.service.job.JobStatus;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * background_jobs 작업 큐 데이터 접근 계층
+ *
+ * 선점은 선점 가능한 행(대기 시각이 지난 PENDING, 임대가 만료된 RUNNING)을 SELECT ... FOR UPDATE SKIP LOCKED로 잠근 뒤
+ * 같은 트랜잭션에서 RUNNING으로 바꾸고 임대 노드와 만료 시각을 기록합니다.
+ * 완료/재시도 기록은 같은 노드·같은 시도 번호의 RUNNING 작업에만 적용되므로,
+ * 임대가 만료돼 다시 선점된 작업을 이전 시도가 늦게 끝나며 덮어쓰지 않습니다.
+ */
+@Repository
+public class BackgroundJobRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String COLUMNS = "id, job_type, resume_id, idempotency_key, payload, status, attempts, max_attempts, "
+            + "available_at, leased_by, lease_expires_at, last_error, created_at, updated_at, completed_at";
+
+    private static final RowMapper<BackgroundJob> ROW_MAPPER = (rs, rowNum) -> mapRow(rs, false);
+    private static final RowMapper<BackgroundJob> ROW_MAPPER_WITH_RESULT = (rs, rowNum) -> mapRow(rs, true);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String claimSql;
+
+    public BackgroundJobRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        boolean skipLocked = Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> CareerEventRepository.supportsSkipLocked(connection.getMetaData())));
+        this.claimSql = "SELECT id FROM background_jobs "
+                + "WHERE (status = 'PENDING' AND available_at <= ?) OR (status = 'RUNNING' AND lease_expires_at < ?) "
+                + "ORDER BY id LIMIT ? FOR UPDATE" + (skipLocked ? " SKIP LOCKED" : "");
+    }
+
+    /**
+     * 작업 등록
+     *
+     * @return 등록한 작업 ID, 같은 멱등 키의 작업이 이미 있으면 빈 값
+     */
+    public Optional<Long> insert(String jobType, Long resumeId, String idempotencyKey, String payload,
+                                 int maxAttempts, LocalDateTime now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        "INSERT INTO background_jobs (job_type, resume_id, idempotency_key, payload, status, max_attempts, "
+                                + "available_at, created_at, updated_at) VALUES (?, ?, ?, ?, 'PENDING', ?, ?, ?, ?)",
+                        new String[]{"id"});
+                Timestamp timestamp = Timestamp.valueOf(now);
+                ps.setString(1, jobType);
+                ps.setObject(2, resumeId);
+                ps.setString(3, idempotencyKey);
+                ps.setString(4, payload);
+                ps.setInt(5, maxAttempts);
+                ps.setTimestamp(6, timestamp);
+                ps.setTimestamp(7, timestamp);
+                ps.setTimestamp(8, timestamp);
+                return ps;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+        Number key = keyHolder.getKey();
+        return Optional.ofNullable(key).map(Number::longValue);
+    }
+
+    /**
+     * 작업 단건 조회 (결과 포함)
+     */
+    public Optional<BackgroundJob> findById(Long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + ", result FROM background_jobs WHERE id = ?",
+                ROW_MAPPER_WITH_RESULT, id).stream().findFirst();
+    }
+
+    public Optional<BackgroundJob> findByIdempotencyKey(String idempotencyKey) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM background_jobs WHERE idempotency_key = ?",
+                ROW_MAPPER, idempotencyKey).stream().findFirst();
+    }
+
+    /**
+     * 상태별 작업 목록 (ID 오름차순, 오래된 작업부터)
+     */
+    public List<BackgroundJob> findByStatus(JobStatus status, int limit) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM background_jobs WHERE status = ? ORDER BY id LIMIT ?",
+                ROW_MAPPER, status.name(), limit);
+    }
+
+    /**
+     * 선점 가능한 작업 임대 (트랜잭션 안에서 호출)
+     *
+     * @return 임대한 작업 목록 (attempts는 이번 시도를 포함)
+     */
+    public List<BackgroundJob> claim(int limit, String nodeId, LocalDateTime now, LocalDateTime leaseExpiresAt) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Long> ids = jdbcTemplate.queryForList(claimSql, Long.class, timestamp, timestamp, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> args = new ArrayList<>(ids.size() + 3);
+        args.add(nodeId);
+        args.add(Timestamp.valueOf(leaseExpiresAt));
+        args.add(timestamp);
+        args.addAll(ids);
+        jdbcTemplate.update("UPDATE background_jobs SET status = 'RUNNING', attempts = attempts + 1, leased_by = ?, "
+                + "lease_expires_at = ?, updated_at = ? WHERE id IN (" + placeholders(ids.size()) + ")", args.toArray());
+
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM background_jobs WHERE id IN (" + placeholders(ids.size())
+                + ") ORDER BY id", ROW_MAPPER, ids.toArray());
+    }
+
+    /**
+     * 실행 중인 작업의 임대 연장
+     */
+    public int extendLeases(Collection<Long> ids, String nodeId, LocalDateTime leaseExpiresAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(Timestamp.valueOf(leaseExpiresAt));
+        args.add(nodeId);
+        args.addAll(ids);
+        return jdbcTemplate.update("UPDATE background_jobs SET lease_expires_at = ? WHERE status = 'RUNNING' AND leased_by = ? "
+                + "AND id IN (" + placeholders(ids.size()) + ")", args.toArray());
+    }
+
+    /**
+     * 실행 종료 기록 (SUCCEEDED, CANCELLED, DEAD)
+     *
+     * @param result 성공한 작업의 결과 (JSON 문자열, 없으면 null)
+     * @return 임대를 잃어 기록하지 못했으면 0
+     */
+    public int finish(BackgroundJob job, String nodeId, JobStatus status, String error, String result, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update("UPDATE background_jobs SET status = ?, last_error = ?, result = ?, leased_by = NULL, "
+                        + "lease_expires_at = NULL, updated_at = ?, completed_at = ? "
+                        + "WHERE id = ? AND status = 'RUNNING' AND leased_by = ? AND attempts = ?",
+                status.name(), truncate(error), result, timestamp, timestamp, job.getId(), nodeId, job.getAttempts());
+    }
+
+    /**
+     * 실패한 작업을 재시도 대기로 되돌림
+     *
+     * @return 임대를 잃어 기록하지 못했으면 0
+     */
+    public int reschedule(BackgroundJob job, String nodeId, String error, LocalDateTime availableAt, LocalDateTime now) {
+        return jdbcTemplate.update("UPDATE background_jobs SET status = 'PENDING', last_error = ?, available_at = ?, "
+                        + "leased_by = NULL, lease_expires_at = NULL, updated_at = ? "
+                        + "WHERE id = ? AND status = 'RUNNING' AND leased_by = ? AND attempts = ?",
+                truncate(error), Timestamp.valueOf(availableAt), Timestamp.valueOf(now), job.getId(), nodeId, job.getAttempts());
+    }
+
+    /**
+     * 같은 이력서의 대기 중인 이전 작업 취소 (새 버전의 작업이 등록됐을 때)
+     */
+    public int cancelPendingForResume(String jobType, Long resumeId, Long exceptId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update("UPDATE background_jobs SET status = 'CANCELLED', last_error = ?, updated_at = ?, "
+                        + "completed_at = ? WHERE job_type = ? AND resume_id = ? AND status = 'PENDING' AND id <> ?",
+                "새 버전의 작업으로 대체됨", timestamp, timestamp, jobType, resumeId, exceptId);
+    }
+
+    /**
+     * 종료된 작업(DEAD, CANCELLED)을 처음부터 다시 대기시킴
+     *
+     * @return 대상이 아니면 0
+     */
+    public int requeue(Long id, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update("UPDATE background_jobs SET status = 'PENDING', attempts = 0, available_at = ?, "
+                        + "result = NULL, updated_at = ?, completed_at = NULL WHERE id = ? AND status IN ('DEAD', 'CANCELLED')",
+                timestamp, timestamp, id);
+    }
+
+    /**
+     * 상태별 작업 수
+     */
+    public Map<JobStatus, Long> countByStatus() {
+        Map<JobStatus, Long> counts = new EnumMap<>(JobStatus.class);
+        for (JobStatus status : JobStatus.values()) {
+            counts.put(status, 0L);
+        }
+        jdbcTemplate.query("SELECT status, COUNT(*) AS cnt FROM background_jobs GROUP BY status",
+                rs -> {
+                    counts.put(JobStatus.valueOf(rs.getString("status")), rs.getLong("cnt"));
+                });
+        return counts;
+    }
+
+    /**
+     * 가장 오래된 대기 작업의 등록 시각
+     */
+    public Optional<LocalDateTime> findOldestPendingCreatedAt() {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM background_jobs WHERE status = 'PENDING'", Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    private static BackgroundJob mapRow(ResultSet rs, boolean includeResult) throws SQLException {
+        return BackgroundJob.builder()
+                .id(rs.getLong("id"))
+                .jobType(rs.getString("job_type"))
+                .resumeId(rs.getObject("resume_id", Long.class))
+                .idempotencyKey(rs.getString("idempotency_key"))
+                .payload(rs.getString("payload"))
+                .status(JobStatus.valueOf(rs.getString("status")))
+                .attempts(rs.getInt("attempts"))
+                .maxAttempts(rs.getInt("max_attempts"))
+                .availableAt(toLocalDateTime(rs.getTimestamp("available_at")))
+                .leasedBy(rs.getString("leased_by"))
+                .leaseExpiresAt(toLocalDateTime(rs.getTimestamp("lease_expires_at")))
+                .lastError(rs.getString("last_error"))
+                .result(includeResult ? rs.getString("result") : null)
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                .completedAt(toLocalDateTime(rs.getTimestamp("completed_at")))
+                .build();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.cache.CacheInvalidation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * cache_invalidations 데이터 접근 계층
+ * 기록은 호출한 트랜잭션의 커넥션을 사용하므로 이력서 변경과 함께 커밋·롤백됩니다.
+ * 기록 시각은 노드 간 시계 차이가 없도록 데이터베이스 시각을 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CacheInvalidationRepository {
+
+    private static final RowMapper<CacheInvalidation> ROW_MAPPER = (rs, rowNum) -> CacheInvalidation.builder()
+            .id(rs.getLong("id"))
+            .resumeId(rs.getLong("resume_id"))
+            .nodeId(rs.getString("node_id"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 무효화 기록
+     */
+    public void append(Long resumeId, String nodeId) {
+        jdbcTemplate.update("INSERT INTO cache_invalidations (resume_id, node_id) VALUES (?, ?)", resumeId, nodeId);
+    }
+
+    /**
+     * 여러 이력서의 무효화 일괄 기록
+     */
+    public void appendAll(List<Long> resumeIds, String nodeId) {
+        jdbcTemplate.batchUpdate("INSERT INTO cache_invalidations (resume_id, node_id) VALUES (?, ?)",
+                resumeIds.stream().map(resumeId -> new Object[]{resumeId, nodeId}).toList());
+    }
+
+    /**
+     * 데이터베이스 현재 시각
+     */
+    public LocalDateTime currentTimestamp() {
+        Timestamp now = jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP", Timestamp.class);
+        return now != null ? now.toLocalDateTime() : LocalDateTime.now();
+    }
+
+    /**
+     * 지정 시각 이후 기록된 무효화 목록 (ID 오름차순)
+     */
+    public List<CacheInvalidation> findSince(LocalDateTime since) {
+        return jdbcTemplate.query("SELECT id, resume_id, node_id, created_at FROM cache_invalidations "
+                + "WHERE created_at >= ? ORDER BY id", ROW_MAPPER, Timestamp.valueOf(since));
+    }
+}
@@ -0,0 +1,142 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.service.outbox.CareerEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * career_events 아웃박스 데이터 접근 계층
+ * 이벤트 기록은 호출한 트랜잭션의 커넥션을 그대로 사용하므로 이력서 변경과 함께 커밋·롤백됩니다.
+ *
+ * 선점은 SELECT ... FOR UPDATE SKIP LOCKED로 수행해 다른 노드가 잠근 행을 건너뛰고,
+ * 지원하지 않는 데이터베이스에서는 FOR UPDATE로 대기해 노드 간 처리를 직렬화합니다.
+ */
+@Slf4j
+@Repository
+public class CareerEventRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final RowMapper<CareerEvent> ROW_MAPPER = (rs, rowNum) -> CareerEvent.builder()
+            .id(rs.getLong("id"))
+            .eventType(rs.getString("event_type"))
+            .resumeId(rs.getObject("resume_id", Long.class))
+            .eventData(rs.getString("event_data"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .attempts(rs.getInt("attempts"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String claimSql;
+
+    public CareerEventRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        boolean skipLocked = Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> supportsSkipLocked(connection.getMetaData())));
+        this.claimSql = "SELECT id, event_type, resume_id, event_data, created_at, attempts FROM career_events "
+                + "WHERE processed = FALSE ORDER BY id LIMIT ? FOR UPDATE" + (skipLocked ? " SKIP LOCKED" : "");
+        log.info("아웃박스 선점 방식 - {}", skipLocked ? "FOR UPDATE SKIP LOCKED" : "FOR UPDATE (대기)");
+    }
+
+    /**
+     * 이벤트 기록 (호출 트랜잭션에 참여)
+     */
+    public void append(String eventType, Long resumeId, String eventData) {
+        jdbcTemplate.update("INSERT INTO career_events (event_type, resume_id, event_data) VALUES (?, ?, ?)",
+                eventType, resumeId, eventData);
+    }
+
+    /**
+     * 이벤트 일괄 기록 (호출 트랜잭션에 참여, JDBC 배치 INSERT 한 번)
+     *
+     * @param events (이벤트 유형, 이력서 ID, 이벤트 데이터) 목록
+     */
+    public void appendAll(List<Object[]> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO career_events (event_type, resume_id, event_data) VALUES (?, ?, ?)",
+                events);
+    }
+
+    /**
+     * 미처리 이벤트 선점 (트랜잭션 안에서 호출, 커밋까지 행 잠금 유지)
+     *
+     * @return ID 오름차순 이벤트 목록
+     */
+    public List<CareerEvent> claimPending(int limit) {
+        return jdbcTemplate.query(claimSql, ROW_MAPPER, limit);
+    }
+
+    /**
+     * 처리 완료 표시
+     */
+    public void markProcessed(Collection<Long> ids, LocalDateTime processedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = Timestamp.valueOf(processedAt);
+        int i = 1;
+        for (Long id : ids) {
+            args[i++] = id;
+        }
+        jdbcTemplate.update("UPDATE career_events SET processed = TRUE, processed_at = ? WHERE id IN (" + placeholders + ")",
+                args);
+    }
+
+    /**
+     * 처리 실패 기록
+     *
+     * @param giveUp true면 재시도 없이 오류와 함께 처리 완료로 표시
+     */
+    public void recordFailure(Long id, String error, boolean giveUp, LocalDateTime failedAt) {
+        String message = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update("UPDATE career_events SET attempts = attempts + 1, last_error = ?, "
+                        + "processed = ?, processed_at = ? WHERE id = ?",
+                message, giveUp, giveUp ? Timestamp.valueOf(failedAt) : null, id);
+    }
+
+    /**
+     * 미처리 이벤트 수
+     */
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM career_events WHERE processed = FALSE", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 가장 오래된 미처리 이벤트의 생성 시각
+     */
+    public Optional<LocalDateTime> findOldestPendingCreatedAt() {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM career_events WHERE processed = FALSE", Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    static boolean supportsSkipLocked(DatabaseMetaData metaData) throws SQLException {
+        String product = metaData.getDatabaseProductName();
+        int major = metaData.getDatabaseMajorVersion();
+        int minor = metaData.getDatabaseMinorVersion();
+        return switch (product) {
+            case "MySQL" -> major >= 8;
+            case "MariaDB" -> major > 10 || (major == 10 && minor >= 6);
+            case "PostgreSQL" -> major > 9 || (major == 9 && minor >= 5);
+            case "H2" -> major >= 2;
+            default -> false;
+        };
+    }
+}
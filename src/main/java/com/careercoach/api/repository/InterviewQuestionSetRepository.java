@@ -0,0 +1,24 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.domain.entity.InterviewQuestionSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 생성된 면접 질문 데이터 접근 계층
+ */
+@Repository
+public interface InterviewQuestionSetRepository extends JpaRepository<InterviewQuestionSet, Long> {
+
+    /**
+     * 이력서의 가장 최근 면접 질문 ID 조회
+     * pooled 시퀀스는 노드마다 다른 구간을 할당하므로 가장 큰 ID가 가장 최근 생성물이 아닐 수 있어 생성 시각으로 정렬합니다.
+     * (resume_id, created_at) 인덱스를 역순으로 한 번 탐색해 ID만 읽으며, 본문은 호출자가 기본 키로 한 행만 읽습니다.
+     *
+     * @param resumeId 이력서 ID
+     * @return 가장 최근 면접 질문 ID
+     */
+    Optional<ArtifactIdView> findFirstByResumeIdOrderByCreatedAtDescIdDesc(Long resumeId);
+}
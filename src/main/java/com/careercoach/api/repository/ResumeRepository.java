@@ -2,15 +2,20 @@ package com.careercoach.api.repository;
 
 import com.careercoach.api.domain.entity.Resume;
 import com.careercoach.api.domain.enums.JobRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 이력서 데이터 접근 계층
@@ -20,82 +25,117 @@ import java.util.Optional;
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
 
     /**
-     * 직무 역할별 이력서 조회
+     * 내보내기 JDBC fetch size
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * 이력서 목록 커서 페이지 조회 (ID 내림차순, 목록 컬럼만)
+     * 
+     * @param cursor 이 ID보다 작은 이력서만 조회
+     * @param pageable 조회 개수 (첫 페이지 기준)
+     * @return 이력서 요약 목록
+     */
+    List<ResumeSummaryView> findSummariesByIdLessThanOrderByIdDesc(Long cursor, Pageable pageable);
+
+    /**
+     * 직무 역할별 이력서 커서 페이지 조회 (ID 내림차순, 목록 컬럼만)
      * 
      * @param jobRole 직무 역할
-     * @return 이력서 목록
+     * @param cursor 이 ID보다 작은 이력서만 조회
+     * @param pageable 조회 개수 (첫 페이지 기준)
+     * @return 이력서 요약 목록
      */
-    List<Resume> findByJobRole(JobRole jobRole);
+    List<ResumeSummaryView> findSummariesByJobRoleAndIdLessThanOrderByIdDesc(JobRole jobRole, Long cursor, Pageable pageable);
 
     /**
-     * 경력 연수 범위로 이력서 조회
+     * 경력 연수 범위 이력서 커서 페이지 조회 (ID 내림차순, 목록 컬럼만)
      * 
      * @param minYears 최소 경력 연수
      * @param maxYears 최대 경력 연수
-     * @return 이력서 목록
+     * @param cursor 이 ID보다 작은 이력서만 조회
+     * @param pageable 조회 개수 (첫 페이지 기준)
+     * @return 이력서 요약 목록
      */
-    List<Resume> findByExperienceYearsBetween(Integer minYears, Integer maxYears);
+    List<ResumeSummaryView> findSummariesByExperienceYearsBetweenAndIdLessThanOrderByIdDesc(
+            Integer minYears, Integer maxYears, Long cursor, Pageable pageable);
 
     /**
-     * 직무 역할과 경력 연수로 이력서 조회 (페이징)
+     * ID 목록으로 이력서 요약 조회 (목록 컬럼만)
      * 
-     * @param jobRole 직무 역할
-     * @param experienceYears 경력 연수
-     * @param pageable 페이징 정보
-     * @return 이력서 페이지
+     * @param ids 이력서 ID 목록
+     * @return 이력서 요약 목록 (순서 보장 없음)
      */
-    Page<Resume> findByJobRoleAndExperienceYears(JobRole jobRole, Integer experienceYears, Pageable pageable);
+    List<ResumeSummaryView> findSummariesByIdIn(Collection<Long> ids);
 
     /**
-     * 특정 기술 스택을 포함하는 이력서 조회 (JSON 검색)
-     * H2 데이터베이스용으로 수정된 쿼리
+     * 백필용 이력서 키셋 청크 조회 (ID 오름차순)
      * 
-     * @param techSkill 기술 스택
+     * @param cursor 이 ID보다 큰 이력서만 조회
+     * @param pageable 조회 개수 (첫 페이지 기준)
      * @return 이력서 목록
      */
-    @Query("SELECT r FROM Resume r WHERE r.techSkills LIKE %:techSkill%")
-    List<Resume> findByTechSkill(@Param("techSkill") String techSkill);
+    List<Resume> findByIdGreaterThanOrderByIdAsc(Long cursor, Pageable pageable);
 
     /**
-     * 경력 연수별 통계 조회
+     * 직무 역할별 백필용 이력서 키셋 청크 조회 (ID 오름차순)
      * 
-     * @return 경력 연수별 이력서 수
+     * @param jobRole 직무 역할
+     * @param cursor 이 ID보다 큰 이력서만 조회
+     * @param pageable 조회 개수 (첫 페이지 기준)
+     * @return 이력서 목록
      */
-    @Query("SELECT r.experienceYears, COUNT(r) FROM Resume r GROUP BY r.experienceYears ORDER BY r.experienceYears")
-    List<Object[]> getExperienceYearStatistics();
+    List<Resume> findByJobRoleAndIdGreaterThanOrderByIdAsc(JobRole jobRole, Long cursor, Pageable pageable);
 
     /**
-     * 직무 역할별 평균 경력 연수 조회
+     * 직무 역할별 이력서 수
      * 
-     * @return 직무 역할별 평균 경력 연수
+     * @param jobRole 직무 역할
+     * @return 이력서 수
      */
-    @Query("SELECT r.jobRole, AVG(r.experienceYears) FROM Resume r GROUP BY r.jobRole")
-    List<Object[]> getAverageExperienceByJobRole();
+    long countByJobRole(JobRole jobRole);
 
     /**
-     * 최근 생성된 이력서 조회
+     * 내보내기용 이력서 스트림 조회 (ID 오름차순)
+     * JDBC fetch size 단위로 읽으므로 호출 측 트랜잭션 안에서 소비하고 닫아야 합니다.
+     * MySQL은 커넥션 URL에 useCursorFetch=true가 있어야 fetch size 단위로 읽습니다.
      * 
-     * @param limit 조회할 개수
-     * @return 최근 이력서 목록
+     * @param jobRole 직무 역할 (null이면 전체)
+     * @return 이력서 스트림
      */
-    @Query("SELECT r FROM Resume r ORDER BY r.createdAt DESC")
-    List<Resume> findRecentResumes(Pageable pageable);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Resume r WHERE (:jobRole IS NULL OR r.jobRole = :jobRole) ORDER BY r.id")
+    Stream<Resume> streamForExport(@Param("jobRole") JobRole jobRole);
 
     /**
-     * 경력 요약으로 이력서 검색 (LIKE 검색)
+     * 직무 역할과 경력 연수로 이력서 조회 (페이징)
      * 
-     * @param careerSummary 경력 요약 키워드
-     * @return 이력서 목록
+     * @param jobRole 직무 역할
+     * @param experienceYears 경력 연수
+     * @param pageable 페이징 정보
+     * @return 이력서 페이지
      */
-    List<Resume> findByCareerSummaryContainingIgnoreCase(String careerSummary);
+    Page<Resume> findByJobRoleAndExperienceYears(JobRole jobRole, Integer experienceYears, Pageable pageable);
 
     /**
-     * 프로젝트 경험으로 이력서 검색 (LIKE 검색)
+     * 직무 역할 x 경력 연수별 이력서 수 조회 (통계 저장소 적재/대조용)
      * 
-     * @param projectExperience 프로젝트 경험 키워드
-     * @return 이력서 목록
+     * @return [직무 역할, 경력 연수, 이력서 수] 목록
+     */
+    @Query("SELECT r.jobRole, r.experienceYears, COUNT(r) FROM Resume r GROUP BY r.jobRole, r.experienceYears")
+    List<Object[]> countByJobRoleAndExperienceYears();
+
+    /**
+     * 최근 생성된 이력서 조회
+     * 
+     * @param limit 조회할 개수
+     * @return 최근 이력서 목록
      */
-    List<Resume> findByProjectExperienceContainingIgnoreCase(String projectExperience);
+    @Query("SELECT r FROM Resume r ORDER BY r.createdAt DESC")
+    List<Resume> findRecentResumes(Pageable pageable);
 
     /**
      * 복합 조건으로 이력서 검색
@@ -113,18 +153,36 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     );
 
     /**
-     * 이력서 존재 여부 확인
+     * 전체 이력서 ID 조회 (존재 색인 적재용)
      * 
-     * @param id 이력서 ID
-     * @return 존재 여부
+     * @return 이력서 ID 목록
      */
-    boolean existsById(Long id);
+    @Query("SELECT r.id FROM Resume r")
+    List<Long> findAllIds();
 
     /**
-     * 직무 역할별 이력서 수 조회
+     * 주어진 ID 중 존재하는 이력서 ID 조회
+     *
+     * @param ids 확인할 이력서 ID 목록
+     * @return 존재하는 이력서 ID 목록
+     */
+    @Query("SELECT r.id FROM Resume r WHERE r.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전문 검색 색인 대상 필드 조회 (색인 대조용)
+     *
+     * @param ids 이력서 ID 목록
+     * @return (이력서 ID, 경력 요약, 프로젝트 경험) 목록
+     */
+    @Query("SELECT r.id, r.careerSummary, r.projectExperience FROM Resume r WHERE r.id IN :ids")
+    List<Object[]> findFullTextFieldsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 이력서 존재 여부 확인
      * 
-     * @return 직무 역할별 이력서 수
+     * @param id 이력서 ID
+     * @return 존재 여부
      */
-    @Query("SELECT r.jobRole, COUNT(r) FROM Resume r GROUP BY r.jobRole")
-    List<Object[]> getResumeCountByJobRole();
+    boolean existsById(Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.domain.enums.JobRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이력서-기술 매핑 데이터 접근 계층
+ * resume_skills는 (resume_id, skill_id) 쌍만 가지는 조인 테이블이므로 엔티티 없이 JdbcTemplate으로 다룹니다.
+ * JPA 트랜잭션 안에서 호출하면 같은 커넥션을 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResumeSkillRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    // 정규화된 기술명 묶음 중 하나로 등록된 기술을 가진 이력서 조건 (IN 목록은 호출자가 채움)
+    private static final String SKILL_MATCH = "SELECT 1 FROM resume_skills rs JOIN skills s ON s.id = rs.skill_id "
+            + "WHERE rs.resume_id = r.id AND s.normalized_name IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이력서의 기술 매핑 교체
+     * 
+     * @param resumeId 이력서 ID
+     * @param skillIds 기술 ID 목록
+     */
+    public void replaceSkills(Long resumeId, Collection<Long> skillIds) {
+        deleteByResumeId(resumeId);
+        if (skillIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = skillIds.stream()
+                .distinct()
+                .map(skillId -> new Object[]{resumeId, skillId})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO resume_skills (resume_id, skill_id) VALUES (?, ?)", rows);
+    }
+
+    /**
+     * 새로 등록된 이력서들의 기술 매핑을 한 번의 배치로 추가 (일괄 등록용)
+     * 
+     * @param skillIdsByResume 이력서 ID → 기술 ID 목록
+     */
+    public void insertMappings(Map<Long, ? extends Collection<Long>> skillIdsByResume) {
+        List<Object[]> rows = new ArrayList<>();
+        skillIdsByResume.forEach((resumeId, skillIds) -> skillIds.stream()
+                .distinct()
+                .forEach(skillId -> rows.add(new Object[]{resumeId, skillId})));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO resume_skills (resume_id, skill_id) VALUES (?, ?)", rows);
+        }
+    }
+
+    /**
+     * 이력서의 기술 매핑 삭제
+     * 
+     * @param resumeId 이력서 ID
+     */
+    public void deleteByResumeId(Long resumeId) {
+        jdbcTemplate.update("DELETE FROM resume_skills WHERE resume_id = ?", resumeId);
+    }
+
+    /**
+     * 이력서별 기술 ID 조회 (목록 화면용)
+     * 
+     * @param resumeIds 이력서 ID 목록
+     * @return 이력서 ID → 기술 ID 목록
+     */
+    public Map<Long, List<Long>> findSkillIds(Collection<Long> resumeIds) {
+        Map<Long, List<Long>> skillIds = new HashMap<>();
+        if (resumeIds.isEmpty()) {
+            return skillIds;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(resumeIds.size(), "?"));
+        jdbcTemplate.query("SELECT resume_id, skill_id FROM resume_skills WHERE resume_id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> skillIds.computeIfAbsent(rs.getLong("resume_id"), id -> new ArrayList<>())
+                        .add(rs.getLong("skill_id")),
+                resumeIds.toArray());
+        return skillIds;
+    }
+
+    /**
+     * 기술 조건으로 이력서 ID 조회 (기술 색인 적재 전 대체 경로)
+     * 기술은 정규화된 기술명 묶음(정식 키와 별칭 키)으로 받아, 동의어 도입 전에 별칭으로 등록된 기술도 일치시킵니다.
+     *
+     * @param jobRole 직무 (null이면 제한 없음)
+     * @param minYears 최소 경력 연수 (null이면 제한 없음)
+     * @param maxYears 최대 경력 연수 (null이면 제한 없음)
+     * @param all 모두 포함해야 하는 기술별 정규화 이름 묶음
+     * @param any 하나 이상 포함해야 하는 정규화 이름 목록 (비어 있으면 제한 없음)
+     * @param none 포함하면 제외하는 정규화 이름 목록
+     * @return 이력서 ID 목록
+     */
+    public List<Long> findResumeIds(JobRole jobRole, Integer minYears, Integer maxYears,
+                                    List<List<String>> all, List<String> any, List<String> none) {
+        StringBuilder sql = new StringBuilder("SELECT r.id FROM resumes r WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (jobRole != null) {
+            sql.append(" AND r.job_role = ?");
+            args.add(jobRole.name());
+        }
+        if (minYears != null) {
+            sql.append(" AND r.experience_years >= ?");
+            args.add(minYears);
+        }
+        if (maxYears != null) {
+            sql.append(" AND r.experience_years <= ?");
+            args.add(maxYears);
+        }
+        for (List<String> names : all) {
+            appendSkillMatch(sql, args, " AND EXISTS (", names);
+        }
+        if (!any.isEmpty()) {
+            appendSkillMatch(sql, args, " AND EXISTS (", any);
+        }
+        if (!none.isEmpty()) {
+            appendSkillMatch(sql, args, " AND NOT EXISTS (", none);
+        }
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    private static void appendSkillMatch(StringBuilder sql, List<Object> args, String prefix, List<String> names) {
+        sql.append(prefix).append(SKILL_MATCH)
+                .append(String.join(", ", Collections.nCopies(names.size(), "?")))
+                .append("))");
+        args.addAll(names);
+    }
+
+    /**
+     * 전체 기술 매핑 순회 (색인 적재용)
+     * 행마다 skill_id, resume_id 컬럼을 전달합니다.
+     * 
+     * @param handler 행 처리기
+     */
+    public void forEachMapping(RowCallbackHandler handler) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        streaming.query("SELECT skill_id, resume_id FROM resume_skills", handler);
+    }
+
+    /**
+     * 전체 이력서의 직무/경력 순회 (색인 적재용)
+     * 행마다 id, job_role, experience_years 컬럼을 전달합니다.
+     * 
+     * @param handler 행 처리기
+     */
+    public void forEachResumeAttribute(RowCallbackHandler handler) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        streaming.query("SELECT id, job_role, experience_years FROM resumes", handler);
+    }
+
+    /**
+     * 기술 매핑이 없는 이력서 순회 (기존 데이터 이관용)
+     * 행마다 id, tech_skills 컬럼을 전달합니다.
+     * 
+     * @param handler 행 처리기
+     */
+    public void forEachUnmappedResume(RowCallbackHandler handler) {
+        jdbcTemplate.query("SELECT r.id, r.tech_skills FROM resumes r "
+                + "WHERE r.tech_skills IS NOT NULL "
+                + "AND NOT EXISTS (SELECT 1 FROM resume_skills rs WHERE rs.resume_id = r.id)", handler);
+    }
+}
@@ -0,0 +1,22 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.domain.enums.JobRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이력서 목록용 프로젝션
+ * 목록 화면에 필요한 컬럼만 조회하며, project_experience(TEXT)와 tech_skills(JSON)는 읽지 않습니다.
+ */
+public interface ResumeSummaryView {
+
+    Long getId();
+
+    String getCareerSummary();
+
+    JobRole getJobRole();
+
+    Integer getExperienceYears();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,71 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.service.retention.RetentionTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 보존 작업 데이터 접근 계층
+ * 삭제 대상 행을 기본 키 순서의 작은 청크로 조회하고 기본 키 목록으로만 삭제해
+ * 한 번에 잠그는 범위를 청크 크기로 제한합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RetentionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 보존 기간이 지난 행 중 가장 큰 ID 조회 (created_at 인덱스 사용)
+     * 이후 청크 조회는 이 ID 이하의 기본 키 범위로 한정되어 실행 도중 들어오는 행을 건드리지 않습니다.
+     */
+    public Optional<Long> findMaxExpiredId(RetentionTable table, LocalDateTime cutoff) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table.getTableName()
+                + " WHERE created_at < ?" + and(table), Long.class, Timestamp.valueOf(cutoff));
+        return Optional.ofNullable(maxId);
+    }
+
+    /**
+     * 삭제 대상 청크 조회 (키셋 페이지네이션)
+     *
+     * @param afterId 직전 청크의 마지막 ID (처음에는 0)
+     * @param maxId 이번 실행의 상한 ID
+     * @param archive 보관 파일 기록용으로 전체 컬럼을 읽을지 여부 (아니면 id만)
+     * @return 기본 키 오름차순 행 목록
+     */
+    public List<Map<String, Object>> findExpiredChunk(RetentionTable table, LocalDateTime cutoff,
+                                                      long afterId, long maxId, int limit, boolean archive) {
+        String columns = archive ? "*" : "id";
+        return jdbcTemplate.query("SELECT " + columns + " FROM " + table.getTableName()
+                        + " WHERE id > ? AND id <= ? AND created_at < ?" + and(table)
+                        + " ORDER BY id LIMIT ?",
+                new ColumnMapRowMapper(), afterId, maxId, Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * 기본 키 목록으로 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteByIds(RetentionTable table, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM " + table.getTableName() + " WHERE id IN (" + placeholders + ")",
+                ids.toArray());
+    }
+
+    private static String and(RetentionTable table) {
+        return table.getCondition() != null ? " AND " + table.getCondition() : "";
+    }
+}
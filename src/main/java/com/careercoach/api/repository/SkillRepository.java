@@ -0,0 +1,22 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.domain.entity.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 기술 사전 데이터 접근 계층
+ */
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Long> {
+
+    /**
+     * 정규화된 기술명으로 조회
+     * 
+     * @param normalizedName 정규화된 기술명
+     * @return 기술
+     */
+    Optional<Skill> findByNormalizedName(String normalizedName);
+}
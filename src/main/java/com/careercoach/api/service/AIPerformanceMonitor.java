@@ -1,9 +1,11 @@
 package com.careercoach.api.service;
 
-import com.careercoach.api.event.AIServiceCallEvent;
+import com.careercoach.api.telemetry.AICallOutcome;
+import com.careercoach.api.telemetry.TelemetryEvent;
+import com.careercoach.api.telemetry.TelemetryEventType;
+import com.careercoach.api.telemetry.TelemetryHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -14,29 +16,44 @@ import java.util.concurrent.atomic.AtomicLong;
 /**
  * AI 성능 모니터링 서비스
  * AI 서비스 호출 비용 및 성능을 추적하는 시스템입니다.
+ * 캐시 적중 이벤트는 서비스 메트릭과 비용에서 빼고 기능별 적중 수로만 집계합니다.
+ * AI 호출 이벤트는 TelemetryBus 소비 스레드에서 받으므로 집계와 로깅이 요청 스레드를 붙잡지 않습니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class AIPerformanceMonitor {
+public class AIPerformanceMonitor implements TelemetryHandler {
 
     // 성능 메트릭 저장소
     private final Map<String, ServiceMetrics> serviceMetrics = new ConcurrentHashMap<>();
+
+    // 기능별 호출·캐시 적중·토큰 집계
+    private final Map<String, FeatureMetrics> featureMetrics = new ConcurrentHashMap<>();
     
     // 비용 추적
     private final AtomicLong totalCost = new AtomicLong(0);
     private final AtomicLong totalCalls = new AtomicLong(0);
 
     /**
-     * AI 서비스 호출 이벤트 수신
-     * ApplicationEventPublisher를 사용하여 이벤트 발행 로직을 추가합니다.
+     * AI 서비스 호출 이벤트 수신 (텔레메트리 소비 스레드)
      */
-    @EventListener
-    public void handleAIServiceCallEvent(AIServiceCallEvent event) {
-        log.info("AI 성능 모니터링 - 서비스: {}, 지속시간: {}ms, 상태: {}", 
-                event.getServiceName(), event.getDuration(), event.getStatus());
+    @Override
+    public void onEvent(TelemetryEvent event) {
+        if (event.getType() != TelemetryEventType.AI_CALL) {
+            return;
+        }
+        log.debug("AI 성능 모니터링 - 서비스: {}, 기능: {}, 지속시간: {}ms, 상태: {}, 캐시 적중: {}",
+                event.getName(), event.getFeature(), event.getDurationMillis(), event.getOutcome(), event.isCacheHit());
 
         try {
+            // 기능별 집계
+            updateFeatureMetrics(event);
+
+            // 캐시 적중은 AI를 호출하지 않았으므로 서비스 메트릭과 비용에서 제외
+            if (event.isCacheHit()) {
+                return;
+            }
+
             // 메트릭 업데이트
             updateMetrics(event);
             
@@ -57,25 +74,47 @@ public class AIPerformanceMonitor {
     /**
      * 메트릭 업데이트
      */
-    private void updateMetrics(AIServiceCallEvent event) {
-        String serviceName = event.getServiceName();
+    private void updateMetrics(TelemetryEvent event) {
+        String serviceName = event.getName();
         
         serviceMetrics.computeIfAbsent(serviceName, k -> new ServiceMetrics())
-                .updateMetrics(event.getDuration(), "SUCCESS".equals(event.getStatus()));
+                .updateMetrics(event.getDurationMillis(), event.getOutcome() == AICallOutcome.SUCCESS);
         
         totalCalls.incrementAndGet();
     }
 
+    /**
+     * 기능별 메트릭 업데이트
+     */
+    private void updateFeatureMetrics(TelemetryEvent event) {
+        if (event.getFeature() == null) {
+            return;
+        }
+        featureMetrics.computeIfAbsent(event.getFeature(), k -> new FeatureMetrics()).update(event);
+    }
+
     /**
      * 비용 계산
      */
-    private void calculateCost(AIServiceCallEvent event) {
+    private void calculateCost(TelemetryEvent event) {
         // 실제 구현에서는 AI 서비스별 비용 정책에 따라 계산
         // 현재는 목업 비용 계산
-        long cost = calculateServiceCost(event.getServiceName(), event.getDuration());
+        long cost = calculateServiceCost(event.getName(), event.getDurationMillis());
         totalCost.addAndGet(cost);
         
-        log.debug("AI 서비스 비용 계산 - 서비스: {}, 비용: {}원", event.getServiceName(), cost);
+        log.debug("AI 서비스 비용 계산 - 서비스: {}, 비용: {}원", event.getName(), cost);
+    }
+
+    /**
+     * 단일 호출 예상 비용 계산
+     * 캐시 적중으로 회피한 AI 호출 비용을 추정할 때 사용합니다.
+     *
+     * @param serviceName AI 서비스명
+     * @param durationMs 호출 소요 시간 (밀리초)
+     * @return 예상 비용 (원)
+     */
+    public long estimateCallCost(String serviceName, long durationMs) {
+        return calculateServiceCost(serviceName, durationMs);
     }
 
     /**
@@ -98,9 +137,9 @@ public class AIPerformanceMonitor {
     /**
      * 성능 임계값 체크
      */
-    private void checkPerformanceThresholds(AIServiceCallEvent event) {
-        String serviceName = event.getServiceName();
-        long duration = event.getDuration();
+    private void checkPerformanceThresholds(TelemetryEvent event) {
+        String serviceName = event.getName();
+        long duration = event.getDurationMillis();
         
         // 응답 시간 임계값 체크
         if (duration > 10000) { // 10초 이상
@@ -119,10 +158,11 @@ public class AIPerformanceMonitor {
     /**
      * 모니터링 데이터 저장
      */
-    private void saveMonitoringData(AIServiceCallEvent event) {
+    private void saveMonitoringData(TelemetryEvent event) {
         // 실제 구현에서는 Prometheus, Datadog 등의 모니터링 툴로 메트릭 전송
-        log.info("AI Service Call: {}, Duration: {}ms, Status: {}", 
-                event.getServiceName(), event.getDuration(), event.getStatus());
+        log.debug("AI Service Call: {}, Duration: {}ms, Status: {}, Tokens: {}/{}",
+                event.getName(), event.getDurationMillis(), event.getOutcome(),
+                event.getPromptTokens(), event.getOutputTokens());
         
         // 예시: Prometheus 메트릭 전송
         // prometheusService.recordHistogram("ai_service_duration", event.getDuration(), 
@@ -152,6 +192,15 @@ public class AIPerformanceMonitor {
             report.append(String.format("  최대 응답 시간: %dms\n", metrics.getMaxResponseTime()));
             report.append(String.format("  최소 응답 시간: %dms\n", metrics.getMinResponseTime()));
         });
+
+        report.append("\n=== 기능별 메트릭 ===\n");
+        featureMetrics.forEach((feature, metrics) -> {
+            report.append(String.format("\n[%s]\n", feature));
+            report.append(String.format("  AI 호출 수: %d\n", metrics.getCalls()));
+            report.append(String.format("  캐시 적중 수: %d\n", metrics.getCacheHits()));
+            report.append(String.format("  입력 토큰: %d\n", metrics.getPromptTokens()));
+            report.append(String.format("  출력 토큰: %d\n", metrics.getOutputTokens()));
+        });
         
         return report.toString();
     }
@@ -178,6 +227,31 @@ public class AIPerformanceMonitor {
         return report.toString();
     }
 
+    /**
+     * 기능 메트릭 클래스
+     */
+    private static class FeatureMetrics {
+        private final AtomicLong calls = new AtomicLong(0);
+        private final AtomicLong cacheHits = new AtomicLong(0);
+        private final AtomicLong promptTokens = new AtomicLong(0);
+        private final AtomicLong outputTokens = new AtomicLong(0);
+
+        public void update(TelemetryEvent event) {
+            if (event.isCacheHit()) {
+                cacheHits.incrementAndGet();
+                return;
+            }
+            calls.incrementAndGet();
+            promptTokens.addAndGet(event.getPromptTokens());
+            outputTokens.addAndGet(event.getOutputTokens());
+        }
+
+        public long getCalls() { return calls.get(); }
+        public long getCacheHits() { return cacheHits.get(); }
+        public long getPromptTokens() { return promptTokens.get(); }
+        public long getOutputTokens() { return outputTokens.get(); }
+    }
+
     /**
      * 서비스 메트릭 클래스
      */
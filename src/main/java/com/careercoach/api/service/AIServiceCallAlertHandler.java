@@ -0,0 +1,77 @@
+package com.careercoach.api.service;
+
+import com.careercoach.api.executor.InstrumentedThreadPoolTaskExecutor;
+import com.careercoach.api.telemetry.AICallOutcome;
+import com.careercoach.api.telemetry.TelemetryEvent;
+import com.careercoach.api.telemetry.TelemetryEventType;
+import com.careercoach.api.telemetry.TelemetryHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * AI 서비스 호출 알림 핸들러
+ * AI 호출 이벤트를 TelemetryBus 소비 스레드에서 받아 응답 지연을 경고하고, 오류 알림만 aiServiceTaskExecutor로 넘깁니다.
+ * 인터페이스를 구현하므로 @Async/@Transactional 메서드를 두지 않습니다 (JDK 프록시가 되면 이벤트 리스너 메서드가 노출되지 않음).
+ */
+@Slf4j
+@Service
+public class AIServiceCallAlertHandler implements TelemetryHandler {
+
+    private final InstrumentedThreadPoolTaskExecutor aiServiceTaskExecutor;
+
+    public AIServiceCallAlertHandler(@Qualifier("aiServiceTaskExecutor") InstrumentedThreadPoolTaskExecutor aiServiceTaskExecutor) {
+        this.aiServiceTaskExecutor = aiServiceTaskExecutor;
+    }
+
+    /**
+     * AI 서비스 호출 이벤트 처리 (텔레메트리 소비 스레드)
+     * AI 서비스 성능을 모니터링합니다. 이벤트 슬롯은 재사용되므로 오류 알림에는 필요한 값만 복사해 넘깁니다.
+     */
+    @Override
+    public void onEvent(TelemetryEvent event) {
+        if (event.getType() != TelemetryEventType.AI_CALL || event.isCacheHit()) {
+            return;
+        }
+        log.debug("AI 서비스 호출 이벤트 처리 - 서비스: {}, 지속시간: {}ms, 상태: {}",
+                event.getName(), event.getDurationMillis(), event.getOutcome());
+
+        try {
+            // 성능 메트릭 수집
+            collectPerformanceMetrics(event.getName(), event.getDurationMillis(), event.getOutcome());
+
+            // 오류 발생 시 알림
+            if (event.getOutcome() == AICallOutcome.ERROR) {
+                String serviceName = event.getName();
+                String errorMessage = event.getErrorMessage();
+                aiServiceTaskExecutor.execute(() -> handleAIServiceError(serviceName, errorMessage));
+            }
+
+        } catch (Exception e) {
+            log.error("AI 서비스 호출 이벤트 처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 성능 메트릭 수집
+     */
+    private void collectPerformanceMetrics(String serviceName, long durationMs, AICallOutcome outcome) {
+        // 실제 구현에서는 Prometheus, Datadog 등의 모니터링 툴로 메트릭 전송
+        log.debug("AI Service Call: {}, Duration: {}ms, Status: {}", serviceName, durationMs, outcome);
+        
+        // 성능 임계값 체크
+        if (durationMs > 5000) { // 5초 이상
+            log.warn("AI 서비스 응답 시간이 길어짐 - 서비스: {}, 지속시간: {}ms", serviceName, durationMs);
+        }
+    }
+
+    /**
+     * AI 서비스 오류 처리
+     */
+    private void handleAIServiceError(String serviceName, String errorMessage) {
+        log.error("AI 서비스 오류 발생 - 서비스: {}, 오류: {}", serviceName, errorMessage);
+        
+        // 실제 구현에서는 알림 시스템(슬랙, 이메일 등)으로 알림 전송
+        // 예: SlackNotificationService.sendAlert("AI 서비스 오류", event.getServiceName(), event.getErrorMessage());
+    }
+}
@@ -0,0 +1,170 @@
+package com.careercoach.api.service;
+
+import com.careercoach.api.cache.CacheMetrics;
+import com.careercoach.api.cache.InstrumentedCache;
+import com.careercoach.api.cache.OffHeapCache;
+import com.careercoach.api.cache.ResumeIndexedCache;
+import com.careercoach.api.cache.TieredCache;
+import com.careercoach.api.config.CacheConfig;
+import com.careercoach.api.dto.response.CacheStatisticsResponse;
+import com.careercoach.api.service.ai.AIService;
+import com.careercoach.api.util.LatencyHistogram;
+import com.careercoach.api.util.TokenEstimator;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 캐시 모니터링 서비스
+ * 캐시 메트릭과 계층별 Caffeine 통계를 모아 캐시 통계 응답을 구성합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheMonitoringService {
+
+    // AI 호출 결과를 담는 캐시 (적중 시 AI 호출을 회피한 것으로 집계)
+    private static final Set<String> AI_CACHES = Set.of(CacheConfig.INTERVIEW_QUESTIONS, CacheConfig.LEARNING_PATHS);
+
+    private final CacheManager cacheManager;
+    private final CacheMetrics cacheMetrics;
+    private final AIPerformanceMonitor aiPerformanceMonitor;
+    private final AIService aiService;
+
+    /**
+     * 캐시 통계 조회
+     */
+    public CacheStatisticsResponse getCacheStatistics() {
+        Map<String, CacheMetrics.CacheStats> snapshot = cacheMetrics.snapshot();
+
+        List<CacheStatisticsResponse.CacheStatistics> caches = new ArrayList<>();
+        long callsAvoided = 0;
+        long tokensAvoided = 0;
+        long costSaved = 0;
+
+        for (String cacheName : cacheNames(snapshot)) {
+            CacheMetrics.CacheStats stats = snapshot.get(cacheName);
+            caches.add(toCacheStatistics(cacheName, stats));
+
+            if (stats != null && AI_CACHES.contains(cacheName)) {
+                long hits = stats.getHits().sum();
+                long averageLoadMillis = Math.round(stats.getLoadLatency().getMeanMillis());
+                callsAvoided += hits;
+                tokensAvoided += hits * TokenEstimator.estimateFromUtf8Bytes(Math.round(stats.getAverageEntryBytes()));
+                costSaved += hits * aiPerformanceMonitor.estimateCallCost(aiService.getServiceName(), averageLoadMillis);
+            }
+        }
+
+        return CacheStatisticsResponse.builder()
+                .caches(caches)
+                .aiSpendSaved(CacheStatisticsResponse.AiSpendSaved.builder()
+                        .serviceName(aiService.getServiceName())
+                        .callsAvoided(callsAvoided)
+                        .estimatedTokensAvoided(tokensAvoided)
+                        .estimatedCostSaved(costSaved)
+                        .build())
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 등록된 캐시와 메트릭이 기록된 캐시 이름 병합
+     */
+    private Set<String> cacheNames(Map<String, CacheMetrics.CacheStats> snapshot) {
+        Set<String> names = new TreeSet<>(cacheManager.getCacheNames());
+        names.addAll(snapshot.keySet());
+        return names;
+    }
+
+    private CacheStatisticsResponse.CacheStatistics toCacheStatistics(String cacheName, CacheMetrics.CacheStats stats) {
+        CacheStatisticsResponse.CacheStatistics.CacheStatisticsBuilder builder = CacheStatisticsResponse.CacheStatistics.builder()
+                .cacheName(cacheName)
+                .tiers(tierStatistics(cacheManager.getCache(cacheName)));
+
+        if (stats == null) {
+            return builder.removalCauses(Map.of()).build();
+        }
+
+        LatencyHistogram loadLatency = stats.getLoadLatency();
+        Map<String, Long> removalCauses = new TreeMap<>();
+        stats.getRemovalCauses().forEach((cause, count) -> removalCauses.put(cause, count.sum()));
+
+        return builder
+                .hits(stats.getHits().sum())
+                .misses(stats.getMisses().sum())
+                .hitRatio(stats.getHitRatio())
+                .loadP50Millis(loadLatency.percentileMillis(50))
+                .loadP95Millis(loadLatency.percentileMillis(95))
+                .loadP99Millis(loadLatency.percentileMillis(99))
+                .loadMaxMillis(loadLatency.getMaxMillis())
+                .averageEntryBytes(stats.getAverageEntryBytes())
+                .maxEntryBytes(stats.getMaxEntryBytes().get())
+                .removalCauses(removalCauses)
+                .build();
+    }
+
+    /**
+     * 데코레이터를 벗겨 계층별 Caffeine 통계 수집
+     */
+    private List<CacheStatisticsResponse.TierStatistics> tierStatistics(Cache cache) {
+        Cache target = unwrap(cache);
+        List<CacheStatisticsResponse.TierStatistics> tiers = new ArrayList<>();
+
+        if (target instanceof TieredCache tiered) {
+            addTier(tiers, CacheConfig.TIER_L1, tiered.getL1());
+            addTier(tiers, CacheConfig.TIER_OFF_HEAP, tiered.getL2());
+        } else if (target instanceof OffHeapCache) {
+            addTier(tiers, CacheConfig.TIER_OFF_HEAP, target);
+        } else if (target != null) {
+            addTier(tiers, CacheConfig.TIER_HEAP, target);
+        }
+        return tiers;
+    }
+
+    private void addTier(List<CacheStatisticsResponse.TierStatistics> tiers, String tier, Cache cache) {
+        com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache;
+        if (cache instanceof OffHeapCache offHeap) {
+            nativeCache = offHeap.getNativeCache();
+        } else if (cache instanceof CaffeineCache caffeine) {
+            nativeCache = caffeine.getNativeCache();
+        } else {
+            return;
+        }
+
+        CacheStats stats = nativeCache.stats();
+        tiers.add(CacheStatisticsResponse.TierStatistics.builder()
+                .tier(tier)
+                .entries(nativeCache.estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRatio(stats.hitRate())
+                .evictions(stats.evictionCount())
+                .storedBytes(cache instanceof OffHeapCache offHeap ? offHeap.getStoredBytes() : null)
+                .build());
+    }
+
+    private Cache unwrap(Cache cache) {
+        Cache current = cache;
+        while (true) {
+            if (current instanceof ResumeIndexedCache indexed) {
+                current = indexed.getDelegate();
+            } else if (current instanceof InstrumentedCache instrumented) {
+                current = instrumented.getDelegate();
+            } else {
+                return current;
+            }
+        }
+    }
+}
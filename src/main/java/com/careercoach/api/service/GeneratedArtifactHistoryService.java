@@ -0,0 +1,90 @@
+package com.careercoach.api.service;
+
+import com.careercoach.api.domain.entity.InterviewQuestionSet;
+import com.careercoach.api.domain.entity.LearningPath;
+import com.careercoach.api.dto.response.InterviewQuestionsResponse;
+import com.careercoach.api.dto.response.LearningPathResponse;
+import com.careercoach.api.repository.InterviewQuestionSetRepository;
+import com.careercoach.api.repository.LearningPathRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 생성 결과물 이력 조회 서비스
+ * 캐시에서 제거된 뒤에도 저장된 최근 면접 질문/학습 경로를 조회할 수 있게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GeneratedArtifactHistoryService {
+
+    private static final String PROMPT_USED_HISTORY = "History";
+
+    private final InterviewQuestionSetRepository interviewQuestionSetRepository;
+    private final LearningPathRepository learningPathRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이력서의 가장 최근 면접 질문 조회
+     */
+    public Optional<InterviewQuestionsResponse> getLatestInterviewQuestions(Long resumeId) {
+        log.info("최근 면접 질문 조회 - 이력서 ID: {}", resumeId);
+
+        return interviewQuestionSetRepository.findFirstByResumeIdOrderByCreatedAtDescIdDesc(resumeId)
+                .flatMap(latest -> interviewQuestionSetRepository.findById(latest.getId()))
+                .map(this::toResponse);
+    }
+
+    /**
+     * 이력서의 가장 최근 학습 경로 조회
+     */
+    public Optional<LearningPathResponse> getLatestLearningPath(Long resumeId) {
+        log.info("최근 학습 경로 조회 - 이력서 ID: {}", resumeId);
+
+        return learningPathRepository.findFirstByResumeIdOrderByCreatedAtDescIdDesc(resumeId)
+                .flatMap(latest -> learningPathRepository.findById(latest.getId()))
+                .map(this::toResponse);
+    }
+
+    private InterviewQuestionsResponse toResponse(InterviewQuestionSet questionSet) {
+        return InterviewQuestionsResponse.builder()
+                .resumeId(questionSet.getResumeId())
+                .difficulty(questionSet.getDifficulty())
+                .questions(questionSet.getQuestions())
+                .analysis(questionSet.getAnalysis())
+                .generatedAt(questionSet.getCreatedAt())
+                .promptUsed(PROMPT_USED_HISTORY)
+                .build();
+    }
+
+    private LearningPathResponse toResponse(LearningPath learningPath) {
+        return LearningPathResponse.builder()
+                .resumeId(learningPath.getResumeId())
+                .jobRole(learningPath.getJobRole())
+                .experienceLevel(learningPath.getExperienceLevel())
+                .learningSteps(parseLearningSteps(learningPath))
+                .overallStrategy(learningPath.getOverallStrategy())
+                .estimatedDuration(learningPath.getEstimatedDuration())
+                .generatedAt(learningPath.getCreatedAt())
+                .build();
+    }
+
+    private List<LearningPathResponse.LearningStep> parseLearningSteps(LearningPath learningPath) {
+        try {
+            return objectMapper.readValue(learningPath.getLearningSteps(),
+                    new TypeReference<List<LearningPathResponse.LearningStep>>() {});
+        } catch (JsonProcessingException e) {
+            log.error("저장된 학습 단계 파싱 실패 - 학습 경로 ID: {}, 오류: {}", learningPath.getId(), e.getMessage());
+            return List.of();
+        }
+    }
+}
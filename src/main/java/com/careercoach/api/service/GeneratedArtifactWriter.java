@@ -0,0 +1,172 @@
+package com.careercoach.api.service;
+
+import com.careercoach.api.domain.entity.InterviewQuestionSet;
+import com.careercoach.api.domain.entity.LearningPath;
+import com.careercoach.api.dto.response.InterviewQuestionsResponse;
+import com.careercoach.api.dto.response.LearningPathResponse;
+import com.careercoach.api.repository.InterviewQuestionSetRepository;
+import com.careercoach.api.repository.LearningPathRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 생성 결과물 write-behind 저장 서비스
+ * 요청 스레드는 큐에 적재만 하고, 백그라운드 스케줄러가 큐를 묶음 단위로 비워 JDBC 배치 INSERT로 저장합니다.
+ * 묶음 저장이 실패하면(예: 저장 전에 이력서가 삭제됨) 건별로 다시 저장해 나머지 결과물은 보존합니다.
+ * 큐에는 엔티티 대신 빌더를 보관해 시도마다 새 엔티티를 만듭니다.
+ * 롤백된 묶음에서 시퀀스 ID가 할당된 엔티티를 다시 save하면 merge로 처리되어 없는 행을 찾다 실패하기 때문입니다.
+ */
+@Slf4j
+@Service
+public class GeneratedArtifactWriter {
+
+    private final InterviewQuestionSetRepository interviewQuestionSetRepository;
+    private final LearningPathRepository learningPathRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Supplier<Object>> queue;
+    private final int batchSize;
+
+    // 저장 현황 추적
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    public GeneratedArtifactWriter(InterviewQuestionSetRepository interviewQuestionSetRepository,
+                                   LearningPathRepository learningPathRepository,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${artifact.write-behind.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${artifact.write-behind.batch-size:50}") int batchSize) {
+        this.interviewQuestionSetRepository = interviewQuestionSetRepository;
+        this.learningPathRepository = learningPathRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 면접 질문 저장 예약
+     */
+    public void enqueue(InterviewQuestionsResponse response) {
+        InterviewQuestionSet.InterviewQuestionSetBuilder builder = InterviewQuestionSet.builder()
+                .resumeId(response.getResumeId())
+                .questions(response.getQuestions())
+                .difficulty(response.getDifficulty())
+                .analysis(response.getAnalysis())
+                .createdAt(response.getGeneratedAt());
+        offer(builder::build);
+    }
+
+    /**
+     * 학습 경로 저장 예약
+     */
+    public void enqueue(LearningPathResponse response) {
+        try {
+            LearningPath.LearningPathBuilder builder = LearningPath.builder()
+                    .resumeId(response.getResumeId())
+                    .jobRole(Objects.requireNonNullElse(response.getJobRole(), ""))
+                    .experienceLevel(Objects.requireNonNullElse(response.getExperienceLevel(), ""))
+                    .learningSteps(objectMapper.writeValueAsString(response.getLearningSteps()))
+                    .overallStrategy(response.getOverallStrategy())
+                    .estimatedDuration(response.getEstimatedDuration())
+                    .createdAt(response.getGeneratedAt());
+            offer(builder::build);
+        } catch (JsonProcessingException e) {
+            log.error("학습 경로 직렬화 실패 - 이력서 ID: {}, 오류: {}", response.getResumeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 큐에 쌓인 결과물을 묶음 단위로 저장
+     */
+    @Scheduled(fixedDelayString = "${artifact.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        List<Supplier<Object>> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 종료 시 남은 결과물 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        log.info("생성 결과물 write-behind 종료 - 남은 항목: {}", queue.size());
+        flush();
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    private void offer(Supplier<Object> artifact) {
+        if (!queue.offer(artifact)) {
+            droppedCount.increment();
+            log.warn("생성 결과물 저장 큐가 가득 차 저장을 건너뜀 - 대기 항목: {}", queue.size());
+        }
+    }
+
+    private void writeBatch(List<Supplier<Object>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::save));
+            writtenCount.add(batch.size());
+            log.debug("생성 결과물 배치 저장 완료 - 건수: {}", batch.size());
+        } catch (Exception e) {
+            log.warn("생성 결과물 배치 저장 실패, 건별 저장으로 재시도 - 건수: {}, 오류: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeSingle);
+        }
+    }
+
+    private void writeSingle(Supplier<Object> artifact) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(artifact));
+            writtenCount.increment();
+        } catch (Exception e) {
+            failedCount.increment();
+            log.error("생성 결과물 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 빌더로 새 엔티티를 만들어 저장 (ID가 없으므로 항상 persist)
+     */
+    private void save(Supplier<Object> builder) {
+        Object artifact = builder.get();
+        if (artifact instanceof InterviewQuestionSet questionSet) {
+            interviewQuestionSetRepository.save(questionSet);
+        } else if (artifact instanceof LearningPath learningPath) {
+            learningPathRepository.save(learningPath);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.careercoach.api.service;
+
+import com.careercoach.api.dto.response.RegenerationStatusResponse;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.service.job.BackgroundJob;
+import com.careercoach.api.service.job.JobWorker;
+import com.careercoach.api.service.job.LearningPathRegenerationJobHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이력서별 학습 경로 재생성 지연·병합기
+ * 이력서 수정이 커밋될 때마다 재생성을 요청받되, 지연 창(debounce-ms) 동안 추가 수정이 없을 때만 재생성 작업을 등록합니다.
+ *
+ * <ul>
+ *     <li>창 안에서 다시 요청되면 대기 중인 예약을 취소하고 창을 새로 시작 (연속 저장을 한 번으로 병합)</li>
+ *     <li>이 노드에서 실행 중인 이전 버전의 재생성은 인터럽트로 취소하고, 남은 모델 호출을 건너뜀</li>
+ *     <li>창이 끝나면 이력서 지문을 멱등 키로 background_jobs에 등록 (배포로 중단돼도 유실되지 않음)</li>
+ * </ul>
+ *
+ * 다른 노드에서 실행 중이거나 대기 중인 이전 버전의 작업은 작업 큐와 핸들러가 지문 비교로 취소합니다.
+ * 세대 번호는 전역 순번이라 슬롯이 제거된 뒤 다시 만들어져도 이전 예약과 겹치지 않습니다.
+ */
+@Slf4j
+@Component
+public class LearningPathRegenerationDebouncer {
+
+    private final ResumeService resumeService;
+    private final JobWorker jobWorker;
+    private final LearningPathRegenerationJobHandler jobHandler;
+    private final TaskScheduler taskScheduler;
+    private final long debounceMs;
+
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong cancelledInFlight = new AtomicLong();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public LearningPathRegenerationDebouncer(ResumeService resumeService,
+                                             JobWorker jobWorker,
+                                             LearningPathRegenerationJobHandler jobHandler,
+                                             TaskScheduler taskScheduler,
+                                             @Value("${resume.regeneration.debounce-ms:3000}") long debounceMs) {
+        this.resumeService = resumeService;
+        this.jobWorker = jobWorker;
+        this.jobHandler = jobHandler;
+        this.taskScheduler = taskScheduler;
+        this.debounceMs = debounceMs;
+    }
+
+    /**
+     * 재생성 요청
+     * 대기 중인 예약과 이 노드에서 진행 중인 이전 버전의 재생성을 취소하고 지연 창을 새로 시작합니다.
+     */
+    public void request(Long resumeId) {
+        requested.incrementAndGet();
+        long generation = generations.incrementAndGet();
+        slots.compute(resumeId, (id, slot) -> {
+            Slot current = slot != null ? slot : new Slot();
+            current.generation = generation;
+            if (current.timer != null) {
+                current.timer.cancel(false);
+                coalesced.incrementAndGet();
+            }
+            current.timer = taskScheduler.schedule(() -> enqueue(id, generation), Instant.now().plusMillis(debounceMs));
+            return current;
+        });
+
+        int cancelled = jobWorker.cancelRunning(LearningPathRegenerationJobHandler.JOB_TYPE, resumeId);
+        if (cancelled > 0) {
+            cancelledInFlight.addAndGet(cancelled);
+            log.debug("진행 중인 학습 경로 재생성 취소 - 이력서 ID: {}", resumeId);
+        }
+    }
+
+    /**
+     * 재생성 상태
+     */
+    public RegenerationStatusResponse getStatus() {
+        return RegenerationStatusResponse.builder()
+                .debounceMs(debounceMs)
+                .pending(slots.size())
+                .requested(requested.get())
+                .coalesced(coalesced.get())
+                .cancelledInFlight(cancelledInFlight.get())
+                .enqueued(enqueued.get())
+                .failures(failures.get())
+                .build();
+    }
+
+    /**
+     * 지연 창 만료 시 재생성 작업 등록 (창 안에 새 요청이 있었으면 무시)
+     */
+    private void enqueue(Long resumeId, long generation) {
+        boolean[] fired = {false};
+        slots.computeIfPresent(resumeId, (id, slot) -> {
+            if (slot.generation != generation) {
+                return slot;
+            }
+            fired[0] = true;
+            return null;
+        });
+        if (!fired[0]) {
+            return;
+        }
+        try {
+            ResumeDto resume = resumeService.getResume(resumeId);
+            BackgroundJob job = jobHandler.enqueue(resume);
+            enqueued.incrementAndGet();
+            log.debug("학습 경로 재생성 작업 등록 - 이력서 ID: {}, 작업 ID: {}, 상태: {}", resumeId, job.getId(), job.getStatus());
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.error("학습 경로 재생성 작업 등록 실패 - 이력서 ID: {}, 오류: {}", resumeId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이력서별 예약 상태 (slots.compute 안에서만 변경)
+     */
+    private static final class Slot {
+        private volatile long generation;
+        private volatile ScheduledFuture<?> timer;
+    }
+}
@@ -0,0 +1,70 @@
+package com.careercoach.api.service;
+
+import com.careercoach.api.domain.entity.Resume;
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.repository.ResumeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 이력서 내보내기 서비스
+ * 이력서를 한 줄에 하나씩 JSON(NDJSON)으로 응답 스트림에 기록합니다.
+ *
+ * JDBC fetch size 단위로 읽고, fetch size마다 영속성 컨텍스트를 비우고 출력 버퍼를 내보내므로
+ * 이력서 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeExportService {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ResumeRepository resumeRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이력서 NDJSON 내보내기
+     *
+     * @param jobRole 직무 역할 (null이면 전체)
+     * @param output 응답 스트림
+     * @return 기록한 이력서 수
+     * @throws IOException 클라이언트 연결이 끊긴 경우 등
+     */
+    @Transactional(readOnly = true)
+    public long export(JobRole jobRole, OutputStream output) throws IOException {
+        long start = System.currentTimeMillis();
+        ObjectWriter writer = objectMapper.writerFor(ResumeDto.class);
+        long count = 0;
+
+        try (Stream<Resume> resumes = resumeRepository.streamForExport(jobRole)) {
+            Iterator<Resume> iterator = resumes.iterator();
+            while (iterator.hasNext()) {
+                output.write(writer.writeValueAsBytes(ResumeDto.from(iterator.next())));
+                output.write(NEWLINE);
+
+                if (++count % ResumeRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    output.flush();
+                }
+            }
+        }
+        output.flush();
+
+        log.info("이력서 내보내기 완료 - 직무: {}, 이력서 수: {}, 소요 시간: {}ms",
+                jobRole, count, System.currentTimeMillis() - start);
+        return count;
+    }
+}
@@ -0,0 +1,402 @@
+package com.careercoach.api.service;
+
+import com.careercoach.api.cache.ResumeCacheInvalidator;
+import com.careercoach.api.domain.entity.Resume;
+import com.careercoach.api.dto.request.CreateResumeRequest;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.dto.response.ResumeImportResponse;
+import com.careercoach.api.event.ResumeChangedEvent;
+import com.careercoach.api.exception.InvalidResumeDataException;
+import com.careercoach.api.repository.ResumeRepository;
+import com.careercoach.api.repository.ResumeSkillRepository;
+import com.careercoach.api.service.ai.AIInterviewService;
+import com.careercoach.api.service.ai.AILearningPathService;
+import com.careercoach.api.service.skill.SkillDictionary;
+import com.careercoach.api.util.SkillSet;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 이력서 일괄 등록 서비스
+ * NDJSON 또는 CSV 본문을 스트리밍으로 읽어 행 단위로 검증하고, 청크 단위 트랜잭션으로 등록합니다.
+ *
+ * <ul>
+ *     <li>검증: 단건 등록과 같은 Bean Validation 제약과 {@link ResumeService#validateResumeData} 규칙</li>
+ *     <li>등록: pooled 시퀀스 ID로 JDBC 배치 INSERT, 기술 매핑도 청크당 한 번의 배치</li>
+ *     <li>메모리: 한 청크의 행과 최대 보고 개수만큼의 오류만 보관</li>
+ *     <li>실패: 청크 트랜잭션이 실패하면 해당 청크만 행 단위로 다시 등록해 실패 행을 찾아냄</li>
+ * </ul>
+ *
+ * CSV는 헤더 행이 필요하며 techSkills 컬럼은 세미콜론(;)으로 구분합니다.
+ */
+@Slf4j
+@Service
+public class ResumeImportService {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final String ROW_FIELD = "row";
+    private static final String DATABASE_FIELD = "database";
+    private static final String CSV_SYNTAX_ERROR = "CSV 구문 오류로 이후 행을 처리하지 않았습니다: ";
+
+    /**
+     * 일괄 등록 본문 형식
+     */
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private final ResumeService resumeService;
+    private final ResumeRepository resumeRepository;
+    private final ResumeSkillRepository resumeSkillRepository;
+    private final SkillDictionary skillDictionary;
+    private final ResumeCacheInvalidator resumeCacheInvalidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AIInterviewService aiInterviewService;
+    private final AILearningPathService aiLearningPathService;
+    private final ThreadPoolTaskExecutor pregenerationTaskExecutor;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public ResumeImportService(ResumeService resumeService,
+                               ResumeRepository resumeRepository,
+                               ResumeSkillRepository resumeSkillRepository,
+                               SkillDictionary skillDictionary,
+                               ResumeCacheInvalidator resumeCacheInvalidator,
+                               ApplicationEventPublisher eventPublisher,
+                               AIInterviewService aiInterviewService,
+                               AILearningPathService aiLearningPathService,
+                               @Qualifier("pregenerationTaskExecutor") ThreadPoolTaskExecutor pregenerationTaskExecutor,
+                               Validator validator,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${resume.import.chunk-size:500}") int chunkSize,
+                               @Value("${resume.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.resumeService = resumeService;
+        this.resumeRepository = resumeRepository;
+        this.resumeSkillRepository = resumeSkillRepository;
+        this.skillDictionary = skillDictionary;
+        this.resumeCacheInvalidator = resumeCacheInvalidator;
+        this.eventPublisher = eventPublisher;
+        this.aiInterviewService = aiInterviewService;
+        this.aiLearningPathService = aiLearningPathService;
+        this.pregenerationTaskExecutor = pregenerationTaskExecutor;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ndjsonReader = objectMapper.readerFor(CreateResumeRequest.class);
+        this.csvReader = new CsvMapper().readerFor(CreateResumeRequest.class)
+                .with(CsvSchema.emptySchema().withHeader().withArrayElementSeparator(";"));
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * 이력서 일괄 등록
+     *
+     * @param body 요청 본문 (UTF-8)
+     * @param format 본문 형식
+     * @param pregenerate 등록 후 면접 질문/학습 경로를 백그라운드에서 미리 생성할지 여부
+     * @return 등록 결과
+     * @throws IOException 본문을 읽을 수 없는 경우
+     */
+    public ResumeImportResponse importResumes(InputStream body, Format format, boolean pregenerate) throws IOException {
+        log.info("이력서 일괄 등록 시작 - 형식: {}, 사전 생성: {}", format, pregenerate);
+        long start = System.currentTimeMillis();
+        ImportReport report = new ImportReport(maxReportedErrors);
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            if (format == Format.CSV) {
+                readCsv(reader, chunk, report, pregenerate);
+            } else {
+                readNdjson(new BufferedReader(reader), chunk, report, pregenerate);
+            }
+        }
+        writeChunk(chunk, report, pregenerate);
+
+        long durationMs = System.currentTimeMillis() - start;
+        log.info("이력서 일괄 등록 완료 - 전체: {}, 등록: {}, 실패: {}, 소요 시간: {}ms",
+                report.totalRows, report.importedCount, report.failedCount, durationMs);
+        return ResumeImportResponse.builder()
+                .format(format.name())
+                .totalRows(report.totalRows)
+                .importedCount(report.importedCount)
+                .failedCount(report.failedCount)
+                .errors(report.errors)
+                .errorsTruncated(report.failedCount > report.errors.size())
+                .pregenerationQueued(report.pregenerationQueued)
+                .pregenerationSkipped(report.pregenerationSkipped)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private void readNdjson(BufferedReader reader, List<PendingRow> chunk, ImportReport report, boolean pregenerate)
+            throws IOException {
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            row++;
+            if (line.isBlank()) {
+                continue;
+            }
+            report.totalRows++;
+            try {
+                accept(row, ndjsonReader.readValue(line), chunk, report, pregenerate);
+            } catch (JsonProcessingException e) {
+                report.fail(row, fieldOf(e), e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readCsv(Reader reader, List<PendingRow> chunk, ImportReport report, boolean pregenerate)
+            throws IOException {
+        long row = 0;
+        try (MappingIterator<CreateResumeRequest> rows = csvReader.readValues(reader)) {
+            while (true) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                } catch (JsonProcessingException e) {
+                    report.fail(row + 1, ROW_FIELD, CSV_SYNTAX_ERROR + e.getOriginalMessage());
+                    break;
+                }
+
+                row++;
+                report.totalRows++;
+                CreateResumeRequest request;
+                try {
+                    request = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    // 값 변환 오류는 해당 행만 실패 처리하고 다음 행으로 재동기화
+                    report.fail(row, fieldOf(e), e.getOriginalMessage());
+                    continue;
+                } catch (JsonProcessingException e) {
+                    // CSV 구문 오류 이후 행은 신뢰할 수 없으므로 중단
+                    report.fail(row, ROW_FIELD, CSV_SYNTAX_ERROR + e.getOriginalMessage());
+                    break;
+                }
+                accept(row, request, chunk, report, pregenerate);
+            }
+        }
+    }
+
+    private void accept(long row, CreateResumeRequest request, List<PendingRow> chunk, ImportReport report,
+                        boolean pregenerate) {
+        if (request == null) {
+            report.fail(row, ROW_FIELD, "빈 행입니다.");
+            return;
+        }
+
+        Optional<ResumeImportResponse.RowError> error = validate(row, request);
+        if (error.isPresent()) {
+            report.fail(error.get());
+            return;
+        }
+
+        chunk.add(new PendingRow(row, request));
+        if (chunk.size() >= chunkSize) {
+            writeChunk(chunk, report, pregenerate);
+        }
+    }
+
+    private Optional<ResumeImportResponse.RowError> validate(long row, CreateResumeRequest request) {
+        Set<ConstraintViolation<CreateResumeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<CreateResumeRequest> first = violations.stream()
+                    .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .get();
+            return Optional.of(rowError(row, first.getPropertyPath().toString(), first.getMessage()));
+        }
+
+        try {
+            resumeService.validateResumeData(request);
+            return Optional.empty();
+        } catch (InvalidResumeDataException e) {
+            return Optional.of(rowError(row, e.getField() != null ? e.getField() : ROW_FIELD,
+                    e.getReason() != null ? e.getReason() : e.getMessage()));
+        }
+    }
+
+    /**
+     * 청크 등록
+     * 한 트랜잭션으로 배치 등록하고, 실패하면 행마다 별도 트랜잭션으로 다시 등록합니다.
+     */
+    private void writeChunk(List<PendingRow> chunk, ImportReport report, boolean pregenerate) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<ResumeDto> saved = transactionTemplate.execute(status -> insert(chunk));
+            report.importedCount += saved.size();
+            pregenerate(saved, report, pregenerate);
+        } catch (RuntimeException e) {
+            log.warn("이력서 청크 등록 실패, 행 단위로 다시 등록합니다 - 행 수: {}, 사유: {}", chunk.size(), e.getMessage());
+            for (PendingRow pendingRow : chunk) {
+                try {
+                    List<ResumeDto> saved = transactionTemplate.execute(status -> insert(List.of(pendingRow)));
+                    report.importedCount += saved.size();
+                    pregenerate(saved, report, pregenerate);
+                } catch (RuntimeException rowException) {
+                    report.fail(pendingRow.getRow(), DATABASE_FIELD, rowException.getMessage());
+                }
+            }
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    private List<ResumeDto> insert(List<PendingRow> rows) {
+        List<Resume> resumes = new ArrayList<>(rows.size());
+        List<Set<Long>> skillIds = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            CreateResumeRequest request = row.getRequest();
+            SkillSet techSkills = skillDictionary.toSkillSet(request.getTechSkills());
+            skillIds.add(skillDictionary.resolveAll(techSkills));
+            resumes.add(Resume.builder()
+                    .careerSummary(request.getCareerSummary())
+                    .jobRole(request.getJobRole())
+                    .experienceYears(request.getExperienceYears())
+                    .projectExperience(request.getProjectExperience())
+                    .techSkills(techSkills)
+                    .build());
+        }
+
+        // pooled 시퀀스로 ID를 미리 받아 두므로 flush 시 hibernate.jdbc.batch_size 단위로 배치 INSERT
+        List<Resume> saved = resumeRepository.saveAll(resumes);
+        resumeRepository.flush();
+
+        Map<Long, Set<Long>> mappings = new LinkedHashMap<>();
+        for (int i = 0; i < saved.size(); i++) {
+            mappings.put(saved.get(i).getId(), skillIds.get(i));
+        }
+        resumeSkillRepository.insertMappings(mappings);
+
+        List<ResumeDto> created = saved.stream().map(ResumeDto::from).toList();
+        created.forEach(resume -> eventPublisher.publishEvent(new ResumeChangedEvent(this,
+                ResumeChangedEvent.ChangeType.CREATED, resume.getId(), resume, null)));
+
+        // 다른 노드의 존재 색인이 새 ID를 모두 알 수 있도록 생성된 ID마다 무효화 기록
+        resumeCacheInvalidator.evictResumesAfterCommit(created.stream().map(ResumeDto::getId).toList());
+        return created;
+    }
+
+    /**
+     * 면접 질문/학습 경로 사전 생성 예약
+     * 결과는 각 서비스의 캐시와 생성 이력 저장소에 남으므로 이후 요청이 AI 호출 없이 처리됩니다.
+     */
+    private void pregenerate(List<ResumeDto> resumes, ImportReport report, boolean pregenerate) {
+        if (!pregenerate) {
+            return;
+        }
+
+        for (ResumeDto resume : resumes) {
+            try {
+                pregenerationTaskExecutor.execute(() -> {
+                    try {
+                        aiInterviewService.generateQuestions(resume);
+                        aiLearningPathService.generateLearningPath(resume);
+                    } catch (Exception e) {
+                        log.warn("AI 결과 사전 생성 실패 - 이력서 ID: {}, 사유: {}", resume.getId(), e.getMessage());
+                    }
+                });
+                report.pregenerationQueued++;
+            } catch (TaskRejectedException e) {
+                report.pregenerationSkipped++;
+            }
+        }
+    }
+
+    private static String fieldOf(JsonProcessingException e) {
+        if (e instanceof JsonMappingException mappingException && !mappingException.getPath().isEmpty()) {
+            List<JsonMappingException.Reference> path = mappingException.getPath();
+            String fieldName = path.get(path.size() - 1).getFieldName();
+            if (fieldName != null) {
+                return fieldName;
+            }
+        }
+        return ROW_FIELD;
+    }
+
+    private static ResumeImportResponse.RowError rowError(long row, String field, String message) {
+        return ResumeImportResponse.RowError.builder()
+                .row(row)
+                .field(field)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * 검증을 통과해 등록을 기다리는 행
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingRow {
+
+        private final long row;
+        private final CreateResumeRequest request;
+    }
+
+    /**
+     * 등록 결과 집계 (오류는 최대 보고 개수까지만 보관)
+     */
+    @RequiredArgsConstructor
+    private static class ImportReport {
+
+        private final int maxReportedErrors;
+        private final List<ResumeImportResponse.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedCount;
+        private long failedCount;
+        private long pregenerationQueued;
+        private long pregenerationSkipped;
+
+        void fail(long row, String field, String message) {
+            fail(rowError(row, field, message));
+        }
+
+        void fail(ResumeImportResponse.RowError error) {
+            failedCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(error);
+            }
+        }
+    }
+}
@@ -1,18 +1,41 @@
 package com.careercoach.api.service;
 
+import com.careercoach.api.cache.ResumeCacheInvalidator;
+import com.careercoach.api.cache.ResumeExistenceIndex;
+import com.careercoach.api.config.CacheConfig;
 import com.careercoach.api.domain.entity.Resume;
 import com.careercoach.api.domain.enums.JobRole;
 import com.careercoach.api.dto.request.CreateResumeRequest;
 import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.event.ResumeChangedEvent;
+import com.careercoach.api.event.ResumeUpdatedEvent;
 import com.careercoach.api.exception.InvalidResumeDataException;
 import com.careercoach.api.exception.ResumeNotFoundException;
+import com.careercoach.api.dto.response.FullTextSearchResponse;
+import com.careercoach.api.dto.response.ResumePageResponse;
+import com.careercoach.api.dto.response.ResumeStatisticsResponse;
+import com.careercoach.api.dto.response.ResumeSummaryDto;
+import com.careercoach.api.dto.response.SkillSearchResponse;
 import com.careercoach.api.repository.ResumeRepository;
+import com.careercoach.api.repository.ResumeSkillRepository;
+import com.careercoach.api.repository.ResumeSummaryView;
+import com.careercoach.api.service.search.FullTextIndex;
+import com.careercoach.api.service.search.FullTextSearchResult;
+import com.careercoach.api.service.search.ScoredResume;
+import com.careercoach.api.service.skill.SkillDictionary;
+import com.careercoach.api.service.statistics.ResumeStatisticsStore;
+import com.careercoach.api.service.skill.SkillIndex;
+import com.careercoach.api.service.skill.SkillQuery;
+import com.careercoach.api.util.SkillSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -20,8 +43,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * 이력서 비즈니스 로직 서비스
@@ -34,6 +60,16 @@ import java.util.Optional;
 public class ResumeService {
 
     private final ResumeRepository resumeRepository;
+    private final ResumeCacheInvalidator resumeCacheInvalidator;
+    private final ResumeExistenceIndex resumeExistenceIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResumeSkillRepository resumeSkillRepository;
+    private final SkillDictionary skillDictionary;
+    private final SkillIndex skillIndex;
+    private final FullTextIndex fullTextIndex;
+    private final ResumeStatisticsStore resumeStatisticsStore;
+
+    private static final int KEYWORD_SEARCH_LIMIT = 100;
 
     /**
      * 이력서 생성
@@ -47,21 +83,28 @@ public class ResumeService {
         // 요청 데이터 검증
         validateResumeData(request);
 
-        // 이력서 엔티티 생성
+        // 이력서 엔티티 생성 (기술명은 정식 기술로 변환)
+        SkillSet techSkills = skillDictionary.toSkillSet(request.getTechSkills());
         Resume resume = Resume.builder()
                 .careerSummary(request.getCareerSummary())
                 .jobRole(request.getJobRole())
                 .experienceYears(request.getExperienceYears())
                 .projectExperience(request.getProjectExperience())
-                .techSkills(request.getTechSkills())
+                .techSkills(techSkills)
                 .build();
 
         try {
-            // 데이터베이스에 저장
-            Resume savedResume = resumeRepository.save(resume);
+            // 데이터베이스에 저장 (pooled 시퀀스는 INSERT를 flush까지 미루므로 기술 매핑 전에 flush)
+            Resume savedResume = resumeRepository.saveAndFlush(resume);
+            resumeSkillRepository.replaceSkills(savedResume.getId(), skillDictionary.resolveAll(techSkills));
             log.info("이력서 생성 완료 - ID: {}", savedResume.getId());
+            // 목록 ETag 갱신
+            resumeCacheInvalidator.evictResumeAfterCommit(savedResume.getId());
 
-            return ResumeDto.from(savedResume);
+            ResumeDto createdResume = ResumeDto.from(savedResume);
+            eventPublisher.publishEvent(new ResumeChangedEvent(this, ResumeChangedEvent.ChangeType.CREATED,
+                    savedResume.getId(), createdResume, null));
+            return createdResume;
         } catch (DataAccessException e) {
             log.error("이력서 저장 중 데이터베이스 오류 발생: {}", e.getMessage());
             throw new InvalidResumeDataException("이력서 저장 중 오류가 발생했습니다.", e);
@@ -70,23 +113,28 @@ public class ResumeService {
 
     /**
      * 이력서 조회 (캐싱 적용)
+     * 존재 색인에서 확실히 없는 ID는 데이터베이스 조회 없이 거절합니다.
      */
-    @Cacheable(value = "resume-cache", key = "#resumeId")
+    @Cacheable(value = CacheConfig.RESUME_CACHE, key = "#resumeId", sync = true)
     public ResumeDto getResume(Long resumeId) {
         log.info("이력서 조회 - ID: {}", resumeId);
 
+        if (!resumeExistenceIndex.mightExist(resumeId)) {
+            throw ResumeNotFoundException.rejected(resumeId);
+        }
+
         Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new ResumeNotFoundException(resumeId));
+                .orElseThrow(() -> notFound(resumeId));
 
         return ResumeDto.from(resume);
     }
 
     /**
      * 이력서 수정
-     * 캐시 무효화를 통해 데이터 정합성을 유지합니다.
+     * 커밋 후 이력서에서 파생된 캐시 항목을 역색인으로 찾아 무효화하고,
+     * 학습 경로 재생성을 위한 ResumeUpdatedEvent를 발행합니다 (커밋 후 처리).
      */
     @Transactional
-    @CacheEvict(value = {"resume-cache", "interview-questions", "learning-paths"}, key = "#resumeId")
     public ResumeDto updateResume(Long resumeId, CreateResumeRequest request) {
         log.info("이력서 수정 시작 - ID: {}", resumeId);
 
@@ -94,23 +142,35 @@ public class ResumeService {
         validateResumeData(request);
 
         // 기존 이력서 조회
+        if (!resumeExistenceIndex.mightExist(resumeId)) {
+            throw ResumeNotFoundException.rejected(resumeId);
+        }
         Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new ResumeNotFoundException(resumeId));
+                .orElseThrow(() -> notFound(resumeId));
+        ResumeDto previousResume = ResumeDto.from(resume);
 
         // 이력서 정보 업데이트
+        SkillSet techSkills = skillDictionary.toSkillSet(request.getTechSkills());
         resume.updateResume(
                 request.getCareerSummary(),
                 request.getJobRole(),
                 request.getExperienceYears(),
                 request.getProjectExperience(),
-                request.getTechSkills()
+                techSkills
         );
 
         try {
             Resume updatedResume = resumeRepository.save(resume);
+            resumeSkillRepository.replaceSkills(resumeId, skillDictionary.resolveAll(techSkills));
             log.info("이력서 수정 완료 - ID: {}", updatedResume.getId());
-
-            return ResumeDto.from(updatedResume);
+            resumeCacheInvalidator.evictResumeAfterCommit(resumeId);
+
+            ResumeDto currentResume = ResumeDto.from(updatedResume);
+            eventPublisher.publishEvent(new ResumeChangedEvent(this, ResumeChangedEvent.ChangeType.UPDATED,
+                    resumeId, currentResume, previousResume));
+            eventPublisher.publishEvent(new ResumeUpdatedEvent(this, resumeId,
+                    currentResume.getJobRole().name(), currentResume.getExperienceYears()));
+            return currentResume;
         } catch (DataAccessException e) {
             log.error("이력서 수정 중 데이터베이스 오류 발생: {}", e.getMessage());
             throw new InvalidResumeDataException("이력서 수정 중 오류가 발생했습니다.", e);
@@ -121,17 +181,22 @@ public class ResumeService {
      * 이력서 삭제
      */
     @Transactional
-    @CacheEvict(value = {"resume-cache", "interview-questions", "learning-paths"}, key = "#resumeId")
     public void deleteResume(Long resumeId) {
         log.info("이력서 삭제 시작 - ID: {}", resumeId);
 
-        if (!resumeRepository.existsById(resumeId)) {
-            throw new ResumeNotFoundException(resumeId);
+        if (!resumeExistenceIndex.mightExist(resumeId)) {
+            throw ResumeNotFoundException.rejected(resumeId);
         }
+        Resume resume = resumeRepository.findById(resumeId)
+                .orElseThrow(() -> notFound(resumeId));
 
         try {
-            resumeRepository.deleteById(resumeId);
+            resumeSkillRepository.deleteByResumeId(resumeId);
+            resumeRepository.delete(resume);
             log.info("이력서 삭제 완료 - ID: {}", resumeId);
+            resumeCacheInvalidator.evictResumeAfterCommit(resumeId);
+            eventPublisher.publishEvent(new ResumeChangedEvent(this, ResumeChangedEvent.ChangeType.DELETED,
+                    resumeId, null, ResumeDto.from(resume)));
         } catch (DataAccessException e) {
             log.error("이력서 삭제 중 데이터베이스 오류 발생: {}", e.getMessage());
             throw new InvalidResumeDataException("이력서 삭제 중 오류가 발생했습니다.", e);
@@ -139,41 +204,37 @@ public class ResumeService {
     }
 
     /**
-     * 모든 이력서 조회
+     * 모든 이력서 커서 페이지 조회 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
      */
-    public List<ResumeDto> getAllResumes() {
-        log.info("모든 이력서 조회");
-        
-        List<Resume> resumes = resumeRepository.findAll();
-        return resumes.stream()
-                .map(ResumeDto::from)
-                .toList();
+    public ResumePageResponse getAllResumes(Long cursor, int size) {
+        log.info("모든 이력서 조회 - 커서: {}, 크기: {}", cursor, size);
+
+        return toPage(resumeRepository.findSummariesByIdLessThanOrderByIdDesc(cursorOrMax(cursor), lookahead(size)), size);
     }
 
     /**
-     * 직무별 이력서 조회
+     * 직무별 이력서 커서 페이지 조회 (최신순)
      */
-    public List<ResumeDto> getResumesByJobRole(JobRole jobRole) {
-        log.info("직무별 이력서 조회 - 직무: {}", jobRole);
+    public ResumePageResponse getResumesByJobRole(JobRole jobRole, Long cursor, int size) {
+        log.info("직무별 이력서 조회 - 직무: {}, 커서: {}", jobRole, cursor);
 
-        List<Resume> resumes = resumeRepository.findByJobRole(jobRole);
-        return resumes.stream()
-                .map(ResumeDto::from)
-                .toList();
+        return toPage(resumeRepository.findSummariesByJobRoleAndIdLessThanOrderByIdDesc(
+                jobRole, cursorOrMax(cursor), lookahead(size)), size);
     }
 
     /**
-     * 경력 연수 범위로 이력서 조회
+     * 경력 연수 범위로 이력서 커서 페이지 조회 (최신순)
      */
-    public List<ResumeDto> getResumesByExperienceRange(Integer minYears, Integer maxYears) {
-        log.info("경력 연수 범위로 이력서 조회 - {}년 ~ {}년", minYears, maxYears);
+    public ResumePageResponse getResumesByExperienceRange(Integer minYears, Integer maxYears, Long cursor, int size) {
+        log.info("경력 연수 범위로 이력서 조회 - {}년 ~ {}년, 커서: {}", minYears, maxYears, cursor);
 
         validateExperienceRange(minYears, maxYears);
 
-        List<Resume> resumes = resumeRepository.findByExperienceYearsBetween(minYears, maxYears);
-        return resumes.stream()
-                .map(ResumeDto::from)
-                .toList();
+        return toPage(resumeRepository.findSummariesByExperienceYearsBetweenAndIdLessThanOrderByIdDesc(
+                minYears, maxYears, cursorOrMax(cursor), lookahead(size)), size);
     }
 
     /**
@@ -187,41 +248,183 @@ public class ResumeService {
     }
 
     /**
-     * 기술 스택으로 이력서 검색
+     * 기술 스택으로 이력서 커서 페이지 조회 (최신순)
+     * 기술 색인에서 정규화된 기술명이 정확히 일치하는 이력서만 찾습니다. ("Java"는 "JavaScript"와 일치하지 않음)
+     * 커서보다 작은 ID는 비트맵의 rank/select로 바로 찾으므로 앞 페이지를 건너뛰는 비용이 없습니다.
      */
-    public List<ResumeDto> getResumesByTechSkill(String techSkill) {
-        log.info("기술 스택으로 이력서 검색 - 기술: {}", techSkill);
+    public ResumePageResponse getResumesByTechSkill(String techSkill, Long cursor, int size) {
+        log.info("기술 스택으로 이력서 검색 - 기술: {}, 커서: {}", techSkill, cursor);
 
         if (!StringUtils.hasText(techSkill)) {
             throw new InvalidResumeDataException("techSkill", "기술 스택은 비어있을 수 없습니다.");
         }
 
-        List<Resume> resumes = resumeRepository.findByTechSkill(techSkill);
-        return resumes.stream()
-                .map(ResumeDto::from)
+        RoaringBitmap resumeIds = skillIndex.search(SkillQuery.ofSkill(techSkill));
+        long upperExclusive = cursorOrMax(cursor);
+        long below;
+        if (upperExclusive <= 0) {
+            below = 0;
+        } else if (upperExclusive > Integer.MAX_VALUE) {
+            below = resumeIds.getLongCardinality();
+        } else {
+            below = resumeIds.rankLong((int) (upperExclusive - 1));
+        }
+
+        List<Long> ids = new ArrayList<>(size + 1);
+        for (long rank = below - 1; rank >= 0 && ids.size() <= size; rank--) {
+            ids.add(Integer.toUnsignedLong(resumeIds.select((int) rank)));
+        }
+
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        return ResumePageResponse.builder()
+                .resumes(inOrder(pageIds, findSummariesByIds(pageIds)))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? pageIds.get(pageIds.size() - 1) : null)
+                .build();
+    }
+
+    /**
+     * 기술 조건으로 이력서 검색
+     * 기술 AND/OR/NOT 조건과 직무/경력 필터를 기술 색인에서 평가하고, 최신순 상위 이력서만 데이터베이스에서 읽습니다.
+     */
+    public SkillSearchResponse searchResumesBySkills(SkillQuery query, int limit) {
+        log.info("기술 조건 이력서 검색 - 전체: {}, 하나 이상: {}, 제외: {}, 직무: {}",
+                query.getAll(), query.getAny(), query.getNone(), query.getJobRole());
+
+        if (query.getMinYears() != null && query.getMaxYears() != null) {
+            validateExperienceRange(query.getMinYears(), query.getMaxYears());
+        }
+
+        long start = System.nanoTime();
+        RoaringBitmap resumeIds = skillIndex.search(query);
+        long lookupMicros = (System.nanoTime() - start) / 1_000;
+
+        List<Long> topIds = new ArrayList<>(limit);
+        IntIterator newestFirst = resumeIds.getReverseIntIterator();
+        while (newestFirst.hasNext() && topIds.size() < limit) {
+            topIds.add((long) newestFirst.next());
+        }
+
+        return SkillSearchResponse.builder()
+                .totalCount(resumeIds.getLongCardinality())
+                .indexLookupMicros(lookupMicros)
+                .resumes(inOrder(topIds, findSummariesByIds(topIds)))
+                .build();
+    }
+
+    /**
+     * 한 건 더 읽은 결과로 다음 페이지 존재 여부를 판단해 커서 페이지 생성
+     */
+    private ResumePageResponse toPage(List<ResumeSummaryView> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<ResumeSummaryView> page = hasNext ? fetched.subList(0, size) : fetched;
+        return ResumePageResponse.builder()
+                .resumes(summarize(page))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+
+    private static long cursorOrMax(Long cursor) {
+        return cursor != null ? cursor : Long.MAX_VALUE;
+    }
+
+    private static Pageable lookahead(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * 목록 프로젝션에 기술 매핑의 기술명을 붙여 요약 DTO로 변환 (tech_skills JSON은 읽지 않음)
+     */
+    private List<ResumeSummaryDto> summarize(List<ResumeSummaryView> views) {
+        if (views.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Long>> skillIds = resumeSkillRepository.findSkillIds(
+                views.stream().map(ResumeSummaryView::getId).toList());
+        return views.stream()
+                .map(view -> ResumeSummaryDto.from(view,
+                        skillDictionary.toSkillSetOfIds(skillIds.getOrDefault(view.getId(), List.of()))))
+                .toList();
+    }
+
+    private Map<Long, ResumeSummaryDto> findSummariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ResumeSummaryDto> summaries = new HashMap<>();
+        summarize(resumeRepository.findSummariesByIdIn(ids)).forEach(summary -> summaries.put(summary.getId(), summary));
+        return summaries;
+    }
+
+    /**
+     * 요청한 ID 순서대로 정렬 (조회 사이에 삭제된 이력서는 제외)
+     */
+    private static List<ResumeSummaryDto> inOrder(List<Long> ids, Map<Long, ResumeSummaryDto> summaries) {
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
     /**
      * 경력 요약으로 이력서 검색
+     * 전문 검색 색인을 사용하며 관련도순 상위 결과를 반환합니다.
      */
-    public List<ResumeDto> searchResumesByCareerSummary(String keyword) {
+    public List<ResumeSummaryDto> searchResumesByCareerSummary(String keyword) {
         log.info("경력 요약으로 이력서 검색 - 키워드: {}", keyword);
 
+        return searchResumes(keyword, 0, KEYWORD_SEARCH_LIMIT).getHits().stream()
+                .map(FullTextSearchResponse.Hit::getResume)
+                .toList();
+    }
+
+    /**
+     * 경력 요약/프로젝트 경험 전문 검색
+     * 한국어 바이그램 색인에서 BM25 점수순으로 요청한 페이지의 목록 컬럼만 데이터베이스에서 조회합니다.
+     *
+     * @param keyword 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 점수순 검색 결과
+     */
+    public FullTextSearchResponse searchResumes(String keyword, int page, int size) {
         if (!StringUtils.hasText(keyword)) {
             throw new InvalidResumeDataException("keyword", "검색 키워드는 비어있을 수 없습니다.");
         }
 
-        List<Resume> resumes = resumeRepository.findByCareerSummaryContainingIgnoreCase(keyword);
-        return resumes.stream()
-                .map(ResumeDto::from)
+        FullTextSearchResult result = fullTextIndex.search(keyword, page, size);
+        List<Long> ids = result.getHits().stream().map(ScoredResume::getResumeId).toList();
+        Map<Long, ResumeSummaryDto> resumes = findSummariesByIds(ids);
+
+        // 색인 반영 직전에 삭제된 이력서는 제외하고 점수순 유지
+        List<FullTextSearchResponse.Hit> hits = result.getHits().stream()
+                .filter(hit -> resumes.containsKey(hit.getResumeId()))
+                .map(hit -> FullTextSearchResponse.Hit.builder()
+                        .resume(resumes.get(hit.getResumeId()))
+                        .score(hit.getScore())
+                        .build())
                 .toList();
+
+        log.info("전문 검색 완료 - 키워드: {}, 전체 일치: {}, 반환: {}", keyword, result.getTotalHits(), hits.size());
+        return FullTextSearchResponse.builder()
+                .query(keyword)
+                .page(page)
+                .size(size)
+                .totalHits(result.getTotalHits())
+                .hits(hits)
+                .build();
     }
 
     /**
      * 이력서 데이터 검증
+     * 일괄 등록({@link ResumeImportService})에서도 같은 규칙으로 행을 검증합니다.
      */
-    private void validateResumeData(CreateResumeRequest request) {
+    void validateResumeData(CreateResumeRequest request) {
         // 경력 연수 검증
         if (request.getExperienceYears() < 0 || request.getExperienceYears() > 50) {
             throw new InvalidResumeDataException("experienceYears", "경력 연수는 0~50년 범위여야 합니다.");
@@ -274,14 +477,30 @@ public class ResumeService {
      * 이력서 존재 여부 확인
      */
     public boolean existsResume(Long resumeId) {
-        return resumeRepository.existsById(resumeId);
+        if (!resumeExistenceIndex.mightExist(resumeId)) {
+            return false;
+        }
+        boolean exists = resumeRepository.existsById(resumeId);
+        if (!exists) {
+            resumeExistenceIndex.recordMissing(resumeId);
+        }
+        return exists;
+    }
+
+    /**
+     * 데이터베이스에서 확인된 미존재 ID를 부정 캐시에 기록하고 예외 생성
+     */
+    private ResumeNotFoundException notFound(Long resumeId) {
+        resumeExistenceIndex.recordMissing(resumeId);
+        return new ResumeNotFoundException(resumeId);
     }
 
     /**
      * 이력서 통계 조회
+     * 이력서 변경 시 증분 갱신되는 통계 저장소의 스냅샷을 반환하며 데이터베이스를 조회하지 않습니다.
      */
-    public List<Object[]> getResumeStatistics() {
+    public ResumeStatisticsResponse getResumeStatistics() {
         log.info("이력서 통계 조회");
-        return resumeRepository.getResumeCountByJobRole();
+        return resumeStatisticsStore.getStatistics();
     }
 } 
\ No newline at end of file
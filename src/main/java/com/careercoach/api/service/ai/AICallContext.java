@@ -0,0 +1,96 @@
+package com.careercoach.api.service.ai;
+
+/**
+ * 현재 스레드의 AI 호출 범위
+ * AI 기능 실행과 개별 AI 호출이 중첩된 범위로 쌓이며, AIServiceCallAspect만 범위를 열고 닫습니다.
+ * 구현체는 reportTokenUsage로 API가 알려준 실제 토큰 수를 진행 중인 호출에 남길 수 있습니다.
+ */
+final class AICallContext {
+
+    private static final ThreadLocal<AICallContext> CURRENT = new ThreadLocal<>();
+
+    private final AICallContext parent;
+    private final String feature;
+    private final Long resumeId;
+
+    // 이 범위 안에서 시작된 AI 호출 수 (하위 범위 포함)
+    private int aiCalls;
+
+    // 구현체가 보고한 토큰 수 (보고가 없으면 -1)
+    private int promptTokens = -1;
+    private int outputTokens = -1;
+
+    private AICallContext(AICallContext parent, String feature, Long resumeId) {
+        this.parent = parent;
+        this.feature = feature;
+        this.resumeId = resumeId;
+    }
+
+    /**
+     * 현재 범위 (없으면 null)
+     */
+    static AICallContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 새 범위 시작
+     */
+    static AICallContext enter(String feature, Long resumeId) {
+        AICallContext context = new AICallContext(CURRENT.get(), feature, resumeId);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * 범위 종료 (상위 범위 복원)
+     */
+    void exit() {
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 상위 범위 전체에 AI 호출 한 건을 기록
+     */
+    void countCall() {
+        for (AICallContext context = parent; context != null; context = context.parent) {
+            context.aiCalls++;
+        }
+    }
+
+    /**
+     * 진행 중인 AI 호출에 실제 토큰 수 보고
+     * 범위 밖에서 호출되면 무시합니다.
+     */
+    static void reportTokenUsage(int promptTokens, int outputTokens) {
+        AICallContext context = CURRENT.get();
+        if (context != null) {
+            context.promptTokens = promptTokens;
+            context.outputTokens = outputTokens;
+        }
+    }
+
+    String feature() {
+        return feature;
+    }
+
+    Long resumeId() {
+        return resumeId;
+    }
+
+    int aiCalls() {
+        return aiCalls;
+    }
+
+    int promptTokens() {
+        return promptTokens;
+    }
+
+    int outputTokens() {
+        return outputTokens;
+    }
+}
@@ -0,0 +1,34 @@
+package com.careercoach.api.service.ai;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * AI 기능 진입점 표시
+ * 메서드 실행 동안 일어나는 AI 호출은 이 기능명으로 집계됩니다.
+ * cached가 true인 메서드가 AI 호출 없이 끝나면 캐시 적중으로 보고 AI 호출 이벤트를 한 번 발행합니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AIFeature {
+
+    String INTERVIEW_QUESTIONS = "interview-questions";
+    String LEARNING_PATH = "learning-path";
+    String LEARNING_PATH_REGENERATION = "learning-path-regeneration";
+    String TECH_ANALYSIS = "tech-analysis";
+    String QUESTION_BANK = "question-bank";
+
+    /**
+     * 기능명
+     */
+    String value();
+
+    /**
+     * 결과 캐시 뒤에 있는 기능인지 여부 (캐시 적중 집계)
+     */
+    boolean cached() default false;
+}
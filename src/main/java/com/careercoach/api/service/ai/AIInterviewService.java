@@ -1,9 +1,12 @@
 package com.careercoach.api.service.ai;
 
+import com.careercoach.api.cache.ResumeCacheKeyGenerator;
+import com.careercoach.api.config.CacheConfig;
 import com.careercoach.api.dto.response.InterviewQuestionsResponse;
 import com.careercoach.api.dto.response.ResumeDto;
 import com.careercoach.api.domain.enums.InterviewDifficulty;
 import com.careercoach.api.exception.AIServiceException;
+import com.careercoach.api.service.GeneratedArtifactWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * AI 면접 질문 생성 서비스
@@ -28,6 +32,10 @@ public class AIInterviewService {
     private final AIService aiService;
     private final ObjectMapper objectMapper;
     private final KnowledgeBaseService knowledgeBaseService;
+    private final GeneratedArtifactWriter generatedArtifactWriter;
+    private final QuestionBank questionBank;
+
+    private static final int FALLBACK_QUESTION_COUNT = 5;
 
     /**
      * AI 서비스 인스턴스 반환
@@ -83,7 +91,8 @@ public class AIInterviewService {
      * 맞춤형 면접 질문 생성
      * Chain of Thought와 Few-shot Learning을 적용한 고급 프롬프트 엔지니어링
      */
-    @Cacheable(value = "interview-questions", key = "#resume.hashCode()")
+    @AIFeature(value = AIFeature.INTERVIEW_QUESTIONS, cached = true)
+    @Cacheable(value = CacheConfig.INTERVIEW_QUESTIONS, keyGenerator = ResumeCacheKeyGenerator.BEAN_NAME, sync = true)
     public InterviewQuestionsResponse generateQuestions(ResumeDto resume) {
         log.info("면접 질문 생성 시작 - 이력서 ID: {}, 직무: {}", resume.getId(), resume.getJobRole());
 
@@ -102,14 +111,16 @@ public class AIInterviewService {
             
             log.debug("생성된 프롬프트: {}", finalPrompt);
             
-            // AI 서비스 호출
-            String aiResponse = callAIService(finalPrompt);
-            
-            // 응답 파싱 및 변환
-            InterviewQuestionsResponse response = parseAIResponse(aiResponse, resume);
+            // AI 서비스 호출 (실패 시 질문 은행으로 대체)
+            InterviewQuestionsResponse response = callAIService(finalPrompt)
+                    .map(aiResponse -> parseAIResponse(aiResponse, resume))
+                    .orElseGet(() -> createFallbackResponse(resume));
             
             log.info("면접 질문 생성 완료 - 질문 수: {}", response.getQuestionCount());
             
+            // 캐시에서 제거된 뒤에도 조회할 수 있도록 비동기 저장
+            generatedArtifactWriter.enqueue(response);
+            
             return response;
             
         } catch (Exception e) {
@@ -188,87 +199,35 @@ public class AIInterviewService {
 
     /**
      * AI 서비스 호출
+     *
+     * @return AI 응답, 호출 실패 시 빈 값
      */
-    private String callAIService(String finalPrompt) {
+    private Optional<String> callAIService(String finalPrompt) {
         log.debug("AI 서비스 호출 - 프롬프트 길이: {} 문자", finalPrompt.length());
         
         try {
             // 실제 Gemini API 호출
-            return aiService.callAI(finalPrompt);
+            return Optional.ofNullable(aiService.callAI(finalPrompt));
         } catch (Exception e) {
-            log.error("AI 서비스 호출 실패, 목업 데이터 반환: {}", e.getMessage());
-            // AI 서비스 실패 시 목업 데이터 반환
-            return generateMockResponse(finalPrompt);
+            log.error("AI 서비스 호출 실패, 질문 은행으로 대체: {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
     /**
-     * 목업 응답 생성 (실제 AI 서비스 연동 전 테스트용)
+     * 폴백 응답 생성 (AI 서비스 실패 시)
+     * 사전 생성된 질문 은행에서 직무, 난이도, 기술 스택에 맞는 질문을 구성합니다.
      */
-    private String generateMockResponse(String prompt) {
-        // 프롬프트 내용에 따라 다른 응답 생성
-        if (prompt.contains("백엔드")) {
-            return """
-                    {
-                        "questions": [
-                            "Spring Boot의 자동 설정(Auto Configuration)이 어떻게 동작하는지 설명해 주세요.",
-                            "JPA에서 N+1 문제를 어떻게 해결하시나요?",
-                            "REST API 설계 시 고려해야 할 점들은 무엇인가요?",
-                            "데이터베이스 인덱스의 종류와 각각의 특징을 설명해 주세요.",
-                            "트랜잭션의 ACID 속성에 대해 설명하고, 실제 프로젝트에서 어떻게 보장했는지 예시를 들어 주세요."
-                        ],
-                        "analysis": "백엔드 개발자로서 기본적인 Spring 생태계 이해도와 데이터베이스 지식이 우수합니다. 실무 경험을 바탕으로 한 구체적인 사례 제시가 필요합니다.",
-                        "difficulty": "MIDDLE"
-                    }
-                    """;
-        } else if (prompt.contains("프론트엔드")) {
-            return """
-                    {
-                        "questions": [
-                            "React의 Virtual DOM이 무엇이고, 실제 DOM과의 차이점은 무엇인가요?",
-                            "상태 관리 라이브러리(Redux, Zustand 등)를 언제 사용하시나요?",
-                            "웹 성능 최적화를 위해 어떤 기법들을 사용하시나요?",
-                            "TypeScript를 사용하는 이유와 JavaScript 대비 장점은 무엇인가요?",
-                            "반응형 웹 디자인을 구현할 때 고려해야 할 점들은 무엇인가요?"
-                        ],
-                        "analysis": "프론트엔드 기술 스택에 대한 기본 이해도가 있습니다. 최신 트렌드와 성능 최적화에 대한 깊은 이해가 필요합니다.",
-                        "difficulty": "MIDDLE"
-                    }
-                    """;
-        } else {
-            return """
-                    {
-                        "questions": [
-                            "가장 최근에 진행한 프로젝트에서 어떤 역할을 담당하셨나요?",
-                            "팀 프로젝트에서 겪었던 어려움과 해결 방법을 설명해 주세요.",
-                            "새로운 기술을 학습할 때 어떤 방법을 사용하시나요?",
-                            "코드 리뷰 시 중점적으로 확인하는 부분은 무엇인가요?",
-                            "개발 과정에서 발생한 버그를 어떻게 디버깅하시나요?"
-                        ],
-                        "analysis": "일반적인 개발 역량과 문제 해결 능력을 검증할 수 있는 질문들입니다.",
-                        "difficulty": "JUNIOR"
-                    }
-                    """;
-        }
-    }
+    private InterviewQuestionsResponse createFallbackResponse(ResumeDto resume) {
+        InterviewDifficulty difficulty = resume.getInterviewDifficulty();
 
-    /**
-     * 기본 응답 생성 (오류 발생 시)
-     */
-    private InterviewQuestionsResponse createDefaultResponse(ResumeDto resume) {
         return InterviewQuestionsResponse.builder()
                 .resumeId(resume.getId())
-                .difficulty(resume.getInterviewDifficulty())
-                .questions(List.of(
-                    "Spring Boot에서 의존성 주입(Dependency Injection)의 장점에 대해 설명해주세요.",
-                    "JPA와 MyBatis의 차이점을 설명하고, 각각 언제 사용하는 것이 좋은지 알려주세요.",
-                    "RESTful API 설계 원칙에 대해 설명해주세요.",
-                    "데이터베이스 인덱스의 개념과 장단점에 대해 설명해주세요.",
-                    "트랜잭션의 ACID 속성에 대해 설명해주세요."
-                ))
-                .analysis("기본적인 백엔드 개발 지식을 보유하고 있으며, 추가적인 실무 경험이 필요합니다.")
+                .difficulty(difficulty)
+                .questions(questionBank.assemble(resume.getJobRole(), difficulty, resume.getTechSkills(), FALLBACK_QUESTION_COUNT))
+                .analysis(questionBank.analysisFor(difficulty))
                 .generatedAt(LocalDateTime.now())
-                .promptUsed("Default Response")
+                .promptUsed("Question Bank")
                 .build();
     }
 
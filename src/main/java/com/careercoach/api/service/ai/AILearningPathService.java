@@ -1,8 +1,11 @@
 package com.careercoach.api.service.ai;
 
+import com.careercoach.api.cache.ResumeCacheKeyGenerator;
+import com.careercoach.api.config.CacheConfig;
 import com.careercoach.api.dto.response.LearningPathResponse;
 import com.careercoach.api.dto.response.ResumeDto;
 import com.careercoach.api.exception.AIServiceException;
+import com.careercoach.api.service.GeneratedArtifactWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,6 +30,7 @@ public class AILearningPathService {
     private final AIService aiService;
     private final ObjectMapper objectMapper;
     private final KnowledgeBaseService knowledgeBaseService;
+    private final GeneratedArtifactWriter generatedArtifactWriter;
 
     // 학습 경로 생성 프롬프트 템플릿
     private static final String LEARNING_PATH_PROMPT_TEMPLATE = """
@@ -80,7 +84,8 @@ public class AILearningPathService {
     /**
      * 맞춤형 학습 경로 생성
      */
-    @Cacheable(value = "learning-paths", key = "#resume.hashCode()")
+    @AIFeature(value = AIFeature.LEARNING_PATH, cached = true)
+    @Cacheable(value = CacheConfig.LEARNING_PATHS, keyGenerator = ResumeCacheKeyGenerator.BEAN_NAME, sync = true)
     public LearningPathResponse generateLearningPath(ResumeDto resume) {
         log.info("학습 경로 생성 시작 - 이력서 ID: {}, 직무: {}", resume.getId(), resume.getJobRole());
 
@@ -99,6 +104,9 @@ public class AILearningPathService {
             
             log.info("학습 경로 생성 완료 - 단계 수: {}", response.getTotalSteps());
             
+            // 캐시에서 제거된 뒤에도 조회할 수 있도록 비동기 저장
+            generatedArtifactWriter.enqueue(response);
+            
             return response;
             
         } catch (Exception e) {
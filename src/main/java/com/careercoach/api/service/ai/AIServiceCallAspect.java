@@ -0,0 +1,120 @@
+package com.careercoach.api.service.ai;
+
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.telemetry.AICallOutcome;
+import com.careercoach.api.telemetry.TelemetryBus;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * AI 호출 계측 애스펙트
+ * 모든 AIService 구현체(Gemini, 목업, 오케스트레이터 단계)의 문자열 반환 메서드를 감싸 호출마다 텔레메트리 이벤트를 발행합니다.
+ *
+ * <ul>
+ *     <li>소요 시간은 System.nanoTime 기준 벽시계 시간</li>
+ *     <li>기능명은 바깥 @AIFeature 범위에서, 없으면 호출한 메서드명으로 기록</li>
+ *     <li>토큰 수는 구현체가 보고한 값을 쓰고, 없으면 소비 스레드가 프롬프트와 응답으로 추정</li>
+ *     <li>cached 기능이 AI 호출 없이 끝나면 캐시 적중 이벤트를 발행</li>
+ * </ul>
+ *
+ * 캐시 적중을 알아보려면 기능 범위가 캐시 인터셉터 바깥에 있어야 하므로 가장 높은 우선순위로 적용됩니다.
+ * 이벤트는 TelemetryBus 링 버퍼에 필드만 채워 적재하므로 호출 스레드는 집계나 로깅을 하지 않으며,
+ * 버퍼가 가득 차 버려져도 AI 호출 결과에는 영향이 없습니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AIServiceCallAspect {
+
+    // 캐시 적중 이벤트의 서비스명
+    private static final String CACHE_SERVICE = "cache";
+
+    private final TelemetryBus telemetryBus;
+
+    /**
+     * AI 기능 범위
+     */
+    @Around("@annotation(feature)")
+    public Object aroundFeature(ProceedingJoinPoint joinPoint, AIFeature feature) throws Throwable {
+        AICallContext context = AICallContext.enter(feature.value(), resumeIdOf(joinPoint.getArgs()));
+        long startedAt = System.nanoTime();
+        boolean completed = false;
+        try {
+            Object result = joinPoint.proceed();
+            completed = true;
+            return result;
+        } finally {
+            context.exit();
+            if (completed && feature.cached() && context.aiCalls() == 0) {
+                telemetryBus.publishAICall(CACHE_SERVICE, context.feature(), joinPoint.getSignature().getName(),
+                        context.resumeId(), System.nanoTime() - startedAt, AICallOutcome.SUCCESS, null,
+                        0, 0, null, null, true);
+            }
+        }
+    }
+
+    /**
+     * 개별 AI 호출 (서비스명 조회 제외)
+     */
+    @Around("execution(String com.careercoach.api.service.ai.AIService+.*(..))"
+            + " && !execution(String com.careercoach.api.service.ai.AIService+.getServiceName())")
+    public Object aroundAICall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        String operation = joinPoint.getSignature().getName();
+        AICallContext parent = AICallContext.current();
+        String feature = parent != null ? parent.feature() : operation;
+        Long resumeId = parent != null && parent.resumeId() != null ? parent.resumeId() : resumeIdOf(args);
+
+        AICallContext context = AICallContext.enter(feature, resumeId);
+        context.countCall();
+        long startedAt = System.nanoTime();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            context.exit();
+            long durationNanos = System.nanoTime() - startedAt;
+            AICallOutcome outcome = failure == null ? AICallOutcome.SUCCESS
+                    : isCancellation(failure) ? AICallOutcome.CANCELLED : AICallOutcome.ERROR;
+
+            telemetryBus.publishAICall(serviceNameOf(joinPoint.getTarget()), feature, operation, resumeId,
+                    durationNanos, outcome, failure != null ? failure.getMessage() : null,
+                    context.promptTokens(), context.outputTokens(), args, result, false);
+        }
+    }
+
+    private static String serviceNameOf(Object target) {
+        return target instanceof AIService aiService ? aiService.getServiceName() : target.getClass().getSimpleName();
+    }
+
+    private static Long resumeIdOf(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof ResumeDto resume) {
+                return resume.getId();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isCancellation(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CancellationException || cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return Thread.currentThread().isInterrupted();
+    }
+}
@@ -68,6 +68,12 @@ public class GeminiAIService implements AIService {
             Map<String, Object> response = restTemplate.postForObject(fullUrl, request, Map.class);
             
             log.info("Gemini API 응답: {}", response);
+
+            // 실제 토큰 사용량을 호출 계측에 보고
+            if (response != null && response.get("usageMetadata") instanceof Map<?, ?> usage) {
+                AICallContext.reportTokenUsage(tokenCount(usage.get("promptTokenCount")),
+                        tokenCount(usage.get("candidatesTokenCount")));
+            }
             
             if (response != null && response.containsKey("candidates")) {
                 List<Map<String, Object>> candidates = (List<Map<String, Object>>) response.get("candidates");
@@ -92,6 +98,10 @@ public class GeminiAIService implements AIService {
         }
     }
 
+    private static int tokenCount(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
     @Override
     public String getServiceName() {
         return "Gemini AI";
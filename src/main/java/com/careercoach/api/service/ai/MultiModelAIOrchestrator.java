@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 
 /**
  * 멀티 모델 AI 오케스트레이터
@@ -33,6 +34,7 @@ public class MultiModelAIOrchestrator {
      * 2차: Claude로 학습 경로 초안 생성
      * 3차: 후처리로 개인화
      */
+    @AIFeature(AIFeature.LEARNING_PATH_REGENERATION)
     public LearningPathResponse generateLearningPath(ResumeDto resume) {
         log.info("멀티 모델 학습 경로 생성 시작 - 이력서 ID: {}", resume.getId());
 
@@ -40,10 +42,12 @@ public class MultiModelAIOrchestrator {
             // 1차 AI 모델: OpenAI로 기술 스택 분석
             String techAnalysis = openAIService.analyzeTechSkills(resume);
             log.debug("OpenAI 기술 분석 완료: {}", techAnalysis);
+            checkCancelled(resume);
 
             // 2차 AI 모델: Claude로 학습 경로 초안 생성
             String learningPathDraft = claudeService.generateLearningPath(techAnalysis);
             log.debug("Claude 학습 경로 초안 완료: {}", learningPathDraft);
+            checkCancelled(resume);
 
             // 3차: 후처리로 개인화
             LearningPathResponse personalizedPath = optimizeLearningPath(learningPathDraft, resume);
@@ -52,12 +56,25 @@ public class MultiModelAIOrchestrator {
 
             return personalizedPath;
 
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
             log.error("멀티 모델 학습 경로 생성 중 오류 발생: {}", e.getMessage(), e);
             throw new AIServiceException("MultiModelAIOrchestrator", "학습 경로 생성 중 오류가 발생했습니다.", e);
         }
     }
 
+    /**
+     * 단계 사이 취소 확인
+     * 재생성 작업이 인터럽트로 취소되면 남은 모델 호출을 건너뜁니다.
+     */
+    private void checkCancelled(ResumeDto resume) {
+        if (Thread.currentThread().isInterrupted()) {
+            log.info("멀티 모델 학습 경로 생성 취소 - 이력서 ID: {}", resume.getId());
+            throw new CancellationException("학습 경로 생성이 취소되었습니다.");
+        }
+    }
+
     /**
      * 학습 경로 최적화 및 개인화
      * AI가 생성한 초안을 사용자의 경력 수준에 맞게 후처리
@@ -191,6 +208,7 @@ public class MultiModelAIOrchestrator {
     /**
      * 기술 스택 분석 결과 조합
      */
+    @AIFeature(AIFeature.TECH_ANALYSIS)
     public String combineAnalysisResults(ResumeDto resume) {
         log.info("기술 스택 분석 결과 조합 시작");
 
@@ -0,0 +1,160 @@
+package com.careercoach.api.service.ai;
+
+import com.careercoach.api.domain.enums.InterviewDifficulty;
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.util.SkillNames;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오프라인 면접 질문 은행
+ * 직무 × 난이도별, 기술별로 미리 생성·큐레이션된 질문을 시작 시 불변 인덱스로 적재합니다.
+ * AI 서비스 장애 시 폴백 응답을 외부 호출 없이 즉시 구성하는 데 사용됩니다.
+ */
+@Slf4j
+@Component
+public class QuestionBank {
+
+    static final String RECORD_ROLE = "R";
+    static final String RECORD_SKILL = "S";
+    static final String RECORD_ANALYSIS = "A";
+    static final char FIELD_SEPARATOR = '\t';
+
+    private static final String DEFAULT_ANALYSIS = "직무와 경력 수준에 맞춘 기본 면접 질문들입니다.";
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+
+    private Map<JobRole, Map<InterviewDifficulty, List<String>>> roleQuestions = Map.of();
+    private Map<String, List<String>> skillQuestions = Map.of();
+    private Map<InterviewDifficulty, String> analyses = Map.of();
+
+    public QuestionBank(ResourceLoader resourceLoader,
+                        @Value("${question-bank.location:classpath:question-bank/questions.tsv}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+    }
+
+    /**
+     * 질문 은행 적재
+     * 파싱이 끝난 뒤 한 번에 불변 맵으로 교체하므로 조회 시 동기화가 필요 없습니다.
+     */
+    @PostConstruct
+    public void load() {
+        Map<JobRole, Map<InterviewDifficulty, List<String>>> roles = new EnumMap<>(JobRole.class);
+        Map<String, List<String>> skills = new HashMap<>();
+        Map<InterviewDifficulty, String> analysisTexts = new EnumMap<>(InterviewDifficulty.class);
+
+        Resource resource = resourceLoader.getResource(location);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(String.valueOf(FIELD_SEPARATOR));
+                switch (fields[0]) {
+                    case RECORD_ROLE -> roles
+                            .computeIfAbsent(JobRole.valueOf(fields[1]), r -> new EnumMap<>(InterviewDifficulty.class))
+                            .computeIfAbsent(InterviewDifficulty.valueOf(fields[2]), d -> new ArrayList<>())
+                            .add(fields[3]);
+                    case RECORD_SKILL -> skills
+                            .computeIfAbsent(SkillNames.normalize(fields[1]), s -> new ArrayList<>())
+                            .add(fields[2]);
+                    case RECORD_ANALYSIS -> analysisTexts.put(InterviewDifficulty.valueOf(fields[1]), fields[2]);
+                    default -> log.warn("알 수 없는 질문 은행 레코드: {}", fields[0]);
+                }
+            }
+        } catch (IOException e) {
+            log.error("질문 은행 적재 실패 - 위치: {}, 오류: {}", location, e.getMessage());
+            return;
+        }
+
+        Map<JobRole, Map<InterviewDifficulty, List<String>>> frozenRoles = new EnumMap<>(JobRole.class);
+        roles.forEach((role, byDifficulty) -> {
+            Map<InterviewDifficulty, List<String>> frozen = new EnumMap<>(InterviewDifficulty.class);
+            byDifficulty.forEach((difficulty, questions) -> frozen.put(difficulty, List.copyOf(questions)));
+            frozenRoles.put(role, Collections.unmodifiableMap(frozen));
+        });
+        Map<String, List<String>> frozenSkills = new HashMap<>();
+        skills.forEach((skill, questions) -> frozenSkills.put(skill, List.copyOf(questions)));
+
+        this.roleQuestions = Collections.unmodifiableMap(frozenRoles);
+        this.skillQuestions = Map.copyOf(frozenSkills);
+        this.analyses = Collections.unmodifiableMap(analysisTexts);
+
+        log.info("질문 은행 적재 완료 - 직무: {}개, 기술: {}개", roleQuestions.size(), skillQuestions.size());
+    }
+
+    /**
+     * 이력서 조건에 맞는 질문 세트 구성
+     * 보유 기술 질문을 먼저 배치하고(최대 절반), 나머지를 직무 × 난이도 질문으로 채웁니다.
+     *
+     * @param jobRole 직무 역할
+     * @param difficulty 면접 난이도
+     * @param techSkills 보유 기술 스택
+     * @param count 질문 수
+     * @return 중복 없는 질문 목록
+     */
+    public List<String> assemble(JobRole jobRole, InterviewDifficulty difficulty, List<String> techSkills, int count) {
+        Set<String> selected = new LinkedHashSet<>();
+
+        if (techSkills != null) {
+            int skillLimit = count / 2;
+            for (String skill : techSkills) {
+                List<String> questions = skillQuestions.get(SkillNames.normalize(skill));
+                if (questions != null && selected.size() < skillLimit) {
+                    selected.add(questions.get(0));
+                }
+            }
+        }
+
+        for (String question : questionsFor(jobRole, difficulty)) {
+            if (selected.size() >= count) {
+                break;
+            }
+            selected.add(question);
+        }
+
+        return List.copyOf(selected);
+    }
+
+    /**
+     * 직무 × 난이도 질문 조회
+     */
+    public List<String> questionsFor(JobRole jobRole, InterviewDifficulty difficulty) {
+        return roleQuestions.getOrDefault(jobRole, Map.of()).getOrDefault(difficulty, List.of());
+    }
+
+    /**
+     * 난이도별 분석 문구 조회
+     */
+    public String analysisFor(InterviewDifficulty difficulty) {
+        return analyses.getOrDefault(difficulty, DEFAULT_ANALYSIS);
+    }
+
+    /**
+     * 적재된 기술 수
+     */
+    public int getSkillCount() {
+        return skillQuestions.size();
+    }
+}
@@ -0,0 +1,136 @@
+package com.careercoach.api.service.ai;
+
+import com.careercoach.api.domain.enums.InterviewDifficulty;
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.util.SkillNames;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 면접 질문 은행 배치 생성기
+ * 모든 직무 × 난이도 조합과 주요 기술에 대해 AI로 질문을 생성하고 큐레이션하여 파일로 저장합니다.
+ * question-bank.generate.enabled=true로 실행했을 때만 동작합니다.
+ * 생성된 파일을 검토한 뒤 question-bank/questions.tsv에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "question-bank.generate.enabled", havingValue = "true")
+public class QuestionBankGenerator implements ApplicationRunner {
+
+    private static final String GENERATION_PROMPT_TEMPLATE = """
+            당신은 %s 분야의 전문 면접관입니다.
+            %s
+            실제 면접에서 사용할 수 있는 구체적인 질문을 %d개 생성해주세요.
+            
+            반드시 JSON 형식으로만 응답해주세요. 다른 설명이나 텍스트는 포함하지 마세요.
+            
+            응답 형식:
+            {
+                "questions": ["질문1", "질문2"]
+            }
+            """;
+
+    private static final int MIN_QUESTION_LENGTH = 10;
+    private static final int MAX_QUESTION_LENGTH = 200;
+
+    private final AIService aiService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${question-bank.generate.output:build/question-bank/questions.tsv}")
+    private String outputPath;
+
+    @Value("${question-bank.generate.questions-per-set:5}")
+    private int questionsPerSet;
+
+    @Value("${question-bank.generate.skills:Java,Spring Boot,JPA,MySQL,Redis,Docker,Kubernetes,Kafka,React,TypeScript,JavaScript,Node.js,Python,AWS,Spark,SQL,Git}")
+    private List<String> commonSkills;
+
+    @Override
+    @AIFeature(AIFeature.QUESTION_BANK)
+    public void run(ApplicationArguments args) throws IOException {
+        log.info("질문 은행 생성 시작 - 출력: {}", outputPath);
+
+        List<String> lines = new ArrayList<>();
+        for (InterviewDifficulty difficulty : InterviewDifficulty.values()) {
+            lines.add(String.join("\t", QuestionBank.RECORD_ANALYSIS, difficulty.name(),
+                    difficulty.getDisplayName() + " 수준의 역량을 검증하는 질문들입니다."));
+        }
+
+        for (JobRole jobRole : JobRole.values()) {
+            for (InterviewDifficulty difficulty : InterviewDifficulty.values()) {
+                String instruction = String.format("%s 수준 지원자를 위한 질문을 만들어주세요.", difficulty.getDisplayName());
+                for (String question : generate(jobRole.getDisplayName(), instruction)) {
+                    lines.add(String.join("\t", QuestionBank.RECORD_ROLE, jobRole.name(), difficulty.name(), question));
+                }
+            }
+        }
+
+        for (String skill : commonSkills) {
+            String instruction = String.format("%s 기술의 이해도와 실무 경험을 검증하는 질문을 만들어주세요.", skill);
+            for (String question : generate("소프트웨어 개발", instruction)) {
+                lines.add(String.join("\t", QuestionBank.RECORD_SKILL, SkillNames.normalize(skill), question));
+            }
+        }
+
+        Path output = Path.of(outputPath);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+
+        log.info("질문 은행 생성 완료 - 레코드 수: {}, 출력: {}", lines.size(), output.toAbsolutePath());
+    }
+
+    /**
+     * 질문 생성 및 큐레이션
+     * 중복, 너무 짧거나 긴 질문, 구분자가 포함된 질문을 제외합니다.
+     */
+    private List<String> generate(String domain, String instruction) {
+        String prompt = String.format(GENERATION_PROMPT_TEMPLATE, domain, instruction, questionsPerSet);
+
+        try {
+            String response = aiService.callAI(prompt)
+                    .replaceAll("```json\\s*", "")
+                    .replaceAll("```\\s*$", "");
+            Map<String, List<String>> parsed = objectMapper.readValue(response, new TypeReference<>() {});
+
+            Set<String> curated = new LinkedHashSet<>();
+            for (String question : parsed.getOrDefault("questions", List.of())) {
+                String trimmed = question.strip();
+                if (trimmed.length() >= MIN_QUESTION_LENGTH && trimmed.length() <= MAX_QUESTION_LENGTH
+                        && trimmed.indexOf('\t') < 0 && trimmed.indexOf('\n') < 0) {
+                    curated.add(trimmed);
+                }
+            }
+            return curated.stream().limit(questionsPerSet).toList();
+
+        } catch (Exception e) {
+            log.error("질문 생성 실패 - 분야: {}, 오류: {}", domain, e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.careercoach.api.service.backfill;
+
+import com.careercoach.api.cache.ResumeETagIndex;
+import com.careercoach.api.config.CacheConfig;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 백필 재생성 대상 산출물
+ * 재생성 전에 비울 캐시와 재생성 후 ETag를 등록할 산출물 이름을 함께 가집니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BackfillArtifact {
+
+    INTERVIEW_QUESTIONS(CacheConfig.INTERVIEW_QUESTIONS, ResumeETagIndex.INTERVIEW_QUESTIONS),
+    LEARNING_PATH(CacheConfig.LEARNING_PATHS, ResumeETagIndex.LEARNING_PATH);
+
+    private final String cacheName;
+    private final String etagArtifact;
+}
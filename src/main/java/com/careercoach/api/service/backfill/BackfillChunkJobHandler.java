@@ -0,0 +1,207 @@
+package com.careercoach.api.service.backfill;
+
+import com.careercoach.api.cache.ResumeCacheKey;
+import com.careercoach.api.cache.ResumeCacheKeyGenerator;
+import com.careercoach.api.cache.ResumeETagIndex;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.repository.BackfillRunRepository;
+import com.careercoach.api.repository.ResumeRepository;
+import com.careercoach.api.service.ai.AIInterviewService;
+import com.careercoach.api.service.ai.AILearningPathService;
+import com.careercoach.api.service.job.BackgroundJob;
+import com.careercoach.api.service.job.JobHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백필 청크 작업 핸들러
+ * 체크포인트 커서 다음의 이력서를 ID 오름차순으로 한 청크 읽어 처리량 상한 안에서 재생성하고,
+ * 진행 건수와 새 커서를 기록하면서 같은 트랜잭션에서 다음 청크 작업을 등록합니다.
+ *
+ * <ul>
+ *     <li>재생성은 캐시 항목을 비운 뒤 캐시 서비스를 호출하므로 결과가 L1/L2 캐시와 생성 이력에 바로 반영</li>
+ *     <li>항목 실패는 건수와 마지막 오류로 집계하고 다음 이력서로 진행, 청크 전체가 실패하면 AI 장애로 보고 백오프 후 재시도</li>
+ *     <li>중단되면 임대 만료 후 같은 청크를 처음부터 다시 처리 (체크포인트 단위 최소 한 번 처리)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class BackfillChunkJobHandler implements JobHandler {
+
+    public static final String JOB_TYPE = "BACKFILL_CHUNK";
+
+    private final BackfillService backfillService;
+    private final BackfillRunRepository backfillRunRepository;
+    private final ResumeRepository resumeRepository;
+    private final AIInterviewService aiInterviewService;
+    private final AILearningPathService aiLearningPathService;
+    private final CacheManager cacheManager;
+    private final ResumeETagIndex resumeETagIndex;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public BackfillChunkJobHandler(BackfillService backfillService, BackfillRunRepository backfillRunRepository,
+                                   ResumeRepository resumeRepository, AIInterviewService aiInterviewService,
+                                   AILearningPathService aiLearningPathService, CacheManager cacheManager,
+                                   ResumeETagIndex resumeETagIndex, ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager) {
+        this.backfillService = backfillService;
+        this.backfillRunRepository = backfillRunRepository;
+        this.resumeRepository = resumeRepository;
+        this.aiInterviewService = aiInterviewService;
+        this.aiLearningPathService = aiLearningPathService;
+        this.cacheManager = cacheManager;
+        this.resumeETagIndex = resumeETagIndex;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public String jobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public String handle(BackgroundJob job) throws Exception {
+        JsonNode payload = objectMapper.readTree(job.getPayload());
+        long runId = BackfillService.runIdOf(payload);
+        long cursor = BackfillService.cursorOf(payload);
+
+        BackfillRun run = backfillRunRepository.findById(runId)
+                .orElseThrow(() -> new CancellationException("백필 실행이 삭제됨"));
+        if (run.getStatus() != BackfillStatus.RUNNING) {
+            throw new CancellationException("백필 실행이 " + run.getStatus() + " 상태");
+        }
+        if (run.getCursorId() != cursor) {
+            // 이전 시도가 이 청크의 체크포인트와 다음 청크 등록을 이미 마친 경우
+            log.info("이미 기록된 백필 청크 - 실행 ID: {}, 커서: {}", runId, cursor);
+            return null;
+        }
+
+        long version = resumeETagIndex.currentVersion();
+        List<ResumeDto> resumes = readChunk(run, cursor);
+        Throttle throttle = new Throttle(run.getRatePerSecond());
+        long lastId = cursor;
+        int succeeded = 0;
+        int failed = 0;
+        String lastError = null;
+
+        for (ResumeDto resume : resumes) {
+            if (backfillRunRepository.findStatus(runId).orElse(BackfillStatus.CANCELLED) != BackfillStatus.RUNNING) {
+                throw new CancellationException("백필 실행이 취소됨");
+            }
+            throttle.acquire();
+            try {
+                regenerate(resume, run.getArtifacts(), version);
+                succeeded++;
+            } catch (Exception e) {
+                failed++;
+                lastError = "이력서 ID " + resume.getId() + ": " + e.getMessage();
+                log.warn("백필 재생성 실패 - 실행 ID: {}, 이력서 ID: {}, 오류: {}", runId, resume.getId(), e.getMessage());
+            }
+            lastId = resume.getId();
+        }
+
+        if (succeeded == 0 && failed > 0) {
+            // 청크 전체 실패는 AI 장애일 가능성이 높으므로 커서를 넘기지 않고 작업 재시도에 맡김
+            throw new IllegalStateException("청크의 모든 이력서 재생성 실패 - " + lastError);
+        }
+
+        boolean lastChunk = resumes.size() < run.getChunkSize();
+        checkpoint(run, cursor, lastId, resumes.size(), succeeded, failed, lastError, lastChunk);
+
+        log.info("백필 청크 완료 - 실행 ID: {}, 커서: {} -> {}, 처리: {}, 실패: {}{}",
+                runId, cursor, lastId, resumes.size(), failed, lastChunk ? " (마지막 청크)" : "");
+        return objectMapper.createObjectNode()
+                .put("runId", runId)
+                .put("fromCursor", cursor)
+                .put("toCursor", lastId)
+                .put("processed", resumes.size())
+                .put("succeeded", succeeded)
+                .put("failed", failed)
+                .toString();
+    }
+
+    private List<ResumeDto> readChunk(BackfillRun run, long cursor) {
+        PageRequest page = PageRequest.of(0, run.getChunkSize());
+        return readOnlyTransactionTemplate.execute(status -> (run.getJobRole() != null
+                ? resumeRepository.findByJobRoleAndIdGreaterThanOrderByIdAsc(run.getJobRole(), cursor, page)
+                : resumeRepository.findByIdGreaterThanOrderByIdAsc(cursor, page))
+                .stream()
+                .map(ResumeDto::from)
+                .toList());
+    }
+
+    /**
+     * 캐시 항목을 비우고 캐시 서비스로 재생성 (결과가 캐시, 생성 이력, ETag에 반영됨)
+     */
+    private void regenerate(ResumeDto resume, Set<BackfillArtifact> artifacts, long version) {
+        ResumeCacheKey key = ResumeCacheKeyGenerator.of(resume);
+        for (BackfillArtifact artifact : artifacts) {
+            Cache cache = cacheManager.getCache(artifact.getCacheName());
+            if (cache != null) {
+                cache.evict(key);
+            }
+            LocalDateTime generatedAt = switch (artifact) {
+                case INTERVIEW_QUESTIONS -> aiInterviewService.generateQuestions(resume).getGeneratedAt();
+                case LEARNING_PATH -> aiLearningPathService.generateLearningPath(resume).getGeneratedAt();
+            };
+            resumeETagIndex.registerArtifact(artifact.getEtagArtifact(), resume, generatedAt, version);
+        }
+    }
+
+    /**
+     * 진행 기록과 다음 청크 등록을 한 트랜잭션으로 처리 (다른 시도가 먼저 기록했거나 취소됐으면 되돌림)
+     */
+    private void checkpoint(BackfillRun run, long cursor, long lastId, int processed, int succeeded, int failed,
+                            String lastError, boolean lastChunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Long nextJobId = lastChunk ? null : backfillService.enqueueChunk(run.getId(), lastId).getId();
+            int updated = backfillRunRepository.checkpoint(run.getId(), cursor, lastId, processed, succeeded, failed,
+                    lastError, nextJobId, lastChunk ? BackfillStatus.COMPLETED : BackfillStatus.RUNNING,
+                    LocalDateTime.now());
+            if (updated == 0) {
+                status.setRollbackOnly();
+                log.info("백필 체크포인트 생략 (이미 기록됐거나 취소됨) - 실행 ID: {}, 커서: {}", run.getId(), cursor);
+            }
+        });
+    }
+
+    /**
+     * 처리량 상한 (이력서 사이 최소 간격, 밀린 시간은 누적하지 않음)
+     */
+    private static final class Throttle {
+
+        private final long intervalNanos;
+        private long nextAt = System.nanoTime();
+
+        private Throttle(double ratePerSecond) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        }
+
+        private void acquire() throws InterruptedException {
+            long now = System.nanoTime();
+            if (nextAt > now) {
+                TimeUnit.NANOSECONDS.sleep(nextAt - now);
+                now = nextAt;
+            }
+            nextAt = now + intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.careercoach.api.service.backfill;
+
+import com.careercoach.api.domain.enums.JobRole;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * backfill_runs 행
+ * 일괄 재생성 실행 하나의 대상, 처리량 상한과 청크 단위로 기록된 진행 체크포인트를 나타냅니다.
+ */
+@Getter
+@Builder
+public class BackfillRun {
+
+    private final Long id;
+
+    /**
+     * 대상 직무 (null이면 전체)
+     */
+    private final JobRole jobRole;
+
+    private final Set<BackfillArtifact> artifacts;
+    private final BackfillStatus status;
+    private final int chunkSize;
+
+    /**
+     * 초당 처리 이력서 수 상한
+     */
+    private final double ratePerSecond;
+
+    /**
+     * 처리를 마친 마지막 이력서 ID (다음 청크는 이 ID 다음부터)
+     */
+    private final long cursorId;
+
+    /**
+     * 시작 시점의 대상 이력서 수 (실행 중 등록된 이력서도 ID가 커서보다 크면 처리됨)
+     */
+    private final long totalCount;
+
+    private final long processedCount;
+    private final long succeededCount;
+    private final long failedCount;
+
+    /**
+     * 다음 청크를 처리할 작업 ID (완료되면 마지막 청크 작업)
+     */
+    private final Long currentJobId;
+
+    private final String lastError;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime completedAt;
+}
@@ -0,0 +1,116 @@
+package com.careercoach.api.service.backfill;
+
+import com.careercoach.api.config.BackfillProperties;
+import com.careercoach.api.dto.request.StartBackfillRequest;
+import com.careercoach.api.exception.BackfillNotFoundException;
+import com.careercoach.api.repository.BackfillRunRepository;
+import com.careercoach.api.repository.ResumeRepository;
+import com.careercoach.api.service.job.BackgroundJob;
+import com.careercoach.api.service.job.BackgroundJobQueue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AI 결과 일괄 재생성(백필) 서비스
+ * 실행을 backfill_runs에 등록하고 첫 청크 작업을 작업 큐에 넣습니다.
+ * 이후 청크는 {@link BackfillChunkJobHandler}가 체크포인트를 기록하면서 이어서 등록하므로,
+ * 노드가 중단돼도 마지막 체크포인트 다음 청크부터 다른 노드가 이어서 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackfillService {
+
+    private static final String RUN_ID = "runId";
+    private static final String CURSOR = "cursor";
+
+    private final BackfillRunRepository backfillRunRepository;
+    private final ResumeRepository resumeRepository;
+    private final BackgroundJobQueue backgroundJobQueue;
+    private final BackfillProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 백필 시작
+     *
+     * @return 등록된 실행 (첫 청크 작업 연결)
+     */
+    @Transactional
+    public BackfillRun start(StartBackfillRequest request) {
+        Set<BackfillArtifact> artifacts = request.getArtifacts() == null || request.getArtifacts().isEmpty()
+                ? EnumSet.allOf(BackfillArtifact.class)
+                : EnumSet.copyOf(request.getArtifacts());
+        int chunkSize = Math.min(request.getChunkSize() != null ? request.getChunkSize() : properties.getDefaultChunkSize(),
+                properties.getMaxChunkSize());
+        double ratePerSecond = Math.min(request.getRatePerSecond() != null
+                ? request.getRatePerSecond() : properties.getDefaultRatePerSecond(), properties.getMaxRatePerSecond());
+        long totalCount = request.getJobRole() != null
+                ? resumeRepository.countByJobRole(request.getJobRole())
+                : resumeRepository.count();
+
+        LocalDateTime now = LocalDateTime.now();
+        Long runId = backfillRunRepository.insert(request.getJobRole(), artifacts, chunkSize, ratePerSecond, totalCount, now);
+        BackgroundJob firstChunk = enqueueChunk(runId, 0L);
+        backfillRunRepository.updateCurrentJob(runId, firstChunk.getId(), now);
+
+        log.info("백필 시작 - 실행 ID: {}, 직무: {}, 대상: {}, 이력서 수: {}, 청크: {}, 상한: {}/초",
+                runId, request.getJobRole(), artifacts, totalCount, chunkSize, ratePerSecond);
+        return getRun(runId);
+    }
+
+    /**
+     * 실행 조회
+     */
+    public BackfillRun getRun(Long runId) {
+        return backfillRunRepository.findById(runId)
+                .orElseThrow(() -> new BackfillNotFoundException(runId));
+    }
+
+    /**
+     * 최근 실행 목록 (최신순)
+     */
+    public List<BackfillRun> findRecent(int size) {
+        return backfillRunRepository.findRecent(Math.max(1, Math.min(size, properties.getMaxListSize())));
+    }
+
+    /**
+     * 실행 취소 (처리 중인 청크는 다음 이력서로 넘어가기 전에 중단)
+     *
+     * @return 취소했으면 true, 이미 끝난 실행이면 false
+     */
+    @Transactional
+    public boolean cancel(Long runId) {
+        getRun(runId);
+        boolean cancelled = backfillRunRepository.cancel(runId, LocalDateTime.now()) > 0;
+        if (cancelled) {
+            log.info("백필 취소 - 실행 ID: {}", runId);
+        }
+        return cancelled;
+    }
+
+    /**
+     * 커서 다음 청크 작업 등록 (같은 실행·커서의 작업은 한 번만 등록)
+     */
+    BackgroundJob enqueueChunk(Long runId, long cursor) {
+        String payload = objectMapper.createObjectNode().put(RUN_ID, runId).put(CURSOR, cursor).toString();
+        return backgroundJobQueue.enqueue(BackfillChunkJobHandler.JOB_TYPE, null,
+                BackfillChunkJobHandler.JOB_TYPE + ":" + runId + ":" + cursor, payload);
+    }
+
+    static long runIdOf(JsonNode payload) {
+        return payload.path(RUN_ID).asLong();
+    }
+
+    static long cursorOf(JsonNode payload) {
+        return payload.path(CURSOR).asLong();
+    }
+}
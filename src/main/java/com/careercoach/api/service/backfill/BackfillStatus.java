@@ -0,0 +1,10 @@
+package com.careercoach.api.service.backfill;
+
+/**
+ * 백필 실행 상태
+ */
+public enum BackfillStatus {
+    RUNNING,
+    COMPLETED,
+    CANCELLED
+}
@@ -0,0 +1,6 @@
+/**
+ * AI 결과 일괄 재생성(백필) 패키지
+ * 프롬프트나 모델 변경 후 대상 이력서를 키셋 순서의 청크로 읽어 처리량 상한 안에서 재생성하고,
+ * 청크마다 진행 위치를 backfill_runs에 체크포인트로 기록하는 실행기와 청크 작업 핸들러를 포함합니다.
+ */
+package com.careercoach.api.service.backfill;
@@ -0,0 +1,47 @@
+package com.careercoach.api.service.job;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * background_jobs 행
+ * 등록되거나 선점된 작업 하나를 나타냅니다.
+ */
+@Getter
+@Builder
+public class BackgroundJob {
+
+    private final Long id;
+    private final String jobType;
+    private final Long resumeId;
+    private final String idempotencyKey;
+
+    /**
+     * 작업 데이터 (JSON 문자열)
+     */
+    private final String payload;
+
+    private final JobStatus status;
+
+    /**
+     * 시도 횟수 (선점할 때 증가하므로 실행 중인 작업은 현재 시도를 포함)
+     */
+    private final int attempts;
+
+    private final int maxAttempts;
+    private final LocalDateTime availableAt;
+    private final String leasedBy;
+    private final LocalDateTime leaseExpiresAt;
+    private final String lastError;
+
+    /**
+     * 성공한 작업의 결과 (JSON 문자열, 단건 조회에서만 채워짐)
+     */
+    private final String result;
+
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime completedAt;
+}
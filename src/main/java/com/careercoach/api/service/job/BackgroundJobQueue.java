@@ -0,0 +1,112 @@
+package com.careercoach.api.service.job;
+
+import com.careercoach.api.config.JobQueueProperties;
+import com.careercoach.api.exception.JobNotFoundException;
+import com.careercoach.api.repository.BackgroundJobRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 백그라운드 작업 큐
+ * 작업을 background_jobs에 등록하고 조회·재시도하는 진입점입니다. 실행은 각 노드의 JobWorker가 담당합니다.
+ *
+ * 멱등 키는 "작업 유형:이력서 ID:이력서 내용 지문"으로, 같은 버전의 이력서에 대한 작업은 한 번만 등록됩니다.
+ * 이력서의 새 버전으로 작업이 등록되면 같은 이력서·유형의 대기 중인 이전 버전 작업은 CANCELLED로 바뀝니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackgroundJobQueue {
+
+    private final BackgroundJobRepository backgroundJobRepository;
+    private final JobQueueProperties properties;
+
+    @Getter
+    private final AtomicLong enqueued = new AtomicLong();
+    @Getter
+    private final AtomicLong deduplicated = new AtomicLong();
+    @Getter
+    private final AtomicLong superseded = new AtomicLong();
+
+    /**
+     * 멱등 키 생성
+     */
+    public static String idempotencyKey(String jobType, Long resumeId, String version) {
+        return jobType + ":" + resumeId + ":" + version;
+    }
+
+    /**
+     * 작업 등록
+     * 같은 멱등 키의 작업이 이미 있으면 새로 등록하지 않고 기존 작업을 반환하며,
+     * 기존 작업이 취소(이전 버전으로 되돌린 경우)되었거나 포기된 상태였다면 다시 대기시킵니다.
+     * 등록(또는 재대기)과 이전 버전 작업 취소는 한 트랜잭션으로 묶여, 한쪽만 반영된 상태가 남지 않습니다.
+     *
+     * @param payload 작업 데이터 (JSON 문자열)
+     */
+    @Transactional
+    public BackgroundJob enqueue(String jobType, Long resumeId, String idempotencyKey, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Long> insertedId = backgroundJobRepository.insert(
+                jobType, resumeId, idempotencyKey, payload, properties.getMaxAttempts(), now);
+
+        Long jobId;
+        if (insertedId.isPresent()) {
+            jobId = insertedId.get();
+            enqueued.incrementAndGet();
+            log.debug("작업 등록 - ID: {}, 유형: {}, 이력서 ID: {}", jobId, jobType, resumeId);
+        } else {
+            BackgroundJob existing = backgroundJobRepository.findByIdempotencyKey(idempotencyKey)
+                    .orElseThrow(() -> new IllegalStateException("멱등 키의 작업을 찾을 수 없습니다: " + idempotencyKey));
+            deduplicated.incrementAndGet();
+            boolean retryable = existing.getStatus() == JobStatus.CANCELLED || existing.getStatus() == JobStatus.DEAD;
+            if (!retryable || backgroundJobRepository.requeue(existing.getId(), now) == 0) {
+                return existing;
+            }
+            jobId = existing.getId();
+            log.debug("종료된 작업 재등록 - ID: {}, 유형: {}, 이력서 ID: {}, 이전 상태: {}",
+                    jobId, jobType, resumeId, existing.getStatus());
+        }
+
+        if (resumeId != null) {
+            superseded.addAndGet(backgroundJobRepository.cancelPendingForResume(jobType, resumeId, jobId, now));
+        }
+        return getJob(jobId);
+    }
+
+    /**
+     * 작업 조회
+     */
+    public BackgroundJob getJob(Long jobId) {
+        return backgroundJobRepository.findById(jobId)
+                .orElseThrow(() -> new JobNotFoundException(jobId));
+    }
+
+    /**
+     * 상태별 작업 목록 (오래된 작업부터)
+     */
+    public List<BackgroundJob> findByStatus(JobStatus status, int limit) {
+        return backgroundJobRepository.findByStatus(status, limit);
+    }
+
+    /**
+     * 종료된 작업(DEAD, CANCELLED)을 처음부터 다시 대기시킴
+     *
+     * @return 다시 대기시켰으면 true, 대기/실행/성공 상태라 대상이 아니면 false
+     */
+    public boolean retry(Long jobId) {
+        getJob(jobId);
+        boolean requeued = backgroundJobRepository.requeue(jobId, LocalDateTime.now()) > 0;
+        if (requeued) {
+            log.info("작업 수동 재시도 - ID: {}", jobId);
+        }
+        return requeued;
+    }
+}
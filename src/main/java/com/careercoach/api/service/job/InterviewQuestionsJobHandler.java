@@ -0,0 +1,48 @@
+package com.careercoach.api.service.job;
+
+import com.careercoach.api.cache.ResumeETagIndex;
+import com.careercoach.api.dto.response.InterviewQuestionsResponse;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.service.ResumeService;
+import com.careercoach.api.service.ai.AIInterviewService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * 면접 질문 비동기 생성 작업 핸들러
+ * 동기 생성 API와 같은 캐시 서비스를 호출하므로 결과가 L1/L2 캐시와 생성 이력에 남아 이후 조회가 AI 호출 없이 처리됩니다.
+ */
+@Component
+public class InterviewQuestionsJobHandler extends ResumeVersionJobHandler {
+
+    public static final String JOB_TYPE = "INTERVIEW_QUESTIONS";
+
+    private final AIInterviewService aiInterviewService;
+    private final ResumeETagIndex resumeETagIndex;
+
+    public InterviewQuestionsJobHandler(ResumeService resumeService, BackgroundJobQueue backgroundJobQueue,
+                                        ObjectMapper objectMapper, AIInterviewService aiInterviewService,
+                                        ResumeETagIndex resumeETagIndex) {
+        super(resumeService, backgroundJobQueue, objectMapper);
+        this.aiInterviewService = aiInterviewService;
+        this.resumeETagIndex = resumeETagIndex;
+    }
+
+    @Override
+    public String jobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public String artifact() {
+        return ResumeETagIndex.INTERVIEW_QUESTIONS;
+    }
+
+    @Override
+    protected String handle(BackgroundJob job, ResumeDto resume) throws Exception {
+        long version = resumeETagIndex.currentVersion();
+        InterviewQuestionsResponse questions = aiInterviewService.generateQuestions(resume);
+        resumeETagIndex.registerArtifact(ResumeETagIndex.INTERVIEW_QUESTIONS, resume, questions.getGeneratedAt(), version);
+        return objectMapper.writeValueAsString(questions);
+    }
+}
@@ -0,0 +1,31 @@
+package com.careercoach.api.service.job;
+
+/**
+ * 백그라운드 작업 핸들러
+ * 빈으로 등록하면 워커가 작업 유형별로 호출합니다.
+ *
+ * 임대가 만료된 뒤 원래 노드가 늦게 끝내면 같은 작업이 두 번 실행될 수 있으므로 핸들러는 멱등이어야 합니다.
+ * 작업이 더 이상 필요 없으면 CancellationException을 던져 재시도 없이 CANCELLED로 끝냅니다.
+ */
+public interface JobHandler {
+
+    /**
+     * 처리할 작업 유형
+     */
+    String jobType();
+
+    /**
+     * 작업이 성공하면 갱신되는 이력서 산출물 (ResumeETagIndex 산출물 이름, 없으면 null)
+     * 완료 알림을 받은 클라이언트가 어떤 화면을 갱신할지 구분하는 데 사용합니다.
+     */
+    default String artifact() {
+        return null;
+    }
+
+    /**
+     * 작업 실행 (그 밖의 예외를 던지면 백오프 후 재시도)
+     *
+     * @return 작업 조회 API로 돌려줄 결과 (JSON 문자열, 없으면 null)
+     */
+    String handle(BackgroundJob job) throws Exception;
+}
@@ -0,0 +1,33 @@
+package com.careercoach.api.service.job;
+
+/**
+ * 백그라운드 작업 상태
+ */
+public enum JobStatus {
+
+    /**
+     * 선점 대기 (재시도 대기 중이면 available_at 이후 선점)
+     */
+    PENDING,
+
+    /**
+     * 노드가 임대해 실행 중 (임대가 만료되면 다시 선점 가능)
+     */
+    RUNNING,
+
+    SUCCEEDED,
+
+    /**
+     * 이력서가 다시 수정돼 더 이상 필요 없어진 작업
+     */
+    CANCELLED,
+
+    /**
+     * 최대 시도 횟수를 넘겨 포기한 작업
+     */
+    DEAD;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == CANCELLED || this == DEAD;
+    }
+}
@@ -0,0 +1,309 @@
+package com.careercoach.api.service.job;
+
+import com.careercoach.api.config.JobQueueProperties;
+import com.careercoach.api.dto.response.JobQueueStatusResponse;
+import com.careercoach.api.event.BackgroundJobCompletedEvent;
+import com.careercoach.api.executor.InstrumentedThreadPoolTaskExecutor;
+import com.careercoach.api.repository.BackgroundJobRepository;
+import com.careercoach.api.util.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 백그라운드 작업 워커
+ * 폴링마다 실행 중인 작업의 임대를 연장하고, 실행기의 빈 스레드 수만큼 작업을 선점해 유형별 핸들러로 실행합니다.
+ *
+ * <ul>
+ *     <li>선점은 짧은 트랜잭션에서 끝나고, 핸들러는 트랜잭션 밖에서 실행 (AI 호출 동안 행 잠금을 잡지 않음)</li>
+ *     <li>실패하면 시도 횟수에 따라 지수 백오프(+최대 20% 지터) 후 재시도, 최대 시도 횟수를 넘으면 DEAD</li>
+ *     <li>노드가 중단되면 임대가 연장되지 않으므로 만료 후 다른 노드가 이어서 실행 (최소 한 번 실행)</li>
+ * </ul>
+ *
+ * 이력서 작업이 성공하거나 DEAD로 끝나면 결과를 기록한 뒤 {@link BackgroundJobCompletedEvent}를 발행합니다.
+ */
+@Slf4j
+@Component
+public class JobWorker {
+
+    private final BackgroundJobRepository backgroundJobRepository;
+    private final BackgroundJobQueue backgroundJobQueue;
+    private final JobQueueProperties properties;
+    private final InstrumentedThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, JobHandler> handlersByType = new HashMap<>();
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final ConcurrentHashMap<Long, RunningJob> running = new ConcurrentHashMap<>();
+
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong leaseLost = new AtomicLong();
+    private final LatencyHistogram pickupDelay = new LatencyHistogram();
+    private final LatencyHistogram runLatency = new LatencyHistogram();
+    private volatile LocalDateTime lastPolledAt;
+
+    public JobWorker(BackgroundJobRepository backgroundJobRepository, BackgroundJobQueue backgroundJobQueue,
+                     JobQueueProperties properties,
+                     @Qualifier("jobWorkerTaskExecutor") InstrumentedThreadPoolTaskExecutor executor,
+                     PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                     List<JobHandler> handlers) {
+        this.backgroundJobRepository = backgroundJobRepository;
+        this.backgroundJobQueue = backgroundJobQueue;
+        this.properties = properties;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        handlers.forEach(handler -> handlersByType.put(handler.jobType(), handler));
+        log.info("작업 핸들러 등록 - 노드: {}, 작업 유형: {}", nodeId, handlersByType.keySet());
+    }
+
+    /**
+     * 예약 폴링
+     */
+    @Scheduled(fixedDelayString = "${jobs.poll-interval-ms:1000}")
+    public void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        lastPolledAt = LocalDateTime.now();
+        try {
+            extendLeases();
+
+            int free = Math.min(properties.getBatchSize(), executor.getMaxPoolSize() - running.size());
+            if (free <= 0) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<BackgroundJob> jobs = transactionTemplate.execute(status -> backgroundJobRepository.claim(
+                    free, nodeId, now, now.plus(Duration.ofMillis(properties.getLeaseMs()))));
+            if (jobs != null) {
+                jobs.forEach(this::start);
+            }
+        } catch (Exception e) {
+            log.error("작업 폴링 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이 노드에서 실행 중인 이력서의 작업 취소 (인터럽트)
+     * 다른 노드에서 실행 중인 작업은 핸들러가 완료 전에 이력서 버전을 확인해 스스로 취소합니다.
+     *
+     * @return 취소를 요청한 작업 수
+     */
+    public int cancelRunning(String jobType, Long resumeId) {
+        int count = 0;
+        for (RunningJob runningJob : running.values()) {
+            BackgroundJob job = runningJob.job;
+            if (job.getJobType().equals(jobType) && resumeId.equals(job.getResumeId())) {
+                runningJob.cancel();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 작업 큐 상태
+     */
+    public JobQueueStatusResponse getStatus() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        backgroundJobRepository.countByStatus().forEach((status, count) -> counts.put(status.name(), count));
+        long oldestPendingAgeMs = backgroundJobRepository.findOldestPendingCreatedAt()
+                .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toMillis()))
+                .orElse(0L);
+
+        return JobQueueStatusResponse.builder()
+                .enabled(properties.isEnabled())
+                .nodeId(nodeId)
+                .concurrency(executor.getMaxPoolSize())
+                .running(running.size())
+                .countsByStatus(counts)
+                .oldestPendingAgeMs(oldestPendingAgeMs)
+                .enqueued(backgroundJobQueue.getEnqueued().get())
+                .deduplicated(backgroundJobQueue.getDeduplicated().get())
+                .superseded(backgroundJobQueue.getSuperseded().get())
+                .claimed(claimed.get())
+                .succeeded(succeeded.get())
+                .cancelled(cancelled.get())
+                .retried(retried.get())
+                .deadLettered(deadLettered.get())
+                .leaseLost(leaseLost.get())
+                .pickupDelayP50Millis(pickupDelay.percentileMillis(50))
+                .pickupDelayP99Millis(pickupDelay.percentileMillis(99))
+                .runP50Millis(runLatency.percentileMillis(50))
+                .runP99Millis(runLatency.percentileMillis(99))
+                .runMaxMillis(runLatency.getMaxMillis())
+                .lastPolledAt(lastPolledAt)
+                .handledJobTypes(List.copyOf(handlersByType.keySet()))
+                .build();
+    }
+
+    private void extendLeases() {
+        if (running.isEmpty()) {
+            return;
+        }
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plus(Duration.ofMillis(properties.getLeaseMs()));
+        backgroundJobRepository.extendLeases(running.keySet(), nodeId, leaseExpiresAt);
+    }
+
+    private void start(BackgroundJob job) {
+        claimed.incrementAndGet();
+        if (job.getAvailableAt() != null) {
+            pickupDelay.recordMicros(Math.max(0, Duration.between(job.getAvailableAt(), LocalDateTime.now()).toNanos() / 1000));
+        }
+
+        // 실행 중 노드가 중단돼 임대 만료로 다시 선점되는 일이 반복된 작업
+        if (job.getAttempts() > job.getMaxAttempts()) {
+            deadLetter(job, "임대 만료로 최대 시도 횟수 초과");
+            return;
+        }
+        JobHandler handler = handlersByType.get(job.getJobType());
+        if (handler == null) {
+            deadLetter(job, "작업 유형의 핸들러가 없습니다: " + job.getJobType());
+            return;
+        }
+
+        RunningJob runningJob = new RunningJob(job);
+        running.put(job.getId(), runningJob);
+        try {
+            executor.execute(() -> run(runningJob, handler));
+        } catch (RejectedExecutionException e) {
+            running.remove(job.getId());
+            LocalDateTime now = LocalDateTime.now();
+            backgroundJobRepository.reschedule(job, nodeId, "실행기 포화", now, now);
+        }
+    }
+
+    private void run(RunningJob runningJob, JobHandler handler) {
+        BackgroundJob job = runningJob.job;
+        long start = System.nanoTime();
+        try {
+            runningJob.attach();
+            String result = handler.handle(job);
+            runLatency.recordNanos(System.nanoTime() - start);
+            record(job, JobStatus.SUCCEEDED, null, result, succeeded);
+        } catch (CancellationException e) {
+            record(job, JobStatus.CANCELLED, e.getMessage(), null, cancelled);
+        } catch (Exception e) {
+            if (runningJob.cancelRequested) {
+                // 취소 인터럽트로 AI 호출이 중단된 경우
+                record(job, JobStatus.CANCELLED, "이력서 수정으로 취소됨", null, cancelled);
+            } else if (job.getAttempts() >= job.getMaxAttempts()) {
+                log.error("작업 처리 포기 - ID: {}, 유형: {}, 시도: {}회, 오류: {}",
+                        job.getId(), job.getJobType(), job.getAttempts(), e.getMessage());
+                deadLetter(job, e.getMessage());
+            } else {
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime availableAt = now.plus(Duration.ofMillis(backoffMs(job.getAttempts())));
+                log.warn("작업 처리 실패, 재시도 예정 - ID: {}, 유형: {}, 시도: {}회, 재시도 시각: {}, 오류: {}",
+                        job.getId(), job.getJobType(), job.getAttempts(), availableAt, e.getMessage());
+                if (backgroundJobRepository.reschedule(job, nodeId, e.getMessage(), availableAt, now) > 0) {
+                    retried.incrementAndGet();
+                } else {
+                    leaseLost.incrementAndGet();
+                }
+            }
+        } finally {
+            runningJob.detach();
+            running.remove(job.getId());
+        }
+    }
+
+    private void deadLetter(BackgroundJob job, String error) {
+        record(job, JobStatus.DEAD, error, null, deadLettered);
+    }
+
+    private void record(BackgroundJob job, JobStatus status, String error, String result, AtomicLong counter) {
+        LocalDateTime now = LocalDateTime.now();
+        if (backgroundJobRepository.finish(job, nodeId, status, error, result, now) > 0) {
+            counter.incrementAndGet();
+            if (job.getResumeId() != null && status != JobStatus.CANCELLED) {
+                publishCompleted(job, status, result, now);
+            }
+        } else {
+            // 임대가 만료돼 다른 시도가 가져갔거나 이력서 삭제로 작업이 지워진 경우
+            leaseLost.incrementAndGet();
+            log.warn("작업 임대 상실로 결과 기록 생략 - ID: {}, 상태: {}", job.getId(), status);
+        }
+    }
+
+    private void publishCompleted(BackgroundJob job, JobStatus status, String result, LocalDateTime completedAt) {
+        JobHandler handler = handlersByType.get(job.getJobType());
+        try {
+            eventPublisher.publishEvent(new BackgroundJobCompletedEvent(this, job.getId(), job.getJobType(),
+                    job.getResumeId(), handler != null ? handler.artifact() : null, status.name(), result, completedAt));
+        } catch (Exception e) {
+            // 알림 실패가 기록된 작업 결과에 영향을 주지 않도록 함
+            log.warn("작업 완료 이벤트 발행 실패 - ID: {}, 오류: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 대기 시간 (시도마다 두 배, 상한 적용 후 최대 20% 지터)
+     */
+    private long backoffMs(int attempts) {
+        long base = properties.getBackoffBaseMs() << Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(properties.getBackoffMaxMs(), base);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    /**
+     * 실행 중인 작업과 실행 스레드
+     * 스레드 연결/해제와 인터럽트를 같은 잠금 안에서 수행해, 작업이 끝난 뒤 같은 스레드의 다음 작업을 인터럽트하지 않습니다.
+     */
+    private static final class RunningJob {
+
+        private final BackgroundJob job;
+        private Thread thread;
+        private volatile boolean cancelRequested;
+
+        private RunningJob(BackgroundJob job) {
+            this.job = job;
+        }
+
+        /**
+         * 실행 스레드 연결 (시작 전에 취소됐으면 바로 취소)
+         */
+        private synchronized void attach() {
+            if (cancelRequested) {
+                throw new CancellationException("이력서 수정으로 취소됨");
+            }
+            thread = Thread.currentThread();
+        }
+
+        private synchronized void detach() {
+            thread = null;
+            // 취소 인터럽트가 핸들러 밖에서 도착했으면 풀 스레드에 남기지 않음
+            Thread.interrupted();
+        }
+
+        private synchronized void cancel() {
+            cancelRequested = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.careercoach.api.service.job;
+
+import com.careercoach.api.cache.ResumeETagIndex;
+import com.careercoach.api.dto.response.LearningPathResponse;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.service.ResumeService;
+import com.careercoach.api.service.ai.AILearningPathService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학습 경로 비동기 생성 작업 핸들러
+ * 동기 생성 API와 같은 캐시 서비스를 호출하므로 결과가 L1/L2 캐시와 생성 이력에 남아 이후 조회가 AI 호출 없이 처리됩니다.
+ */
+@Component
+public class LearningPathJobHandler extends ResumeVersionJobHandler {
+
+    public static final String JOB_TYPE = "LEARNING_PATH";
+
+    private final AILearningPathService aiLearningPathService;
+    private final ResumeETagIndex resumeETagIndex;
+
+    public LearningPathJobHandler(ResumeService resumeService, BackgroundJobQueue backgroundJobQueue,
+                                  ObjectMapper objectMapper, AILearningPathService aiLearningPathService,
+                                  ResumeETagIndex resumeETagIndex) {
+        super(resumeService, backgroundJobQueue, objectMapper);
+        this.aiLearningPathService = aiLearningPathService;
+        this.resumeETagIndex = resumeETagIndex;
+    }
+
+    @Override
+    public String jobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public String artifact() {
+        return ResumeETagIndex.LEARNING_PATH;
+    }
+
+    @Override
+    protected String handle(BackgroundJob job, ResumeDto resume) throws Exception {
+        long version = resumeETagIndex.currentVersion();
+        LearningPathResponse learningPath = aiLearningPathService.generateLearningPath(resume);
+        resumeETagIndex.registerArtifact(ResumeETagIndex.LEARNING_PATH, resume, learningPath.getGeneratedAt(), version);
+        return objectMapper.writeValueAsString(learningPath);
+    }
+}
@@ -0,0 +1,71 @@
+package com.careercoach.api.service.job;
+
+import com.careercoach.api.cache.ResumeCacheKeyGenerator;
+import com.careercoach.api.cache.ResumeETagIndex;
+import com.careercoach.api.config.CacheConfig;
+import com.careercoach.api.dto.response.LearningPathResponse;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.service.GeneratedArtifactWriter;
+import com.careercoach.api.service.ResumeService;
+import com.careercoach.api.service.ai.MultiModelAIOrchestrator;
+import com.careercoach.api.util.ResumeFingerprint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이력서 수정 후 학습 경로 재생성 작업 핸들러
+ * 생성이 끝난 뒤에도 이력서 버전을 다시 확인해, 그 사이 수정된 이력서의 결과는 성공으로 기록하지 않습니다.
+ * 결과는 학습 경로 캐시와 생성 이력에 저장하므로 이후 학습 경로 요청은 AI 호출 없이 재생성된 결과를 받습니다.
+ */
+@Slf4j
+@Component
+public class LearningPathRegenerationJobHandler extends ResumeVersionJobHandler {
+
+    public static final String JOB_TYPE = "LEARNING_PATH_REGENERATION";
+
+    private final MultiModelAIOrchestrator aiOrchestrator;
+    private final CacheManager cacheManager;
+    private final GeneratedArtifactWriter generatedArtifactWriter;
+    private final ResumeETagIndex resumeETagIndex;
+
+    public LearningPathRegenerationJobHandler(ResumeService resumeService, BackgroundJobQueue backgroundJobQueue,
+                                              ObjectMapper objectMapper, MultiModelAIOrchestrator aiOrchestrator,
+                                              CacheManager cacheManager, GeneratedArtifactWriter generatedArtifactWriter,
+                                              ResumeETagIndex resumeETagIndex) {
+        super(resumeService, backgroundJobQueue, objectMapper);
+        this.aiOrchestrator = aiOrchestrator;
+        this.cacheManager = cacheManager;
+        this.generatedArtifactWriter = generatedArtifactWriter;
+        this.resumeETagIndex = resumeETagIndex;
+    }
+
+    @Override
+    public String jobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public String artifact() {
+        return ResumeETagIndex.LEARNING_PATH;
+    }
+
+    @Override
+    protected String handle(BackgroundJob job, ResumeDto resume) throws Exception {
+        long version = resumeETagIndex.currentVersion();
+        LearningPathResponse learningPath = aiOrchestrator.generateLearningPath(resume);
+        currentResume(resume.getId(), ResumeFingerprint.of(resume));
+
+        Cache cache = cacheManager.getCache(CacheConfig.LEARNING_PATHS);
+        if (cache != null) {
+            cache.put(ResumeCacheKeyGenerator.of(resume), learningPath);
+        }
+        generatedArtifactWriter.enqueue(learningPath);
+        resumeETagIndex.registerArtifact(ResumeETagIndex.LEARNING_PATH, resume, learningPath.getGeneratedAt(), version);
+
+        log.info("학습 경로 재생성 완료 - 이력서 ID: {}, 작업 ID: {}", job.getResumeId(), job.getId());
+        return objectMapper.writeValueAsString(learningPath);
+    }
+}
@@ -0,0 +1,69 @@
+package com.careercoach.api.service.job;
+
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.exception.ResumeNotFoundException;
+import com.careercoach.api.service.ResumeService;
+import com.careercoach.api.util.ResumeFingerprint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * 이력서 버전 단위 작업 핸들러 기반 클래스
+ * 작업을 등록할 때의 이력서 지문을 멱등 키와 작업 데이터에 담고, 실행 전에 현재 이력서와 비교합니다.
+ * 그 사이 이력서가 수정되거나 삭제됐으면 새 버전의 작업이 따로 있으므로 실행하지 않고 취소합니다.
+ */
+public abstract class ResumeVersionJobHandler implements JobHandler {
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    private final ResumeService resumeService;
+    private final BackgroundJobQueue backgroundJobQueue;
+    protected final ObjectMapper objectMapper;
+
+    protected ResumeVersionJobHandler(ResumeService resumeService, BackgroundJobQueue backgroundJobQueue,
+                                      ObjectMapper objectMapper) {
+        this.resumeService = resumeService;
+        this.backgroundJobQueue = backgroundJobQueue;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 이력서의 현재 버전에 대한 작업 등록 (같은 버전의 작업이 있으면 기존 작업 반환)
+     */
+    public BackgroundJob enqueue(ResumeDto resume) {
+        String fingerprint = ResumeFingerprint.of(resume);
+        String payload = objectMapper.createObjectNode().put(FINGERPRINT, fingerprint).toString();
+        return backgroundJobQueue.enqueue(jobType(), resume.getId(),
+                BackgroundJobQueue.idempotencyKey(jobType(), resume.getId(), fingerprint), payload);
+    }
+
+    @Override
+    public String handle(BackgroundJob job) throws Exception {
+        String fingerprint = objectMapper.readTree(job.getPayload()).path(FINGERPRINT).asText();
+        return handle(job, currentResume(job.getResumeId(), fingerprint));
+    }
+
+    /**
+     * 작업 대상 버전이 현재 버전임을 확인한 뒤 실행
+     *
+     * @return 작업 결과 (JSON 문자열, 없으면 null)
+     */
+    protected abstract String handle(BackgroundJob job, ResumeDto resume) throws Exception;
+
+    /**
+     * 작업 대상 버전의 이력서 조회 (삭제되거나 다시 수정됐으면 CancellationException)
+     */
+    protected ResumeDto currentResume(Long resumeId, String fingerprint) {
+        ResumeDto resume;
+        try {
+            resume = resumeService.getResume(resumeId);
+        } catch (ResumeNotFoundException e) {
+            throw new CancellationException("이력서가 삭제됨");
+        }
+        if (!ResumeFingerprint.of(resume).equals(fingerprint)) {
+            throw new CancellationException("이력서가 다시 수정됨");
+        }
+        return resume;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 백그라운드 작업 큐 패키지
+ * background_jobs 테이블 기반의 작업 등록(멱등 키), 임대 선점, 백오프 재시도, DEAD 처리와 작업 유형별 핸들러를 포함합니다.
+ */
+package com.careercoach.api.service.job;
@@ -0,0 +1,214 @@
+package com.careercoach.api.service.notification;
+
+import com.careercoach.api.cache.ResumeETagIndex;
+import com.careercoach.api.config.NotificationProperties;
+import com.careercoach.api.dto.response.NotificationStatusResponse;
+import com.careercoach.api.dto.response.ResumeNotificationResponse;
+import com.careercoach.api.event.BackgroundJobCompletedEvent;
+import com.careercoach.api.executor.InstrumentedThreadPoolTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이력서 알림 허브
+ * 이력서별 SSE 구독자를 관리하고, 이 노드에서 끝난 백그라운드 작업(재생성, 비동기 생성)의 결과를 구독자에게 전송합니다.
+ *
+ * <ul>
+ *     <li>알림은 연결별 제한 버퍼에 넣고 전용 실행기에서 전송 (느린 클라이언트가 작업 워커를 붙잡지 않음)</li>
+ *     <li>버퍼에 같은 작업 유형의 알림이 있으면 최신 알림으로 교체하고, 가득 차면 가장 오래된 알림을 버림</li>
+ *     <li>대기 알림이 없는 연결에는 주기적으로 하트비트 주석을 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리</li>
+ * </ul>
+ *
+ * 알림은 작업을 실행한 노드의 구독자에게만 전송됩니다. 다른 노드에 연결된 클라이언트는 다시 연결할 때
+ * 생성 API의 ETag 조건부 요청이나 작업 조회 API(/api/jobs/{jobId})로 결과를 확인합니다.
+ */
+@Slf4j
+@Component
+public class ResumeNotificationHub {
+
+    static final String ARTIFACT_EVENT = "artifact";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final NotificationProperties properties;
+    private final InstrumentedThreadPoolTaskExecutor executor;
+    private final ResumeETagIndex resumeETagIndex;
+
+    private final ConcurrentHashMap<Long, Set<SseSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong closed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong heartbeats = new AtomicLong();
+    private final AtomicLong sendFailures = new AtomicLong();
+
+    public ResumeNotificationHub(NotificationProperties properties,
+                                 @Qualifier("notificationTaskExecutor") InstrumentedThreadPoolTaskExecutor executor,
+                                 ResumeETagIndex resumeETagIndex) {
+        this.properties = properties;
+        this.executor = executor;
+        this.resumeETagIndex = resumeETagIndex;
+    }
+
+    /**
+     * 이력서 알림 구독
+     *
+     * @return SSE 연결 (노드의 연결 수 상한을 넘으면 빈 값)
+     */
+    public Optional<SseEmitter> subscribe(Long resumeId) {
+        if (connections.incrementAndGet() > properties.getMaxConnections()) {
+            connections.decrementAndGet();
+            rejected.incrementAndGet();
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(properties.getConnectionTimeoutMs());
+        SseSubscription subscription = new SseSubscription(resumeId, emitter, properties.getBufferSize());
+        // 마지막 구독자 제거와 같은 잠금 안에서 추가해, 제거된 집합에 추가되지 않도록 함
+        subscriptions.compute(resumeId, (id, subscribers) -> {
+            Set<SseSubscription> current = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            current.add(subscription);
+            return current;
+        });
+        opened.incrementAndGet();
+
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(e -> unsubscribe(subscription));
+        log.debug("이력서 알림 구독 - 이력서 ID: {}, 연결 수: {}", resumeId, connections.get());
+        return Optional.of(emitter);
+    }
+
+    /**
+     * 작업 완료 알림 (작업 워커 스레드에서 호출되므로 버퍼에 넣기만 함)
+     */
+    @EventListener
+    public void onJobCompleted(BackgroundJobCompletedEvent event) {
+        Set<SseSubscription> subscribers = subscriptions.get(event.getResumeId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        ResumeNotificationResponse notification = ResumeNotificationResponse.builder()
+                .resumeId(event.getResumeId())
+                .jobId(event.getJobId())
+                .jobType(event.getJobType())
+                .artifact(event.getArtifact())
+                .status(event.getStatus())
+                .etag(event.getArtifact() != null
+                        ? resumeETagIndex.artifactETag(event.getArtifact(), event.getResumeId()).orElse(null)
+                        : null)
+                .completedAt(event.getCompletedAt())
+                .result(properties.isIncludeResult() ? event.getResult() : null)
+                .build();
+        published.incrementAndGet();
+
+        for (SseSubscription subscription : subscribers) {
+            SseSubscription.Offer offer = subscription.offer(notification);
+            if (offer == SseSubscription.Offer.CLOSED) {
+                continue;
+            }
+            if (offer == SseSubscription.Offer.COALESCED) {
+                coalesced.incrementAndGet();
+            } else if (offer == SseSubscription.Offer.DROPPED_OLDEST) {
+                dropped.incrementAndGet();
+            }
+            if (subscription.startDrain()) {
+                dispatch(subscription, false);
+            }
+        }
+    }
+
+    /**
+     * 예약 하트비트 (대기 알림이 없는 연결에만)
+     */
+    @Scheduled(fixedDelayString = "${notifications.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(subscription -> {
+            if (subscription.startHeartbeat()) {
+                dispatch(subscription, true);
+            }
+        }));
+    }
+
+    /**
+     * 알림 스트림 상태
+     */
+    public NotificationStatusResponse getStatus() {
+        return NotificationStatusResponse.builder()
+                .connections(connections.get())
+                .maxConnections(properties.getMaxConnections())
+                .subscribedResumes(subscriptions.size())
+                .bufferSize(properties.getBufferSize())
+                .opened(opened.get())
+                .closed(closed.get())
+                .rejected(rejected.get())
+                .published(published.get())
+                .delivered(delivered.get())
+                .coalesced(coalesced.get())
+                .dropped(dropped.get())
+                .heartbeats(heartbeats.get())
+                .sendFailures(sendFailures.get())
+                .build();
+    }
+
+    private void dispatch(SseSubscription subscription, boolean heartbeat) {
+        try {
+            executor.execute(() -> drain(subscription, heartbeat));
+        } catch (RejectedExecutionException e) {
+            subscription.abortDrain();
+        }
+    }
+
+    /**
+     * 버퍼가 빌 때까지 전송 (전송 중 들어온 알림도 이어서 전송)
+     */
+    private void drain(SseSubscription subscription, boolean heartbeat) {
+        try {
+            if (heartbeat) {
+                subscription.emitter().send(SseEmitter.event().comment(HEARTBEAT));
+                heartbeats.incrementAndGet();
+            }
+            ResumeNotificationResponse notification;
+            while ((notification = subscription.next()) != null) {
+                subscription.emitter().send(SseEmitter.event()
+                        .id(String.valueOf(notification.getJobId()))
+                        .name(ARTIFACT_EVENT)
+                        .data(notification));
+                delivered.incrementAndGet();
+            }
+        } catch (Exception e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결
+            sendFailures.incrementAndGet();
+            log.debug("이력서 알림 전송 실패 - 이력서 ID: {}, 오류: {}", subscription.resumeId(), e.getMessage());
+            unsubscribe(subscription);
+            subscription.emitter().completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(SseSubscription subscription) {
+        if (!subscription.close()) {
+            return;
+        }
+        subscriptions.computeIfPresent(subscription.resumeId(), (id, subscribers) -> {
+            subscribers.remove(subscription);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        connections.decrementAndGet();
+        closed.incrementAndGet();
+        log.debug("이력서 알림 구독 종료 - 이력서 ID: {}, 연결 수: {}", subscription.resumeId(), connections.get());
+    }
+}
@@ -0,0 +1,112 @@
+package com.careercoach.api.service.notification;
+
+import com.careercoach.api.dto.response.ResumeNotificationResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * SSE 연결 하나와 전송 대기 버퍼
+ * 버퍼는 크기가 제한되며, 같은 작업 유형의 알림이 대기 중이면 새 알림으로 교체하고 가득 차면 가장 오래된 알림을 버립니다.
+ * 알림과 하트비트 전송은 한 번에 한 스레드만 수행하도록 draining 플래그로 직렬화합니다.
+ */
+final class SseSubscription {
+
+    enum Offer { QUEUED, COALESCED, DROPPED_OLDEST, CLOSED }
+
+    private final Long resumeId;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final ArrayDeque<ResumeNotificationResponse> buffer;
+    private boolean draining;
+    private boolean closed;
+
+    SseSubscription(Long resumeId, SseEmitter emitter, int capacity) {
+        this.resumeId = resumeId;
+        this.emitter = emitter;
+        this.capacity = Math.max(1, capacity);
+        this.buffer = new ArrayDeque<>(this.capacity);
+    }
+
+    Long resumeId() {
+        return resumeId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    synchronized Offer offer(ResumeNotificationResponse notification) {
+        if (closed) {
+            return Offer.CLOSED;
+        }
+        for (Iterator<ResumeNotificationResponse> it = buffer.iterator(); it.hasNext(); ) {
+            if (Objects.equals(it.next().getJobType(), notification.getJobType())) {
+                it.remove();
+                buffer.addLast(notification);
+                return Offer.COALESCED;
+            }
+        }
+        Offer offer = Offer.QUEUED;
+        if (buffer.size() >= capacity) {
+            buffer.pollFirst();
+            offer = Offer.DROPPED_OLDEST;
+        }
+        buffer.addLast(notification);
+        return offer;
+    }
+
+    /**
+     * 전송 시작 (이미 전송 중이거나 보낼 알림이 없으면 false)
+     */
+    synchronized boolean startDrain() {
+        if (draining || closed || buffer.isEmpty()) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    /**
+     * 다음 전송할 알림 (없으면 전송 종료)
+     */
+    synchronized ResumeNotificationResponse next() {
+        ResumeNotificationResponse notification = closed ? null : buffer.pollFirst();
+        if (notification == null) {
+            draining = false;
+        }
+        return notification;
+    }
+
+    /**
+     * 실행기 거절로 전송을 시작하지 못한 경우 (다음 알림이나 하트비트 때 다시 시도)
+     */
+    synchronized void abortDrain() {
+        draining = false;
+    }
+
+    /**
+     * 하트비트 전송 시작 (전송 중이거나 대기 알림이 있으면 false, 알림 전송이 연결 유지를 대신함)
+     */
+    synchronized boolean startHeartbeat() {
+        if (draining || closed || !buffer.isEmpty()) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    /**
+     * 연결 종료 표시 (처음 닫을 때만 true)
+     */
+    synchronized boolean close() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        buffer.clear();
+        return true;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 이력서 알림 스트림 패키지
+ * 백그라운드 작업 완료를 이력서별 SSE 구독자에게 전송하는 허브와 연결별 전송 버퍼를 포함합니다.
+ */
+package com.careercoach.api.service.notification;
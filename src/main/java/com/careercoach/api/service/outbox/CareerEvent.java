@@ -0,0 +1,34 @@
+package com.careercoach.api.service.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * career_events 행
+ * 아웃박스에서 선점한 이벤트 하나를 나타냅니다.
+ */
+@Getter
+@Builder
+public class CareerEvent {
+
+    public static final String RESUME_CREATED = "RESUME_CREATED";
+    public static final String RESUME_UPDATED = "RESUME_UPDATED";
+
+    private final Long id;
+    private final String eventType;
+    private final Long resumeId;
+
+    /**
+     * 이벤트 데이터 (JSON 문자열)
+     */
+    private final String eventData;
+
+    private final LocalDateTime createdAt;
+
+    /**
+     * 이전 처리 시도 횟수
+     */
+    private final int attempts;
+}
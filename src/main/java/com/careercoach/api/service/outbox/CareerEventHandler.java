@@ -0,0 +1,23 @@
+package com.careercoach.api.service.outbox;
+
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트 핸들러
+ * 빈으로 등록하면 디스패처가 처리할 이벤트 유형별로 호출합니다.
+ *
+ * 이벤트는 최소 한 번 전달되므로(처리 후 커밋 전에 중단되면 재전달) 핸들러는 멱등이어야 하며,
+ * 선점 트랜잭션 안에서 실행되므로 오래 걸리는 작업은 별도 실행기로 넘겨야 합니다.
+ */
+public interface CareerEventHandler {
+
+    /**
+     * 처리할 이벤트 유형
+     */
+    Set<String> eventTypes();
+
+    /**
+     * 이벤트 처리 (예외를 던지면 재시도)
+     */
+    void handle(CareerEvent event);
+}
@@ -0,0 +1,109 @@
+package com.careercoach.api.service.outbox;
+
+import com.careercoach.api.event.ResumeChangedEvent;
+import com.careercoach.api.repository.CareerEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * career_events 아웃박스 기록기
+ * 이력서 생성/수정 이벤트를 발행한 트랜잭션 안에서 career_events에 기록하므로,
+ * 이력서 변경이 커밋되면 이벤트도 함께 커밋되고 롤백되면 함께 사라집니다.
+ *
+ * 일괄 등록처럼 한 트랜잭션에서 이벤트가 많이 발행되므로 트랜잭션별로 모아 두었다가
+ * 커밋 직전(beforeCommit)에 같은 커넥션으로 배치 INSERT 한 번에 기록합니다.
+ *
+ * 삭제는 career_events의 외래키(ON DELETE CASCADE)로 이벤트가 함께 지워지므로 기록하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareerEventOutbox {
+
+    private final CareerEventRepository careerEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void handleResumeChangedEvent(ResumeChangedEvent event) {
+        String eventType = switch (event.getChangeType()) {
+            case CREATED -> CareerEvent.RESUME_CREATED;
+            case UPDATED -> CareerEvent.RESUME_UPDATED;
+            case DELETED -> null;
+        };
+        if (eventType == null) {
+            return;
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("job_role", event.getResume().getJobRole());
+        data.put("experience_years", event.getResume().getExperienceYears());
+        String eventData = toJson(data);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            careerEventRepository.append(eventType, event.getResumeId(), eventData);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> buffer = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new BufferSynchronization(buffer));
+        }
+        buffer.add(new Object[]{eventType, event.getResumeId(), eventData});
+    }
+
+    /**
+     * 트랜잭션별 이벤트 버퍼 기록
+     * 내부 REQUIRES_NEW 트랜잭션이 바깥 버퍼를 쓰지 않도록 일시 중단 시 버퍼 바인딩을 풀고 재개 시 되돌립니다.
+     */
+    private class BufferSynchronization implements TransactionSynchronization {
+
+        private final List<Object[]> buffer;
+
+        BufferSynchronization(List<Object[]> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CareerEventOutbox.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(CareerEventOutbox.this, buffer);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            careerEventRepository.appendAll(buffer);
+            buffer.clear();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CareerEventOutbox.this);
+        }
+    }
+
+    private String toJson(Map<String, Object> data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("아웃박스 이벤트 데이터 변환 실패: {}", e.getMessage());
+            return "{}";
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.careercoach.api.service.outbox;
+
+import com.careercoach.api.config.OutboxProperties;
+import com.careercoach.api.dto.response.OutboxStatusResponse;
+import com.careercoach.api.repository.CareerEventRepository;
+import com.careercoach.api.util.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * career_events 아웃박스 디스패처
+ * 미처리 이벤트를 배치로 선점(SELECT ... FOR UPDATE SKIP LOCKED)해 유형별 핸들러에 전달하고,
+ * 같은 트랜잭션에서 processed/processed_at을 기록합니다.
+ *
+ * 선점한 행은 커밋까지 잠겨 있으므로 여러 노드가 동시에 폴링해도 같은 이벤트를 처리하지 않으며,
+ * 처리 도중 노드가 중단되면 트랜잭션이 롤백되어 다른 노드가 다시 선점합니다.
+ * 핸들러가 실패한 이벤트는 시도 횟수와 오류를 기록하고 다음 폴링에서 재시도하며,
+ * 최대 시도 횟수를 넘으면 오류와 함께 처리 완료로 표시해 뒤따르는 이벤트를 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final CareerEventRepository careerEventRepository;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, List<CareerEventHandler>> handlersByType = new HashMap<>();
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong unhandled = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final LatencyHistogram deliveryLag = new LatencyHistogram();
+    private volatile LocalDateTime lastPolledAt;
+    private volatile LocalDateTime lastDispatchedEventCreatedAt;
+
+    public OutboxDispatcher(CareerEventRepository careerEventRepository, OutboxProperties properties,
+                            PlatformTransactionManager transactionManager, List<CareerEventHandler> handlers) {
+        this.careerEventRepository = careerEventRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (CareerEventHandler handler : handlers) {
+            handler.eventTypes().forEach(type -> handlersByType.computeIfAbsent(type, t -> new ArrayList<>()).add(handler));
+        }
+        log.info("아웃박스 핸들러 등록 - 이벤트 유형: {}", handlersByType.keySet());
+    }
+
+    /**
+     * 예약 폴링
+     * 배치가 가득 차 있으면 밀린 이벤트를 소진할 때까지(최대 max-batches-per-poll) 이어서 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        lastPolledAt = LocalDateTime.now();
+        try {
+            for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+                Integer claimed = transactionTemplate.execute(status -> dispatchBatch());
+                if (claimed == null || claimed < properties.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 배치 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 아웃박스 상태 (대기 건수와 가장 오래된 대기 이벤트의 지연 포함)
+     */
+    public OutboxStatusResponse getStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        long oldestPendingAgeMs = careerEventRepository.findOldestPendingCreatedAt()
+                .map(createdAt -> Math.max(0, Duration.between(createdAt, now).toMillis()))
+                .orElse(0L);
+
+        return OutboxStatusResponse.builder()
+                .enabled(properties.isEnabled())
+                .pending(careerEventRepository.countPending())
+                .oldestPendingAgeMs(oldestPendingAgeMs)
+                .batches(batches.get())
+                .dispatched(dispatched.get())
+                .unhandled(unhandled.get())
+                .failures(failures.get())
+                .deadLettered(deadLettered.get())
+                .deliveryLagP50Millis(deliveryLag.percentileMillis(50))
+                .deliveryLagP99Millis(deliveryLag.percentileMillis(99))
+                .deliveryLagMaxMillis(deliveryLag.getMaxMillis())
+                .lastPolledAt(lastPolledAt)
+                .lastDispatchedEventCreatedAt(lastDispatchedEventCreatedAt)
+                .handledEventTypes(List.copyOf(handlersByType.keySet()))
+                .build();
+    }
+
+    /**
+     * 배치 하나 선점·처리 (트랜잭션 안에서 실행)
+     *
+     * @return 선점한 이벤트 수, 실패한 이벤트가 있으면 0
+     */
+    private int dispatchBatch() {
+        List<CareerEvent> events = careerEventRepository.claimPending(properties.getBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<CareerEvent> processed = new ArrayList<>(events.size());
+        for (CareerEvent event : events) {
+            if (dispatch(event)) {
+                processed.add(event);
+            }
+        }
+
+        LocalDateTime processedAt = LocalDateTime.now();
+        careerEventRepository.markProcessed(processed.stream().map(CareerEvent::getId).toList(), processedAt);
+        for (CareerEvent event : processed) {
+            deliveryLag.recordMicros(Math.max(0, Duration.between(event.getCreatedAt(), processedAt).toNanos() / 1000));
+            lastDispatchedEventCreatedAt = event.getCreatedAt();
+        }
+        batches.incrementAndGet();
+        log.debug("아웃박스 배치 처리 - 선점: {}건, 완료: {}건", events.size(), processed.size());
+
+        // 실패한 이벤트가 있으면 바로 다시 선점하지 않도록 이번 폴링을 끝내 재시도 간격을 폴링 주기로 둠
+        return processed.size() == events.size() ? events.size() : 0;
+    }
+
+    /**
+     * 이벤트 하나를 핸들러에 전달
+     *
+     * @return 처리 완료로 표시할지 여부 (실패 기록을 남긴 이벤트는 false)
+     */
+    private boolean dispatch(CareerEvent event) {
+        List<CareerEventHandler> handlers = handlersByType.get(event.getEventType());
+        if (handlers == null) {
+            unhandled.incrementAndGet();
+            dispatched.incrementAndGet();
+            return true;
+        }
+
+        try {
+            for (CareerEventHandler handler : handlers) {
+                handler.handle(event);
+            }
+            dispatched.incrementAndGet();
+            return true;
+        } catch (Exception e) {
+            boolean giveUp = event.getAttempts() + 1 >= properties.getMaxAttempts();
+            failures.incrementAndGet();
+            if (giveUp) {
+                deadLettered.incrementAndGet();
+                log.error("아웃박스 이벤트 처리 포기 - ID: {}, 유형: {}, 시도: {}회, 오류: {}",
+                        event.getId(), event.getEventType(), event.getAttempts() + 1, e.getMessage());
+            } else {
+                log.warn("아웃박스 이벤트 처리 실패, 재시도 예정 - ID: {}, 유형: {}, 오류: {}",
+                        event.getId(), event.getEventType(), e.getMessage());
+            }
+            careerEventRepository.recordFailure(event.getId(), e.getMessage(), giveUp, LocalDateTime.now());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.careercoach.api.service.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 이력서 변경 감사 로그 핸들러
+ * 커밋된 이력서 생성/수정 이벤트를 노드와 무관하게 정확히 한 번(재시도 시 최소 한 번) 감사 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class ResumeEventAuditHandler implements CareerEventHandler {
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(CareerEvent.RESUME_CREATED, CareerEvent.RESUME_UPDATED);
+    }
+
+    @Override
+    public void handle(CareerEvent event) {
+        log.info("이력서 변경 감사 - 이벤트 ID: {}, 유형: {}, 이력서 ID: {}, 데이터: {}, 발생 시각: {}",
+                event.getId(), event.getEventType(), event.getResumeId(), event.getEventData(), event.getCreatedAt());
+    }
+}
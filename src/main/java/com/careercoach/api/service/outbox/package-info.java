@@ -0,0 +1,6 @@
+/**
+ * 아웃박스 서비스 패키지
+ * 이력서 변경과 같은 트랜잭션에서 career_events에 기록한 이벤트를
+ * 여러 노드가 중복 없이 선점해 핸들러로 전달하는 디스패처를 포함합니다.
+ */
+package com.careercoach.api.service.outbox;
@@ -0,0 +1,72 @@
+package com.careercoach.api.service.retention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 파일 기록기
+ * 한 번의 보존 실행에서 한 테이블의 삭제 대상 행을 gzip 압축 NDJSON 파일 하나에 기록합니다.
+ *
+ * 청크마다 gzip 동기 플러시 후 fsync하므로 {@link #write(List)}가 반환된 행은
+ * 프로세스가 중단되어도 파일에 남아 있습니다 (트레일러가 없으면 zcat이 경고만 출력).
+ */
+class RetentionArchiveWriter implements Closeable {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final FileOutputStream fileOutput;
+    private final OutputStream output;
+    private long bytesWritten;
+
+    RetentionArchiveWriter(ObjectMapper objectMapper, Path directory, RetentionTable table, LocalDateTime startedAt)
+            throws IOException {
+        Path tableDirectory = directory.resolve(table.getTableName());
+        Files.createDirectories(tableDirectory);
+
+        this.objectMapper = objectMapper;
+        this.file = tableDirectory.resolve(table.getTableName() + "-" + FILE_TIMESTAMP.format(startedAt) + ".ndjson.gz");
+        this.fileOutput = new FileOutputStream(file.toFile(), true);
+        this.output = new GZIPOutputStream(new BufferedOutputStream(fileOutput), true);
+    }
+
+    /**
+     * 청크 기록 후 디스크에 동기화
+     */
+    void write(List<Map<String, Object>> rows) throws IOException {
+        for (Map<String, Object> row : rows) {
+            byte[] line = objectMapper.writeValueAsBytes(row);
+            output.write(line);
+            output.write('\n');
+            bytesWritten += line.length + 1;
+        }
+        output.flush();
+        fileOutput.getFD().sync();
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
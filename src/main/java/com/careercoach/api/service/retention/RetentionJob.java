@@ -0,0 +1,205 @@
+package com.careercoach.api.service.retention;
+
+import com.careercoach.api.config.RetentionProperties;
+import com.careercoach.api.dto.response.RetentionStatusResponse;
+import com.careercoach.api.repository.RetentionRepository;
+import com.careercoach.api.util.LatencyHistogram;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터 보존 작업
+ * ai_service_calls, career_events, background_jobs의 보존 기간이 지난 행을 기본 키 순서의 작은 청크로 삭제합니다.
+ *
+ * <ol>
+ *     <li>보존 기간이 지난 행의 최대 ID를 구해 이번 실행의 범위를 고정</li>
+ *     <li>키셋 조회로 청크를 읽고, 보관 정책이면 gzip 파일에 기록·fsync</li>
+ *     <li>청크의 기본 키 목록으로만 짧은 트랜잭션에서 삭제</li>
+ *     <li>직전 청크 처리 시간 이상(최소 pause-ms) 쉬어 점유율을 절반 이하로 제한</li>
+ * </ol>
+ *
+ * 보관 파일 기록 뒤 삭제 전에 중단되면 다음 실행에서 같은 행이 다시 보관될 수 있습니다 (최소 한 번 보관).
+ */
+@Slf4j
+@Component
+public class RetentionJob {
+
+    private final RetentionRepository retentionRepository;
+    private final RetentionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<RetentionTable, RetentionMetrics> metrics = new EnumMap<>(RetentionTable.class);
+
+    public RetentionJob(RetentionRepository retentionRepository, RetentionProperties properties,
+                        ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.retentionRepository = retentionRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (RetentionTable table : RetentionTable.values()) {
+            metrics.put(table, new RetentionMetrics(table));
+        }
+    }
+
+    /**
+     * 예약 실행
+     */
+    @Scheduled(fixedDelayString = "${retention.interval-ms:3600000}",
+            initialDelayString = "${retention.interval-ms:3600000}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (RetentionTable table : RetentionTable.values()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            purge(table);
+        }
+    }
+
+    /**
+     * 테이블 하나의 보존 기간이 지난 행 처리
+     */
+    public void purge(RetentionTable table) {
+        RetentionProperties.Policy policy = table.policyOf(properties);
+        RetentionMetrics tableMetrics = metrics.get(table);
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime cutoff = startedAt.minusDays(policy.getRetentionDays());
+
+        tableMetrics.start(cutoff);
+        try {
+            Optional<Long> maxId = retentionRepository.findMaxExpiredId(table, cutoff);
+            boolean complete = maxId.isEmpty() || purgeUpTo(table, policy, cutoff, maxId.get(), startedAt, tableMetrics);
+            tableMetrics.finish(complete);
+            if (tableMetrics.getLastRunDeletedRows() > 0) {
+                log.info("보존 작업 완료 - 테이블: {}, 삭제: {}건, 기준 시각: {}, 남은 행 있음: {}",
+                        table.getTableName(), tableMetrics.getLastRunDeletedRows(), cutoff, !complete);
+            }
+        } catch (Exception e) {
+            tableMetrics.fail(e.getMessage());
+            log.error("보존 작업 실패 - 테이블: {}, 오류: {}", table.getTableName(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 현재 보존 작업 상태
+     */
+    public RetentionStatusResponse getStatus() {
+        List<RetentionStatusResponse.TableStatus> tables = new ArrayList<>();
+        metrics.forEach((table, tableMetrics) -> {
+            RetentionProperties.Policy policy = table.policyOf(properties);
+            LatencyHistogram chunkLatency = tableMetrics.getChunkLatency();
+            tables.add(RetentionStatusResponse.TableStatus.builder()
+                    .tableName(table.getTableName())
+                    .retentionDays(policy.getRetentionDays())
+                    .archive(policy.isArchive())
+                    .running(tableMetrics.isRunning())
+                    .runs(tableMetrics.getRuns().get())
+                    .chunks(tableMetrics.getChunks().get())
+                    .deletedRows(tableMetrics.getDeletedRows().get())
+                    .archivedRows(tableMetrics.getArchivedRows().get())
+                    .archivedBytes(tableMetrics.getArchivedBytes().get())
+                    .failures(tableMetrics.getFailures().get())
+                    .throttledMillis(tableMetrics.getThrottledMillis().get())
+                    .chunkP50Millis(chunkLatency.percentileMillis(50))
+                    .chunkP99Millis(chunkLatency.percentileMillis(99))
+                    .chunkMaxMillis(chunkLatency.getMaxMillis())
+                    .lastStartedAt(tableMetrics.getLastStartedAt())
+                    .lastFinishedAt(tableMetrics.getLastFinishedAt())
+                    .lastCutoff(tableMetrics.getLastCutoff())
+                    .lastRunDeletedRows(tableMetrics.getLastRunDeletedRows())
+                    .lastRunComplete(tableMetrics.isLastRunComplete())
+                    .lastArchiveFile(tableMetrics.getLastArchiveFile())
+                    .lastError(tableMetrics.getLastError())
+                    .build());
+        });
+
+        return RetentionStatusResponse.builder()
+                .enabled(properties.isEnabled())
+                .chunkSize(properties.getChunkSize())
+                .pauseMs(properties.getPauseMs())
+                .tables(tables)
+                .build();
+    }
+
+    /**
+     * @return 범위 내 행을 모두 처리했으면 true, 청크 한도나 중단으로 남은 행이 있으면 false
+     */
+    private boolean purgeUpTo(RetentionTable table, RetentionProperties.Policy policy, LocalDateTime cutoff,
+                              long maxId, LocalDateTime startedAt, RetentionMetrics tableMetrics) throws IOException {
+        RetentionArchiveWriter archiveWriter = policy.isArchive()
+                ? new RetentionArchiveWriter(objectMapper, Path.of(properties.getArchiveDirectory()), table, startedAt)
+                : null;
+        try {
+            long afterId = 0;
+            for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+                long start = System.nanoTime();
+                List<Map<String, Object>> rows = retentionRepository.findExpiredChunk(
+                        table, cutoff, afterId, maxId, properties.getChunkSize(), archiveWriter != null);
+                if (rows.isEmpty()) {
+                    return true;
+                }
+
+                if (archiveWriter != null) {
+                    archiveWriter.write(rows);
+                }
+                List<Long> ids = rows.stream().map(row -> ((Number) row.get("id")).longValue()).toList();
+                Integer deleted = transactionTemplate.execute(status -> retentionRepository.deleteByIds(table, ids));
+                afterId = ids.get(ids.size() - 1);
+
+                long elapsedNanos = System.nanoTime() - start;
+                tableMetrics.recordChunk(deleted != null ? deleted : 0, archiveWriter != null ? rows.size() : 0, elapsedNanos);
+                if (rows.size() < properties.getChunkSize()) {
+                    return true;
+                }
+                if (!throttle(elapsedNanos, tableMetrics)) {
+                    return false;
+                }
+            }
+            return false;
+        } finally {
+            if (archiveWriter != null) {
+                archiveWriter.close();
+                if (archiveWriter.getBytesWritten() > 0) {
+                    tableMetrics.recordArchive(archiveWriter.getFile().toString(), archiveWriter.getBytesWritten());
+                } else {
+                    Files.deleteIfExists(archiveWriter.getFile());
+                }
+            }
+        }
+    }
+
+    /**
+     * 청크 사이 휴지
+     *
+     * @return 중단 요청 없이 쉬었으면 true
+     */
+    private boolean throttle(long elapsedNanos, RetentionMetrics tableMetrics) {
+        long pauseMs = Math.max(properties.getPauseMs(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        try {
+            Thread.sleep(pauseMs);
+            tableMetrics.recordThrottle(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
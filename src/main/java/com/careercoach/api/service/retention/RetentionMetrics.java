@@ -0,0 +1,78 @@
+package com.careercoach.api.service.retention;
+
+import com.careercoach.api.util.LatencyHistogram;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테이블별 보존 작업 지표
+ * 누적 처리량과 마지막 실행 상태, 청크 처리 시간 분포를 보관합니다.
+ */
+@Getter
+public class RetentionMetrics {
+
+    private final RetentionTable table;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+    private final AtomicLong deletedRows = new AtomicLong();
+    private final AtomicLong archivedRows = new AtomicLong();
+    private final AtomicLong archivedBytes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong throttledMillis = new AtomicLong();
+    private final LatencyHistogram chunkLatency = new LatencyHistogram();
+
+    private volatile boolean running;
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile LocalDateTime lastCutoff;
+    private volatile long lastRunDeletedRows;
+    private volatile boolean lastRunComplete;
+    private volatile String lastArchiveFile;
+    private volatile String lastError;
+
+    RetentionMetrics(RetentionTable table) {
+        this.table = table;
+    }
+
+    void start(LocalDateTime cutoff) {
+        runs.incrementAndGet();
+        running = true;
+        lastStartedAt = LocalDateTime.now();
+        lastCutoff = cutoff;
+        lastRunDeletedRows = 0;
+        lastRunComplete = false;
+        lastError = null;
+    }
+
+    void recordChunk(int deleted, int archived, long elapsedNanos) {
+        chunks.incrementAndGet();
+        deletedRows.addAndGet(deleted);
+        archivedRows.addAndGet(archived);
+        lastRunDeletedRows += deleted;
+        chunkLatency.recordNanos(elapsedNanos);
+    }
+
+    void recordArchive(String file, long bytes) {
+        lastArchiveFile = file;
+        archivedBytes.addAndGet(bytes);
+    }
+
+    void recordThrottle(long millis) {
+        throttledMillis.addAndGet(millis);
+    }
+
+    void finish(boolean complete) {
+        running = false;
+        lastRunComplete = complete;
+        lastFinishedAt = LocalDateTime.now();
+    }
+
+    void fail(String error) {
+        failures.incrementAndGet();
+        lastError = error;
+        finish(false);
+    }
+}
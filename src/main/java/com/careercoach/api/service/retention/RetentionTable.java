@@ -0,0 +1,34 @@
+package com.careercoach.api.service.retention;
+
+import com.careercoach.api.config.RetentionProperties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Function;
+
+/**
+ * 보존 작업 대상 테이블
+ * SQL에 들어가는 테이블명과 조건은 설정이 아닌 이 열거형에서만 가져옵니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RetentionTable {
+
+    AI_SERVICE_CALLS("ai_service_calls", null, RetentionProperties::getAiServiceCalls),
+    CAREER_EVENTS("career_events", "processed = TRUE", RetentionProperties::getCareerEvents),
+    BACKGROUND_JOBS("background_jobs", "status IN ('SUCCEEDED', 'CANCELLED', 'DEAD')", RetentionProperties::getBackgroundJobs),
+    CACHE_INVALIDATIONS("cache_invalidations", null, RetentionProperties::getCacheInvalidations);
+
+    private final String tableName;
+
+    /**
+     * 보존 기간 외에 추가로 만족해야 하는 조건 (없으면 null)
+     */
+    private final String condition;
+
+    private final Function<RetentionProperties, RetentionProperties.Policy> policy;
+
+    public RetentionProperties.Policy policyOf(RetentionProperties properties) {
+        return policy.apply(properties);
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 데이터 보존 서비스 패키지
+ * 모니터링/이벤트 테이블의 오래된 행을 키셋 순서의 작은 청크로 보관·삭제하는 예약 작업을 포함합니다.
+ */
+package com.careercoach.api.service.retention;
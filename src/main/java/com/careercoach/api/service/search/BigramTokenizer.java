@@ -0,0 +1,69 @@
+package com.careercoach.api.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한국어 바이그램 토크나이저
+ * 한글/한자/가나 연속 구간은 음절 바이그램으로, 영문/숫자 연속 구간은 소문자 단어로 분리합니다.
+ * 형태소 분석 없이도 조사가 붙은 어절("스프링으로", "스프링을")이 같은 바이그램("스프", "프링")을 공유합니다.
+ * 한 글자짜리 한글 구간은 그대로 하나의 토큰으로 사용합니다.
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 텍스트 토큰화
+     *
+     * @param text 원문
+     * @return 등장 순서대로의 토큰 목록 (중복 포함)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isCjk(c)) {
+                int start = i;
+                while (i < length && isCjk(text.charAt(i))) {
+                    i++;
+                }
+                addBigrams(text, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isCjk(text.charAt(i))) {
+                    i++;
+                }
+                tokens.add(text.substring(start, i).toLowerCase());
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,461 @@
+package com.careercoach.api.service.search;
+
+import com.careercoach.api.config.FullTextSearchProperties;
+import com.careercoach.api.event.ResumeChangedEvent;
+import com.careercoach.api.repository.ResumeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이력서 전문 검색 색인
+ * 경력 요약과 프로젝트 경험을 바이그램으로 색인하고 BM25(필드 가중 빈도)로 순위를 매깁니다.
+ *
+ * 커밋된 이력서 변경을 즉시 메모리 색인에 반영하고, persistent 설정 시 변경분을 주기적으로 디스크 세그먼트에 기록합니다.
+ * 기동 시 세그먼트를 재생한 뒤 데이터베이스와 대조해 누락/삭제분과 원문 지문이 다른 문서만 다시 색인하므로,
+ * 데이터베이스가 다시 만들어져 같은 ID가 다른 이력서에 발급되었거나 내려가 있는 동안 수정된 내용도 보정됩니다.
+ */
+@Slf4j
+@Component
+public class FullTextIndex {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final ResumeRepository resumeRepository;
+    private final FullTextSearchProperties properties;
+    private final FullTextSegmentStore segmentStore;
+
+    // 단어 → (이력서 ID → 가중 빈도)
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private double totalLength;
+
+    // 다음 세그먼트에 기록할 변경분
+    private final Map<Long, IndexedDocument> pendingDocuments = new LinkedHashMap<>();
+    private final Set<Long> pendingDeletes = new LinkedHashSet<>();
+    private long generation;
+
+    // 대조 중 실시간으로 변경된 문서 ID (대조 중이 아니면 null, 대조 결과가 실시간 변경을 덮어쓰지 않도록 건너뜀)
+    private Set<Long> changedDuringReconcile;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public FullTextIndex(ResumeRepository resumeRepository, FullTextSearchProperties properties) {
+        this.resumeRepository = resumeRepository;
+        this.properties = properties;
+        this.segmentStore = properties.isPersistent()
+                ? new FullTextSegmentStore(Path.of(properties.getDirectory())) : null;
+    }
+
+    /**
+     * 기동 완료 후 세그먼트 재생 및 데이터베이스 대조
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<Long> generations = segmentStore != null ? segmentStore.generations() : List.of();
+
+        lock.writeLock().lock();
+        try {
+            for (Long segment : generations) {
+                segmentStore.read(segment, new FullTextSegmentStore.SegmentVisitor() {
+                    @Override
+                    public void delete(long resumeId) {
+                        removeDocument(resumeId);
+                    }
+
+                    @Override
+                    public void add(long resumeId, IndexedDocument document) {
+                        addDocument(resumeId, document);
+                    }
+                });
+                generation = segment;
+            }
+        } catch (IOException e) {
+            log.error("전문 검색 세그먼트 재생 실패, 데이터베이스에서 다시 색인합니다: {}", e.getMessage());
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            // 읽지 못한 세그먼트는 다음 병합에서 지워지도록 마지막 세대 뒤부터 기록
+            generation = generations.get(generations.size() - 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        reconcile();
+        log.info("전문 검색 색인 적재 완료 - 세그먼트 수: {}, 문서 수: {}, 단어 수: {}, 소요 시간: {}ms",
+                generations.size(), getDocumentCount(), getTermCount(), System.currentTimeMillis() - start);
+        compact();
+    }
+
+    /**
+     * 커밋된 이력서 변경 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleResumeChangedEvent(ResumeChangedEvent event) {
+        if (event.getResume() != null) {
+            index(event.getResume().getId(), event.getResume().getCareerSummary(), event.getResume().getProjectExperience());
+        } else {
+            delete(event.getResumeId());
+        }
+    }
+
+    /**
+     * 문서 색인 (기존 문서는 교체)
+     */
+    public void index(Long resumeId, String careerSummary, String projectExperience) {
+        IndexedDocument document = analyze(careerSummary, projectExperience);
+
+        lock.writeLock().lock();
+        try {
+            markChanged(resumeId);
+            putDocument(resumeId, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void delete(Long resumeId) {
+        lock.writeLock().lock();
+        try {
+            markChanged(resumeId);
+            deleteDocument(resumeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 순위 검색
+     *
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 전체 일치 수와 요청 페이지의 점수순 결과
+     */
+    public FullTextSearchResult search(String query, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(BigramTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return new FullTextSearchResult(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return new FullTextSearchResult(0, List.of());
+            }
+            double averageLength = totalLength / documentCount;
+            float k1 = properties.getK1();
+            float b = properties.getB();
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                int df = termPostings.size();
+                double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                termPostings.forEach((resumeId, tf) -> {
+                    double lengthNorm = 1 - b + b * documents.get(resumeId).getLength() / averageLength;
+                    double termScore = idf * tf * (k1 + 1) / (tf + k1 * lengthNorm);
+                    scores.merge(resumeId, termScore, Double::sum);
+                });
+            }
+
+            return new FullTextSearchResult(scores.size(), topHits(scores, page, size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 변경분을 새 세그먼트로 기록하고, 세그먼트가 많으면 병합
+     */
+    @Scheduled(fixedDelayString = "${search.full-text.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (segmentStore == null) {
+            return;
+        }
+        Map<Long, IndexedDocument> changed;
+        List<Long> deleted;
+        long segment;
+
+        lock.writeLock().lock();
+        try {
+            if (pendingDocuments.isEmpty() && pendingDeletes.isEmpty()) {
+                return;
+            }
+
+            changed = new LinkedHashMap<>(pendingDocuments);
+            deleted = new ArrayList<>(pendingDeletes);
+            pendingDocuments.clear();
+            pendingDeletes.clear();
+            segment = ++generation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            segmentStore.write(segment, changed, deleted);
+            log.debug("전문 검색 세그먼트 기록 - 세대: {}, 문서: {}, 삭제: {}", segment, changed.size(), deleted.size());
+        } catch (IOException e) {
+            log.error("전문 검색 세그먼트 기록 실패, 다음 주기에 전체 스냅샷으로 기록합니다: {}", e.getMessage());
+            compact();
+            return;
+        }
+
+        if (segmentStore.generations().size() > properties.getMaxSegments()) {
+            compact();
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경분 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 문서를 스냅샷 세그먼트 하나로 병합
+     */
+    private synchronized void compact() {
+        if (segmentStore == null) {
+            return;
+        }
+        Map<Long, IndexedDocument> snapshot;
+        long segment;
+
+        lock.writeLock().lock();
+        try {
+            snapshot = new HashMap<>(documents);
+            pendingDocuments.clear();
+            pendingDeletes.clear();
+            segment = ++generation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            segmentStore.write(segment, snapshot, List.of());
+            segmentStore.deleteBefore(segment);
+            log.info("전문 검색 세그먼트 병합 완료 - 세대: {}, 문서 수: {}", segment, snapshot.size());
+        } catch (IOException e) {
+            log.error("전문 검색 세그먼트 병합 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스와 대조해 삭제된 문서를 제거하고, 누락되었거나 원문 지문이 다른 문서를 다시 색인
+     * 색인 스냅샷을 데이터베이스 조회보다 먼저 떠서 이후 추가된 문서는 삭제 대상이 되지 않으며,
+     * 대조 중 실시간으로 색인/삭제된 문서는 대조 결과를 적용하지 않습니다.
+     */
+    private void reconcile() {
+        Map<Long, Long> indexed = new HashMap<>();
+        lock.writeLock().lock();
+        try {
+            changedDuringReconcile = new HashSet<>();
+            documents.forEach((id, document) -> indexed.put(id, document.getFingerprint()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int removed = 0;
+        int reindexed = 0;
+        try {
+            List<Long> databaseIds = resumeRepository.findAllIds();
+            Set<Long> ghosts = new HashSet<>(indexed.keySet());
+            databaseIds.forEach(ghosts::remove);
+            for (Long resumeId : ghosts) {
+                if (applyReconciled(resumeId, null)) {
+                    removed++;
+                }
+            }
+
+            for (int from = 0; from < databaseIds.size(); from += RECONCILE_CHUNK_SIZE) {
+                List<Long> chunk = databaseIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, databaseIds.size()));
+                for (Object[] row : resumeRepository.findFullTextFieldsByIdIn(chunk)) {
+                    Long resumeId = (Long) row[0];
+                    String careerSummary = (String) row[1];
+                    String projectExperience = (String) row[2];
+                    Long fingerprint = indexed.get(resumeId);
+                    if (fingerprint != null && fingerprint == IndexedDocument.fingerprint(careerSummary, projectExperience)) {
+                        continue;
+                    }
+                    if (applyReconciled(resumeId, analyze(careerSummary, projectExperience))) {
+                        reindexed++;
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringReconcile = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        if (removed > 0 || reindexed > 0) {
+            log.info("전문 검색 색인 대조 - 제거: {}, 추가/갱신: {}", removed, reindexed);
+        }
+    }
+
+    /**
+     * 대조 결과 적용 (대조 중 실시간으로 변경된 문서는 건너뜀)
+     *
+     * @param document 색인할 문서 (null이면 삭제)
+     * @return 적용 여부
+     */
+    private boolean applyReconciled(Long resumeId, IndexedDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringReconcile != null && changedDuringReconcile.contains(resumeId)) {
+                return false;
+            }
+            if (document != null) {
+                putDocument(resumeId, document);
+            } else {
+                deleteDocument(resumeId);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markChanged(Long resumeId) {
+        if (changedDuringReconcile != null) {
+            changedDuringReconcile.add(resumeId);
+        }
+    }
+
+    /**
+     * 색인 반영 후 세그먼트를 쓰는 경우에만 변경분으로 기록
+     */
+    private void putDocument(Long resumeId, IndexedDocument document) {
+        addDocument(resumeId, document);
+        if (segmentStore == null) {
+            return;
+        }
+        pendingDeletes.add(resumeId);
+        pendingDocuments.put(resumeId, document);
+    }
+
+    private void deleteDocument(Long resumeId) {
+        removeDocument(resumeId);
+        if (segmentStore == null) {
+            return;
+        }
+        pendingDocuments.remove(resumeId);
+        pendingDeletes.add(resumeId);
+    }
+
+    private IndexedDocument analyze(String careerSummary, String projectExperience) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = addField(frequencies, careerSummary, properties.getCareerSummaryWeight())
+                + addField(frequencies, projectExperience, properties.getProjectExperienceWeight());
+        return new IndexedDocument(length, frequencies,
+                IndexedDocument.fingerprint(careerSummary, projectExperience));
+    }
+
+    private float addField(Map<String, Float> frequencies, String text, float weight) {
+        List<String> tokens = BigramTokenizer.tokenize(text);
+        tokens.forEach(token -> frequencies.merge(token, weight, Float::sum));
+        return tokens.size() * weight;
+    }
+
+    private void addDocument(long resumeId, IndexedDocument document) {
+        removeDocument(resumeId);
+        documents.put(resumeId, document);
+        totalLength += document.getLength();
+        document.getTermFrequencies().forEach((term, tf) ->
+                postings.computeIfAbsent(term, k -> new HashMap<>()).put(resumeId, tf));
+    }
+
+    private void removeDocument(long resumeId) {
+        IndexedDocument previous = documents.remove(resumeId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.getLength();
+        previous.getTermFrequencies().keySet().forEach(term -> {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(resumeId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+    }
+
+    private static List<ScoredResume> topHits(Map<Long, Double> scores, int page, int size) {
+        long offset = (long) page * size;
+        if (offset >= scores.size()) {
+            return List.of();
+        }
+        int limit = (int) Math.min(offset + size, scores.size());
+        Comparator<Map.Entry<Long, Double>> byRank = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+
+        // 상위 limit개만 유지하는 최소 힙
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(limit + 1, byRank);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(byRank.reversed());
+        return ranked.stream()
+                .skip(offset)
+                .map(entry -> new ScoredResume(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,18 @@
+package com.careercoach.api.service.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 전문 검색 결과
+ * 일치한 전체 문서 수와 요청한 페이지의 점수순 이력서 ID를 담습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FullTextSearchResult {
+
+    private final long totalHits;
+    private final List<ScoredResume> hits;
+}
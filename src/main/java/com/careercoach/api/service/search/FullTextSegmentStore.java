@@ -0,0 +1,148 @@
+package com.careercoach.api.service.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전문 검색 세그먼트 저장소
+ * 세그먼트는 한 번 기록되면 바뀌지 않는 파일이며, 해당 기간에 추가/수정된 문서와 삭제된 문서 ID를 담습니다.
+ * 세그먼트를 세대 순서대로 재생하면 색인이 복원되고, 병합 시에는 전체 스냅샷 세그먼트 하나로 대체합니다.
+ *
+ * 파일 형식 (GZIP): MAGIC, 삭제 수, 삭제 ID..., 문서 수, (문서 ID, 지문, 길이, 단어 수, (단어, 빈도)...)...
+ * 형식이 다른 세그먼트(이전 버전 포함)는 읽기 오류로 처리되어 데이터베이스에서 다시 색인합니다.
+ */
+@Slf4j
+class FullTextSegmentStore {
+
+    private static final int MAGIC = 0x46545332; // "FTS2"
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".fts";
+
+    private final Path directory;
+
+    FullTextSegmentStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("전문 검색 색인 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 세그먼트 재생 콜백
+     */
+    interface SegmentVisitor {
+        void delete(long resumeId);
+
+        void add(long resumeId, IndexedDocument document);
+    }
+
+    /**
+     * 세대 순으로 정렬된 세그먼트 세대 목록
+     */
+    List<Long> generations() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 세그먼트 기록 (임시 파일에 쓴 뒤 원자적으로 이동)
+     */
+    void write(long generation, Map<Long, IndexedDocument> documents, Collection<Long> deleted) throws IOException {
+        Path target = pathOf(generation);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(deleted.size());
+            for (Long resumeId : deleted) {
+                out.writeLong(resumeId);
+            }
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, IndexedDocument> entry : documents.entrySet()) {
+                IndexedDocument document = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeLong(document.getFingerprint());
+                out.writeFloat(document.getLength());
+                out.writeInt(document.getTermFrequencies().size());
+                for (Map.Entry<String, Float> term : document.getTermFrequencies().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeFloat(term.getValue());
+                }
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 세그먼트 재생 (삭제를 먼저 적용한 뒤 문서 추가)
+     */
+    void read(long generation, SegmentVisitor visitor) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(pathOf(generation)))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("전문 검색 세그먼트 형식이 올바르지 않습니다: " + pathOf(generation));
+            }
+            int deletedCount = in.readInt();
+            for (int i = 0; i < deletedCount; i++) {
+                visitor.delete(in.readLong());
+            }
+            int documentCount = in.readInt();
+            for (int i = 0; i < documentCount; i++) {
+                long resumeId = in.readLong();
+                long fingerprint = in.readLong();
+                float length = in.readFloat();
+                int termCount = in.readInt();
+                Map<String, Float> terms = new HashMap<>(termCount * 2);
+                for (int t = 0; t < termCount; t++) {
+                    terms.put(in.readUTF(), in.readFloat());
+                }
+                visitor.add(resumeId, new IndexedDocument(length, terms, fingerprint));
+            }
+        }
+    }
+
+    /**
+     * 지정한 세대보다 오래된 세그먼트 삭제
+     */
+    void deleteBefore(long generation) {
+        for (Long old : generations()) {
+            if (old < generation) {
+                try {
+                    Files.deleteIfExists(pathOf(old));
+                } catch (IOException e) {
+                    log.warn("전문 검색 세그먼트 삭제 실패 - 세대: {}, 오류: {}", old, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Path pathOf(long generation) {
+        return directory.resolve(String.format("%s%08d%s", PREFIX, generation, SUFFIX));
+    }
+}
@@ -0,0 +1,45 @@
+package com.careercoach.api.service.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 색인된 문서
+ * 필드 가중치를 반영한 문서 길이와 단어별 가중 빈도, 원문 지문을 보관합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+class IndexedDocument {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final float length;
+    private final Map<String, Float> termFrequencies;
+
+    // 색인한 원문의 지문 (대조 시 데이터베이스 값과 비교)
+    private final long fingerprint;
+
+    /**
+     * 원문 지문 (FNV-1a 64비트, 필드 경계와 null을 구분)
+     */
+    static long fingerprint(String careerSummary, String projectExperience) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, careerSummary);
+        hash = mix(hash, projectExperience);
+        return hash;
+    }
+
+    private static long mix(long hash, String text) {
+        if (text == null) {
+            return (hash ^ 0xFFFF) * FNV_PRIME;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        // 필드 구분자 (문자로 나올 수 없는 값)
+        return (hash ^ 0x10000) * FNV_PRIME;
+    }
+}
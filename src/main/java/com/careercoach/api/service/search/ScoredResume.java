@@ -0,0 +1,15 @@
+package com.careercoach.api.service.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BM25 점수가 매겨진 이력서 ID
+ */
+@Getter
+@RequiredArgsConstructor
+public class ScoredResume {
+
+    private final Long resumeId;
+    private final double score;
+}
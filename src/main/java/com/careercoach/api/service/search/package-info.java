@@ -0,0 +1,5 @@
+/**
+ * 전문 검색 서비스 패키지
+ * 한국어 바이그램 토크나이저와 BM25 전문 검색 색인을 포함합니다.
+ */
+package com.careercoach.api.service.search;
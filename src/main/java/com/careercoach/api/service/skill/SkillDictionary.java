@@ -0,0 +1,511 @@
+package com.careercoach.api.service.skill;
+
+import com.careercoach.api.domain.entity.Skill;
+import com.careercoach.api.repository.SkillRepository;
+import com.careercoach.api.util.SkillNames;
+import com.careercoach.api.util.SkillSet;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * 기술 사전
+ * 정규화된 기술명과 정수 기술 ID를 양방향으로 매핑하는 정식(canonical) 기술 목록입니다.
+ *
+ * <ul>
+ *     <li>대소문자·공백·구분 기호 차이는 정규화로, "k8s" → "Kubernetes" 같은 별칭은 동의어 파일로 하나의 기술로 모읍니다.</li>
+ *     <li>기술명은 기술마다 하나의 문자열 인스턴스만 보관하고 모든 이력서가 이를 공유합니다.</li>
+ *     <li>조회 테이블은 불변 스냅샷으로 교체하므로 조회는 락 없이 수행됩니다.</li>
+ * </ul>
+ *
+ * 기동 시 skills 테이블 전체를 적재하고, 처음 보는 기술은 별도 트랜잭션으로 즉시 등록합니다.
+ * 여러 기술을 한 번에 등록할 때는 모두 저장한 뒤 조회 테이블을 한 번만 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class SkillDictionary {
+
+    public static final int NOT_FOUND = SkillNameTable.NOT_FOUND;
+
+    private static final char FIELD_SEPARATOR = '\t';
+
+    private final SkillRepository skillRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final ResourceLoader resourceLoader;
+    private final String synonymsLocation;
+    private final IntFunction<String> canonicalNames = this::canonicalName;
+
+    // 동의어 파일: 별칭 키 → 정식 키, 정식 키 → 표기, 정식 키 → 별칭 키 목록 (적재 후 불변)
+    private Map<String, String> canonicalKeysByAlias = Map.of();
+    private Map<String, String> displayNames = Map.of();
+    private Map<String, List<String>> aliasesByCanonicalKey = Map.of();
+
+    // 정규화된 기술명(별칭 포함) → 기술 ID, this로 보호하며 변경 시 table을 다시 만듦
+    private final Map<String, Integer> idsByKey = new HashMap<>();
+    private volatile SkillNameTable table = SkillNameTable.EMPTY;
+    // 기술 ID → 정식 기술명 (쓰기 시 배열 교체)
+    private volatile String[] namesById = new String[0];
+    // 동의어 도입 전에 따로 등록된 별칭 기술 ID → 정식 기술 ID
+    private final Map<Integer, Integer> mergedIds = new ConcurrentHashMap<>();
+
+    public SkillDictionary(SkillRepository skillRepository, PlatformTransactionManager transactionManager,
+                           ResourceLoader resourceLoader,
+                           @Value("${skill-dictionary.synonyms-location:classpath:skills/synonyms.tsv}") String synonymsLocation) {
+        this.skillRepository = skillRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.resourceLoader = resourceLoader;
+        this.synonymsLocation = synonymsLocation;
+    }
+
+    /**
+     * 동의어 파일 적재
+     * 각 줄은 정식 기술명 뒤에 탭으로 구분한 별칭을 나열합니다.
+     */
+    @PostConstruct
+    public void loadSynonyms() {
+        Map<String, String> canonicalKeys = new HashMap<>();
+        Map<String, String> names = new HashMap<>();
+        Map<String, List<String>> aliases = new HashMap<>();
+
+        Resource resource = resourceLoader.getResource(synonymsLocation);
+        if (!resource.exists()) {
+            log.info("기술 동의어 파일 없음 - 위치: {}", synonymsLocation);
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(String.valueOf(FIELD_SEPARATOR));
+                String canonicalKey = SkillNames.normalize(fields[0]);
+                names.put(canonicalKey, fields[0].trim());
+                for (int i = 1; i < fields.length; i++) {
+                    String aliasKey = SkillNames.normalize(fields[i]);
+                    if (!aliasKey.isEmpty() && !aliasKey.equals(canonicalKey)) {
+                        canonicalKeys.put(aliasKey, canonicalKey);
+                        aliases.computeIfAbsent(canonicalKey, k -> new ArrayList<>()).add(aliasKey);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("기술 동의어 적재 실패 - 위치: {}, 오류: {}", synonymsLocation, e.getMessage());
+            return;
+        }
+
+        this.canonicalKeysByAlias = Map.copyOf(canonicalKeys);
+        this.displayNames = Map.copyOf(names);
+        this.aliasesByCanonicalKey = Map.copyOf(aliases);
+        log.info("기술 동의어 적재 완료 - 정식 기술: {}개, 별칭: {}개", names.size(), canonicalKeys.size());
+    }
+
+    /**
+     * 기동 완료 후 기술 사전 적재 (기술 색인보다 먼저 실행)
+     * 동의어가 생기기 전에 별칭으로 따로 등록된 기술은 정식 기술로 병합해 조회합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void load() {
+        List<Skill> aliasSkills = new ArrayList<>();
+        synchronized (this) {
+            for (Skill skill : skillRepository.findAll()) {
+                if (canonicalKeysByAlias.containsKey(skill.getNormalizedName())) {
+                    aliasSkills.add(skill);
+                } else {
+                    register(skill);
+                }
+            }
+            publish();
+        }
+
+        Map<String, String> canonicalSkills = new LinkedHashMap<>();
+        for (Skill aliasSkill : aliasSkills) {
+            String canonicalKey = canonicalKeysByAlias.get(aliasSkill.getNormalizedName());
+            canonicalSkills.putIfAbsent(canonicalKey, displayNames.getOrDefault(canonicalKey, aliasSkill.getName()));
+        }
+        Map<String, Integer> canonicalIds = createAll(canonicalSkills);
+        synchronized (this) {
+            for (Skill aliasSkill : aliasSkills) {
+                int canonicalId = canonicalIds.get(canonicalKeysByAlias.get(aliasSkill.getNormalizedName()));
+                int aliasId = Math.toIntExact(aliasSkill.getId());
+                mergedIds.put(aliasId, canonicalId);
+                setName(aliasId, canonicalName(canonicalId));
+            }
+        }
+
+        log.info("기술 사전 적재 완료 - 기술 수: {}, 병합된 별칭 기술: {}", size(), aliasSkills.size());
+    }
+
+    /**
+     * 원문 구간 [start, end)의 기술 ID 조회 (할당 없음)
+     * 사전에 없거나 아직 정식 기술이 등록되지 않은 별칭이면 {@link #NOT_FOUND}를 반환하므로
+     * 호출자는 {@link #lookup(String)}으로 다시 조회합니다.
+     */
+    public int lookup(CharSequence text, int start, int end) {
+        return table.get(text, start, end);
+    }
+
+    /**
+     * 기술 ID 조회 (등록하지 않음)
+     *
+     * @param skill 기술명 (정규화 전)
+     * @return 정식 기술 ID, 사전에 없으면 {@link #NOT_FOUND}
+     */
+    public int lookup(String skill) {
+        return idOf(SkillNames.normalize(skill));
+    }
+
+    /**
+     * 기술 ID 조회, 사전에 없으면 skills 테이블에서 조회해 사전에 반영 (등록하지 않음)
+     * 다른 노드가 등록했거나 사전 적재 전인 기술을 찾기 위한 것으로, 조회는 호출한 트랜잭션과 분리해 수행합니다.
+     *
+     * @param skill 기술명 (정규화 전)
+     * @return 정식 기술 ID, 테이블에도 없으면 {@link #NOT_FOUND}
+     */
+    public int lookupStored(String skill) {
+        String key = skill == null ? "" : SkillNames.normalize(skill);
+        int id = idOf(key);
+        if (id != NOT_FOUND || key.isEmpty()) {
+            return id;
+        }
+
+        String canonicalKey = canonicalKeysByAlias.getOrDefault(key, key);
+        Optional<Skill> stored = requiresNewTransaction.execute(status -> skillRepository.findByNormalizedName(canonicalKey));
+        if (stored == null || stored.isEmpty()) {
+            return NOT_FOUND;
+        }
+        synchronized (this) {
+            register(stored.get());
+            publish();
+        }
+        return idOf(key);
+    }
+
+    /**
+     * 기술 ID 조회
+     *
+     * @param skill 기술명 (정규화 전)
+     * @return 기술 ID, 사전에 없으면 빈 값
+     */
+    public Optional<Long> find(String skill) {
+        int id = lookup(skill);
+        return id == NOT_FOUND ? Optional.empty() : Optional.of((long) id);
+    }
+
+    /**
+     * 기술명이 가리키는 정식 키와 그 별칭 키 목록 (동의어 파일만 사용하므로 사전 적재 전에도 사용 가능)
+     *
+     * @param skill 기술명 (정규화 전)
+     * @return 정식 키가 먼저 오는 정규화 이름 목록
+     */
+    public List<String> normalizedNames(String skill) {
+        String key = skill == null ? "" : SkillNames.normalize(skill);
+        String canonicalKey = canonicalKeysByAlias.getOrDefault(key, key);
+        List<String> aliases = aliasesByCanonicalKey.getOrDefault(canonicalKey, List.of());
+        List<String> names = new ArrayList<>(aliases.size() + 1);
+        names.add(canonicalKey);
+        names.addAll(aliases);
+        return names;
+    }
+
+    /**
+     * 기술 ID 목록 조회 (사전에 없는 기술은 제외)
+     */
+    public Set<Long> findAll(Collection<String> skills) {
+        if (skills instanceof SkillSet skillSet && skillSet.isResolved()) {
+            return idsOf(skillSet);
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        if (skills != null) {
+            skills.forEach(skill -> find(skill).ifPresent(ids::add));
+        }
+        return ids;
+    }
+
+    /**
+     * 기술 ID 조회, 없으면 등록
+     * 등록은 호출한 트랜잭션과 분리해 커밋하므로 호출 트랜잭션이 롤백되어도 사전은 유지됩니다.
+     *
+     * @param skill 기술명 (정규화 전)
+     * @return 정식 기술 ID, 기술명이 비어 있으면 {@link #NOT_FOUND}
+     */
+    public int resolve(String skill) {
+        return resolveIds(List.of(skill))[0];
+    }
+
+    /**
+     * 기술 ID 목록 조회, 없으면 등록
+     *
+     * @param skills 기술명 목록 (정규화 전)
+     * @return 중복이 제거된 정식 기술 ID 목록
+     */
+    public Set<Long> resolveAll(Collection<String> skills) {
+        if (skills instanceof SkillSet skillSet && skillSet.isResolved()) {
+            return idsOf(skillSet);
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        if (skills != null) {
+            for (int id : resolveIds(skills)) {
+                if (id != NOT_FOUND) {
+                    ids.add((long) id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 기술명 목록을 정식 기술 스택으로 변환 (처음 보는 기술은 등록)
+     */
+    public SkillSet toSkillSet(Collection<String> skills) {
+        if (skills instanceof SkillSet skillSet && skillSet.isResolved()) {
+            return skillSet;
+        }
+        if (skills == null || skills.isEmpty()) {
+            return SkillSet.EMPTY;
+        }
+        int[] ids = resolveIds(skills);
+        int count = 0;
+        for (int id : ids) {
+            if (id != NOT_FOUND) {
+                ids[count++] = id;
+            }
+        }
+        return SkillSet.of(ids, count, canonicalNames);
+    }
+
+    /**
+     * 기술명 목록을 정식 기술 스택으로 변환 (등록하지 않음)
+     * 사전에 없는 기술은 skills 테이블에서 찾고, 테이블에도 없으면 원래 이름 그대로 보관합니다.
+     */
+    public SkillSet toKnownSkillSet(Collection<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return SkillSet.EMPTY;
+        }
+        int[] ids = new int[skills.size()];
+        int count = 0;
+        List<String> unresolved = null;
+        for (String skill : skills) {
+            int id = lookupStored(skill);
+            if (id != NOT_FOUND) {
+                ids[count++] = id;
+            } else if (skill != null && !skill.isBlank()) {
+                if (unresolved == null) {
+                    unresolved = new ArrayList<>();
+                }
+                unresolved.add(skill);
+            }
+        }
+        return SkillSet.of(ids, count, canonicalNames, unresolved);
+    }
+
+    /**
+     * 기술 ID 목록을 정식 기술 스택으로 변환 (사전에 없는 ID는 제외)
+     */
+    public SkillSet toSkillSetOfIds(List<Long> skillIds) {
+        int[] ids = new int[skillIds.size()];
+        int count = 0;
+        for (Long skillId : skillIds) {
+            int id = canonicalId(skillId);
+            if (canonicalName(id) != null) {
+                ids[count++] = id;
+            }
+        }
+        return SkillSet.of(ids, count, canonicalNames);
+    }
+
+    /**
+     * 기술 ID에 해당하는 기술명 조회
+     */
+    public Optional<String> nameOf(Long skillId) {
+        return skillId == null ? Optional.empty() : Optional.ofNullable(canonicalName(Math.toIntExact(skillId)));
+    }
+
+    /**
+     * 기술 ID에 해당하는 정식 기술명 (사전이 보관하는 인스턴스)
+     *
+     * @return 정식 기술명, 사전에 없으면 null
+     */
+    public String canonicalName(int skillId) {
+        String[] names = namesById;
+        return skillId >= 0 && skillId < names.length ? names[skillId] : null;
+    }
+
+    /**
+     * 기술 ID → 정식 기술명 함수 (SkillSet 생성용)
+     */
+    public IntFunction<String> canonicalNames() {
+        return canonicalNames;
+    }
+
+    /**
+     * 별칭으로 따로 등록되었던 기술 ID를 정식 기술 ID로 변환
+     */
+    public int canonicalId(long skillId) {
+        int id = Math.toIntExact(skillId);
+        return mergedIds.getOrDefault(id, id);
+    }
+
+    public synchronized int size() {
+        return (int) idsByKey.values().stream().distinct().count();
+    }
+
+    private int idOf(String key) {
+        if (key.isEmpty()) {
+            return NOT_FOUND;
+        }
+        int id = table.get(key);
+        if (id == NOT_FOUND && canonicalKeysByAlias.containsKey(key)) {
+            id = table.get(canonicalKeysByAlias.get(key));
+        }
+        return id;
+    }
+
+    private static Set<Long> idsOf(SkillSet skillSet) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (int i = 0; i < skillSet.resolvedCount(); i++) {
+            ids.add((long) skillSet.idAt(i));
+        }
+        return ids;
+    }
+
+    /**
+     * 기술명마다 기술 ID 조회, 사전에 없는 기술은 한 번에 등록
+     *
+     * @return 입력 순서의 정식 기술 ID 배열 (기술명이 비어 있으면 {@link #NOT_FOUND})
+     */
+    private int[] resolveIds(Collection<String> skills) {
+        int[] ids = new int[skills.size()];
+        String[] missingKeys = null;
+        Map<String, String> missing = new LinkedHashMap<>();
+
+        int i = 0;
+        for (String skill : skills) {
+            String key = skill == null ? "" : SkillNames.normalize(skill);
+            int id = idOf(key);
+            if (id == NOT_FOUND && !key.isEmpty()) {
+                String canonicalKey = canonicalKeysByAlias.getOrDefault(key, key);
+                missing.putIfAbsent(canonicalKey, displayNames.getOrDefault(canonicalKey, skill.trim()));
+                if (missingKeys == null) {
+                    missingKeys = new String[ids.length];
+                }
+                missingKeys[i] = canonicalKey;
+            }
+            ids[i++] = id;
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, Integer> created = createAll(missing);
+            for (int j = 0; j < ids.length; j++) {
+                if (missingKeys[j] != null) {
+                    ids[j] = created.get(missingKeys[j]);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 기술 일괄 등록 (기술마다 별도 트랜잭션으로 저장하고 조회 테이블은 마지막에 한 번만 교체)
+     *
+     * @param namesByCanonicalKey 정식 키 → 표기
+     * @return 정식 키 → 기술 ID
+     */
+    private Map<String, Integer> createAll(Map<String, String> namesByCanonicalKey) {
+        Map<String, Integer> ids = new HashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>();
+        synchronized (this) {
+            namesByCanonicalKey.forEach((key, name) -> {
+                Integer existing = idsByKey.get(key);
+                if (existing != null) {
+                    ids.put(key, existing);
+                } else {
+                    missing.put(key, name);
+                }
+            });
+        }
+        if (missing.isEmpty()) {
+            return ids;
+        }
+
+        List<Skill> skills = new ArrayList<>(missing.size());
+        missing.forEach((key, name) -> skills.add(createSkill(name, key)));
+
+        synchronized (this) {
+            skills.forEach(this::register);
+            publish();
+        }
+        for (Skill skill : skills) {
+            ids.put(skill.getNormalizedName(), Math.toIntExact(skill.getId()));
+            log.debug("기술 사전 등록 - 기술: {}, ID: {}", skill.getName(), skill.getId());
+        }
+        return ids;
+    }
+
+    private Skill createSkill(String name, String canonicalKey) {
+        try {
+            return requiresNewTransaction.execute(status -> skillRepository.findByNormalizedName(canonicalKey)
+                    .orElseGet(() -> skillRepository.save(Skill.builder()
+                            .name(name)
+                            .normalizedName(canonicalKey)
+                            .build())));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 등록한 경우
+            return skillRepository.findByNormalizedName(canonicalKey).orElseThrow(() -> e);
+        }
+    }
+
+    // this로 보호된 상태에서 호출
+    private void register(Skill skill) {
+        int id = Math.toIntExact(skill.getId());
+        String key = skill.getNormalizedName();
+        setName(id, displayNames.getOrDefault(key, skill.getName()));
+        idsByKey.put(key, id);
+        aliasesByCanonicalKey.getOrDefault(key, List.of()).forEach(alias -> idsByKey.putIfAbsent(alias, id));
+    }
+
+    // this로 보호된 상태에서 호출, 이름을 먼저 기록한 뒤 테이블을 공개해 조회된 ID의 이름이 항상 존재하도록 함
+    private void setName(int id, String name) {
+        String[] names = namesById;
+        if (id >= names.length) {
+            names = Arrays.copyOf(names, Math.max(id + 1, names.length * 2));
+        }
+        names[id] = name;
+        namesById = names;
+    }
+
+    private void publish() {
+        table = SkillNameTable.of(idsByKey);
+    }
+}
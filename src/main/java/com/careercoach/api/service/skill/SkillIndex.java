@@ -0,0 +1,253 @@
+package com.careercoach.api.service.skill;
+
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.event.ResumeChangedEvent;
+import com.careercoach.api.repository.ResumeSkillRepository;
+import com.careercoach.api.util.TechSkillsConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이력서-기술 역색인
+ * resume_skills 테이블을 압축 비트맵(RoaringBitmap)으로 메모리에 미러링해
+ * 기술 AND/OR/NOT 조건과 직무/경력 연수 필터를 비트맵 연산만으로 평가합니다.
+ *
+ * <ul>
+ *     <li>기술 ID → 이력서 ID 비트맵</li>
+ *     <li>직무 → 이력서 ID 비트맵</li>
+ *     <li>경력 연수 → 이력서 ID 비트맵</li>
+ * </ul>
+ *
+ * 커밋된 이력서 변경만 반영하며, 이력서 ID가 int 범위를 넘으면 색인하지 않습니다.
+ * 기동 후 적재가 끝나기 전(웹 요청은 이미 받는 중)에는 같은 조건을 데이터베이스 쿼리로 평가합니다.
+ */
+@Slf4j
+@Component
+public class SkillIndex {
+
+    private final ResumeSkillRepository resumeSkillRepository;
+    private final SkillDictionary skillDictionary;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, RoaringBitmap> resumesBySkill = new HashMap<>();
+    private final Map<JobRole, RoaringBitmap> resumesByJobRole = new EnumMap<>(JobRole.class);
+    private final NavigableMap<Integer, RoaringBitmap> resumesByExperience = new TreeMap<>();
+    private final RoaringBitmap allResumes = new RoaringBitmap();
+
+    // RoaringBitmap은 스레드 안전하지 않으므로 읽기/쓰기 락으로 보호
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public SkillIndex(ResumeSkillRepository resumeSkillRepository, SkillDictionary skillDictionary,
+                      PlatformTransactionManager transactionManager) {
+        this.resumeSkillRepository = resumeSkillRepository;
+        this.skillDictionary = skillDictionary;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 기동 완료 후 색인 적재
+     * 기술 매핑이 없는 기존 이력서는 tech_skills 컬럼에서 매핑을 먼저 생성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        backfillUnmappedResumes();
+
+        lock.writeLock().lock();
+        try {
+            resumeSkillRepository.forEachResumeAttribute(rs -> {
+                long resumeId = rs.getLong("id");
+                if (indexable(resumeId)) {
+                    addAttributes((int) resumeId, JobRole.valueOf(rs.getString("job_role")), rs.getInt("experience_years"));
+                }
+            });
+            resumeSkillRepository.forEachMapping(rs -> {
+                long resumeId = rs.getLong("resume_id");
+                if (indexable(resumeId)) {
+                    postingsOf((long) skillDictionary.canonicalId(rs.getLong("skill_id"))).add((int) resumeId);
+                }
+            });
+            resumesBySkill.values().forEach(RoaringBitmap::runOptimize);
+            resumesByJobRole.values().forEach(RoaringBitmap::runOptimize);
+            resumesByExperience.values().forEach(RoaringBitmap::runOptimize);
+            allResumes.runOptimize();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("기술 색인 적재 완료 - 이력서 수: {}, 기술 수: {}, 소요 시간: {}ms",
+                allResumes.getLongCardinality(), resumesBySkill.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 조건에 맞는 이력서 ID 조회
+     *
+     * @return 이력서 ID 비트맵 (호출자가 소유하는 사본)
+     */
+    public RoaringBitmap search(SkillQuery query) {
+        if (!ready) {
+            return searchDatabase(query);
+        }
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = query.getJobRole() != null
+                    ? resumesByJobRole.getOrDefault(query.getJobRole(), new RoaringBitmap()).clone()
+                    : allResumes.clone();
+
+            if (query.getMinYears() != null || query.getMaxYears() != null) {
+                int from = query.getMinYears() != null ? query.getMinYears() : Integer.MIN_VALUE;
+                int to = query.getMaxYears() != null ? query.getMaxYears() : Integer.MAX_VALUE;
+                result.and(FastAggregation.or(resumesByExperience.subMap(from, true, to, true).values().iterator()));
+            }
+
+            for (String skill : query.getAll()) {
+                Optional<RoaringBitmap> postings = postingsFor(skill);
+                if (postings.isEmpty()) {
+                    return new RoaringBitmap();
+                }
+                result.and(postings.get());
+            }
+
+            if (!query.getAny().isEmpty()) {
+                List<RoaringBitmap> anyPostings = new ArrayList<>();
+                query.getAny().forEach(skill -> postingsFor(skill).ifPresent(anyPostings::add));
+                result.and(FastAggregation.or(anyPostings.iterator()));
+            }
+
+            for (String skill : query.getNone()) {
+                postingsFor(skill).ifPresent(result::andNot);
+            }
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋된 이력서 변경 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleResumeChangedEvent(ResumeChangedEvent event) {
+        if (!indexable(event.getResumeId())) {
+            return;
+        }
+        int resumeId = event.getResumeId().intValue();
+
+        lock.writeLock().lock();
+        try {
+            if (event.getPrevious() != null) {
+                remove(resumeId, event.getPrevious());
+            }
+            if (event.getResume() != null) {
+                add(resumeId, event.getResume());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getIndexedResumeCount() {
+        lock.readLock().lock();
+        try {
+            return allResumes.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 적재 전 조회 (같은 조건을 resume_skills/skills 조인으로 평가)
+     */
+    private RoaringBitmap searchDatabase(SkillQuery query) {
+        List<Long> resumeIds = resumeSkillRepository.findResumeIds(query.getJobRole(), query.getMinYears(),
+                query.getMaxYears(),
+                query.getAll().stream().map(skillDictionary::normalizedNames).toList(),
+                query.getAny().stream().flatMap(skill -> skillDictionary.normalizedNames(skill).stream()).toList(),
+                query.getNone().stream().flatMap(skill -> skillDictionary.normalizedNames(skill).stream()).toList());
+
+        RoaringBitmap result = new RoaringBitmap();
+        resumeIds.stream()
+                .filter(SkillIndex::indexable)
+                .forEach(resumeId -> result.add(resumeId.intValue()));
+        return result;
+    }
+
+    private void add(int resumeId, ResumeDto resume) {
+        addAttributes(resumeId, resume.getJobRole(), resume.getExperienceYears());
+        skillDictionary.findAll(resume.getTechSkills()).forEach(skillId -> postingsOf(skillId).add(resumeId));
+    }
+
+    private void remove(int resumeId, ResumeDto resume) {
+        allResumes.remove(resumeId);
+        Optional.ofNullable(resumesByJobRole.get(resume.getJobRole())).ifPresent(bitmap -> bitmap.remove(resumeId));
+        Optional.ofNullable(resumesByExperience.get(resume.getExperienceYears())).ifPresent(bitmap -> bitmap.remove(resumeId));
+        skillDictionary.findAll(resume.getTechSkills()).forEach(skillId ->
+                Optional.ofNullable(resumesBySkill.get(skillId)).ifPresent(bitmap -> bitmap.remove(resumeId)));
+    }
+
+    private void addAttributes(int resumeId, JobRole jobRole, int experienceYears) {
+        allResumes.add(resumeId);
+        resumesByJobRole.computeIfAbsent(jobRole, k -> new RoaringBitmap()).add(resumeId);
+        resumesByExperience.computeIfAbsent(experienceYears, k -> new RoaringBitmap()).add(resumeId);
+    }
+
+    private RoaringBitmap postingsOf(Long skillId) {
+        return resumesBySkill.computeIfAbsent(skillId, k -> new RoaringBitmap());
+    }
+
+    private Optional<RoaringBitmap> postingsFor(String skill) {
+        return skillDictionary.find(skill).map(resumesBySkill::get);
+    }
+
+    /**
+     * 기술 매핑이 없는 기존 이력서의 매핑 생성
+     */
+    private void backfillUnmappedResumes() {
+        // 컨버터는 조회만 하므로 사전에 없던 기술도 등록되도록 기술명으로 읽어 resolveAll로 등록
+        Map<Long, List<String>> unmapped = new HashMap<>();
+        resumeSkillRepository.forEachUnmappedResume(rs ->
+                unmapped.put(rs.getLong("id"), TechSkillsConverter.names(rs.getString("tech_skills"))));
+
+        unmapped.forEach((resumeId, skills) -> {
+            Set<Long> skillIds = skillDictionary.resolveAll(skills);
+            if (!skillIds.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> resumeSkillRepository.replaceSkills(resumeId, skillIds));
+            }
+        });
+        if (!unmapped.isEmpty()) {
+            log.info("기술 매핑 이관 완료 - 이력서 수: {}", unmapped.size());
+        }
+    }
+
+    private static boolean indexable(Long resumeId) {
+        return resumeId != null && resumeId >= 0 && resumeId <= Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,111 @@
+package com.careercoach.api.service.skill;
+
+import java.util.Map;
+
+/**
+ * 정규화된 기술명 → 기술 ID 불변 해시 테이블 (개방 주소법)
+ * 조회 시 원문 문자열의 구간을 그 자리에서 정규화하며 비교하므로
+ * 정규화 문자열이나 부분 문자열을 만들지 않습니다.
+ *
+ * 정규화 규칙과 해시는 {@link com.careercoach.api.util.SkillNames#normalize(String)}의
+ * 결과 문자열에 대한 {@link String#hashCode()}와 같습니다.
+ */
+final class SkillNameTable {
+
+    static final int NOT_FOUND = -1;
+
+    static final SkillNameTable EMPTY = of(Map.of());
+
+    private final String[] keys;
+    private final int[] ids;
+    private final int mask;
+
+    private SkillNameTable(String[] keys, int[] ids) {
+        this.keys = keys;
+        this.ids = ids;
+        this.mask = keys.length - 1;
+    }
+
+    /**
+     * 테이블 생성 (적재율 50% 이하)
+     *
+     * @param entries 정규화된 기술명 → 기술 ID
+     */
+    static SkillNameTable of(Map<String, Integer> entries) {
+        int capacity = Integer.highestOneBit(Math.max(entries.size(), 4) * 2 - 1) << 1;
+        String[] keys = new String[capacity];
+        int[] ids = new int[capacity];
+        int mask = capacity - 1;
+
+        entries.forEach((key, id) -> {
+            int slot = spread(key.hashCode()) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            ids[slot] = id;
+        });
+        return new SkillNameTable(keys, ids);
+    }
+
+    /**
+     * 정규화된 기술명으로 조회
+     */
+    int get(String normalized) {
+        int slot = spread(normalized.hashCode()) & mask;
+        for (String key = keys[slot]; key != null; key = keys[slot]) {
+            if (key.equals(normalized)) {
+                return ids[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * 원문 구간 [start, end)를 정규화했을 때의 기술명으로 조회
+     */
+    int get(CharSequence text, int start, int end) {
+        int hash = 0;
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!skipped(c)) {
+                hash = 31 * hash + Character.toLowerCase(c);
+                length++;
+            }
+        }
+        if (length == 0) {
+            return NOT_FOUND;
+        }
+
+        int slot = spread(hash) & mask;
+        for (String key = keys[slot]; key != null; key = keys[slot]) {
+            if (key.length() == length && key.hashCode() == hash && matches(key, text, start, end)) {
+                return ids[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private static boolean matches(String key, CharSequence text, int start, int end) {
+        int k = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!skipped(c) && key.charAt(k++) != Character.toLowerCase(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // SkillNames.normalize와 같은 규칙으로 무시하는 문자
+    private static boolean skipped(char c) {
+        return Character.isWhitespace(c) || c == '-' || c == '_' || c == '.';
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
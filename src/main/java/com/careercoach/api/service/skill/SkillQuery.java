@@ -0,0 +1,34 @@
+package com.careercoach.api.service.skill;
+
+import com.careercoach.api.domain.enums.JobRole;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 기술 색인 조회 조건
+ * all은 모두 포함(AND), any는 하나 이상 포함(OR), none은 제외(NOT) 조건이며
+ * 직무와 경력 연수 범위로 추가로 좁힐 수 있습니다.
+ */
+@Getter
+@Builder
+public class SkillQuery {
+
+    @Builder.Default
+    private final List<String> all = List.of();
+    @Builder.Default
+    private final List<String> any = List.of();
+    @Builder.Default
+    private final List<String> none = List.of();
+    private final JobRole jobRole;
+    private final Integer minYears;
+    private final Integer maxYears;
+
+    /**
+     * 단일 기술 조회 조건 생성
+     */
+    public static SkillQuery ofSkill(String skill) {
+        return SkillQuery.builder().all(List.of(skill)).build();
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 기술 색인 서비스 패키지
+ * 기술 사전과 이력서-기술 역색인을 포함합니다.
+ */
+package com.careercoach.api.service.skill;
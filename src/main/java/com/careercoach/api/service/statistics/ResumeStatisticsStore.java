@@ -0,0 +1,185 @@
+package com.careercoach.api.service.statistics;
+
+import com.careercoach.api.domain.enums.InterviewDifficulty;
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.dto.response.ResumeStatisticsResponse;
+import com.careercoach.api.event.ResumeChangedEvent;
+import com.careercoach.api.repository.ResumeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 이력서 통계 저장소
+ * 직무별 경력 연수 히스토그램을 메모리에 유지하고, 이로부터 계산한 통계 스냅샷을 보관합니다.
+ *
+ * 기동 시 한 번의 GROUP BY로 적재한 뒤 커밋된 이력서 변경 이벤트로 증분 갱신하므로,
+ * 통계 조회는 데이터베이스를 거치지 않고 미리 계산된 스냅샷을 그대로 반환합니다.
+ * 이벤트 유실 등으로 생긴 차이는 주기적인 데이터베이스 대조로 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResumeStatisticsStore {
+
+    private final ResumeRepository resumeRepository;
+
+    // 직무 → (경력 연수 → 이력서 수), this로 보호
+    private final Map<JobRole, NavigableMap<Integer, Long>> histograms = new EnumMap<>(JobRole.class);
+    private long changeVersion;
+    private LocalDateTime reconciledAt;
+
+    private volatile ResumeStatisticsResponse snapshot = ResumeStatisticsResponse.builder()
+            .experienceHistogram(Map.of())
+            .jobRoles(List.of())
+            .build();
+
+    /**
+     * 기동 완료 후 통계 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+        log.info("이력서 통계 적재 완료 - 이력서 수: {}", snapshot.getTotalCount());
+    }
+
+    /**
+     * 커밋된 이력서 변경 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void handleResumeChangedEvent(ResumeChangedEvent event) {
+        if (event.getPrevious() != null) {
+            adjust(event.getPrevious(), -1);
+        }
+        if (event.getResume() != null) {
+            adjust(event.getResume(), 1);
+        }
+        changeVersion++;
+        snapshot = buildSnapshot();
+    }
+
+    /**
+     * 데이터베이스 대조
+     * 조회 도중 변경 이벤트가 반영되었다면 이번 결과는 버리고 다음 주기에 다시 대조합니다.
+     */
+    @Scheduled(fixedDelayString = "${resume.statistics.reconcile-interval-ms:600000}",
+            initialDelayString = "${resume.statistics.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long versionBeforeQuery;
+        synchronized (this) {
+            versionBeforeQuery = changeVersion;
+        }
+
+        Map<JobRole, NavigableMap<Integer, Long>> counted = new EnumMap<>(JobRole.class);
+        for (Object[] row : resumeRepository.countByJobRoleAndExperienceYears()) {
+            counted.computeIfAbsent((JobRole) row[0], role -> new TreeMap<>())
+                    .put((Integer) row[1], (Long) row[2]);
+        }
+
+        synchronized (this) {
+            if (changeVersion != versionBeforeQuery) {
+                log.debug("이력서 통계 대조 보류 - 조회 중 변경 발생");
+                return;
+            }
+            if (reconciledAt != null && !counted.equals(histograms)) {
+                log.warn("이력서 통계 불일치 보정 - 메모리: {}건, 데이터베이스: {}건",
+                        totalOf(histograms), totalOf(counted));
+            }
+            histograms.clear();
+            histograms.putAll(counted);
+            reconciledAt = LocalDateTime.now();
+            snapshot = buildSnapshot();
+        }
+    }
+
+    /**
+     * 통계 조회 (미리 계산된 스냅샷)
+     */
+    public ResumeStatisticsResponse getStatistics() {
+        return snapshot;
+    }
+
+    private void adjust(ResumeDto resume, long delta) {
+        NavigableMap<Integer, Long> histogram = histograms.computeIfAbsent(resume.getJobRole(), role -> new TreeMap<>());
+        Long count = histogram.merge(resume.getExperienceYears(), delta, Long::sum);
+        if (count <= 0) {
+            histogram.remove(resume.getExperienceYears());
+        }
+        if (histogram.isEmpty()) {
+            histograms.remove(resume.getJobRole());
+        }
+    }
+
+    private ResumeStatisticsResponse buildSnapshot() {
+        Map<Integer, Long> overall = new TreeMap<>();
+        List<ResumeStatisticsResponse.JobRoleStatistics> jobRoles = new ArrayList<>();
+        long[] overallByDifficulty = new long[InterviewDifficulty.values().length];
+        long totalCount = 0;
+        long totalYears = 0;
+
+        for (Map.Entry<JobRole, NavigableMap<Integer, Long>> entry : histograms.entrySet()) {
+            NavigableMap<Integer, Long> histogram = entry.getValue();
+            long[] byDifficulty = new long[InterviewDifficulty.values().length];
+            long count = 0;
+            long years = 0;
+            for (Map.Entry<Integer, Long> bucket : histogram.entrySet()) {
+                count += bucket.getValue();
+                years += (long) bucket.getKey() * bucket.getValue();
+                byDifficulty[InterviewDifficulty.forExperienceYears(bucket.getKey()).ordinal()] += bucket.getValue();
+                overall.merge(bucket.getKey(), bucket.getValue(), Long::sum);
+            }
+
+            jobRoles.add(ResumeStatisticsResponse.JobRoleStatistics.builder()
+                    .jobRole(entry.getKey())
+                    .totalCount(count)
+                    .averageExperience(average(years, count))
+                    .minExperience(histogram.firstKey())
+                    .maxExperience(histogram.lastKey())
+                    .juniorCount(byDifficulty[InterviewDifficulty.JUNIOR.ordinal()])
+                    .middleCount(byDifficulty[InterviewDifficulty.MIDDLE.ordinal()])
+                    .seniorCount(byDifficulty[InterviewDifficulty.SENIOR.ordinal()])
+                    .build());
+
+            totalCount += count;
+            totalYears += years;
+            for (int i = 0; i < byDifficulty.length; i++) {
+                overallByDifficulty[i] += byDifficulty[i];
+            }
+        }
+
+        return ResumeStatisticsResponse.builder()
+                .totalCount(totalCount)
+                .averageExperience(average(totalYears, totalCount))
+                .juniorCount(overallByDifficulty[InterviewDifficulty.JUNIOR.ordinal()])
+                .middleCount(overallByDifficulty[InterviewDifficulty.MIDDLE.ordinal()])
+                .seniorCount(overallByDifficulty[InterviewDifficulty.SENIOR.ordinal()])
+                .experienceHistogram(overall)
+                .jobRoles(jobRoles)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    private static double average(long sum, long count) {
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    private static long totalOf(Map<JobRole, NavigableMap<Integer, Long>> counts) {
+        return counts.values().stream()
+                .flatMap(histogram -> histogram.values().stream())
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+}
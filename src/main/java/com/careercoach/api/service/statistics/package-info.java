@@ -0,0 +1,5 @@
+/**
+ * 이력서 통계 서비스 패키지
+ * 이력서 변경 이벤트로 증분 갱신되는 메모리 집계 저장소를 포함합니다.
+ */
+package com.careercoach.api.service.statistics;
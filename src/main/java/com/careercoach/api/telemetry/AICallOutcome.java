@@ -0,0 +1,10 @@
+package com.careercoach.api.telemetry;
+
+/**
+ * AI 호출 결과
+ */
+public enum AICallOutcome {
+    SUCCESS,
+    ERROR,
+    CANCELLED
+}
@@ -0,0 +1,298 @@
+package com.careercoach.api.telemetry;
+
+import com.careercoach.api.config.TelemetryProperties;
+import com.careercoach.api.dto.response.TelemetryStatusResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 텔레메트리 이벤트 버스
+ * AI 호출과 캐시 이벤트를 요청 스레드에서 떼어 내는 전용 파이프라인입니다.
+ *
+ * <ul>
+ *     <li>생산자는 스레드 ID로 고른 링 버퍼의 슬롯을 CAS로 선점해 필드만 채우므로 잠금도 객체 할당도 없음</li>
+ *     <li>토큰 수 추정, 캐시 항목 크기 추정처럼 값에 비례하는 계산은 소비 스레드로 미룸</li>
+ *     <li>소비 스레드는 링 버퍼마다 하나이며, 발행된 이벤트를 묶음으로 꺼내 모든 TelemetryHandler에 전달</li>
+ *     <li>소비가 밀려 버퍼가 가득 차면 이벤트를 버리고 버림 건수를 남김 (생산자는 기다리지 않음)</li>
+ *     <li>처리할 이벤트가 없으면 회전 → yield → 대기 순으로 물러나며, 대기 시간은 idle-park-min-micros부터 두 배씩 늘려 idle-park-max-micros에서 멈춤</li>
+ *     <li>대기 중인 소비 스레드는 생산자가 발행할 때 깨우므로, 긴 대기 시간은 유휴 버스의 깨어남 횟수만 줄이고 지연을 늘리지 않음</li>
+ * </ul>
+ *
+ * 핸들러는 시작 시점에 한 번 조회하므로 핸들러가 이 버스를 주입받아도 순환 의존이 생기지 않습니다.
+ * 시작 전에 발행된 이벤트는 버퍼에 남아 있다가 시작 후 처리되고, 종료 시에는 남은 이벤트를 처리한 뒤 멈춥니다.
+ */
+@Slf4j
+@Component
+public class TelemetryBus implements SmartLifecycle {
+
+    // 유휴 상태에서 대기 전에 회전하는 횟수와 그 뒤 yield하는 횟수
+    private static final int IDLE_SPINS = 100;
+    private static final int IDLE_YIELDS = 50;
+
+    private final ObjectProvider<TelemetryHandler> handlerProvider;
+    private final TelemetryRingBuffer[] rings;
+    private final int maxBatchSize;
+    private final long idleParkMinNanos;
+    private final long idleParkMaxNanos;
+    private final long shutdownTimeoutMs;
+
+    private final LongAdder handlerErrors = new LongAdder();
+
+    private volatile TelemetryHandler[] handlers = new TelemetryHandler[0];
+    private volatile boolean running;
+    private final List<Thread> consumers = new ArrayList<>();
+
+    public TelemetryBus(TelemetryProperties properties, ObjectProvider<TelemetryHandler> handlerProvider) {
+        this.handlerProvider = handlerProvider;
+        this.rings = new TelemetryRingBuffer[Math.max(1, properties.getConsumers())];
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = new TelemetryRingBuffer(properties.getBufferSize());
+        }
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.idleParkMinNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(1, properties.getIdleParkMinMicros()));
+        this.idleParkMaxNanos = Math.max(idleParkMinNanos, TimeUnit.MICROSECONDS.toNanos(properties.getIdleParkMaxMicros()));
+        this.shutdownTimeoutMs = properties.getShutdownTimeoutMs();
+    }
+
+    /**
+     * AI 호출 이벤트 발행
+     *
+     * @param promptTokens 구현체가 보고한 입력 토큰 수 (음수면 소비 스레드가 arguments로 추정)
+     * @param outputTokens 구현체가 보고한 출력 토큰 수 (promptTokens가 음수면 소비 스레드가 result로 추정)
+     * @return 적재 여부 (버퍼가 가득 차 버려지면 false)
+     */
+    public boolean publishAICall(String serviceName, String feature, String operation, Long resumeId,
+                                 long durationNanos, AICallOutcome outcome, String errorMessage,
+                                 int promptTokens, int outputTokens, Object[] arguments, Object result,
+                                 boolean cacheHit) {
+        TelemetryRingBuffer ring = ring();
+        long sequence = ring.claim();
+        if (sequence < 0) {
+            return false;
+        }
+        TelemetryEvent event = ring.slot(sequence);
+        event.type = TelemetryEventType.AI_CALL;
+        event.name = serviceName;
+        event.feature = feature;
+        event.operation = operation;
+        event.resumeId = resumeId;
+        event.durationNanos = durationNanos;
+        event.outcome = outcome;
+        event.errorMessage = errorMessage;
+        event.promptTokens = promptTokens;
+        event.outputTokens = outputTokens;
+        event.arguments = arguments;
+        event.value = result;
+        event.cacheHit = cacheHit;
+        ring.publish(sequence);
+        return true;
+    }
+
+    /**
+     * 캐시 적중 이벤트 발행
+     */
+    public boolean publishCacheHit(String cacheName) {
+        TelemetryRingBuffer ring = ring();
+        long sequence = ring.claim();
+        if (sequence < 0) {
+            return false;
+        }
+        TelemetryEvent event = ring.slot(sequence);
+        event.type = TelemetryEventType.CACHE_HIT;
+        event.name = cacheName;
+        ring.publish(sequence);
+        return true;
+    }
+
+    /**
+     * 캐시 적재 이벤트 발행
+     *
+     * @param value 적재된 값 (항목 크기 추정은 소비 스레드에서 수행)
+     */
+    public boolean publishCacheLoad(String cacheName, long loadNanos, Object value) {
+        TelemetryRingBuffer ring = ring();
+        long sequence = ring.claim();
+        if (sequence < 0) {
+            return false;
+        }
+        TelemetryEvent event = ring.slot(sequence);
+        event.type = TelemetryEventType.CACHE_LOAD;
+        event.name = cacheName;
+        event.durationNanos = loadNanos;
+        event.value = value;
+        ring.publish(sequence);
+        return true;
+    }
+
+    /**
+     * 캐시 제거 이벤트 발행
+     */
+    public boolean publishCacheRemoval(String cacheName, String tier, String cause) {
+        TelemetryRingBuffer ring = ring();
+        long sequence = ring.claim();
+        if (sequence < 0) {
+            return false;
+        }
+        TelemetryEvent event = ring.slot(sequence);
+        event.type = TelemetryEventType.CACHE_REMOVAL;
+        event.name = cacheName;
+        event.tier = tier;
+        event.cause = cause;
+        ring.publish(sequence);
+        return true;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        handlers = handlerProvider.orderedStream().toArray(TelemetryHandler[]::new);
+        running = true;
+        for (int i = 0; i < rings.length; i++) {
+            TelemetryRingBuffer ring = rings[i];
+            Thread consumer = new Thread(() -> consume(ring), "telemetry-consumer-" + i);
+            consumer.setDaemon(true);
+            consumer.start();
+            consumers.add(consumer);
+        }
+        log.info("텔레메트리 이벤트 버스 시작 - 소비 스레드: {}, 버퍼 크기: {}, 핸들러: {}",
+                rings.length, rings[0].capacity(), handlers.length);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        for (TelemetryRingBuffer ring : rings) {
+            ring.wakeConsumer();
+        }
+        for (Thread consumer : consumers) {
+            try {
+                consumer.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        consumers.clear();
+        log.info("텔레메트리 이벤트 버스 종료 - 남은 이벤트: {}, 버림: {}", backlog(), dropped());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 버스 상태
+     */
+    public TelemetryStatusResponse getStatus() {
+        List<TelemetryStatusResponse.Shard> shards = new ArrayList<>(rings.length);
+        long published = 0;
+        long consumed = 0;
+        for (int i = 0; i < rings.length; i++) {
+            TelemetryRingBuffer ring = rings[i];
+            long ringConsumed = ring.consumed();
+            long batches = ring.batches();
+            published += ring.published();
+            consumed += ringConsumed;
+            shards.add(TelemetryStatusResponse.Shard.builder()
+                    .index(i)
+                    .capacity(ring.capacity())
+                    .published(ring.published())
+                    .consumed(ringConsumed)
+                    .dropped(ring.dropped())
+                    .backlog(ring.backlog())
+                    .maxBacklog(ring.maxBacklog())
+                    .batches(batches)
+                    .averageBatchSize(batches > 0 ? (double) ringConsumed / batches : 0.0)
+                    .maxBatchSize(ring.maxBatchSize())
+                    .build());
+        }
+        return TelemetryStatusResponse.builder()
+                .running(running)
+                .handlers(handlers.length)
+                .published(published)
+                .consumed(consumed)
+                .dropped(dropped())
+                .backlog(backlog())
+                .handlerErrors(handlerErrors.sum())
+                .shards(shards)
+                .build();
+    }
+
+    private TelemetryRingBuffer ring() {
+        if (rings.length == 1) {
+            return rings[0];
+        }
+        return rings[(int) (Thread.currentThread().getId() % rings.length)];
+    }
+
+    /**
+     * 소비 루프 (링 버퍼별 전용 스레드, 종료 요청 후에는 남은 이벤트를 비우고 끝남)
+     */
+    private void consume(TelemetryRingBuffer ring) {
+        int idle = 0;
+        long parkNanos = idleParkMinNanos;
+        while (true) {
+            if (ring.drain(this::dispatch, maxBatchSize) > 0) {
+                idle = 0;
+                parkNanos = idleParkMinNanos;
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            if (idle < IDLE_SPINS) {
+                idle++;
+                Thread.onSpinWait();
+            } else if (idle < IDLE_SPINS + IDLE_YIELDS) {
+                idle++;
+                Thread.yield();
+            } else {
+                ring.awaitPublish(parkNanos);
+                parkNanos = Math.min(parkNanos * 2, idleParkMaxNanos);
+            }
+        }
+    }
+
+    private void dispatch(TelemetryEvent event) {
+        event.resolveTokenEstimates();
+        for (TelemetryHandler handler : handlers) {
+            try {
+                handler.onEvent(event);
+            } catch (RuntimeException e) {
+                handlerErrors.increment();
+                log.debug("텔레메트리 핸들러 오류 - 핸들러: {}, 이벤트: {}, 오류: {}",
+                        handler.getClass().getSimpleName(), event.getType(), e.getMessage());
+            }
+        }
+    }
+
+    private long backlog() {
+        long backlog = 0;
+        for (TelemetryRingBuffer ring : rings) {
+            backlog += ring.backlog();
+        }
+        return backlog;
+    }
+
+    private long dropped() {
+        long dropped = 0;
+        for (TelemetryRingBuffer ring : rings) {
+            dropped += ring.dropped();
+        }
+        return dropped;
+    }
+}
@@ -0,0 +1,92 @@
+package com.careercoach.api.telemetry;
+
+import com.careercoach.api.util.TokenEstimator;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 텔레메트리 이벤트 (링 버퍼 슬롯)
+ * 링 버퍼 생성 시 미리 할당되어 재사용되므로, 생산자는 이벤트마다 객체를 만들지 않고 필드만 채웁니다.
+ * 필드는 이벤트 종류에 따라 일부만 쓰이며, 소비 후 참조 필드를 비워 적재된 값이 슬롯에 붙잡히지 않게 합니다.
+ */
+@Getter
+public final class TelemetryEvent {
+
+    TelemetryEventType type;
+
+    // AI 서비스명 또는 캐시명
+    String name;
+
+    // AI 호출: 기능명, 호출 메서드명, 오류 메시지
+    String feature;
+    String operation;
+    String errorMessage;
+    AICallOutcome outcome;
+    Long resumeId;
+    int promptTokens;
+    int outputTokens;
+    boolean tokensEstimated;
+    boolean cacheHit;
+
+    // 캐시 제거: 계층과 제거 원인
+    String tier;
+    String cause;
+
+    // AI 호출: 호출 인자 (토큰 수 추정용, 핸들러에는 노출하지 않음)
+    @Getter(AccessLevel.NONE)
+    Object[] arguments;
+
+    // AI 호출: 응답, 캐시 적재: 적재된 값
+    Object value;
+
+    // AI 호출 소요 시간 또는 캐시 적재 지연
+    long durationNanos;
+
+    public long getDurationMillis() {
+        return durationNanos / 1_000_000;
+    }
+
+    /**
+     * 구현체가 토큰 수를 보고하지 않은 AI 호출의 토큰 수 추정 (소비 스레드에서 핸들러 호출 전에 수행)
+     */
+    void resolveTokenEstimates() {
+        if (type != TelemetryEventType.AI_CALL || cacheHit || promptTokens >= 0) {
+            return;
+        }
+        int prompt = 0;
+        if (arguments != null) {
+            for (Object argument : arguments) {
+                prompt += estimate(argument);
+            }
+        }
+        promptTokens = prompt;
+        outputTokens = estimate(value);
+        tokensEstimated = true;
+    }
+
+    private static int estimate(Object text) {
+        return text instanceof CharSequence sequence ? TokenEstimator.estimate(sequence) : 0;
+    }
+
+    /**
+     * 소비 후 슬롯 초기화
+     */
+    void clear() {
+        type = null;
+        name = null;
+        feature = null;
+        operation = null;
+        errorMessage = null;
+        outcome = null;
+        resumeId = null;
+        promptTokens = 0;
+        outputTokens = 0;
+        tokensEstimated = false;
+        cacheHit = false;
+        tier = null;
+        cause = null;
+        arguments = null;
+        value = null;
+        durationNanos = 0;
+    }
+}
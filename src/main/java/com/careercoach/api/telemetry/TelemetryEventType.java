@@ -0,0 +1,11 @@
+package com.careercoach.api.telemetry;
+
+/**
+ * 텔레메트리 이벤트 종류
+ */
+public enum TelemetryEventType {
+    AI_CALL,        // AI 서비스 호출 또는 AI 기능의 캐시 적중
+    CACHE_HIT,      // 캐시 적중
+    CACHE_LOAD,     // 캐시 미스 후 값 적재
+    CACHE_REMOVAL   // 계층별 캐시 항목 제거
+}
@@ -0,0 +1,11 @@
+package com.careercoach.api.telemetry;
+
+/**
+ * 텔레메트리 이벤트 핸들러
+ * 빈으로 등록하면 TelemetryBus의 소비 스레드에서 호출됩니다.
+ * 이벤트 객체는 링 버퍼 슬롯이라 반환 후 재사용되므로, 필요한 값은 호출 안에서 꺼내야 하며 참조를 보관하면 안 됩니다.
+ */
+public interface TelemetryHandler {
+
+    void onEvent(TelemetryEvent event);
+}
@@ -0,0 +1,178 @@
+package com.careercoach.api.telemetry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 다중 생산자·단일 소비자 링 버퍼
+ * 슬롯은 생성 시 한 번만 할당하고, 생산자는 순번 CAS 한 번으로 슬롯을 선점해 채운 뒤 슬롯별 발행 순번을 기록합니다.
+ * 소비자는 발행 순번이 이어지는 동안 묶음으로 처리하고 묶음 끝에 소비 위치를 한 번만 갱신합니다.
+ * 버퍼가 가득 차면 생산자는 기다리지 않고 이벤트를 버리며 버림 건수만 올립니다.
+ * 소비자가 대기 중이면 발행한 생산자가 깨우며, 깨우기를 놓쳐도 소비자는 대기 시간이 끝나면 스스로 확인합니다.
+ */
+final class TelemetryRingBuffer {
+
+    private final TelemetryEvent[] slots;
+    private final AtomicLongArray publishedSequences;
+    private final int capacity;
+    private final int mask;
+
+    // 다음에 선점할 순번 (생산자 공유)
+    private final AtomicLong claimSequence = new AtomicLong();
+
+    // 다음에 소비할 순번 (소비 스레드만 갱신)
+    private volatile long consumeSequence;
+
+    // 대기 중인 소비 스레드 (소비자가 활동 중이면 null이라 생산자는 volatile 읽기 한 번만 함)
+    private volatile Thread parkedConsumer;
+
+    private final LongAdder dropped = new LongAdder();
+
+    // 소비 스레드만 갱신하는 통계
+    private volatile long batches;
+    private volatile int maxBatchSize;
+    private volatile long maxBacklog;
+
+    TelemetryRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new TelemetryEvent[capacity];
+        this.publishedSequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new TelemetryEvent();
+            publishedSequences.set(i, -1);
+        }
+    }
+
+    /**
+     * 슬롯 선점
+     *
+     * @return 선점한 순번 (버퍼가 가득 차면 -1)
+     */
+    long claim() {
+        while (true) {
+            long sequence = claimSequence.get();
+            if (sequence - consumeSequence >= capacity) {
+                dropped.increment();
+                return -1;
+            }
+            if (claimSequence.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    TelemetryEvent slot(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    /**
+     * 채운 슬롯 발행 (앞선 필드 쓰기가 소비자에게 보이도록 release 쓰기)
+     * 소비자가 대기 중이면 깨웁니다.
+     */
+    void publish(long sequence) {
+        publishedSequences.lazySet((int) sequence & mask, sequence);
+        Thread consumer = parkedConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * 다음 이벤트가 발행되거나 최대 nanos가 지날 때까지 대기 (소비 스레드 전용)
+     * 대기 표시 후 한 번 더 확인해, 표시 전에 발행된 이벤트를 두고 잠들지 않게 합니다.
+     */
+    void awaitPublish(long nanos) {
+        parkedConsumer = Thread.currentThread();
+        try {
+            if (publishedSequences.get((int) consumeSequence & mask) != consumeSequence) {
+                LockSupport.parkNanos(this, nanos);
+            }
+        } finally {
+            parkedConsumer = null;
+        }
+    }
+
+    /**
+     * 대기 중인 소비 스레드 깨우기 (종료 시 사용)
+     */
+    void wakeConsumer() {
+        Thread consumer = parkedConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * 발행된 이벤트를 최대 maxBatch건까지 처리 (소비 스레드 전용)
+     *
+     * @return 처리한 건수
+     */
+    int drain(Consumer<TelemetryEvent> handler, int maxBatch) {
+        long next = consumeSequence;
+        long backlog = claimSequence.get() - next;
+        if (backlog > maxBacklog) {
+            maxBacklog = backlog;
+        }
+
+        int count = 0;
+        while (count < maxBatch) {
+            int index = (int) next & mask;
+            if (publishedSequences.get(index) != next) {
+                break;
+            }
+            TelemetryEvent event = slots[index];
+            try {
+                handler.accept(event);
+            } finally {
+                event.clear();
+            }
+            next++;
+            count++;
+        }
+
+        if (count > 0) {
+            consumeSequence = next;
+            batches++;
+            if (count > maxBatchSize) {
+                maxBatchSize = count;
+            }
+        }
+        return count;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long published() {
+        return claimSequence.get();
+    }
+
+    long consumed() {
+        return consumeSequence;
+    }
+
+    long backlog() {
+        return claimSequence.get() - consumeSequence;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    long batches() {
+        return batches;
+    }
+
+    int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    long maxBacklog() {
+        return maxBacklog;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 텔레메트리 패키지
+ * AI 호출과 캐시 이벤트를 미리 할당한 잠금 없는 링 버퍼에 적재하고, 전용 소비 스레드가 묶음 단위로 비워 핸들러에 전달합니다.
+ */
+package com.careercoach.api.telemetry;
@@ -0,0 +1,73 @@
+package com.careercoach.api.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지연 시간 히스토그램
+ * 마이크로초 단위 값을 2의 거듭제곱 버킷에 누적하는 잠금 없는 히스토그램입니다.
+ * 백분위수는 해당 버킷의 상한값으로 근사합니다 (최대 2배 오차).
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * 나노초 단위 측정값 기록
+     */
+    public void recordNanos(long nanos) {
+        recordMicros(Math.max(0, nanos / 1_000));
+    }
+
+    /**
+     * 마이크로초 단위 측정값 기록
+     */
+    public void recordMicros(long micros) {
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public double getMeanMillis() {
+        long n = count.get();
+        return n > 0 ? totalMicros.get() / 1000.0 / n : 0.0;
+    }
+
+    public double getMaxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * 백분위수 조회 (밀리초)
+     *
+     * @param percentile 0~100 사이 백분위
+     */
+    public double percentileMillis(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0.0;
+        }
+
+        long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                long upperMicros = i == 0 ? 0 : (1L << i) - 1;
+                return Math.min(upperMicros, maxMicros.get()) / 1000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+}
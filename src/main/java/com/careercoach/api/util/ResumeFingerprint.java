@@ -0,0 +1,45 @@
+package com.careercoach.api.util;
+
+import com.careercoach.api.dto.response.ResumeDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 이력서 내용 지문(fingerprint) 유틸리티
+ * AI 생성 결과에 영향을 주는 필드만으로 SHA-256 해시를 계산합니다.
+ */
+public final class ResumeFingerprint {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private ResumeFingerprint() {
+    }
+
+    /**
+     * 이력서 내용 지문 계산
+     *
+     * @param resume 이력서 정보
+     * @return 16자리 16진수 지문
+     */
+    public static String of(ResumeDto resume) {
+        StringBuilder content = new StringBuilder(256)
+                .append(resume.getJobRole()).append(SEPARATOR)
+                .append(resume.getExperienceYears()).append(SEPARATOR)
+                .append(resume.getCareerSummary()).append(SEPARATOR)
+                .append(resume.getProjectExperience()).append(SEPARATOR);
+        if (resume.getTechSkills() != null) {
+            resume.getTechSkills().forEach(skill -> content.append(skill).append(SEPARATOR));
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.careercoach.api.util;
+
+/**
+ * 기술명 정규화 유틸리티
+ * 대소문자, 공백, 구분 기호 차이를 제거한 비교용 키를 생성합니다.
+ * 예: "Spring Boot", "spring-boot", "SpringBoot" → "springboot"
+ */
+public final class SkillNames {
+
+    private SkillNames() {
+    }
+
+    /**
+     * 기술명을 비교용 키로 정규화
+     *
+     * @param skill 기술명
+     * @return 정규화된 키, 입력이 비어 있으면 빈 문자열
+     */
+    public static String normalize(String skill) {
+        if (skill == null) {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(skill.length());
+        for (int i = 0; i < skill.length(); i++) {
+            char c = skill.charAt(i);
+            if (Character.isWhitespace(c) || c == '-' || c == '_' || c == '.') {
+                continue;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+}
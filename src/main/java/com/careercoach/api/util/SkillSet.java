@@ -0,0 +1,133 @@
+package com.careercoach.api.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * 이력서 기술 스택 (불변)
+ * 기술 사전의 정수 ID 배열과 정식 기술명(사전이 보관하는 동일 인스턴스)을 함께 보관하고,
+ * 정렬된 ID 배열의 이진 탐색으로 기술 보유 여부를 판정합니다.
+ * (기술 ID는 시퀀스로 발급되어 듬성듬성하므로 ID 범위 비트셋은 이력서마다 수 KB까지 커질 수 있음)
+ *
+ * 목록으로는 정식 기술명을 입력 순서대로 노출하므로 기존 List&lt;String&gt; 사용처와 호환됩니다.
+ * 사전에서 찾지 못한 기술은 원래 이름 그대로 ID가 있는 기술 뒤에 보관하므로, 다시 저장해도 기술이 사라지지 않습니다.
+ */
+public final class SkillSet extends AbstractList<String> implements RandomAccess {
+
+    private static final String[] NO_NAMES = new String[0];
+
+    public static final SkillSet EMPTY = new SkillSet(new int[0], NO_NAMES, new int[0], NO_NAMES);
+
+    private final int[] ids;
+    private final String[] names;
+    // 오름차순 정렬된 ID (입력 순서와 같으면 ids와 같은 배열)
+    private final int[] sortedIds;
+    // 사전에 없는 기술의 원래 이름 (ID 없음)
+    private final String[] unresolvedNames;
+
+    private SkillSet(int[] ids, String[] names, int[] sortedIds, String[] unresolvedNames) {
+        this.ids = ids;
+        this.names = names;
+        this.sortedIds = sortedIds;
+        this.unresolvedNames = unresolvedNames;
+    }
+
+    /**
+     * 기술 ID 배열과 사전에 없는 기술명으로 생성
+     *
+     * @param unresolvedNames 사전에 없는 기술의 원래 이름 (같은 이름은 한 번만 유지)
+     */
+    public static SkillSet of(int[] ids, int count, IntFunction<String> names, Collection<String> unresolvedNames) {
+        SkillSet resolved = of(ids, count, names);
+        if (unresolvedNames == null || unresolvedNames.isEmpty()) {
+            return resolved;
+        }
+        String[] unresolved = new LinkedHashSet<>(unresolvedNames).toArray(NO_NAMES);
+        return new SkillSet(resolved.ids, resolved.names, resolved.sortedIds, unresolved);
+    }
+
+    /**
+     * 기술 ID 배열로 생성 (중복 ID는 처음 한 번만 유지)
+     *
+     * @param ids 기술 ID 배열 (생성 후 이 인스턴스가 소유)
+     * @param count 사용할 ID 수
+     * @param names 기술 ID → 정식 기술명
+     */
+    public static SkillSet of(int[] ids, int count, IntFunction<String> names) {
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        int[] sorted = Arrays.copyOf(ids, count);
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || sorted[i] != sorted[unique - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+
+        // 입력 순서를 유지하며 처음 나온 ID만 남김
+        boolean[] seen = new boolean[unique];
+        int distinct = 0;
+        boolean ascending = true;
+        for (int i = 0; i < count; i++) {
+            int position = Arrays.binarySearch(sorted, 0, unique, ids[i]);
+            if (!seen[position]) {
+                seen[position] = true;
+                ascending &= distinct == 0 || ids[distinct - 1] < ids[i];
+                ids[distinct++] = ids[i];
+            }
+        }
+
+        int[] distinctIds = distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
+        int[] sortedIds = ascending ? distinctIds : Arrays.copyOf(sorted, unique);
+        String[] resolved = new String[distinct];
+        for (int i = 0; i < distinct; i++) {
+            resolved[i] = names.apply(distinctIds[i]);
+        }
+        return new SkillSet(distinctIds, resolved, sortedIds, NO_NAMES);
+    }
+
+    /**
+     * 기술 보유 여부 (O(log n))
+     */
+    public boolean contains(int skillId) {
+        return Arrays.binarySearch(sortedIds, skillId) >= 0;
+    }
+
+    /**
+     * index번째 기술의 ID ({@link #resolvedCount()} 미만의 index만 유효)
+     */
+    public int idAt(int index) {
+        return ids[index];
+    }
+
+    /**
+     * ID가 있는 기술 수 (목록의 앞쪽)
+     */
+    public int resolvedCount() {
+        return ids.length;
+    }
+
+    /**
+     * 모든 기술이 사전의 ID로 변환되었는지 여부
+     */
+    public boolean isResolved() {
+        return unresolvedNames.length == 0;
+    }
+
+    @Override
+    public String get(int index) {
+        return index < names.length ? names[index] : unresolvedNames[index - names.length];
+    }
+
+    @Override
+    public int size() {
+        return ids.length + unresolvedNames.length;
+    }
+}
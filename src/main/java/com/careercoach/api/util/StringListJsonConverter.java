@@ -0,0 +1,49 @@
+package com.careercoach.api.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * 문자열 리스트를 JSON으로 변환하는 컨버터
+ * 생성된 면접 질문 목록처럼 순서가 있는 문자열 목록을 JSON 배열로 저장합니다.
+ */
+@Slf4j
+@Converter
+public class StringListJsonConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "[]";
+        }
+
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            log.error("문자열 리스트를 JSON으로 변환하는 중 오류 발생: {}", e.getMessage());
+            return "[]";
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isEmpty() || dbData.equals("[]")) {
+            return List.of();
+        }
+
+        try {
+            return objectMapper.readValue(dbData, new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            log.error("JSON을 문자열 리스트로 변환하는 중 오류 발생: {}", e.getMessage());
+            return List.of();
+        }
+    }
+}
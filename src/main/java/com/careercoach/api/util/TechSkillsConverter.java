@@ -1,30 +1,53 @@
 package com.careercoach.api.util;
 
+import com.careercoach.api.service.skill.SkillDictionary;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+import org.springframework.beans.factory.ObjectProvider;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * 기술 스택 리스트를 JSON으로 변환하는 컨버터
- * 데이터베이스에 JSON 형태로 저장하고, 엔티티에서는 List<String>으로 사용합니다.
+ * 기술 스택을 JSON으로 변환하는 컨버터
+ * 데이터베이스에는 정식 기술명의 JSON 배열로 저장하고, 엔티티에서는 기술 ID 기반 {@link SkillSet}으로 사용합니다.
+ *
+ * 읽을 때는 JSON 배열의 각 원소를 기술 사전에서 그 자리에서 조회하므로 결과 SkillSet 외에는 할당하지 않습니다.
+ * 이스케이프 문자가 포함된 드문 경우에만 Jackson으로 파싱합니다.
+ * 읽기는 조회만 하며 기술을 등록하지 않습니다(엔티티 적재 중 별도 트랜잭션 INSERT 방지).
+ * 이 노드의 사전에 없는 기술은 skills 테이블에서 찾고, 테이블에도 없으면 원래 이름 그대로 SkillSet에 남겨
+ * 다시 저장할 때 기술 목록이 줄어들지 않게 합니다.
+ *
+ * 컨버터는 Hibernate가 Spring 빈 컨테이너를 통해 생성하며, 기술 사전은 EntityManagerFactory와의
+ * 순환 참조를 피하기 위해 처음 변환할 때 꺼내 씁니다. SkillSet은 불변이므로 변경 감지용 사본을 만들지 않습니다.
  */
 @Slf4j
 @Converter
-public class TechSkillsConverter implements AttributeConverter<List<String>, String> {
+@Mutability(Immutability.class)
+public class TechSkillsConverter implements AttributeConverter<SkillSet, String> {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final ObjectProvider<SkillDictionary> skillDictionaryProvider;
+    private volatile SkillDictionary skillDictionary;
+
+    public TechSkillsConverter(ObjectProvider<SkillDictionary> skillDictionaryProvider) {
+        this.skillDictionaryProvider = skillDictionaryProvider;
+    }
 
     @Override
-    public String convertToDatabaseColumn(List<String> techSkills) {
+    public String convertToDatabaseColumn(SkillSet techSkills) {
         if (techSkills == null || techSkills.isEmpty()) {
             return "[]";
         }
-        
+
         try {
             return objectMapper.writeValueAsString(techSkills);
         } catch (JsonProcessingException e) {
@@ -34,16 +57,92 @@ public class TechSkillsConverter implements AttributeConverter<List<String>, Str
     }
 
     @Override
-    public List<String> convertToEntityAttribute(String dbData) {
+    public SkillSet convertToEntityAttribute(String dbData) {
+        return decode(dbData, skillDictionary());
+    }
+
+    /**
+     * tech_skills 컬럼 값을 SkillSet으로 변환
+     * 사전에 없는 기술은 등록하지 않고, skills 테이블에서 찾거나 원래 이름 그대로 보관합니다.
+     *
+     * @param dbData 기술명 JSON 배열
+     * @param dictionary 기술 사전
+     */
+    public static SkillSet decode(String dbData, SkillDictionary dictionary) {
+        if (dbData == null || dbData.isEmpty() || dbData.equals("[]")) {
+            return SkillSet.EMPTY;
+        }
+        if (dbData.indexOf('\\') >= 0) {
+            return decodeEscaped(dbData, dictionary);
+        }
+
+        int quotes = 0;
+        for (int i = 0; i < dbData.length(); i++) {
+            if (dbData.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        if (dbData.charAt(0) != '[' || quotes % 2 != 0) {
+            log.error("JSON을 기술 스택으로 변환하는 중 오류 발생: 배열 형식이 아님");
+            return SkillSet.EMPTY;
+        }
+
+        int[] ids = new int[quotes / 2];
+        int count = 0;
+        List<String> unresolved = null;
+        for (int start = dbData.indexOf('"'); start >= 0; start = dbData.indexOf('"', start + 1)) {
+            int end = dbData.indexOf('"', start + 1);
+            int id = dictionary.lookup(dbData, start + 1, end);
+            if (id == SkillDictionary.NOT_FOUND) {
+                String name = dbData.substring(start + 1, end);
+                id = dictionary.lookupStored(name);
+                if (id == SkillDictionary.NOT_FOUND && !name.isBlank()) {
+                    if (unresolved == null) {
+                        unresolved = new ArrayList<>();
+                    }
+                    unresolved.add(name);
+                }
+            }
+            if (id != SkillDictionary.NOT_FOUND) {
+                ids[count++] = id;
+            }
+            start = end;
+        }
+        return SkillSet.of(ids, count, dictionary.canonicalNames(), unresolved);
+    }
+
+    /**
+     * tech_skills 컬럼 값을 기술명 목록으로 변환 (사전 조회 없음, 기존 데이터 이관용)
+     *
+     * @param dbData 기술명 JSON 배열
+     */
+    public static List<String> names(String dbData) {
         if (dbData == null || dbData.isEmpty() || dbData.equals("[]")) {
             return List.of();
         }
-        
         try {
-            return objectMapper.readValue(dbData, new TypeReference<List<String>>() {});
+            return objectMapper.readValue(dbData, STRING_LIST);
         } catch (JsonProcessingException e) {
-            log.error("JSON을 기술 스택 리스트로 변환하는 중 오류 발생: {}", e.getMessage());
+            log.error("JSON을 기술 스택으로 변환하는 중 오류 발생: {}", e.getMessage());
             return List.of();
         }
     }
-} 
\ No newline at end of file
+
+    private static SkillSet decodeEscaped(String dbData, SkillDictionary dictionary) {
+        try {
+            return dictionary.toKnownSkillSet(objectMapper.readValue(dbData, STRING_LIST));
+        } catch (JsonProcessingException e) {
+            log.error("JSON을 기술 스택으로 변환하는 중 오류 발생: {}", e.getMessage());
+            return SkillSet.EMPTY;
+        }
+    }
+
+    private SkillDictionary skillDictionary() {
+        SkillDictionary dictionary = skillDictionary;
+        if (dictionary == null) {
+            dictionary = skillDictionaryProvider.getObject();
+            skillDictionary = dictionary;
+        }
+        return dictionary;
+    }
+}
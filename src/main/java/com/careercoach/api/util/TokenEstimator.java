@@ -0,0 +1,41 @@
+package com.careercoach.api.util;
+
+/**
+ * LLM 토큰 수 추정 유틸리티
+ * 토크나이저 없이 문자 종류별 평균 비율로 토큰 수를 근사합니다.
+ * 한글은 음절당 약 1토큰, 영문/숫자/기호는 약 4자당 1토큰으로 계산합니다.
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    /**
+     * 텍스트의 토큰 수 추정
+     */
+    public static int estimate(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return 0;
+        }
+
+        int hangul = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '가' && c <= '힣') {
+                hangul++;
+            } else if (!Character.isWhitespace(c)) {
+                other++;
+            }
+        }
+        return hangul + (other + 3) / 4;
+    }
+
+    /**
+     * UTF-8 바이트 수로부터 토큰 수 추정
+     * 본문을 다시 읽지 않고 캐시 항목 크기만으로 근사할 때 사용합니다 (한글 3바이트 ≈ 1토큰).
+     */
+    public static long estimateFromUtf8Bytes(long bytes) {
+        return bytes / 3;
+    }
+}
@@ -4,27 +4,60 @@
 -- =====================================================
 
 -- resumes 테이블: 직무와 경력 연수에 대한 복합 인덱스 생성
+-- ID는 애플리케이션이 pooled 시퀀스로 할당 (IDENTITY는 JDBC 배치 INSERT를 막음)
+CREATE SEQUENCE IF NOT EXISTS resumes_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS resumes (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     career_summary VARCHAR(255) NOT NULL,
     job_role VARCHAR(50) NOT NULL,
     experience_years INT NOT NULL,
     project_experience TEXT,
     tech_skills VARCHAR(4000), -- H2에서는 JSON 타입 대신 VARCHAR 사용
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP -- 목록 ETag 버전 (MAX(updated_at) + COUNT(*))
 );
 
 -- 성능 최적화를 위한 인덱스
 CREATE INDEX IF NOT EXISTS idx_resume_job_role_experience ON resumes(job_role, experience_years);
 CREATE INDEX IF NOT EXISTS idx_resume_created_at ON resumes(created_at);
 CREATE INDEX IF NOT EXISTS idx_resume_experience_years ON resumes(experience_years);
+-- 직무별 목록 커서 페이지 (job_role 일치 + id 내림차순)
+CREATE INDEX IF NOT EXISTS idx_resume_job_role_id ON resumes(job_role, id);
+CREATE INDEX IF NOT EXISTS idx_resume_updated_at ON resumes(updated_at);
+
+-- skills 테이블: 정규화된 기술명 사전
+CREATE SEQUENCE IF NOT EXISTS skills_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS skills (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    normalized_name VARCHAR(100) NOT NULL UNIQUE
+);
+
+-- resume_skills 테이블: 이력서-기술 매핑 (기술 역색인의 원본)
+CREATE TABLE IF NOT EXISTS resume_skills (
+    resume_id BIGINT NOT NULL,
+    skill_id BIGINT NOT NULL,
+    PRIMARY KEY (resume_id, skill_id),
+    
+    -- 외래키 제약조건
+    FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE,
+    FOREIGN KEY (skill_id) REFERENCES skills(id)
+);
+
+-- 기술별 이력서 조회를 위한 인덱스
+CREATE INDEX IF NOT EXISTS idx_resume_skills_skill ON resume_skills(skill_id, resume_id);
+
+-- interview_questions 테이블 (ID는 배치 INSERT를 위해 pooled 시퀀스로 할당)
+CREATE SEQUENCE IF NOT EXISTS interview_questions_seq START WITH 1 INCREMENT BY 50;
 
--- interview_questions 테이블
 CREATE TABLE IF NOT EXISTS interview_questions (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     resume_id BIGINT NOT NULL,
     questions VARCHAR(4000) NOT NULL, -- H2에서는 JSON 타입 대신 VARCHAR 사용
     difficulty_level VARCHAR(20) NOT NULL CHECK (difficulty_level IN ('JUNIOR', 'MIDDLE', 'SENIOR')),
+    analysis TEXT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     
     -- 외래키 제약조건
@@ -32,13 +65,15 @@ CREATE TABLE IF NOT EXISTS interview_questions (
 );
 
 -- 성능 최적화를 위한 인덱스
-CREATE INDEX IF NOT EXISTS idx_interview_resume_id ON interview_questions(resume_id);
+CREATE INDEX IF NOT EXISTS idx_interview_resume_created ON interview_questions(resume_id, created_at); -- 이력서별 최신 조회
 CREATE INDEX IF NOT EXISTS idx_interview_difficulty ON interview_questions(difficulty_level);
 CREATE INDEX IF NOT EXISTS idx_interview_created_at ON interview_questions(created_at);
 
--- learning_paths 테이블: 학습 경로 정보 저장
+-- learning_paths 테이블: 학습 경로 정보 저장 (ID는 배치 INSERT를 위해 pooled 시퀀스로 할당)
+CREATE SEQUENCE IF NOT EXISTS learning_paths_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS learning_paths (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     resume_id BIGINT NOT NULL,
     job_role VARCHAR(50) NOT NULL,
     experience_level VARCHAR(20) NOT NULL,
@@ -52,7 +87,7 @@ CREATE TABLE IF NOT EXISTS learning_paths (
 );
 
 -- 성능 최적화를 위한 인덱스
-CREATE INDEX IF NOT EXISTS idx_learning_resume_id ON learning_paths(resume_id);
+CREATE INDEX IF NOT EXISTS idx_learning_resume_created ON learning_paths(resume_id, created_at); -- 이력서별 최신 조회
 CREATE INDEX IF NOT EXISTS idx_learning_job_role ON learning_paths(job_role);
 CREATE INDEX IF NOT EXISTS idx_learning_experience_level ON learning_paths(experience_level);
 CREATE INDEX IF NOT EXISTS idx_learning_created_at ON learning_paths(created_at);
@@ -78,6 +113,13 @@ CREATE INDEX IF NOT EXISTS idx_ai_status ON ai_service_calls(status);
 CREATE INDEX IF NOT EXISTS idx_ai_created_at ON ai_service_calls(created_at);
 CREATE INDEX IF NOT EXISTS idx_ai_duration ON ai_service_calls(duration_ms);
 
+-- replication_heartbeat 테이블: 읽기 복제본 지연 측정용 하트비트 (주 데이터소스에만 기록)
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id INT PRIMARY KEY,
+    beat_at BIGINT NOT NULL
+);
+INSERT INTO replication_heartbeat (id, beat_at) SELECT 1, 0 WHERE NOT EXISTS (SELECT 1 FROM replication_heartbeat);
+
 -- career_events 테이블: 이벤트 기반 비동기 처리 로그
 CREATE TABLE IF NOT EXISTS career_events (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -87,6 +129,8 @@ CREATE TABLE IF NOT EXISTS career_events (
     processed BOOLEAN DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     processed_at TIMESTAMP NULL,
+    attempts INT NOT NULL DEFAULT 0, -- 아웃박스 처리 시도 횟수
+    last_error VARCHAR(500),
     
     -- 외래키 제약조건
     FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE
@@ -97,6 +141,69 @@ CREATE INDEX IF NOT EXISTS idx_event_type ON career_events(event_type);
 CREATE INDEX IF NOT EXISTS idx_event_resume_id ON career_events(resume_id);
 CREATE INDEX IF NOT EXISTS idx_event_processed ON career_events(processed);
 CREATE INDEX IF NOT EXISTS idx_event_created_at ON career_events(created_at);
+-- 아웃박스 선점 (processed = FALSE ORDER BY id)
+CREATE INDEX IF NOT EXISTS idx_event_pending ON career_events(processed, id);
+
+-- background_jobs 테이블: AI 재생성 등 영속 백그라운드 작업 큐
+CREATE TABLE IF NOT EXISTS background_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    resume_id BIGINT,
+    idempotency_key VARCHAR(200) NOT NULL, -- 작업 유형:이력서 ID:이력서 내용 지문
+    payload VARCHAR(4000),
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, RUNNING, SUCCEEDED, CANCELLED, DEAD
+    attempts INT NOT NULL DEFAULT 0,
+    max_attempts INT NOT NULL,
+    available_at TIMESTAMP NOT NULL, -- 재시도 대기 후 선점 가능 시각
+    leased_by VARCHAR(100),
+    lease_expires_at TIMESTAMP NULL,
+    last_error VARCHAR(500),
+    result TEXT, -- 성공한 작업의 결과 (JSON 문자열)
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP NULL,
+
+    CONSTRAINT uk_job_idempotency_key UNIQUE (idempotency_key),
+    FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_resume_id ON background_jobs(resume_id);
+CREATE INDEX IF NOT EXISTS idx_job_created_at ON background_jobs(created_at);
+-- 작업 선점 (status, available_at / 만료된 임대 회수는 status, lease_expires_at)
+CREATE INDEX IF NOT EXISTS idx_job_claimable ON background_jobs(status, available_at);
+CREATE INDEX IF NOT EXISTS idx_job_lease ON background_jobs(status, lease_expires_at);
+
+-- backfill_runs 테이블: 프롬프트/모델 변경 후 AI 결과 일괄 재생성 실행과 진행 체크포인트
+CREATE TABLE IF NOT EXISTS backfill_runs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_role VARCHAR(50), -- NULL이면 전체 직무
+    artifacts VARCHAR(100) NOT NULL, -- 재생성 대상 (쉼표 구분: INTERVIEW_QUESTIONS, LEARNING_PATH)
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING', -- RUNNING, COMPLETED, CANCELLED
+    chunk_size INT NOT NULL,
+    rate_per_second DOUBLE NOT NULL, -- 초당 처리 이력서 수 상한
+    cursor_id BIGINT NOT NULL DEFAULT 0, -- 처리를 마친 마지막 이력서 ID (키셋 체크포인트)
+    total_count BIGINT NOT NULL, -- 시작 시점의 대상 이력서 수
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    succeeded_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    current_job_id BIGINT, -- 다음 청크를 처리할 background_jobs 작업
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_backfill_created_at ON backfill_runs(created_at);
+
+-- cache_invalidations 테이블: 노드 간 이력서 캐시/ETag 무효화 전파 (각 노드가 주기적으로 폴링)
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    resume_id BIGINT NOT NULL,
+    node_id VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_invalidation_created_at ON cache_invalidations(created_at);
 
 -- =====================================================
 -- 뷰 생성: 자주 사용되는 복잡한 쿼리를 위한 뷰
@@ -4,35 +4,99 @@
 -- =====================================================
 
 -- resumes 테이블: 직무와 경력 연수에 대한 복합 인덱스 생성
+-- ID는 애플리케이션이 pooled 시퀀스로 할당 (IDENTITY는 JDBC 배치 INSERT를 막음)
 CREATE TABLE IF NOT EXISTS resumes (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT NOT NULL PRIMARY KEY,
     career_summary VARCHAR(255) NOT NULL,
     job_role VARCHAR(50) NOT NULL,
     experience_years INT NOT NULL,
     project_experience TEXT,
     tech_skills JSON,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NULL, -- 목록 ETag 버전 (MAX(updated_at) + COUNT(*))
     
     -- 성능 최적화를 위한 인덱스
     INDEX idx_resume_job_role_experience (job_role, experience_years),
     INDEX idx_resume_created_at (created_at),
-    INDEX idx_resume_experience_years (experience_years)
+    INDEX idx_resume_experience_years (experience_years),
+    -- 직무별 목록 커서 페이지 (job_role 일치 + id 내림차순)
+    INDEX idx_resume_job_role_id (job_role, id),
+    INDEX idx_resume_updated_at (updated_at)
+);
+
+-- 기존 배포 마이그레이션: updated_at 컬럼/인덱스 추가 (기존 행은 생성 시각으로 채움)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'resumes' AND COLUMN_NAME = 'updated_at') = 0,
+              'ALTER TABLE resumes ADD COLUMN updated_at TIMESTAMP NULL, ADD INDEX idx_resume_updated_at (updated_at)',
+              'DO 0');
+PREPARE migrate_resumes FROM @ddl;
+EXECUTE migrate_resumes;
+DEALLOCATE PREPARE migrate_resumes;
+UPDATE resumes SET updated_at = created_at WHERE updated_at IS NULL;
+
+-- 기존 AUTO_INCREMENT로 발급된 ID 다음부터 시퀀스 시작
+CREATE TABLE IF NOT EXISTS resumes_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO resumes_seq (next_val)
+SELECT next_id FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_id FROM resumes) r
+WHERE NOT EXISTS (SELECT 1 FROM resumes_seq);
+
+-- skills 테이블: 정규화된 기술명 사전 (ID는 pooled 시퀀스로 할당)
+CREATE TABLE IF NOT EXISTS skills_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO skills_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM skills_seq);
+
+CREATE TABLE IF NOT EXISTS skills (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    normalized_name VARCHAR(100) NOT NULL,
+    
+    UNIQUE INDEX uk_skills_normalized_name (normalized_name)
+);
+
+-- resume_skills 테이블: 이력서-기술 매핑 (기술 역색인의 원본)
+CREATE TABLE IF NOT EXISTS resume_skills (
+    resume_id BIGINT NOT NULL,
+    skill_id BIGINT NOT NULL,
+    PRIMARY KEY (resume_id, skill_id),
+    
+    -- 외래키 제약조건
+    FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE,
+    FOREIGN KEY (skill_id) REFERENCES skills(id),
+    
+    -- 기술별 이력서 조회를 위한 인덱스
+    INDEX idx_resume_skills_skill (skill_id, resume_id)
+);
+
+-- 배치 INSERT용 pooled 시퀀스 테이블 (MySQL은 시퀀스가 없어 Hibernate가 테이블로 대체)
+CREATE TABLE IF NOT EXISTS interview_questions_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO interview_questions_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM interview_questions_seq);
+
+CREATE TABLE IF NOT EXISTS learning_paths_seq (
+    next_val BIGINT NOT NULL
 );
+INSERT INTO learning_paths_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM learning_paths_seq);
 
 -- interview_questions 테이블: 생성 날짜 기준으로 연도별 파티셔닝 적용
+-- ID는 애플리케이션이 pooled 시퀀스로 할당 (IDENTITY는 JDBC 배치 INSERT를 막음)
 CREATE TABLE IF NOT EXISTS interview_questions (
-    id BIGINT AUTO_INCREMENT,
+    id BIGINT NOT NULL,
     resume_id BIGINT NOT NULL,
     questions JSON NOT NULL,
     difficulty_level ENUM('JUNIOR', 'MIDDLE', 'SENIOR'),
+    analysis TEXT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (id, created_at),
     
     -- 외래키 제약조건
     FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE,
     
-    -- 성능 최적화를 위한 인덱스
-    INDEX idx_interview_resume_id (resume_id),
+    -- 성능 최적화를 위한 인덱스 (보조 인덱스는 기본 키를 포함하므로 이력서별 최신 id 조회가 인덱스만으로 처리됨)
+    INDEX idx_interview_resume_created (resume_id, created_at),
     INDEX idx_interview_difficulty (difficulty_level),
     INDEX idx_interview_created_at (created_at)
 ) PARTITION BY RANGE (YEAR(created_at)) (
@@ -42,9 +106,9 @@ CREATE TABLE IF NOT EXISTS interview_questions (
     PARTITION p_max VALUES LESS THAN MAXVALUE
 );
 
--- learning_paths 테이블: 학습 경로 정보 저장
+-- learning_paths 테이블: 학습 경로 정보 저장 (ID는 pooled 시퀀스로 할당)
 CREATE TABLE IF NOT EXISTS learning_paths (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     resume_id BIGINT NOT NULL,
     job_role VARCHAR(50) NOT NULL,
     experience_level VARCHAR(20) NOT NULL,
@@ -57,12 +121,30 @@ CREATE TABLE IF NOT EXISTS learning_paths (
     FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE,
     
     -- 성능 최적화를 위한 인덱스
-    INDEX idx_learning_resume_id (resume_id),
+    -- 이력서별 최신 조회 (생성 시각 역순)
+    INDEX idx_learning_resume_created (resume_id, created_at),
     INDEX idx_learning_job_role (job_role),
     INDEX idx_learning_experience_level (experience_level),
     INDEX idx_learning_created_at (created_at)
 );
 
+-- 기존 배포 마이그레이션: 이력서별 최신 결과물을 생성 시각으로 찾는 (resume_id, created_at) 인덱스 추가
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'interview_questions' AND INDEX_NAME = 'idx_interview_resume_created') = 0,
+              'ALTER TABLE interview_questions ADD INDEX idx_interview_resume_created (resume_id, created_at)',
+              'DO 0');
+PREPARE migrate_artifacts FROM @ddl;
+EXECUTE migrate_artifacts;
+DEALLOCATE PREPARE migrate_artifacts;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'learning_paths' AND INDEX_NAME = 'idx_learning_resume_created') = 0,
+              'ALTER TABLE learning_paths ADD INDEX idx_learning_resume_created (resume_id, created_at)',
+              'DO 0');
+PREPARE migrate_artifacts FROM @ddl;
+EXECUTE migrate_artifacts;
+DEALLOCATE PREPARE migrate_artifacts;
+
 -- ai_service_calls 테이블: AI 서비스 호출 모니터링
 CREATE TABLE IF NOT EXISTS ai_service_calls (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -84,6 +166,13 @@ CREATE TABLE IF NOT EXISTS ai_service_calls (
     INDEX idx_ai_duration (duration_ms)
 );
 
+-- replication_heartbeat 테이블: 읽기 복제본 지연 측정용 하트비트 (주 데이터소스에만 기록)
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id INT PRIMARY KEY,
+    beat_at BIGINT NOT NULL
+);
+INSERT INTO replication_heartbeat (id, beat_at) SELECT 1, 0 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM replication_heartbeat);
+
 -- career_events 테이블: 이벤트 기반 비동기 처리 로그
 CREATE TABLE IF NOT EXISTS career_events (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -93,6 +182,8 @@ CREATE TABLE IF NOT EXISTS career_events (
     processed BOOLEAN DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     processed_at TIMESTAMP NULL,
+    attempts INT NOT NULL DEFAULT 0, -- 아웃박스 처리 시도 횟수
+    last_error VARCHAR(500),
     
     -- 외래키 제약조건
     FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE,
@@ -101,7 +192,97 @@ CREATE TABLE IF NOT EXISTS career_events (
     INDEX idx_event_type (event_type),
     INDEX idx_event_resume_id (resume_id),
     INDEX idx_event_processed (processed),
-    INDEX idx_event_created_at (created_at)
+    INDEX idx_event_created_at (created_at),
+    -- 아웃박스 선점 (processed = FALSE ORDER BY id)
+    INDEX idx_event_pending (processed, id)
+);
+
+-- 기존 배포 마이그레이션: 아웃박스 도입 전에 만들어진 career_events에 컬럼/인덱스 추가
+-- (MySQL은 ADD COLUMN IF NOT EXISTS를 지원하지 않으므로 information_schema로 확인 후 실행)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'career_events' AND COLUMN_NAME = 'attempts') = 0,
+              'ALTER TABLE career_events ADD COLUMN attempts INT NOT NULL DEFAULT 0',
+              'DO 0');
+PREPARE migrate_career_events FROM @ddl;
+EXECUTE migrate_career_events;
+DEALLOCATE PREPARE migrate_career_events;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'career_events' AND COLUMN_NAME = 'last_error') = 0,
+              'ALTER TABLE career_events ADD COLUMN last_error VARCHAR(500)',
+              'DO 0');
+PREPARE migrate_career_events FROM @ddl;
+EXECUTE migrate_career_events;
+DEALLOCATE PREPARE migrate_career_events;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'career_events' AND INDEX_NAME = 'idx_event_pending') = 0,
+              'ALTER TABLE career_events ADD INDEX idx_event_pending (processed, id)',
+              'DO 0');
+PREPARE migrate_career_events FROM @ddl;
+EXECUTE migrate_career_events;
+DEALLOCATE PREPARE migrate_career_events;
+
+-- background_jobs 테이블: AI 재생성 등 영속 백그라운드 작업 큐
+CREATE TABLE IF NOT EXISTS background_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    resume_id BIGINT,
+    idempotency_key VARCHAR(200) NOT NULL, -- 작업 유형:이력서 ID:이력서 내용 지문
+    payload JSON,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, RUNNING, SUCCEEDED, CANCELLED, DEAD
+    attempts INT NOT NULL DEFAULT 0,
+    max_attempts INT NOT NULL,
+    available_at TIMESTAMP NOT NULL, -- 재시도 대기 후 선점 가능 시각
+    leased_by VARCHAR(100),
+    lease_expires_at TIMESTAMP NULL,
+    last_error VARCHAR(500),
+    result MEDIUMTEXT, -- 성공한 작업의 결과 (JSON 문자열)
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP NULL,
+
+    UNIQUE KEY uk_job_idempotency_key (idempotency_key),
+    FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE,
+
+    INDEX idx_job_resume_id (resume_id),
+    INDEX idx_job_created_at (created_at),
+    -- 작업 선점 (status, available_at / 만료된 임대 회수는 status, lease_expires_at)
+    INDEX idx_job_claimable (status, available_at),
+    INDEX idx_job_lease (status, lease_expires_at)
+);
+
+-- backfill_runs 테이블: 프롬프트/모델 변경 후 AI 결과 일괄 재생성 실행과 진행 체크포인트
+CREATE TABLE IF NOT EXISTS backfill_runs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_role VARCHAR(50), -- NULL이면 전체 직무
+    artifacts VARCHAR(100) NOT NULL, -- 재생성 대상 (쉼표 구분: INTERVIEW_QUESTIONS, LEARNING_PATH)
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING', -- RUNNING, COMPLETED, CANCELLED
+    chunk_size INT NOT NULL,
+    rate_per_second DOUBLE NOT NULL, -- 초당 처리 이력서 수 상한
+    cursor_id BIGINT NOT NULL DEFAULT 0, -- 처리를 마친 마지막 이력서 ID (키셋 체크포인트)
+    total_count BIGINT NOT NULL, -- 시작 시점의 대상 이력서 수
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    succeeded_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    current_job_id BIGINT, -- 다음 청크를 처리할 background_jobs 작업
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP NULL,
+
+    INDEX idx_backfill_created_at (created_at)
+);
+
+-- cache_invalidations 테이블: 노드 간 이력서 캐시/ETag 무효화 전파 (각 노드가 주기적으로 폴링)
+-- 삭제된 이력서의 무효화도 전달해야 하므로 resumes 외래키를 두지 않음
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    resume_id BIGINT NOT NULL,
+    node_id VARCHAR(100) NOT NULL, -- 변경을 커밋한 노드 (자기 변경은 이미 반영했으므로 건너뜀)
+    created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+    INDEX idx_invalidation_created_at (created_at)
 );
 
 -- =====================================================
@@ -166,20 +347,7 @@ BEGIN
     SELECT difficulty_level as calculated_difficulty;
 END //
 
--- 오래된 데이터 정리 저장 프로시저
-CREATE PROCEDURE CleanupOldData(IN days_to_keep INT)
-BEGIN
-    DECLARE cutoff_date TIMESTAMP;
-    SET cutoff_date = DATE_SUB(NOW(), INTERVAL days_to_keep DAY);
-    
-    -- 오래된 AI 서비스 호출 로그 삭제
-    DELETE FROM ai_service_calls WHERE created_at < cutoff_date;
-    
-    -- 오래된 이벤트 로그 삭제
-    DELETE FROM career_events WHERE created_at < cutoff_date AND processed = TRUE;
-    
-    SELECT ROW_COUNT() as deleted_records;
-END //
+-- 오래된 데이터 정리는 애플리케이션의 보존 작업(RetentionJob)이 청크 단위로 수행합니다.
 
 DELIMITER ;
 
@@ -187,24 +355,7 @@ DELIMITER ;
 -- 트리거: 데이터 무결성 보장을 위한 트리거
 -- =====================================================
 
-DELIMITER //
-
--- 이력서 생성 시 자동 이벤트 생성 트리거
-CREATE TRIGGER after_resume_insert
-AFTER INSERT ON resumes
-FOR EACH ROW
-BEGIN
-    INSERT INTO career_events (event_type, resume_id, event_data)
-    VALUES ('RESUME_CREATED', NEW.id, JSON_OBJECT('job_role', NEW.job_role, 'experience_years', NEW.experience_years));
-END //
-
--- 이력서 업데이트 시 자동 이벤트 생성 트리거
-CREATE TRIGGER after_resume_update
-AFTER UPDATE ON resumes
-FOR EACH ROW
-BEGIN
-    INSERT INTO career_events (event_type, resume_id, event_data)
-    VALUES ('RESUME_UPDATED', NEW.id, JSON_OBJECT('job_role', NEW.job_role, 'experience_years', NEW.experience_years));
-END //
-
-DELIMITER ; 
\ No newline at end of file
+-- career_events는 애플리케이션이 이력서 변경과 같은 트랜잭션에서 기록합니다 (CareerEventOutbox).
+-- 이전 버전의 트리거가 남아 있으면 이벤트가 중복 기록되므로 제거합니다.
+DROP TRIGGER IF EXISTS after_resume_insert;
+DROP TRIGGER IF EXISTS after_resume_update;
@@ -0,0 +1,17 @@
+package com.careercoach.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 애플리케이션 컨텍스트 기동 테스트
+ * 프록시 방식 변경 등으로 이벤트 리스너나 빈 구성이 깨져 기동에 실패하는 회귀를 잡습니다.
+ */
+@SpringBootTest
+class CareerCoachApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.domain.enums.InterviewDifficulty;
+import com.careercoach.api.dto.response.InterviewQuestionsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오프힙 캐시 측정 테스트
+ * 같은 면접 질문 응답을 on-heap Caffeine 캐시와 오프힙 캐시에 저장해 get/put 지연과 메모리 사용량을 비교해 기록합니다.
+ * 시간 수치는 환경에 따라 달라지므로 단정하지 않고, 값 보존과 바이트 단위 회계만 검증합니다.
+ */
+class OffHeapCacheTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapCacheTest.class);
+
+    private static final int ENTRIES = 2_000;
+    private static final int WARMUP_ROUNDS = 2;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void offHeapRoundTripsValues() {
+        OffHeapCache cache = offHeapCache();
+        InterviewQuestionsResponse response = response(1L);
+
+        cache.put(1L, response);
+        InterviewQuestionsResponse cached = cache.get(1L, InterviewQuestionsResponse.class);
+
+        assertThat(cached).isNotSameAs(response);
+        assertThat(cached.getQuestions()).isEqualTo(response.getQuestions());
+        assertThat(cached.getAnalysis()).isEqualTo(response.getAnalysis());
+        assertThat(cached.getGeneratedAt()).isEqualTo(response.getGeneratedAt());
+        assertThat(cache.getCompressedEntries()).isEqualTo(1);
+        assertThat(cache.getStoredBytes()).isLessThan(cache.getStoredRawBytes());
+    }
+
+    @Test
+    void compareOnHeapAndOffHeapLatencyAndMemory() {
+        List<InterviewQuestionsResponse> values = IntStream.rangeClosed(1, ENTRIES)
+                .mapToObj(id -> response((long) id))
+                .toList();
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            measure(onHeapCache(), values);
+            measure(offHeapCache(), values);
+        }
+
+        Cache onHeap = onHeapCache();
+        Measurement onHeapResult = measure(onHeap, values);
+        OffHeapCache offHeap = offHeapCache();
+        Measurement offHeapResult = measure(offHeap, values);
+
+        log.info("on-heap  : put {} ns/op, get {} ns/op, heap +{} KB",
+                onHeapResult.putNanos(), onHeapResult.getNanos(), onHeapResult.heapBytes() / 1024);
+        log.info("off-heap : put {} ns/op, get {} ns/op, heap +{} KB, direct {} KB (raw JSON {} KB, 압축 {}건)",
+                offHeapResult.putNanos(), offHeapResult.getNanos(), offHeapResult.heapBytes() / 1024,
+                offHeap.getStoredBytes() / 1024, offHeap.getStoredRawBytes() / 1024, offHeap.getCompressedEntries());
+
+        // 측정 중 캐시가 수거되지 않도록 끝까지 참조
+        assertThat(onHeap.get(1L)).isNotNull();
+        assertThat(offHeap.getStoredBytes()).isPositive();
+        assertThat(offHeap.getDeserializeCount()).isEqualTo(ENTRIES);
+    }
+
+    private Measurement measure(Cache cache, List<InterviewQuestionsResponse> values) {
+        long heapBefore = usedHeap();
+
+        long start = System.nanoTime();
+        for (InterviewQuestionsResponse value : values) {
+            cache.put(value.getResumeId(), value);
+        }
+        long putNanos = (System.nanoTime() - start) / values.size();
+
+        start = System.nanoTime();
+        for (InterviewQuestionsResponse value : values) {
+            assertThat(cache.get(value.getResumeId(), InterviewQuestionsResponse.class)).isNotNull();
+        }
+        long getNanos = (System.nanoTime() - start) / values.size();
+
+        // 원본 값은 호출자가 계속 보유하므로 증가분은 캐시가 추가로 잡은 힙 (on-heap은 참조만 보관)
+        long heapBytes = Math.max(0, usedHeap() - heapBefore);
+        return new Measurement(putNanos, getNanos, heapBytes);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Cache onHeapCache() {
+        return new CaffeineCache("interview-questions", Caffeine.newBuilder()
+                .maximumSize(ENTRIES)
+                .build());
+    }
+
+    private OffHeapCache offHeapCache() {
+        return new OffHeapCache("interview-questions", InterviewQuestionsResponse.class, objectMapper,
+                64L * 1024 * 1024, Duration.ofMinutes(10), true, 1024, (key, cause) -> { });
+    }
+
+    private static InterviewQuestionsResponse response(Long resumeId) {
+        List<String> questions = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            questions.add("Spring 트랜잭션 전파 속성 중 REQUIRES_NEW를 사용한 경험과 주의할 점을 설명해 주세요. (" + i + ")");
+        }
+        return InterviewQuestionsResponse.builder()
+                .resumeId(resumeId)
+                .difficulty(InterviewDifficulty.MIDDLE)
+                .questions(questions)
+                .analysis("백엔드 3년차 경력으로 Spring Boot와 JPA 기반 서비스 운영 경험이 있습니다. ".repeat(10))
+                .generatedAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                .promptUsed("이력서 " + resumeId + " 기반 면접 질문 생성 프롬프트")
+                .build();
+    }
+
+    private record Measurement(long putNanos, long getNanos, long heapBytes) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.dto.response.ResumeDto;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이력서 ETag 색인 테스트
+ * 목록 ETag가 데이터베이스 없이 무효화마다 달라지고 노드마다 구분되며, 조회 중 변경된 이력서의 ETag는 남지 않는지 확인합니다.
+ */
+class ResumeETagIndexTest {
+
+    private final ResumeETagIndex index = new ResumeETagIndex(100);
+
+    @Test
+    void collectionETagChangesOnInvalidation() {
+        String initial = index.collectionETag();
+        assertThat(index.collectionETag()).isEqualTo(initial);
+
+        index.invalidate(1L);
+        assertThat(index.collectionETag()).isNotEqualTo(initial);
+
+        // 다른 노드(또는 재시작 후)의 ETag와 겹치지 않음
+        assertThat(new ResumeETagIndex(100).collectionETag()).isNotEqualTo(initial);
+    }
+
+    @Test
+    void resumeETagIsDroppedWhenChangedDuringRead() {
+        ResumeDto resume = ResumeDto.builder().id(1L).careerSummary("요약").build();
+
+        long version = index.currentVersion();
+        String eTag = index.registerResume(resume, version);
+        assertThat(index.resumeETag(1L)).contains(eTag);
+
+        long staleVersion = index.currentVersion();
+        index.invalidate(1L);
+        index.registerResume(resume, staleVersion);
+        assertThat(index.resumeETag(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.event.ResumeChangedEvent;
+import com.careercoach.api.repository.ResumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이력서 존재 색인 테스트
+ * 색인 범위 안의 미존재 ID는 데이터베이스 없이 거절하고, 범위 밖 ID와 다른 노드의 변경은 데이터베이스로 확인하는지 검증합니다.
+ */
+class ResumeExistenceIndexTest {
+
+    private ResumeRepository resumeRepository;
+    private ResumeExistenceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.findAllIds()).thenReturn(List.of(1L, 5L));
+        index = new ResumeExistenceIndex(resumeRepository, Duration.ofMinutes(1), 100);
+        index.load();
+    }
+
+    @Test
+    void missingIdWithinRangeIsRejectedWithoutQuery() {
+        assertThat(index.mightExist(1L)).isTrue();
+        assertThat(index.mightExist(3L)).isFalse();
+        assertThat(index.mightExist(3L)).isFalse();
+
+        verify(resumeRepository, never()).existsById(anyLong());
+        assertThat(index.getRejectedByIndex()).isEqualTo(2);
+    }
+
+    @Test
+    void idAboveRangePassesToDatabase() {
+        assertThat(index.mightExist(6L)).isTrue();
+        assertThat(index.getPassedAboveRange()).isEqualTo(1);
+
+        index.recordMissing(6L);
+        assertThat(index.mightExist(6L)).isFalse();
+        assertThat(index.getRejectedByNegativeCache()).isEqualTo(1);
+    }
+
+    @Test
+    void localCreateAndDeleteKeepBitmapCurrent() {
+        index.handleResumeChangedEvent(new ResumeChangedEvent(this, ResumeChangedEvent.ChangeType.CREATED, 8L, null, null));
+        assertThat(index.mightExist(8L)).isTrue();
+        assertThat(index.getHighestId()).isEqualTo(8);
+
+        index.handleResumeChangedEvent(new ResumeChangedEvent(this, ResumeChangedEvent.ChangeType.DELETED, 8L, null, null));
+        // 삭제해도 범위는 줄지 않으므로 계속 색인에서 거절
+        assertThat(index.mightExist(8L)).isFalse();
+    }
+
+    @Test
+    void remoteChangesAreRefreshedInOneQuery() {
+        when(resumeRepository.findExistingIds(List.of(3L, 5L))).thenReturn(List.of(3L));
+
+        index.refresh(List.of(3L, 5L));
+
+        assertThat(index.mightExist(3L)).isTrue();
+        assertThat(index.mightExist(5L)).isFalse();
+        assertThat(index.getRemoteRefreshes()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,79 @@
+package com.careercoach.api.cache;
+
+import com.careercoach.api.repository.CacheInvalidationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 노드 간 이력서 무효화 폴러 테스트
+ * 다른 노드의 무효화만 한 번씩 반영하고, 직전 폴링보다 앞선 시각으로 늦게 커밋된 기록도 놓치지 않는지 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ResumeInvalidationPollerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CacheInvalidationRepository repository;
+    private ResumeCacheInvalidator invalidator;
+    private ResumeExistenceIndex existenceIndex;
+    private ResumeInvalidationPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CacheInvalidationRepository(jdbcTemplate);
+        invalidator = mock(ResumeCacheInvalidator.class);
+        when(invalidator.getNodeId()).thenReturn("node-a");
+        existenceIndex = mock(ResumeExistenceIndex.class);
+        poller = new ResumeInvalidationPoller(repository, invalidator, existenceIndex, true, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM cache_invalidations");
+    }
+
+    @Test
+    void appliesOtherNodesInvalidationsOnce() {
+        repository.append(1L, "node-b");
+        repository.append(2L, "node-a");
+
+        poller.poll();
+        poller.poll();
+
+        verify(invalidator, times(1)).evictResume(1L);
+        verify(invalidator, never()).evictResume(2L);
+        verify(existenceIndex).refresh(Set.of(1L));
+        assertThat(poller.getRemoteInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void lateCommittedInvalidationIsStillApplied() {
+        poller.poll();
+
+        // 직전 폴링 전에 기록됐지만 그 뒤에 커밋된 행
+        Timestamp recordedBeforePoll = Timestamp.valueOf(repository.currentTimestamp().minusSeconds(5));
+        jdbcTemplate.update("INSERT INTO cache_invalidations (resume_id, node_id, created_at) VALUES (3, 'node-b', ?)",
+                recordedBeforePoll);
+        poller.poll();
+
+        verify(invalidator, times(1)).evictResume(3L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.careercoach.api.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 읽기/쓰기 라우팅 테스트
+ * 쓰기 커밋 시각이 실제 읽기/쓰기 트랜잭션의 커밋 후에만 기록되고, 작업 스레드에 문맥이 남지 않는지 확인합니다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReadWriteRoutingDataSource dataSource =
+            new ReadWriteRoutingDataSource(mock(DataSource.class), List.of(), 1000);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        ReadConsistencyContext.clear();
+    }
+
+    @Test
+    void connectionOutsideTransactionDoesNotRecordWrite() {
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+        assertThat(ReadConsistencyContext.lastWriteAt()).isZero();
+    }
+
+    @Test
+    void readWriteTransactionRecordsWriteAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+        assertThat(ReadConsistencyContext.lastWriteAt()).isZero();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(ReadConsistencyContext.lastWriteAt()).isPositive();
+    }
+
+    @Test
+    void decoratedTaskInheritsTimestampAndLeavesNoContext() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ReadConsistencyContext.recordWrite(1234L);
+            AtomicLong seen = new AtomicLong();
+            executor.submit(ReadConsistencyContext.decorate(() -> {
+                seen.set(ReadConsistencyContext.minReadTimestamp());
+                ReadConsistencyContext.recordWrite(5678L);
+            })).get();
+
+            assertThat(seen.get()).isEqualTo(1234L);
+            assertThat(executor.submit(ReadConsistencyContext::lastWriteAt).get()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.service.job.BackgroundJob;
+import com.careercoach.api.service.job.JobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * background_jobs 작업 큐 테스트
+ * 선점, 임대 연장, 이전 시도의 늦은 기록 차단(펜싱), 재시도 대기(백오프), DEAD 처리와 재대기를 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BackgroundJobRepositoryTest {
+
+    private static final String NODE_A = "node-a";
+    private static final String NODE_B = "node-b";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BackgroundJobRepository repository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BackgroundJobRepository(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("INSERT INTO resumes (id, career_summary, job_role, experience_years, created_at)"
+                + " VALUES (1, '요약', 'BACKEND_DEVELOPER', 3, CURRENT_TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM background_jobs");
+        jdbcTemplate.update("DELETE FROM resumes");
+    }
+
+    @Test
+    void insertIsIdempotentByKey() {
+        assertThat(insert("job-1")).isPositive();
+        assertThat(repository.insert("TEST", 1L, "job-1", "{}", 3, NOW)).isEmpty();
+    }
+
+    @Test
+    void claimLeasesPendingJobsOnce() {
+        long jobId = insert("job-1");
+
+        List<BackgroundJob> claimed = claim(NODE_A, NOW);
+        assertThat(claimed).singleElement().satisfies(job -> {
+            assertThat(job.getId()).isEqualTo(jobId);
+            assertThat(job.getStatus()).isEqualTo(JobStatus.RUNNING);
+            assertThat(job.getAttempts()).isEqualTo(1);
+            assertThat(job.getLeasedBy()).isEqualTo(NODE_A);
+            assertThat(job.getLeaseExpiresAt()).isEqualTo(NOW.plusMinutes(2));
+        });
+
+        // 임대 중인 작업은 다른 노드가 선점하지 못함
+        assertThat(claim(NODE_B, NOW.plusMinutes(1))).isEmpty();
+    }
+
+    @Test
+    void extendedLeaseIsNotReclaimed() {
+        insert("job-1");
+        claim(NODE_A, NOW);
+
+        // 다른 노드는 연장할 수 없음
+        assertThat(repository.extendLeases(List.of(jobId("job-1")), NODE_B, NOW.plusMinutes(10))).isZero();
+        assertThat(repository.extendLeases(List.of(jobId("job-1")), NODE_A, NOW.plusMinutes(10))).isEqualTo(1);
+
+        assertThat(claim(NODE_B, NOW.plusMinutes(5))).isEmpty();
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndStaleAttemptIsFenced() {
+        insert("job-1");
+        BackgroundJob firstAttempt = claim(NODE_A, NOW).get(0);
+
+        // 임대 만료 후 다른 노드가 다시 선점
+        BackgroundJob secondAttempt = claim(NODE_B, NOW.plusMinutes(3)).get(0);
+        assertThat(secondAttempt.getAttempts()).isEqualTo(2);
+
+        // 늦게 끝난 이전 시도는 결과를 기록하지 못함
+        assertThat(repository.finish(firstAttempt, NODE_A, JobStatus.SUCCEEDED, null, "{}", NOW.plusMinutes(4))).isZero();
+        assertThat(repository.reschedule(firstAttempt, NODE_A, "오류", NOW.plusMinutes(5), NOW.plusMinutes(4))).isZero();
+        assertThat(repository.findById(secondAttempt.getId()).orElseThrow().getStatus()).isEqualTo(JobStatus.RUNNING);
+
+        assertThat(repository.finish(secondAttempt, NODE_B, JobStatus.SUCCEEDED, null, "{\"ok\":true}", NOW.plusMinutes(4)))
+                .isEqualTo(1);
+        BackgroundJob finished = repository.findById(secondAttempt.getId()).orElseThrow();
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(finished.getResult()).isEqualTo("{\"ok\":true}");
+        assertThat(finished.getLeasedBy()).isNull();
+    }
+
+    @Test
+    void rescheduledJobWaitsForBackoff() {
+        insert("job-1");
+        BackgroundJob job = claim(NODE_A, NOW).get(0);
+
+        LocalDateTime availableAt = NOW.plusSeconds(10);
+        assertThat(repository.reschedule(job, NODE_A, "일시 오류", availableAt, NOW)).isEqualTo(1);
+
+        BackgroundJob pending = repository.findById(job.getId()).orElseThrow();
+        assertThat(pending.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(pending.getAvailableAt()).isEqualTo(availableAt);
+        assertThat(pending.getLastError()).isEqualTo("일시 오류");
+
+        assertThat(claim(NODE_A, NOW.plusSeconds(5))).isEmpty();
+        assertThat(claim(NODE_A, availableAt)).singleElement()
+                .satisfies(retried -> assertThat(retried.getAttempts()).isEqualTo(2));
+    }
+
+    @Test
+    void deadJobIsNotClaimedUntilRequeued() {
+        insert("job-1");
+        BackgroundJob job = claim(NODE_A, NOW).get(0);
+
+        assertThat(repository.finish(job, NODE_A, JobStatus.DEAD, "최대 시도 초과", null, NOW)).isEqualTo(1);
+        assertThat(claim(NODE_A, NOW.plusHours(1))).isEmpty();
+        assertThat(repository.findByStatus(JobStatus.DEAD, 10)).extracting(BackgroundJob::getId).containsExactly(job.getId());
+
+        assertThat(repository.requeue(job.getId(), NOW.plusHours(1))).isEqualTo(1);
+        // 대기 중인 작업은 다시 재대기 대상이 아님
+        assertThat(repository.requeue(job.getId(), NOW.plusHours(1))).isZero();
+
+        assertThat(claim(NODE_A, NOW.plusHours(1))).singleElement()
+                .satisfies(requeued -> assertThat(requeued.getAttempts()).isEqualTo(1));
+    }
+
+    @Test
+    void newVersionCancelsOnlyOtherPendingJobsOfResume() {
+        long oldJob = insert("job-1");
+        long newJob = insert("job-2");
+
+        assertThat(repository.cancelPendingForResume("TEST", 1L, newJob, NOW)).isEqualTo(1);
+        assertThat(repository.findById(oldJob).orElseThrow().getStatus()).isEqualTo(JobStatus.CANCELLED);
+        assertThat(repository.findById(newJob).orElseThrow().getStatus()).isEqualTo(JobStatus.PENDING);
+    }
+
+    private long insert(String idempotencyKey) {
+        return repository.insert("TEST", 1L, idempotencyKey, "{}", 3, NOW).orElseThrow();
+    }
+
+    private long jobId(String idempotencyKey) {
+        return repository.findByIdempotencyKey(idempotencyKey).orElseThrow().getId();
+    }
+
+    private List<BackgroundJob> claim(String nodeId, LocalDateTime now) {
+        return transactionTemplate.execute(status -> repository.claim(10, nodeId, now, now.plusMinutes(2)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.careercoach.api.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이력서별 최신 생성 결과물 조회 테스트
+ * 다른 노드가 앞선 pooled 시퀀스 구간으로 나중에 저장한 결과물도 생성 시각 기준으로 최신으로 찾는지 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LatestArtifactLookupTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LearningPathRepository learningPathRepository;
+
+    @Autowired
+    private InterviewQuestionSetRepository interviewQuestionSetRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO resumes (id, career_summary, job_role, experience_years, created_at) "
+                + "VALUES (1, '요약', 'BACKEND_DEVELOPER', 3, CURRENT_TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM learning_paths");
+        jdbcTemplate.update("DELETE FROM interview_questions");
+        jdbcTemplate.update("DELETE FROM resumes");
+    }
+
+    @Test
+    void latestLearningPathIsOrderedByCreatedAtNotId() {
+        // 노드 A는 101~150 구간, 노드 B는 51~100 구간을 할당받은 상태
+        insertLearningPath(101L, NOW.minusMinutes(10));
+        insertLearningPath(52L, NOW);
+
+        assertThat(learningPathRepository.findFirstByResumeIdOrderByCreatedAtDescIdDesc(1L))
+                .map(ArtifactIdView::getId)
+                .contains(52L);
+    }
+
+    @Test
+    void latestInterviewQuestionsIsOrderedByCreatedAtNotId() {
+        insertInterviewQuestions(101L, NOW.minusMinutes(10));
+        insertInterviewQuestions(52L, NOW);
+
+        assertThat(interviewQuestionSetRepository.findFirstByResumeIdOrderByCreatedAtDescIdDesc(1L))
+                .map(ArtifactIdView::getId)
+                .contains(52L);
+        assertThat(interviewQuestionSetRepository.findFirstByResumeIdOrderByCreatedAtDescIdDesc(2L)).isEmpty();
+    }
+
+    private void insertLearningPath(Long id, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO learning_paths (id, resume_id, job_role, experience_level, learning_steps, created_at) "
+                + "VALUES (?, 1, 'BACKEND', 'JUNIOR', '[]', ?)", id, Timestamp.valueOf(createdAt));
+    }
+
+    private void insertInterviewQuestions(Long id, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO interview_questions (id, resume_id, questions, difficulty_level, created_at) "
+                + "VALUES (?, 1, '[]', 'JUNIOR', ?)", id, Timestamp.valueOf(createdAt));
+    }
+}
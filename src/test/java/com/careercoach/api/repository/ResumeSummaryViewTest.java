@@ -0,0 +1,124 @@
+package com.careercoach.api.repository;
+
+import com.careercoach.api.domain.entity.Resume;
+import com.careercoach.api.service.skill.SkillDictionary;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이력서 목록 프로젝션 측정 테스트
+ * 같은 커서 페이지를 엔티티와 ResumeSummaryView로 읽어 페이지당 할당 바이트와 소요 시간을 비교해 기록합니다.
+ * 시간은 환경에 따라 달라지므로 기록만 하고, 무거운 컬럼을 읽지 않는 프로젝션의 할당량이 더 작은지만 검증합니다.
+ */
+@DataJpaTest
+@Import(SkillDictionary.class)
+class ResumeSummaryViewTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeSummaryViewTest.class);
+
+    private static final int RESUMES = 400;
+    private static final int PAGE_SIZE = 20;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        String projectExperience = "대규모 트래픽 주문 시스템을 Spring Boot와 JPA로 재설계하고 운영했습니다. ".repeat(100);
+        String techSkills = "[\"Java\",\"Spring Boot\",\"JPA\",\"MySQL\",\"Redis\",\"Kafka\",\"Docker\",\"Kubernetes\"]";
+        jdbcTemplate.batchUpdate("INSERT INTO resumes (id, career_summary, job_role, experience_years, project_experience,"
+                        + " tech_skills, created_at) VALUES (?, '백엔드 3년차', 'BACKEND_DEVELOPER', 3, ?, ?, CURRENT_TIMESTAMP)",
+                LongStream.rangeClosed(1, RESUMES)
+                        .mapToObj(id -> new Object[]{id, projectExperience, techSkills})
+                        .toList());
+    }
+
+    @Test
+    void summaryPagesAllocateLessThanEntityPages() {
+        LongFunction<List<?>> entityPage = cursor -> entityManager
+                .createQuery("SELECT r FROM Resume r WHERE r.id < :cursor ORDER BY r.id DESC", Resume.class)
+                .setParameter("cursor", cursor)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        LongFunction<List<?>> summaryPage = cursor ->
+                resumeRepository.findSummariesByIdLessThanOrderByIdDesc(cursor, PageRequest.of(0, PAGE_SIZE));
+
+        // 워밍업
+        scan(entityPage);
+        scan(summaryPage);
+
+        PageCost entity = PageCost.ZERO;
+        PageCost summary = PageCost.ZERO;
+        for (int round = 0; round < ROUNDS; round++) {
+            entity = entity.plus(scan(entityPage));
+            summary = summary.plus(scan(summaryPage));
+        }
+        int pages = RESUMES / PAGE_SIZE * ROUNDS;
+
+        log.info("entity  : {} KB/page, {} us/page", entity.bytes() / pages / 1024, entity.nanos() / pages / 1000);
+        log.info("summary : {} KB/page, {} us/page", summary.bytes() / pages / 1024, summary.nanos() / pages / 1000);
+
+        assertThat(summary.bytes()).isLessThan(entity.bytes());
+    }
+
+    /**
+     * 첫 페이지부터 끝까지 커서로 읽으며 할당 바이트와 시간 합계 측정
+     */
+    private PageCost scan(LongFunction<List<?>> page) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytes = 0;
+        long nanos = 0;
+        long cursor = Long.MAX_VALUE;
+        int read = 0;
+
+        while (true) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            List<?> rows = page.apply(cursor);
+            nanos += System.nanoTime() - start;
+            bytes += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+            // 영속성 컨텍스트에 쌓인 엔티티가 다음 페이지 측정에 섞이지 않도록 비움
+            entityManager.clear();
+            if (rows.isEmpty()) {
+                break;
+            }
+            read += rows.size();
+            cursor = RESUMES - read + 1;
+        }
+        assertThat(read).isEqualTo(RESUMES);
+        return new PageCost(bytes, nanos);
+    }
+
+    private record PageCost(long bytes, long nanos) {
+
+        static final PageCost ZERO = new PageCost(0, 0);
+
+        PageCost plus(PageCost other) {
+            return new PageCost(bytes + other.bytes, nanos + other.nanos);
+        }
+    }
+}
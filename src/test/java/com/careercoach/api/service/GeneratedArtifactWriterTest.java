@@ -0,0 +1,88 @@
+package com.careercoach.api.service;
+
+import com.careercoach.api.domain.enums.InterviewDifficulty;
+import com.careercoach.api.dto.response.InterviewQuestionsResponse;
+import com.careercoach.api.dto.response.LearningPathResponse;
+import com.careercoach.api.repository.InterviewQuestionSetRepository;
+import com.careercoach.api.repository.LearningPathRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성 결과물 write-behind 저장 테스트
+ * 묶음 저장이 롤백된 뒤 건별 재시도가 정상 결과물을 모두 저장하는지 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GeneratedArtifactWriterTest {
+
+    @Autowired
+    private InterviewQuestionSetRepository interviewQuestionSetRepository;
+
+    @Autowired
+    private LearningPathRepository learningPathRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        interviewQuestionSetRepository.deleteAll();
+        learningPathRepository.deleteAll();
+    }
+
+    @Test
+    void batchFailureRetriesRowByRowAndKeepsGoodRows() {
+        GeneratedArtifactWriter writer = new GeneratedArtifactWriter(interviewQuestionSetRepository,
+                learningPathRepository, new ObjectMapper(), transactionManager, 100, 10);
+
+        // 정상 결과물이 먼저 persist되어 시퀀스 ID를 받은 뒤 NOT NULL 위반으로 묶음 전체가 롤백되도록 배치
+        writer.enqueue(questions(1L, InterviewDifficulty.JUNIOR));
+        writer.enqueue(learningPath(1L));
+        writer.enqueue(questions(2L, null));
+        writer.enqueue(questions(3L, InterviewDifficulty.SENIOR));
+
+        writer.flush();
+
+        assertThat(interviewQuestionSetRepository.findAll())
+                .extracting(questionSet -> questionSet.getResumeId())
+                .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(learningPathRepository.findAll()).hasSize(1);
+        assertThat(writer.getWrittenCount()).isEqualTo(3);
+        assertThat(writer.getFailedCount()).isEqualTo(1);
+        assertThat(writer.getPendingCount()).isZero();
+    }
+
+    private static InterviewQuestionsResponse questions(Long resumeId, InterviewDifficulty difficulty) {
+        return InterviewQuestionsResponse.builder()
+                .resumeId(resumeId)
+                .difficulty(difficulty)
+                .questions(List.of("질문 1", "질문 2"))
+                .analysis("분석")
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static LearningPathResponse learningPath(Long resumeId) {
+        return LearningPathResponse.builder()
+                .resumeId(resumeId)
+                .jobRole("BACKEND")
+                .experienceLevel("JUNIOR")
+                .learningSteps(List.of())
+                .overallStrategy("전략")
+                .estimatedDuration("3개월")
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+}
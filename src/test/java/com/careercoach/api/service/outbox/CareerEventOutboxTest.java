@@ -0,0 +1,108 @@
+package com.careercoach.api.service.outbox;
+
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.dto.response.ResumeDto;
+import com.careercoach.api.event.ResumeChangedEvent;
+import com.careercoach.api.repository.CareerEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * career_events 아웃박스 기록 테스트
+ * 트랜잭션에서 발행된 이벤트가 커밋 시 함께 기록되고 롤백 시 사라지는지 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CareerEventOutboxTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CareerEventOutbox outbox;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new CareerEventOutbox(new CareerEventRepository(jdbcTemplate), new ObjectMapper());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO resumes (id, career_summary, job_role, experience_years, created_at)"
+                    + " VALUES (?, '요약', 'BACKEND_DEVELOPER', 3, CURRENT_TIMESTAMP)", id);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM career_events");
+        jdbcTemplate.update("DELETE FROM resumes");
+    }
+
+    @Test
+    void eventsAreWrittenOnCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long id = 1; id <= 3; id++) {
+                outbox.handleResumeChangedEvent(created(id));
+            }
+            // 커밋 전에는 버퍼에만 있음
+            assertThat(count()).isZero();
+        });
+
+        assertThat(jdbcTemplate.queryForList("SELECT resume_id FROM career_events ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void eventsAreDiscardedOnRollback() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.handleResumeChangedEvent(created(1L));
+            status.setRollbackOnly();
+        });
+
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    void innerTransactionKeepsItsOwnEvents() {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.handleResumeChangedEvent(created(1L));
+            requiresNew.executeWithoutResult(inner -> outbox.handleResumeChangedEvent(created(2L)));
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbcTemplate.queryForList("SELECT resume_id FROM career_events", Long.class))
+                .containsExactly(2L);
+    }
+
+    private long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM career_events", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static ResumeChangedEvent created(long resumeId) {
+        ResumeDto resume = ResumeDto.builder()
+                .id(resumeId)
+                .jobRole(JobRole.BACKEND_DEVELOPER)
+                .experienceYears(3)
+                .build();
+        return new ResumeChangedEvent(CareerEventOutboxTest.class, ResumeChangedEvent.ChangeType.CREATED,
+                resumeId, resume, null);
+    }
+}
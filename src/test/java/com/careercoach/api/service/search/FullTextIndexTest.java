@@ -0,0 +1,91 @@
+package com.careercoach.api.service.search;
+
+import com.careercoach.api.config.FullTextSearchProperties;
+import com.careercoach.api.repository.ResumeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전문 검색 색인 대조 테스트
+ * 세그먼트에 남은 내용이 데이터베이스와 다르면 기동 시 대조에서 다시 색인되는지 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FullTextIndexTest {
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM resumes");
+    }
+
+    @Test
+    void reconcileReindexesStaleSegmentsAndRemovesGhosts() {
+        long resumeId = 1L;
+        jdbcTemplate.update("INSERT INTO resumes (id, career_summary, job_role, experience_years, created_at)"
+                + " VALUES (?, '결제 시스템 백엔드 개발', 'BACKEND_DEVELOPER', 3, CURRENT_TIMESTAMP)", resumeId);
+
+        // 이전 데이터베이스에서 같은 ID로 색인된 다른 이력서와 지금은 없는 이력서가 세그먼트에 남은 상황
+        FullTextIndex previous = new FullTextIndex(resumeRepository, persistentProperties());
+        previous.index(resumeId, "물류 플랫폼 운영", null);
+        previous.index(resumeId + 1000, "검색 엔진 튜닝", null);
+        previous.flush();
+
+        FullTextIndex index = new FullTextIndex(resumeRepository, persistentProperties());
+        index.load();
+
+        assertThat(index.getDocumentCount()).isEqualTo(1);
+        assertThat(index.search("물류", 0, 10).getTotalHits()).isZero();
+        assertThat(index.search("검색", 0, 10).getTotalHits()).isZero();
+        assertThat(index.search("결제", 0, 10).getHits())
+                .extracting(ScoredResume::getResumeId)
+                .containsExactly(resumeId);
+    }
+
+    @Test
+    void reconcileSkipsDocumentsChangedDuringReconcile() {
+        ResumeRepository repository = mock(ResumeRepository.class);
+        FullTextIndex index = new FullTextIndex(repository, new FullTextSearchProperties());
+        index.index(8L, "물류 플랫폼 운영", null);
+
+        // 대조가 데이터베이스 ID를 읽은 직후 새 이력서가 커밋되어 색인된 상황
+        when(repository.findAllIds()).thenAnswer(invocation -> {
+            index.index(7L, "결제 시스템 개발", null);
+            return List.of();
+        });
+        index.load();
+
+        assertThat(index.search("물류", 0, 10).getTotalHits()).isZero();
+        assertThat(index.search("결제", 0, 10).getHits())
+                .extracting(ScoredResume::getResumeId)
+                .containsExactly(7L);
+    }
+
+    private FullTextSearchProperties persistentProperties() {
+        FullTextSearchProperties properties = new FullTextSearchProperties();
+        properties.setPersistent(true);
+        properties.setDirectory(directory.toString());
+        return properties;
+    }
+}
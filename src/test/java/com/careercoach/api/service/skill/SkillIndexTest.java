@@ -0,0 +1,105 @@
+package com.careercoach.api.service.skill;
+
+import com.careercoach.api.domain.enums.JobRole;
+import com.careercoach.api.repository.ResumeSkillRepository;
+import com.careercoach.api.repository.SkillRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기술 색인 적재 전 조회 테스트
+ * 적재가 끝나기 전에는 같은 조건을 데이터베이스에서 평가해 빈 결과 대신 실제 일치 이력서를 돌려주는지 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SkillIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SkillIndex index;
+
+    @BeforeEach
+    void setUp() {
+        SkillDictionary dictionary = new SkillDictionary(skillRepository, transactionManager,
+                new DefaultResourceLoader(), "classpath:skills/synonyms.tsv");
+        dictionary.loadSynonyms();
+        index = new SkillIndex(new ResumeSkillRepository(jdbcTemplate), dictionary, transactionManager);
+
+        insertResume(1L, "BACKEND_DEVELOPER", 3);
+        insertResume(2L, "BACKEND_DEVELOPER", 7);
+        insertResume(3L, "FRONTEND_DEVELOPER", 3);
+        insertSkill(1L, "Java", "java");
+        // 동의어 도입 전에 별칭으로 등록된 기술
+        insertSkill(2L, "JS", "js");
+        insertSkill(3L, "Spring", "spring");
+        insertMapping(1L, 1L);
+        insertMapping(1L, 2L);
+        insertMapping(2L, 1L);
+        insertMapping(2L, 3L);
+        insertMapping(3L, 2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM resume_skills");
+        jdbcTemplate.update("DELETE FROM skills");
+        jdbcTemplate.update("DELETE FROM resumes");
+    }
+
+    @Test
+    void searchesDatabaseBeforeLoad() {
+        assertThat(index.isReady()).isFalse();
+
+        assertThat(index.search(SkillQuery.ofSkill("Java")).toArray()).containsExactly(1, 2);
+        // 정식 이름으로 조회해도 별칭으로 등록된 기술이 일치
+        assertThat(index.search(SkillQuery.ofSkill("JavaScript")).toArray()).containsExactly(1, 3);
+        assertThat(index.search(SkillQuery.ofSkill("Kotlin")).toArray()).isEmpty();
+    }
+
+    @Test
+    void databaseSearchAppliesAllQueryConditions() {
+        SkillQuery query = SkillQuery.builder()
+                .all(List.of("java"))
+                .any(List.of("Spring", "JavaScript"))
+                .none(List.of("JS"))
+                .jobRole(JobRole.BACKEND_DEVELOPER)
+                .minYears(5)
+                .build();
+
+        assertThat(index.search(query).toArray()).containsExactly(2);
+        assertThat(index.search(SkillQuery.builder().any(List.of("JS")).maxYears(3).build()).toArray())
+                .containsExactly(1, 3);
+    }
+
+    private void insertResume(long id, String jobRole, int experienceYears) {
+        jdbcTemplate.update("INSERT INTO resumes (id, career_summary, job_role, experience_years, created_at)"
+                + " VALUES (?, '요약', ?, ?, CURRENT_TIMESTAMP)", id, jobRole, experienceYears);
+    }
+
+    private void insertSkill(long id, String name, String normalizedName) {
+        jdbcTemplate.update("INSERT INTO skills (id, name, normalized_name) VALUES (?, ?, ?)", id, name, normalizedName);
+    }
+
+    private void insertMapping(long resumeId, long skillId) {
+        jdbcTemplate.update("INSERT INTO resume_skills (resume_id, skill_id) VALUES (?, ?)", resumeId, skillId);
+    }
+}
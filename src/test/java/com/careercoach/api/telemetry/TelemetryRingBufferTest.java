@@ -0,0 +1,156 @@
+package com.careercoach.api.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 텔레메트리 링 버퍼 테스트
+ * 버퍼가 가득 차면 생산자가 기다리지 않고 버린 건수를 정확히 세며, 소비 후에는 다시 받는지 확인합니다.
+ * 대기 중인 소비자는 발행 시 깨어나고, 이미 발행된 이벤트가 있으면 잠들지 않는지도 확인합니다.
+ */
+class TelemetryRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new TelemetryRingBuffer(4).capacity()).isEqualTo(4);
+        assertThat(new TelemetryRingBuffer(5).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void fullBufferDropsAndCountsOverflow() {
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(4);
+
+        for (int i = 0; i < 4; i++) {
+            publish(buffer, i);
+        }
+        assertThat(buffer.claim()).isEqualTo(-1);
+        assertThat(buffer.claim()).isEqualTo(-1);
+
+        assertThat(buffer.dropped()).isEqualTo(2);
+        assertThat(buffer.published()).isEqualTo(4);
+        assertThat(buffer.backlog()).isEqualTo(4);
+    }
+
+    @Test
+    void drainingFreesSlotsInPublishOrder() {
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            publish(buffer, i);
+        }
+        assertThat(buffer.claim()).isEqualTo(-1);
+
+        List<Long> seen = new ArrayList<>();
+        assertThat(buffer.drain(event -> seen.add(event.durationNanos), 2)).isEqualTo(2);
+        assertThat(seen).containsExactly(0L, 1L);
+
+        // 비워진 두 슬롯만큼 다시 받고, 그 이상은 버림
+        publish(buffer, 4);
+        publish(buffer, 5);
+        assertThat(buffer.claim()).isEqualTo(-1);
+        assertThat(buffer.dropped()).isEqualTo(2);
+
+        assertThat(buffer.drain(event -> seen.add(event.durationNanos), 10)).isEqualTo(4);
+        assertThat(seen).containsExactly(0L, 1L, 2L, 3L, 4L, 5L);
+        assertThat(buffer.consumed()).isEqualTo(6);
+        assertThat(buffer.backlog()).isZero();
+        assertThat(buffer.maxBatchSize()).isEqualTo(4);
+    }
+
+    @Test
+    void unpublishedSlotStopsDrain() {
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(4);
+        long first = buffer.claim();
+        publish(buffer, 1);
+
+        // 먼저 선점한 슬롯이 발행되기 전에는 뒤의 이벤트도 소비하지 않음
+        assertThat(buffer.drain(event -> { }, 10)).isZero();
+
+        buffer.slot(first).durationNanos = 0;
+        buffer.publish(first);
+        assertThat(buffer.drain(event -> { }, 10)).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentProducersAccountForEveryEvent() throws Exception {
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(64);
+        int producers = 4;
+        int eventsPerProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int p = 0; p < producers; p++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < eventsPerProducer; i++) {
+                        publish(buffer, i);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+
+            long consumed = 0;
+            while (!executor.isTerminated()) {
+                consumed += buffer.drain(event -> { }, 16);
+            }
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            consumed += buffer.drain(event -> { }, Integer.MAX_VALUE);
+
+            assertThat(consumed + buffer.dropped()).isEqualTo((long) producers * eventsPerProducer);
+            assertThat(buffer.published()).isEqualTo(consumed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void publishWakesParkedConsumer() throws Exception {
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(4);
+        CountDownLatch woke = new CountDownLatch(1);
+        Thread consumer = new Thread(() -> {
+            buffer.awaitPublish(TimeUnit.SECONDS.toNanos(30));
+            woke.countDown();
+        });
+        consumer.start();
+        try {
+            // 소비자가 대기에 들어간 뒤 발행
+            while (consumer.getState() != Thread.State.TIMED_WAITING) {
+                Thread.onSpinWait();
+            }
+            publish(buffer, 1);
+
+            assertThat(woke.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            consumer.interrupt();
+        }
+    }
+
+    @Test
+    void awaitReturnsImmediatelyWhenEventIsPending() {
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(4);
+        publish(buffer, 1);
+
+        long start = System.nanoTime();
+        buffer.awaitPublish(TimeUnit.SECONDS.toNanos(30));
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    private static void publish(TelemetryRingBuffer buffer, long value) {
+        long sequence = buffer.claim();
+        if (sequence < 0) {
+            return;
+        }
+        buffer.slot(sequence).durationNanos = value;
+        buffer.publish(sequence);
+    }
+}
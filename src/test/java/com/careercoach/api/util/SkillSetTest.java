@@ -0,0 +1,52 @@
+package com.careercoach.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이력서 기술 스택 테스트
+ * 입력 순서 유지, 중복 제거, 듬성듬성한 기술 ID의 보유 여부 판정, 사전에 없는 기술명 보존을 확인합니다.
+ */
+class SkillSetTest {
+
+    @Test
+    void keepsInputOrderAndDropsDuplicates() {
+        SkillSet skills = SkillSet.of(new int[]{700_000, 3, 700_000, 42, 3}, 5, id -> "skill-" + id);
+
+        assertThat(skills).containsExactly("skill-700000", "skill-3", "skill-42");
+        assertThat(skills.idAt(0)).isEqualTo(700_000);
+    }
+
+    @Test
+    void containsSparseIds() {
+        SkillSet skills = SkillSet.of(new int[]{1_000_000, 5, 250_000}, 3, id -> "skill-" + id);
+
+        assertThat(skills.contains(5)).isTrue();
+        assertThat(skills.contains(250_000)).isTrue();
+        assertThat(skills.contains(1_000_000)).isTrue();
+        assertThat(skills.contains(6)).isFalse();
+        assertThat(skills.contains(-1)).isFalse();
+        assertThat(SkillSet.EMPTY.contains(5)).isFalse();
+    }
+
+    @Test
+    void ascendingInputSharesSortedIds() {
+        SkillSet skills = SkillSet.of(new int[]{1, 2, 3}, 3, id -> "skill-" + id);
+
+        assertThat(skills.contains(2)).isTrue();
+        assertThat(skills.contains(4)).isFalse();
+    }
+
+    @Test
+    void keepsUnresolvedNamesAfterResolvedSkills() {
+        SkillSet skills = SkillSet.of(new int[]{7, 3}, 2, id -> "skill-" + id, List.of("Legacy Tool", "Legacy Tool"));
+
+        assertThat(skills).containsExactly("skill-7", "skill-3", "Legacy Tool");
+        assertThat(skills.resolvedCount()).isEqualTo(2);
+        assertThat(skills.isResolved()).isFalse();
+        assertThat(skills.contains(3)).isTrue();
+    }
+}
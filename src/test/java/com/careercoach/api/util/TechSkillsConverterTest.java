@@ -0,0 +1,79 @@
+package com.careercoach.api.util;
+
+import com.careercoach.api.repository.SkillRepository;
+import com.careercoach.api.service.skill.SkillDictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 기술 스택 컨버터 테스트
+ * 이 노드의 사전에 없는 기술을 읽을 때 skills 테이블에서 찾거나 원래 이름으로 남겨, 다시 저장해도 사라지지 않는지 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TechSkillsConverterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SkillDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary(skillRepository, transactionManager,
+                new DefaultResourceLoader(), "classpath:skills/synonyms.tsv");
+        dictionary.loadSynonyms();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM skills");
+    }
+
+    @Test
+    void skillRegisteredElsewhereIsFoundInTable() {
+        // 다른 노드가 등록해 이 노드의 사전에는 아직 없는 기술
+        jdbcTemplate.update("INSERT INTO skills (id, name, normalized_name) VALUES (7, 'Kotlin', 'kotlin')");
+
+        SkillSet skills = TechSkillsConverter.decode("[\"Kotlin\"]", dictionary);
+
+        assertThat(skills).containsExactly("Kotlin");
+        assertThat(skills.isResolved()).isTrue();
+        assertThat(skills.contains(7)).isTrue();
+        assertThat(dictionary.lookup("kotlin")).isEqualTo(7);
+    }
+
+    @Test
+    void unknownSkillSurvivesRoundTrip() {
+        jdbcTemplate.update("INSERT INTO skills (id, name, normalized_name) VALUES (7, 'Kotlin', 'kotlin')");
+
+        SkillSet skills = TechSkillsConverter.decode("[\"Kotlin\",\"사내 배포 도구\"]", dictionary);
+        assertThat(skills).containsExactly("Kotlin", "사내 배포 도구");
+        assertThat(skills.isResolved()).isFalse();
+
+        @SuppressWarnings("unchecked")
+        TechSkillsConverter converter = new TechSkillsConverter(mock(ObjectProvider.class));
+        assertThat(converter.convertToDatabaseColumn(skills)).isEqualTo("[\"Kotlin\",\"사내 배포 도구\"]");
+
+        // 이스케이프가 포함된 값도 같은 규칙
+        assertThat(TechSkillsConverter.decode("[\"C\\\\C++\"]", dictionary)).containsExactly("C\\C++");
+    }
+}